@@ -27,6 +27,7 @@ import java.util.concurrent.Flow.Publisher;
 import java.util.concurrent.Flow.Subscriber;
 import org.apache.ignite.internal.util.subscription.ConcatenatedPublisher;
 import org.apache.ignite.internal.util.subscription.IterableToPublisherAdapter;
+import org.apache.ignite.internal.util.subscription.MergePublisher;
 import org.apache.ignite.internal.util.subscription.OrderedMergePublisher;
 
 /**
@@ -56,6 +57,19 @@ public class SubscriptionUtils {
         return new ConcatenatedPublisher<>(Arrays.asList(sources).iterator());
     }
 
+    /**
+     * Unordered composite publisher. Consumes up to {@code maxConcurrency} sources at the same time and emits items in the order they
+     * arrive, so the resulting stream has no ordering guarantees.
+     *
+     * @param maxConcurrency Maximal number of sources consumed at the same time.
+     * @param prefetch Prefetch size of every source.
+     * @param sources Iterator which produces all publishers which should be combined.
+     * @return The publisher will combine all of the passed sources into a single one.
+     */
+    public static <T> Publisher<T> merge(int maxConcurrency, int prefetch, Iterator<Publisher<? extends T>> sources) {
+        return new MergePublisher<>(maxConcurrency, prefetch, sources);
+    }
+
     /**
      * Sorting composite publisher. Merges multiple concurrent ordered data streams into one.
      *
@@ -0,0 +1,368 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util.subscription;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Thread-safe implementation of combining multiple publishers without any ordering guarantees.
+ *
+ * <p>Unlike {@link ConcatenatedPublisher}, up to {@code maxConcurrency} sources are consumed at the same time, each of them with its own
+ * prefetch buffer. Items are emitted as soon as they are received from any source, so slow sources don't stall the others. The next
+ * source is subscribed to as soon as one of the active sources completes.
+ *
+ * <p>The first error received from any source cancels all other sources and is propagated downstream.
+ */
+public class MergePublisher<T> implements Publisher<T> {
+    /** Iterator of upstream publishers. */
+    private final Iterator<Publisher<? extends T>> sources;
+
+    /** Maximal number of sources consumed at the same time. */
+    private final int maxConcurrency;
+
+    /** Prefetch size. */
+    private final int prefetch;
+
+    /**
+     * Constructor.
+     *
+     * @param maxConcurrency Maximal number of sources consumed at the same time.
+     * @param prefetch Number of items to request from each source in advance.
+     * @param sources Iterator of upstream publishers.
+     */
+    public MergePublisher(int maxConcurrency, int prefetch, Iterator<Publisher<? extends T>> sources) {
+        assert maxConcurrency > 0 : maxConcurrency;
+        assert prefetch > 0 : prefetch;
+
+        this.sources = sources;
+        this.maxConcurrency = maxConcurrency;
+        this.prefetch = prefetch;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void subscribe(Subscriber<? super T> downstream) {
+        MergeSubscription<T> subscription = new MergeSubscription<>(downstream, sources, maxConcurrency, prefetch);
+
+        downstream.onSubscribe(subscription);
+        subscription.drain();
+    }
+
+    /**
+     * Merging composite subscription.
+     */
+    static final class MergeSubscription<T> implements Subscription {
+        private final Subscriber<? super T> downstream;
+
+        /** Iterator of upstream publishers (guarded by {@link #guardCntr}). */
+        private final Iterator<Publisher<? extends T>> sources;
+
+        private final int maxConcurrency;
+
+        private final int prefetch;
+
+        /** Counter to prevent concurrent execution of a critical section. */
+        private final AtomicInteger guardCntr = new AtomicInteger();
+
+        /** Number of requested items. */
+        private final AtomicLong requested = new AtomicLong();
+
+        /** The first error received from a source. */
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+        /** Subscribers of sources being consumed (guarded by {@link #guardCntr}). */
+        private final List<MergeSubscriber<T>> active = new ArrayList<>();
+
+        /** Cancelled flag. */
+        private volatile boolean cancelled;
+
+        /** Flag indicating that the downstream has been terminated (guarded by {@link #guardCntr}). */
+        private boolean terminated;
+
+        /** Number of emitted items (guarded by {@link #guardCntr}). */
+        private long emitted;
+
+        MergeSubscription(
+                Subscriber<? super T> downstream,
+                Iterator<Publisher<? extends T>> sources,
+                int maxConcurrency,
+                int prefetch
+        ) {
+            this.downstream = downstream;
+            this.sources = sources;
+            this.maxConcurrency = maxConcurrency;
+            this.prefetch = prefetch;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void request(long n) {
+            for (; ; ) {
+                long current = requested.get();
+                long next = current + n;
+
+                if (next < 0L) {
+                    next = Long.MAX_VALUE;
+                }
+
+                if (requested.compareAndSet(current, next)) {
+                    break;
+                }
+            }
+
+            drain();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void cancel() {
+            cancelled = true;
+
+            drain();
+        }
+
+        private void onInnerError(Throwable throwable) {
+            error.compareAndSet(null, throwable);
+
+            drain();
+        }
+
+        void drain() {
+            // Only one thread can pass below.
+            if (guardCntr.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+
+            do {
+                if (terminated) {
+                    return;
+                }
+
+                drainLoop();
+
+                if (terminated) {
+                    for (MergeSubscriber<T> inner : active) {
+                        inner.cancel();
+                        inner.queue.clear();
+                    }
+
+                    active.clear();
+
+                    // No need to release guard, the subscription will never be used again.
+                    return;
+                }
+
+                missed = guardCntr.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drainLoop() {
+            for (; ; ) {
+                if (cancelled) {
+                    terminated = true;
+
+                    return;
+                }
+
+                Throwable err = error.get();
+
+                if (err != null) {
+                    terminated = true;
+                    downstream.onError(err);
+
+                    return;
+                }
+
+                // Keep the desired number of sources being consumed.
+                while (active.size() < maxConcurrency && sources.hasNext()) {
+                    MergeSubscriber<T> inner = new MergeSubscriber<>(this, prefetch);
+
+                    active.add(inner);
+
+                    sources.next().subscribe(inner);
+                }
+
+                long demand = requested.get();
+                boolean sourceCompleted = false;
+                boolean progress = true;
+
+                // Emit items from all sources in turn until the demand is satisfied or there is nothing more to emit.
+                while (progress) {
+                    progress = false;
+
+                    for (int i = 0; i < active.size(); ) {
+                        MergeSubscriber<T> inner = active.get(i);
+                        boolean innerDone = inner.done; // Read before polling to preserve correct program order.
+
+                        if (emitted != demand) {
+                            T item = inner.queue.poll();
+
+                            if (item != null) {
+                                downstream.onNext(item);
+                                emitted++;
+
+                                inner.consumed();
+
+                                progress = true;
+                                i++;
+
+                                continue;
+                            }
+                        }
+
+                        if (innerDone && inner.queue.isEmpty()) {
+                            active.remove(i);
+
+                            sourceCompleted = true;
+                        } else {
+                            i++;
+                        }
+                    }
+
+                    if (cancelled || error.get() != null) {
+                        break;
+                    }
+                }
+
+                if (cancelled || error.get() != null) {
+                    continue;
+                }
+
+                if (active.isEmpty() && !sources.hasNext()) {
+                    terminated = true;
+                    downstream.onComplete();
+
+                    return;
+                }
+
+                if (!sourceCompleted || !sources.hasNext()) {
+                    return;
+                }
+
+                // Some sources have completed, so the next ones have to be subscribed to.
+            }
+        }
+    }
+
+    /**
+     * Subscriber of a single source.
+     */
+    static final class MergeSubscriber<T> extends AtomicReference<Subscription> implements Subscriber<T>, Subscription {
+        /** Parent subscription. */
+        private final MergeSubscription<T> parent;
+
+        /** Prefetch size. */
+        private final int prefetch;
+
+        /** Number of consumed items after which the source is requested for more. */
+        private final int limit;
+
+        /** Inner data buffer. */
+        private final Queue<T> queue = new ConcurrentLinkedQueue<>();
+
+        /** Count of consumed items (guarded by parent's drain loop). */
+        private int consumedCnt;
+
+        /** Flag indicating that the source has completed. */
+        private volatile boolean done;
+
+        MergeSubscriber(MergeSubscription<T> parent, int prefetch) {
+            this.parent = parent;
+            this.prefetch = prefetch;
+            this.limit = Math.max(1, prefetch - (prefetch >> 2));
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            if (compareAndSet(null, subscription)) {
+                subscription.request(prefetch);
+            } else {
+                subscription.cancel();
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void onNext(T item) {
+            queue.offer(item);
+
+            parent.drain();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void onError(Throwable throwable) {
+            parent.onInnerError(throwable);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void onComplete() {
+            done = true;
+
+            parent.drain();
+        }
+
+        /** Replenishes the source once enough of the prefetched items have been consumed. */
+        void consumed() {
+            int c = consumedCnt + 1;
+
+            if (c == limit) {
+                consumedCnt = 0;
+
+                request(c);
+            } else {
+                consumedCnt = c;
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void request(long n) {
+            Subscription subscription = get();
+
+            // If the subscription has not yet been cancelled - request upstream.
+            if (subscription != null && subscription != this) {
+                subscription.request(n);
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void cancel() {
+            Subscription subscription = getAndSet(this);
+
+            if (subscription != null && subscription != this) {
+                subscription.cancel();
+            }
+        }
+    }
+}
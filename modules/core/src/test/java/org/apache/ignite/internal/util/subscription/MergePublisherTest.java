@@ -0,0 +1,265 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util.subscription;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.apache.ignite.internal.util.SubscriptionUtils;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MergePublisher}.
+ */
+public class MergePublisherTest extends BaseIgniteAbstractTest {
+    @Test
+    public void allItemsAreDelivered() {
+        List<Publisher<? extends Integer>> sources = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            List<Integer> items = IntStream.range(i * 100, (i + 1) * 100).boxed().collect(Collectors.toList());
+
+            sources.add(SubscriptionUtils.fromIterable(items));
+        }
+
+        CollectingSubscriber subscriber = new CollectingSubscriber();
+
+        new MergePublisher<>(3, 7, sources.iterator()).subscribe(subscriber);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertTrue(subscriber.completed);
+        assertNull(subscriber.error);
+        assertEquals(1000, subscriber.items.size());
+        assertEquals(IntStream.range(0, 1000).boxed().collect(Collectors.toSet()), new HashSet<>(subscriber.items));
+    }
+
+    @Test
+    public void emptySources() {
+        CollectingSubscriber subscriber = new CollectingSubscriber();
+
+        new MergePublisher<Integer>(3, 7, List.<Publisher<? extends Integer>>of().iterator()).subscribe(subscriber);
+
+        assertTrue(subscriber.completed);
+        assertTrue(subscriber.items.isEmpty());
+    }
+
+    @Test
+    public void concurrencyIsBounded() {
+        List<ManualPublisher> sources = manualPublishers(5);
+
+        CollectingSubscriber subscriber = new CollectingSubscriber();
+
+        new MergePublisher<>(2, 4, new ArrayList<Publisher<? extends Integer>>(sources).iterator()).subscribe(subscriber);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertEquals(2, subscribedCount(sources));
+        assertEquals(4, sources.get(0).requested);
+
+        sources.get(1).emit(1);
+        sources.get(1).complete();
+
+        assertEquals(3, subscribedCount(sources));
+        assertTrue(sources.get(2).subscribed());
+
+        sources.get(0).complete();
+        sources.get(2).complete();
+
+        assertEquals(5, subscribedCount(sources));
+        assertFalse(subscriber.completed);
+
+        sources.get(3).emit(3);
+        sources.get(4).emit(4);
+        sources.get(3).complete();
+        sources.get(4).complete();
+
+        assertTrue(subscriber.completed);
+        assertEquals(Set.of(1, 3, 4), new HashSet<>(subscriber.items));
+    }
+
+    @Test
+    public void demandIsRespected() {
+        List<ManualPublisher> sources = manualPublishers(2);
+
+        CollectingSubscriber subscriber = new CollectingSubscriber();
+
+        new MergePublisher<>(2, 4, new ArrayList<Publisher<? extends Integer>>(sources).iterator()).subscribe(subscriber);
+
+        subscriber.subscription.request(3);
+
+        for (int i = 0; i < 4; i++) {
+            sources.get(0).emit(i);
+            sources.get(1).emit(10 + i);
+        }
+
+        assertEquals(3, subscriber.items.size());
+
+        subscriber.subscription.request(10);
+
+        assertEquals(8, subscriber.items.size());
+
+        // Each source has been replenished after 3 out of 4 prefetched items were consumed.
+        assertEquals(7, sources.get(0).requested);
+        assertEquals(7, sources.get(1).requested);
+    }
+
+    @Test
+    public void errorCancelsOtherSources() {
+        List<ManualPublisher> sources = manualPublishers(3);
+
+        CollectingSubscriber subscriber = new CollectingSubscriber();
+
+        new MergePublisher<>(2, 4, new ArrayList<Publisher<? extends Integer>>(sources).iterator()).subscribe(subscriber);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        RuntimeException err = new RuntimeException("test");
+
+        sources.get(1).error(err);
+
+        assertSame(err, subscriber.error);
+        assertFalse(subscriber.completed);
+        assertTrue(sources.get(0).cancelled);
+        assertFalse(sources.get(2).subscribed());
+
+        sources.get(0).emit(1);
+
+        assertTrue(subscriber.items.isEmpty());
+    }
+
+    @Test
+    public void cancelCancelsSources() {
+        List<ManualPublisher> sources = manualPublishers(3);
+
+        CollectingSubscriber subscriber = new CollectingSubscriber();
+
+        new MergePublisher<>(2, 4, new ArrayList<Publisher<? extends Integer>>(sources).iterator()).subscribe(subscriber);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        sources.get(0).emit(1);
+
+        subscriber.subscription.cancel();
+
+        assertTrue(sources.get(0).cancelled);
+        assertTrue(sources.get(1).cancelled);
+        assertFalse(sources.get(2).subscribed());
+
+        sources.get(1).emit(2);
+        sources.get(1).complete();
+
+        assertEquals(List.of(1), subscriber.items);
+        assertFalse(subscriber.completed);
+        assertNull(subscriber.error);
+    }
+
+    private static List<ManualPublisher> manualPublishers(int count) {
+        return IntStream.range(0, count).mapToObj(i -> new ManualPublisher()).collect(Collectors.toList());
+    }
+
+    private static long subscribedCount(List<ManualPublisher> sources) {
+        return sources.stream().filter(ManualPublisher::subscribed).count();
+    }
+
+    /** Publisher which emits items on demand of the test. */
+    private static class ManualPublisher implements Publisher<Integer>, Subscription {
+        private Subscriber<? super Integer> subscriber;
+
+        private long requested;
+
+        private boolean cancelled;
+
+        @Override
+        public void subscribe(Subscriber<? super Integer> subscriber) {
+            this.subscriber = subscriber;
+
+            subscriber.onSubscribe(this);
+        }
+
+        @Override
+        public void request(long n) {
+            requested += n;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        boolean subscribed() {
+            return subscriber != null;
+        }
+
+        void emit(int item) {
+            subscriber.onNext(item);
+        }
+
+        void complete() {
+            subscriber.onComplete();
+        }
+
+        void error(Throwable t) {
+            subscriber.onError(t);
+        }
+    }
+
+    /** Subscriber which collects all received items. */
+    private static class CollectingSubscriber implements Subscriber<Integer> {
+        private final List<Integer> items = new ArrayList<>();
+
+        private Subscription subscription;
+
+        private boolean completed;
+
+        private Throwable error;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
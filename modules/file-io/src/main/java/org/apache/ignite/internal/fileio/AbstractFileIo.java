@@ -28,6 +28,18 @@ public abstract class AbstractFileIo implements FileIo {
     /** Max io timeout milliseconds. */
     private static final int MAX_IO_TIMEOUT_MS = 2000;
 
+    /** Max size of the buffer that {@link #writeFully(ByteBuffer[], long)} gathers source buffers into. */
+    static final int MAX_GATHER_BUFFER_SIZE = 1024 * 1024;
+
+    /**
+     * Alignment of the gather buffers, so that implementations doing direct I/O can write them without another copy for common block
+     * sizes.
+     */
+    private static final int GATHER_BUFFER_ALIGNMENT = 4096;
+
+    /** Thread-local direct buffers that source buffers of {@link #writeFully(ByteBuffer[], long)} are gathered into. */
+    private static final ThreadLocal<ByteBuffer> GATHER_BUFFER = new ThreadLocal<>();
+
     /** {@inheritDoc} */
     @Override
     public int readFully(final ByteBuffer destBuf) throws IOException {
@@ -58,12 +70,70 @@ public abstract class AbstractFileIo implements FileIo {
         return fully(offs -> write(srcBuf, position + offs), position, srcBuf.remaining(), true);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Source buffers are copied into a thread-local direct buffer of up to {@link #MAX_GATHER_BUFFER_SIZE} bytes, which is written with
+     * a single {@link #writeFully(ByteBuffer, long)}. A source buffer that does not fit into the gather buffer on its own is written
+     * as is.
+     */
+    @Override
+    public long writeFully(final ByteBuffer[] srcBufs, final long position) throws IOException {
+        long written = 0;
+
+        for (int i = 0; i < srcBufs.length; ) {
+            int from = i;
+            int len = 0;
+
+            while (i < srcBufs.length && srcBufs[i].remaining() <= MAX_GATHER_BUFFER_SIZE - len) {
+                len += srcBufs[i++].remaining();
+            }
+
+            if (i - from <= 1) {
+                // Nothing to gather, the buffer is written without a copy.
+                i = from + 1;
+
+                written += writeFully(srcBufs[from], position + written);
+
+                continue;
+            }
+
+            ByteBuffer gatherBuf = gatherBuffer(len);
+
+            for (int j = from; j < i; j++) {
+                gatherBuf.put(srcBufs[j]);
+            }
+
+            gatherBuf.flip();
+
+            written += writeFully(gatherBuf, position + written);
+        }
+
+        return written;
+    }
+
     /** {@inheritDoc} */
     @Override
     public int writeFully(final byte[] buf, final int off, final int len) throws IOException {
         return fully(offs -> write(buf, off + offs, len - offs), position(), len, true);
     }
 
+    /** Returns a thread-local gather buffer with the position set to zero and the limit set to {@code len}. */
+    private static ByteBuffer gatherBuffer(int len) {
+        ByteBuffer buf = GATHER_BUFFER.get();
+
+        if (buf == null || buf.capacity() < len) {
+            // Grows in powers of two, so that a thread writing batches of different sizes does not reallocate the buffer every time.
+            int capacity = Math.min(MAX_GATHER_BUFFER_SIZE, Math.max(GATHER_BUFFER_ALIGNMENT, Integer.highestOneBit(len - 1) << 1));
+
+            buf = ByteBuffer.allocateDirect(capacity + GATHER_BUFFER_ALIGNMENT).alignedSlice(GATHER_BUFFER_ALIGNMENT);
+
+            GATHER_BUFFER.set(buf);
+        }
+
+        return buf.clear().limit(len);
+    }
+
     /**
      * I/O operation.
      */
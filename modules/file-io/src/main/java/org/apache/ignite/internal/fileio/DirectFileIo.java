@@ -0,0 +1,314 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.fileio;
+
+import com.sun.nio.file.ExtendedOpenOption;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * {@link FileIo} implementation based on {@link FileChannel} opened with {@link ExtendedOpenOption#DIRECT}, which bypasses the OS page
+ * cache.
+ *
+ * <p>Direct I/O requires the buffer address, the file position and the number of bytes to be multiples of the block size of the file
+ * store. Operations that satisfy these requirements are passed to the channel as is, others go through a thread-local aligned buffer: a
+ * write of whole blocks from an unaligned buffer (for example, a page buffer) is copied to the aligned buffer, an unaligned read reads the
+ * blocks it touches, and only a write of partial blocks does read-modify-write of the blocks it touches.</p>
+ *
+ * <p>Memory mapping is not supported.</p>
+ */
+public class DirectFileIo extends AbstractFileIo {
+    /** Thread-local aligned buffers for unaligned operations, reallocated when a bigger or differently aligned buffer is needed. */
+    private static final ThreadLocal<ByteBuffer> ALIGNED_BUFFER = new ThreadLocal<>();
+
+    /** File channel. */
+    private final FileChannel ch;
+
+    /** Block size of the file store. */
+    private final int blockSize;
+
+    /**
+     * Read-modify-write of partial blocks is done under the write lock, writes of whole blocks under the read lock, so that concurrent
+     * writes to the same block are not lost.
+     */
+    private final ReadWriteLock blockWriteLock = new ReentrantReadWriteLock();
+
+    /**
+     * Creates I/O implementation for specified file.
+     *
+     * @param filePath File path.
+     * @param modes Open modes.
+     * @throws IOException If the file could not be opened, including the case when the file store does not support direct I/O.
+     */
+    public DirectFileIo(Path filePath, OpenOption... modes) throws IOException {
+        OpenOption[] directModes = Arrays.copyOf(modes, modes.length + 1);
+
+        directModes[modes.length] = ExtendedOpenOption.DIRECT;
+
+        ch = FileChannel.open(filePath, directModes);
+
+        try {
+            blockSize = Math.toIntExact(Files.getFileStore(filePath).getBlockSize());
+        } catch (IOException | RuntimeException e) {
+            ch.close();
+
+            throw e;
+        }
+    }
+
+    /** Returns the block size of the file store, to which the buffers, positions and lengths of direct operations are aligned. */
+    public int blockSize() {
+        return blockSize;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long position() throws IOException {
+        return ch.position();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void position(long newPosition) throws IOException {
+        ch.position(newPosition);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(ByteBuffer destBuf) throws IOException {
+        long position = ch.position();
+
+        int n = read(destBuf, position);
+
+        if (n > 0) {
+            ch.position(position + n);
+        }
+
+        return n;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(ByteBuffer destBuf, long position) throws IOException {
+        if (isAligned(position, destBuf.remaining()) && isAligned(destBuf)) {
+            return ch.read(destBuf, position);
+        }
+
+        long alignedPosition = alignDown(position);
+        int offset = (int) (position - alignedPosition);
+        int len = destBuf.remaining();
+
+        ByteBuffer buf = alignedBuffer(Math.toIntExact(alignUp(position + len) - alignedPosition));
+
+        int n = ch.read(buf, alignedPosition);
+
+        if (n <= offset) {
+            return n < 0 || len > 0 ? -1 : 0;
+        }
+
+        int read = Math.min(len, n - offset);
+
+        destBuf.put(buf.limit(offset + read).position(offset));
+
+        return read;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(byte[] buf, int off, int len) throws IOException {
+        return read(ByteBuffer.wrap(buf, off, len));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(ByteBuffer srcBuf) throws IOException {
+        long position = ch.position();
+
+        int n = write(srcBuf, position);
+
+        ch.position(position + n);
+
+        return n;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(ByteBuffer srcBuf, long position) throws IOException {
+        if (isAligned(position, srcBuf.remaining())) {
+            blockWriteLock.readLock().lock();
+
+            try {
+                return writeBlocks(srcBuf, position);
+            } finally {
+                blockWriteLock.readLock().unlock();
+            }
+        }
+
+        blockWriteLock.writeLock().lock();
+
+        try {
+            return readModifyWrite(srcBuf, position);
+        } finally {
+            blockWriteLock.writeLock().unlock();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(byte[] buf, int off, int len) throws IOException {
+        return write(ByteBuffer.wrap(buf, off, len));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public MappedByteBuffer map(int sizeBytes) throws IOException {
+        throw new UnsupportedOperationException("Memory mapping is not supported for direct I/O");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void force(boolean withMetadata) throws IOException {
+        ch.force(withMetadata);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void force() throws IOException {
+        force(false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long size() throws IOException {
+        return ch.size();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clear() throws IOException {
+        ch.truncate(0);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+        ch.close();
+    }
+
+    /** Writes whole blocks, the buffer is copied to an aligned one if its address is not aligned. */
+    private int writeBlocks(ByteBuffer srcBuf, long position) throws IOException {
+        if (isAligned(srcBuf)) {
+            return ch.write(srcBuf, position);
+        }
+
+        int srcPosition = srcBuf.position();
+
+        ByteBuffer buf = alignedBuffer(srcBuf.remaining());
+
+        buf.put(srcBuf.duplicate()).flip();
+
+        int n = ch.write(buf, position);
+
+        srcBuf.position(srcPosition + n);
+
+        return n;
+    }
+
+    private int readModifyWrite(ByteBuffer srcBuf, long position) throws IOException {
+        int len = srcBuf.remaining();
+
+        if (len == 0) {
+            return 0;
+        }
+
+        long size = ch.size();
+
+        long alignedPosition = alignDown(position);
+        int alignedLen = Math.toIntExact(alignUp(position + len) - alignedPosition);
+
+        ByteBuffer buf = alignedBuffer(alignedLen);
+
+        // Reads the current content of the blocks, the part beyond the end of the file is filled with zeros. A direct read returns less
+        // than requested only at the end of the file, so a single read is enough.
+        if (alignedPosition < size) {
+            ch.read(buf, alignedPosition);
+        }
+
+        while (buf.hasRemaining()) {
+            buf.put((byte) 0);
+        }
+
+        buf.position((int) (position - alignedPosition));
+
+        buf.put(srcBuf);
+
+        buf.rewind();
+
+        while (buf.hasRemaining()) {
+            ch.write(buf, alignedPosition + buf.position());
+        }
+
+        // Writing whole blocks may have extended the file beyond the written bytes.
+        long newSize = Math.max(size, position + len);
+
+        if (ch.size() > newSize) {
+            ch.truncate(newSize);
+        }
+
+        return len;
+    }
+
+    private boolean isAligned(long position, int len) {
+        return position % blockSize == 0 && len % blockSize == 0;
+    }
+
+    private boolean isAligned(ByteBuffer buf) {
+        return buf.isDirect() && buf.alignmentOffset(buf.position(), blockSize) == 0;
+    }
+
+    private long alignDown(long position) {
+        return position - position % blockSize;
+    }
+
+    private long alignUp(long position) {
+        return alignDown(position + blockSize - 1);
+    }
+
+    /** Returns a thread-local buffer aligned to the block size with the position set to zero and the limit set to {@code len}. */
+    private ByteBuffer alignedBuffer(int len) {
+        ByteBuffer buf = ALIGNED_BUFFER.get();
+
+        if (buf == null || buf.capacity() < len || buf.alignmentOffset(0, blockSize) != 0) {
+            int capacity = Math.max(len, buf == null ? 0 : buf.capacity());
+
+            buf = ByteBuffer.allocateDirect(capacity + blockSize).alignedSlice(blockSize);
+
+            ALIGNED_BUFFER.set(buf);
+        }
+
+        return buf.clear().limit(len);
+    }
+}
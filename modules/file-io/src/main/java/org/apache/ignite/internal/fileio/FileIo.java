@@ -161,6 +161,20 @@ public interface FileIo extends AutoCloseable {
      */
     int writeFully(ByteBuffer srcBuf, long position) throws IOException;
 
+    /**
+     * Writes a sequence of bytes to this file from the {@code srcBufs} one after another starting from specified file {@code position}.
+     *
+     * <p>Like {@link #writeFully(ByteBuffer, long)}, the write is positional and does not change the file position, so it is safe to
+     * run concurrently with other position-based operations on the same file. Implementations may write several buffers with a single
+     * write.
+     *
+     * @param srcBufs Source buffers.
+     * @param position Starting file position.
+     * @return Number of written bytes.
+     * @throws IOException If some I/O error occurs.
+     */
+    long writeFully(ByteBuffer[] srcBufs, long position) throws IOException;
+
     /**
      * Writes {@code len} bytes from the {@code buf} starting at offset {@code off} to this file.
      *
@@ -85,6 +85,12 @@ public class FileIoDecorator extends AbstractFileIo {
         return delegate.write(buf, off, len);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public long writeFully(ByteBuffer[] srcBufs, long position) throws IOException {
+        return delegate.writeFully(srcBufs, position);
+    }
+
     /** {@inheritDoc} */
     @Override
     public MappedByteBuffer map(int sizeBytes) throws IOException {
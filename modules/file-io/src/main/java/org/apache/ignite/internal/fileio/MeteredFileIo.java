@@ -91,6 +91,18 @@ public class MeteredFileIo extends FileIoDecorator {
         return measureWrite(() -> super.write(buf, off, len));
     }
 
+    @Override
+    public long writeFully(ByteBuffer[] srcBufs, long position) throws IOException {
+        long startNanos = System.nanoTime();
+
+        long bytesWritten = super.writeFully(srcBufs, position);
+
+        // Only successful writes are recorded, a vectored write may also exceed the int range of the metric.
+        metrics.recordWrite((int) Math.min(bytesWritten, Integer.MAX_VALUE), System.nanoTime() - startNanos);
+
+        return bytesWritten;
+    }
+
     @Override
     public MappedByteBuffer map(int sizeBytes) throws IOException {
         return super.map(sizeBytes);
@@ -133,6 +133,69 @@ public abstract class AbstractFileIoTest {
         checkWriteFromByteArrayOperation((fileIo, off, bytes) -> fileIo.writeFully(bytes, (int) off, Math.min(1024, bytes.length)));
     }
 
+    @Test
+    void testWriteByPositionFullyFromBuffers() throws Exception {
+        byte[] randomBytes = randomByteArray(4 * 1024);
+
+        Path testFilePath = workDir.resolve("test");
+
+        FileIo fileIo = fileIoFactory.create(testFilePath);
+
+        ByteBuffer[] srcBufs = {
+                rangeBuffer(randomBytes, 0, 1024),
+                rangeBuffer(randomBytes, 1024, 3 * 1024),
+                ByteBuffer.wrap(new byte[0]),
+                rangeBuffer(randomBytes, 3 * 1024, 4 * 1024)
+        };
+
+        assertEquals(4 * 1024, fileIo.writeFully(srcBufs, 1024));
+        assertEquals(0, fileIo.position());
+
+        assertEquals(0, fileIo.writeFully(new ByteBuffer[0], 1024));
+        assertEquals(0, fileIo.position());
+
+        fileIo.force();
+
+        byte[] expectedBytes = new byte[5 * 1024];
+
+        System.arraycopy(randomBytes, 0, expectedBytes, 1024, 4 * 1024);
+
+        assertArrayEquals(expectedBytes, toByteArray(testFilePath));
+    }
+
+    @Test
+    void testWriteByPositionFullyFromBuffersExceedingGatherBuffer() throws Exception {
+        int gatherSize = AbstractFileIo.MAX_GATHER_BUFFER_SIZE;
+
+        byte[] randomBytes = randomByteArray(4 * gatherSize);
+
+        Path testFilePath = workDir.resolve("test");
+
+        FileIo fileIo = fileIoFactory.create(testFilePath);
+
+        // The first two buffers are gathered, the third one doesn't fit and starts the next gather buffer, the fifth one is bigger than
+        // the gather buffer and is written as is.
+        ByteBuffer[] srcBufs = {
+                rangeBuffer(randomBytes, 0, 4096),
+                rangeBuffer(randomBytes, 4096, gatherSize - 4096),
+                rangeBuffer(randomBytes, gatherSize - 4096, gatherSize + 4096),
+                rangeBuffer(randomBytes, gatherSize + 4096, gatherSize + 8192),
+                rangeBuffer(randomBytes, gatherSize + 8192, 3 * gatherSize + 8192),
+                rangeBuffer(randomBytes, 3 * gatherSize + 8192, 4 * gatherSize)
+        };
+
+        assertEquals(4 * gatherSize, fileIo.writeFully(srcBufs, 0));
+        assertEquals(0, fileIo.position());
+
+        for (ByteBuffer srcBuf : srcBufs) {
+            assertEquals(0, srcBuf.remaining());
+        }
+
+        fileIo.force();
+
+        assertArrayEquals(randomBytes, toByteArray(testFilePath));
+    }
+
     @Test
     void testMap() throws Exception {
         Path testFilePath = workDir.resolve("test");
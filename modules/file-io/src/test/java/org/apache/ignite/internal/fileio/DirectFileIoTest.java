@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.fileio;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.runRace;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+/**
+ * For {@link DirectFileIo} testing.
+ */
+@EnabledOnOs(value = OS.LINUX, disabledReason = "Direct I/O is only checked on Linux.")
+public class DirectFileIoTest extends AbstractFileIoTest {
+    @BeforeEach
+    void setUp() {
+        fileIoFactory = new DirectFileIoFactory();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Class<? extends FileIo> fileIoClass() {
+        return DirectFileIo.class;
+    }
+
+    @Test
+    @Override
+    void testMap() {
+        assertThrows(UnsupportedOperationException.class, super::testMap);
+    }
+
+    @Test
+    void testAlignedAndUnalignedWrites() throws Exception {
+        Path testFilePath = workDir.resolve("test");
+
+        try (DirectFileIo fileIo = (DirectFileIo) fileIoFactory.create(testFilePath, CREATE, READ, WRITE)) {
+            int blockSize = fileIo.blockSize();
+
+            byte[] expectedBytes = randomBytes(3 * blockSize + 100);
+
+            ByteBuffer alignedBuffer = ByteBuffer.allocateDirect(3 * blockSize).alignedSlice(blockSize).limit(2 * blockSize);
+
+            alignedBuffer.put(expectedBytes, 0, 2 * blockSize).flip();
+
+            fileIo.writeFully(alignedBuffer, 0);
+
+            assertEquals(2 * blockSize, fileIo.size());
+
+            // Extends the file by a partial block, the file size must not be rounded up to the block size.
+            fileIo.writeFully(ByteBuffer.wrap(expectedBytes, 2 * blockSize, blockSize + 100), 2 * blockSize);
+
+            assertEquals(expectedBytes.length, fileIo.size());
+
+            // Rewrites the middle of a block, the neighbouring bytes must be preserved.
+            byte[] patch = randomBytes(100);
+
+            System.arraycopy(patch, 0, expectedBytes, blockSize + 10, patch.length);
+
+            fileIo.writeFully(ByteBuffer.wrap(patch), blockSize + 10);
+
+            assertEquals(expectedBytes.length, fileIo.size());
+
+            byte[] actualBytes = new byte[expectedBytes.length];
+
+            fileIo.readFully(ByteBuffer.wrap(actualBytes), 0);
+
+            assertArrayEquals(expectedBytes, actualBytes);
+
+            assertEquals(-1, fileIo.read(ByteBuffer.allocate(10), expectedBytes.length));
+
+            assertArrayEquals(expectedBytes, Files.readAllBytes(testFilePath));
+        }
+    }
+
+    @Test
+    void testWholeBlockWritesFromUnalignedBuffers() throws Exception {
+        Path testFilePath = workDir.resolve("test");
+
+        try (DirectFileIo fileIo = (DirectFileIo) fileIoFactory.create(testFilePath, CREATE, READ, WRITE)) {
+            int blockSize = fileIo.blockSize();
+
+            byte[] expectedBytes = randomBytes(4 * blockSize);
+
+            // Heap buffer.
+            fileIo.writeFully(ByteBuffer.wrap(expectedBytes, 0, blockSize), 0);
+
+            // Direct buffer with an unaligned address, like page buffers.
+            ByteBuffer unalignedBuffer = ByteBuffer.allocateDirect(4 * blockSize).alignedSlice(blockSize).position(1).slice();
+
+            unalignedBuffer.put(expectedBytes, blockSize, 2 * blockSize).flip();
+
+            fileIo.writeFully(unalignedBuffer, blockSize);
+
+            assertEquals(0, unalignedBuffer.remaining());
+
+            // Concurrent whole block writes from different threads do not go through read-modify-write and must not interfere.
+            runRace(
+                    () -> fileIo.writeFully(ByteBuffer.wrap(expectedBytes, 3 * blockSize, blockSize), 3 * blockSize),
+                    () -> fileIo.writeFully(ByteBuffer.wrap(expectedBytes, 0, blockSize), 0)
+            );
+
+            assertEquals(expectedBytes.length, fileIo.size());
+
+            assertArrayEquals(expectedBytes, Files.readAllBytes(testFilePath));
+        }
+    }
+
+    private static byte[] randomBytes(int len) {
+        byte[] bytes = new byte[len];
+
+        ThreadLocalRandom.current().nextBytes(bytes);
+
+        return bytes;
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.apache.ignite.internal.pagememory.persistence.LoadedPagesMap;
+import org.apache.ignite.internal.pagememory.persistence.RobinHoodBackwardShiftHashMap;
+import org.apache.ignite.internal.pagememory.persistence.SeqLockRobinHoodHashMap;
+import org.apache.ignite.internal.util.GridUnsafe;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark for loaded pages maps of a page memory segment under contention.
+ *
+ * <p>Readers look up resident pages the way {@code PersistentPageMemory#acquirePage} does: {@link RobinHoodBackwardShiftHashMap} is
+ * read under the segment read lock, {@link SeqLockRobinHoodHashMap} is read without it and falls back to the read lock if the entry
+ * is missed due to a concurrent change. The writer emulates page replacement by removing and putting entries under the write lock.
+ */
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Group)
+public class LoadedPagesMapBenchmark {
+    private static final int GROUP_ID = 1;
+
+    private static final int PAGES = 64 * 1024;
+
+    /** Absent and outdated return values. */
+    private static final long INVALID = -1;
+
+    @Param({"ROBIN_HOOD", "SEQ_LOCK"})
+    public MapType mapType;
+
+    private long memSize;
+
+    private long memAddr;
+
+    private LoadedPagesMap map;
+
+    private boolean optimisticReads;
+
+    /** Emulates the segment lock. */
+    private final ReentrantReadWriteLock segmentLock = new ReentrantReadWriteLock();
+
+    /** Loaded pages map implementation. */
+    public enum MapType {
+        ROBIN_HOOD,
+        SEQ_LOCK
+    }
+
+    /** Allocates and fills the map. */
+    @Setup
+    public void setup() {
+        memSize = RobinHoodBackwardShiftHashMap.requiredMemory(PAGES);
+        memAddr = GridUnsafe.allocateMemory(memSize);
+
+        map = mapType == MapType.ROBIN_HOOD
+                ? new RobinHoodBackwardShiftHashMap(memAddr, memSize)
+                : new SeqLockRobinHoodHashMap(memAddr, memSize);
+
+        optimisticReads = map.optimisticReads();
+
+        for (int i = 1; i <= PAGES; i++) {
+            map.put(GROUP_ID, i, i, 1);
+        }
+    }
+
+    /** Frees the map memory. */
+    @TearDown
+    public void tearDown() {
+        GridUnsafe.freeMemory(memAddr);
+    }
+
+    /** Looks up a resident page. */
+    @Benchmark
+    @Group("readOnly")
+    @GroupThreads(4)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long readOnly() {
+        return lookup(randomPageId());
+    }
+
+    /** Looks up a resident page while a writer replaces pages. */
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(3)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long readWriteReader() {
+        return lookup(randomPageId());
+    }
+
+    /** Replaces a page, removing and putting it back like page replacement does. */
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(1)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void readWriteWriter() {
+        long pageId = randomPageId();
+
+        segmentLock.writeLock().lock();
+
+        try {
+            map.remove(GROUP_ID, pageId);
+            map.put(GROUP_ID, pageId, pageId, 1);
+        } finally {
+            segmentLock.writeLock().unlock();
+        }
+    }
+
+    private long lookup(long pageId) {
+        if (optimisticReads) {
+            long res = map.get(GROUP_ID, pageId, 1, INVALID, INVALID);
+
+            if (res != INVALID) {
+                return res;
+            }
+        }
+
+        segmentLock.readLock().lock();
+
+        try {
+            return map.get(GROUP_ID, pageId, 1, INVALID, INVALID);
+        } finally {
+            segmentLock.readLock().unlock();
+        }
+    }
+
+    private static long randomPageId() {
+        return ThreadLocalRandom.current().nextInt(PAGES) + 1;
+    }
+
+    /** Run benchmark from IDE or command line. */
+    public static void main(String[] args) throws Exception {
+        Options opts = new OptionsBuilder()
+                .include(LoadedPagesMapBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opts).run();
+    }
+}
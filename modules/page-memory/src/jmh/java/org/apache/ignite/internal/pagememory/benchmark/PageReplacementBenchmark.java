@@ -29,6 +29,7 @@ import org.apache.ignite.internal.pagememory.configuration.ReplacementMode;
 import org.apache.ignite.internal.pagememory.io.PageIo;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointProgress;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointState;
+import org.apache.ignite.internal.pagememory.persistence.replacement.SequentialScanHint;
 import org.apache.ignite.internal.util.Constants;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -51,12 +52,15 @@ import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 /**
- * Benchmark for page cache replacement policies (CLOCK, SEGMENTED_LRU, RANDOM_LRU).
+ * Benchmark for page cache replacement policies (CLOCK, SEGMENTED_LRU, RANDOM_LRU, TWO_QUEUE).
  *
  * <p>Tests how well each policy handles page evictions when the working set is larger than
  * available memory. Uses a realistic access pattern where some pages are hot (frequently accessed)
  * and others are cold.
  *
+ * <p>Mixed benchmarks interleave the point lookups with a sequential scan over all pages, marked with
+ * {@link SequentialScanHint}, and print the hit rate of the point lookups only.
+ *
  * <p>Limitations: read-only workload, checkpoint lock held during measurements, cache is pre-warmed.
  */
 @Warmup(iterations = 3, time = 2)
@@ -85,7 +89,7 @@ public class PageReplacementBenchmark extends PersistentPageMemoryBenchmarkBase
 
     private static final int CHECKPOINT_TIMEOUT_SECONDS = 30;
 
-    @Param({"CLOCK", "SEGMENTED_LRU", "RANDOM_LRU"})
+    @Param({"CLOCK", "SEGMENTED_LRU", "RANDOM_LRU", "TWO_QUEUE"})
     public ReplacementMode replacementModeParam;
 
     @Param({"LOW", "MEDIUM", "HIGH"})
@@ -97,6 +101,15 @@ public class PageReplacementBenchmark extends PersistentPageMemoryBenchmarkBase
 
     private volatile MetricsSnapshot beforeMetrics;
 
+    /** Point lookups of the mixed single thread benchmark that hit the cache. */
+    private long mixedLookupHits;
+
+    /** Point lookups of the mixed single thread benchmark that missed the cache. */
+    private long mixedLookupMisses;
+
+    /** Position of the sequential scan of the mixed single thread benchmark. */
+    private int scanPosition;
+
     // Use same seed across runs so all policies get the same partition distribution.
     private final Random partitionRandom = new Random(BASE_SEED);
 
@@ -219,6 +232,16 @@ public class PageReplacementBenchmark extends PersistentPageMemoryBenchmarkBase
     }
 
     private void printMetricsDelta(MetricsSnapshot before, MetricsSnapshot after) {
+        long lookups = mixedLookupHits + mixedLookupMisses;
+
+        if (lookups > 0) {
+            System.out.printf("[%s/%s] Mixed point lookups: %,d | Lookup Hit Rate: %.1f%%%n",
+                    replacementModeParam, cachePressure, lookups, mixedLookupHits * 100.0 / lookups);
+
+            mixedLookupHits = 0;
+            mixedLookupMisses = 0;
+        }
+
         long hits = after.hits - before.hits;
         long misses = after.misses - before.misses;
         long replacements = after.replacements - before.replacements;
@@ -385,6 +408,37 @@ public class PageReplacementBenchmark extends PersistentPageMemoryBenchmarkBase
         benchmarkIteration(state, blackhole);
     }
 
+    /**
+     * Point lookup followed by a step of a sequential scan. Single thread only, so that cache misses of the point lookups can be
+     * told apart from the misses of the scan.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Threads(1)
+    public void mixedLookupAndScanThroughputSingleThread(ThreadState state, Blackhole blackhole)
+            throws IgniteInternalCheckedException {
+        long missesBefore = persistentPageMemory().metrics().cacheMisses();
+
+        benchmarkIteration(state, blackhole);
+
+        if (persistentPageMemory().metrics().cacheMisses() == missesBefore) {
+            mixedLookupHits++;
+        } else {
+            mixedLookupMisses++;
+        }
+
+        boolean prevScanHint = SequentialScanHint.start();
+
+        try {
+            accessPageReadOnly(pageIds[scanPosition], state.threadIndex(), blackhole);
+        } finally {
+            SequentialScanHint.restore(prevScanHint);
+        }
+
+        scanPosition = (scanPosition + 1) % pageIds.length;
+    }
+
     private void benchmarkIteration(ThreadState state, Blackhole blackhole) throws IgniteInternalCheckedException {
         int index = state.nextZipfianIndex();
         long pageId = pageIds[index];
@@ -70,4 +70,16 @@ public interface PageMemory extends PageIdAllocator, PageSupport {
      * Returns a registry to obtain {@link PageIo} instances for pages.
      */
     PageIoRegistry ioRegistry();
+
+    /**
+     * Hints that the pages following the given one in the partition are about to be read sequentially, so that the implementation may
+     * load them in the background. Never blocks on I/O, does nothing by default.
+     *
+     * @param groupId Group ID.
+     * @param pageId ID of the page the sequential read has reached.
+     * @return Number of pages after the given one covered by the hint, {@code 0} if read-ahead is not supported or disabled.
+     */
+    default int readAhead(int groupId, long pageId) {
+        return 0;
+    }
 }
@@ -40,6 +40,9 @@ public class CheckpointConfiguration {
     /** Default value for {@link #logReadLockThresholdTimeoutMillis()}. */
     public static final int DEFAULT_CHECKPOINT_LOG_READ_LOCK_THRESHOLD_TIMEOUT = 0;
 
+    /** Default value for {@link #writeStrategy()}. */
+    public static final CheckpointWriteStrategy DEFAULT_CHECKPOINT_WRITE_STRATEGY = CheckpointWriteStrategy.PAGE_BY_PAGE;
+
     private final int checkpointThreads;
     private final int compactionThreads;
 
@@ -49,13 +52,16 @@ public class CheckpointConfiguration {
     private final LongSupplier readLockTimeoutMillis;
     private final LongSupplier logReadLockThresholdTimeoutMillis;
 
+    private final CheckpointWriteStrategy writeStrategy;
+
     private CheckpointConfiguration(
             int checkpointThreads,
             int compactionThreads,
             LongSupplier intervalMillis,
             IntSupplier intervalDeviationPercent,
             LongSupplier readLockTimeoutMillis,
-            LongSupplier logReadLockThresholdTimeoutMillis
+            LongSupplier logReadLockThresholdTimeoutMillis,
+            CheckpointWriteStrategy writeStrategy
     ) {
         this.checkpointThreads = checkpointThreads;
         this.compactionThreads = compactionThreads;
@@ -63,6 +69,7 @@ public class CheckpointConfiguration {
         this.intervalDeviationPercent = intervalDeviationPercent;
         this.readLockTimeoutMillis = readLockTimeoutMillis;
         this.logReadLockThresholdTimeoutMillis = logReadLockThresholdTimeoutMillis;
+        this.writeStrategy = writeStrategy;
     }
 
     /** Number of checkpoint threads. */
@@ -98,6 +105,11 @@ public class CheckpointConfiguration {
         return logReadLockThresholdTimeoutMillis.getAsLong();
     }
 
+    /** Strategy of writing dirty pages to the file page stores. */
+    public CheckpointWriteStrategy writeStrategy() {
+        return writeStrategy;
+    }
+
     /** Creates a builder for {@link CheckpointConfiguration} instance. */
     public static CheckpointConfigurationBuilder builder() {
         return new CheckpointConfigurationBuilder();
@@ -114,6 +126,8 @@ public class CheckpointConfiguration {
         private LongSupplier readLockTimeoutMillis = () -> DEFAULT_CHECKPOINT_READ_LOCK_TIMEOUT;
         private LongSupplier logReadLockThresholdTimeoutMillis = () -> DEFAULT_CHECKPOINT_LOG_READ_LOCK_THRESHOLD_TIMEOUT;
 
+        private CheckpointWriteStrategy writeStrategy = DEFAULT_CHECKPOINT_WRITE_STRATEGY;
+
         CheckpointConfigurationBuilder() {
         }
 
@@ -147,6 +161,11 @@ public class CheckpointConfiguration {
             return this;
         }
 
+        public CheckpointConfigurationBuilder writeStrategy(CheckpointWriteStrategy writeStrategy) {
+            this.writeStrategy = writeStrategy;
+            return this;
+        }
+
         /** Builds a {@link CheckpointConfiguration} instance. */
         public CheckpointConfiguration build() {
             return new CheckpointConfiguration(
@@ -155,7 +174,8 @@ public class CheckpointConfiguration {
                     intervalMillis,
                     intervalDeviationPercent,
                     readLockTimeoutMillis,
-                    logReadLockThresholdTimeoutMillis
+                    logReadLockThresholdTimeoutMillis,
+                    writeStrategy
             );
         }
     }
@@ -0,0 +1,31 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.configuration;
+
+/** Strategy of writing dirty pages to the file page stores during a checkpoint. */
+public enum CheckpointWriteStrategy {
+    /** Each dirty page is written with a separate write as soon as it is copied from the page memory. */
+    PAGE_BY_PAGE,
+
+    /**
+     * Dirty pages of a partition with consecutive page indexes are collected into batches, and pages of a batch located one after another
+     * in a file are written with a single write. Reduces the number of system calls and makes the writes more sequential, at the cost of
+     * keeping the batched pages pinned in the page memory until they are written.
+     */
+    COALESCED
+}
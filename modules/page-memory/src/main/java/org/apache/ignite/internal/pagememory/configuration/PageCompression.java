@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.configuration;
+
+import java.util.zip.Deflater;
+
+/** Compression of pages written to the file page stores of persistent regions. */
+public enum PageCompression {
+    /** Pages are written as is. */
+    DISABLED((byte) 0),
+
+    /** Page body (everything after the common page header) is compressed with {@link Deflater} using the fastest level. */
+    DEFLATE((byte) 1);
+
+    private final byte id;
+
+    PageCompression(byte id) {
+        this.id = id;
+    }
+
+    /** Returns the identifier that is stored in the compression type field of the page header. */
+    public byte id() {
+        return id;
+    }
+
+    /**
+     * Returns the page compression by its identifier.
+     *
+     * @param id Identifier stored in the compression type field of the page header.
+     * @throws IllegalArgumentException If the identifier is unknown.
+     */
+    public static PageCompression fromId(byte id) {
+        switch (id) {
+            case 0:
+                return DISABLED;
+
+            case 1:
+                return DEFLATE;
+
+            default:
+                throw new IllegalArgumentException("Unknown page compression: " + id);
+        }
+    }
+}
@@ -17,7 +17,9 @@
 
 package org.apache.ignite.internal.pagememory.configuration;
 
+import java.util.concurrent.Executor;
 import org.apache.ignite.internal.pagememory.persistence.throttling.ThrottlingPolicyFactory;
+import org.jetbrains.annotations.Nullable;
 
 /** * Configuration for a persistent data region. */
 public class PersistentDataRegionConfiguration implements DataRegionConfiguration {
@@ -26,6 +28,9 @@ public class PersistentDataRegionConfiguration implements DataRegionConfiguratio
     private final long size;
     private final ReplacementMode replacementMode;
     private final ThrottlingPolicyFactory throttlingPolicyFactory;
+    private final boolean lockFreePageLookup;
+    private final int readAheadPages;
+    private final @Nullable Executor readAheadExecutor;
 
     @Override
     public String name() {
@@ -50,14 +55,39 @@ public class PersistentDataRegionConfiguration implements DataRegionConfiguratio
         return throttlingPolicyFactory;
     }
 
+    /** Whether loaded pages are looked up and acquired without taking the segment lock. */
+    public boolean lockFreePageLookup() {
+        return lockFreePageLookup;
+    }
+
+    /** Number of partition file pages loaded in the background ahead of a sequential scan, {@code 0} if read-ahead is disabled. */
+    public int readAheadPages() {
+        return readAheadPages;
+    }
+
+    /** Executor that loads pages ahead of sequential scans, {@code null} if read-ahead is disabled. */
+    public @Nullable Executor readAheadExecutor() {
+        return readAheadExecutor;
+    }
+
     private PersistentDataRegionConfiguration(
-            String name, int pageSize, long size, ReplacementMode replacementMode, ThrottlingPolicyFactory throttlingPolicyFactory
+            String name,
+            int pageSize,
+            long size,
+            ReplacementMode replacementMode,
+            ThrottlingPolicyFactory throttlingPolicyFactory,
+            boolean lockFreePageLookup,
+            int readAheadPages,
+            @Nullable Executor readAheadExecutor
     ) {
         this.name = name;
         this.pageSize = pageSize;
         this.size = size;
         this.replacementMode = replacementMode;
         this.throttlingPolicyFactory = throttlingPolicyFactory;
+        this.lockFreePageLookup = lockFreePageLookup;
+        this.readAheadPages = readAheadPages;
+        this.readAheadExecutor = readAheadExecutor;
     }
 
     /** Creates a builder for {@link PersistentDataRegionConfiguration} instance. */
@@ -72,6 +102,9 @@ public class PersistentDataRegionConfiguration implements DataRegionConfiguratio
         private long size;
         private ReplacementMode replacementMode = ReplacementMode.CLOCK;
         private ThrottlingPolicyFactory throttlingPolicyFactory = pageMemory -> null;
+        private boolean lockFreePageLookup;
+        private int readAheadPages;
+        private @Nullable Executor readAheadExecutor;
 
         public PersistentDataRegionConfigurationBuilder name(String name) {
             this.name = name;
@@ -98,8 +131,32 @@ public class PersistentDataRegionConfiguration implements DataRegionConfiguratio
             return this;
         }
 
+        public PersistentDataRegionConfigurationBuilder lockFreePageLookup(boolean lockFreePageLookup) {
+            this.lockFreePageLookup = lockFreePageLookup;
+            return this;
+        }
+
+        public PersistentDataRegionConfigurationBuilder readAheadPages(int readAheadPages) {
+            this.readAheadPages = readAheadPages;
+            return this;
+        }
+
+        public PersistentDataRegionConfigurationBuilder readAheadExecutor(@Nullable Executor readAheadExecutor) {
+            this.readAheadExecutor = readAheadExecutor;
+            return this;
+        }
+
         public PersistentDataRegionConfiguration build() {
-            return new PersistentDataRegionConfiguration(name, pageSize, size, replacementMode, throttlingPolicyFactory);
+            return new PersistentDataRegionConfiguration(
+                    name,
+                    pageSize,
+                    size,
+                    replacementMode,
+                    throttlingPolicyFactory,
+                    lockFreePageLookup,
+                    readAheadPages,
+                    readAheadExecutor
+            );
         }
     }
 }
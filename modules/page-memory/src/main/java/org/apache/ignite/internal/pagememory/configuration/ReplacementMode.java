@@ -26,5 +26,8 @@ public enum ReplacementMode {
     SEGMENTED_LRU,
 
     /** CLOCK page replacement algorithm. */
-    CLOCK
+    CLOCK,
+
+    /** Scan-resistant 2Q page replacement algorithm. */
+    TWO_QUEUE
 }
@@ -29,7 +29,8 @@ import org.jetbrains.annotations.Nullable;
  * entries. Outdated entry (entry having version lower than requested), is not provided in case of get, outdated return value is provided
  * instead.
  *
- * <p>This mapping is not thread safe. Operations should be protected by outside locking.<br>
+ * <p>This mapping is not thread safe. Operations should be protected by outside locking, unless {@link #optimisticReads()} is
+ * {@code true}.<br>
  */
 public interface LoadedPagesMap {
     /**
@@ -44,6 +45,14 @@ public interface LoadedPagesMap {
      */
     long get(int grpId, long pageId, int reqVer, long absent, long outdated);
 
+    /**
+     * Returns {@code true} if {@link #get} may be called without outside locking, concurrently with modifications. Such a {@link #get}
+     * may return {@code absent} for a present entry that is concurrently being moved, but never returns a torn value.
+     */
+    default boolean optimisticReads() {
+        return false;
+    }
+
     /**
      * Associates the given key with the given value.
      *
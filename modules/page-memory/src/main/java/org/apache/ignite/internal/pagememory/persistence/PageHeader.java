@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.pagememory.persistence;
 
 import static org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory.INVALID_REL_PTR;
+import static org.apache.ignite.internal.util.GridUnsafe.compareAndSwapInt;
 import static org.apache.ignite.internal.util.GridUnsafe.decrementAndGetInt;
 import static org.apache.ignite.internal.util.GridUnsafe.getInt;
 import static org.apache.ignite.internal.util.GridUnsafe.getIntVolatile;
@@ -86,6 +87,9 @@ public class PageHeader {
     /** Page lock offset. */
     public static final int PAGE_LOCK_OFFSET = 32;
 
+    /** Pin count of a page that is being removed from the loaded pages, see {@link #tryMarkRemoved(long)}. */
+    private static final int REMOVED_PIN_CNT = Integer.MIN_VALUE;
+
     /** Page temp copy buffer relative pointer offset. */
     private static final int PAGE_TMP_BUF_OFFSET = 40;
 
@@ -214,6 +218,55 @@ public class PageHeader {
         return decrementAndGetInt(absPtr + PAGE_PIN_CNT_OFFSET);
     }
 
+    /**
+     * Acquires a page unless it is {@link #tryMarkRemoved(long) marked as removed}. Used to acquire a page without holding the segment
+     * lock.
+     *
+     * @param absPtr Absolute pointer.
+     * @return {@code True} if the page was acquired.
+     */
+    static boolean tryAcquirePage(long absPtr) {
+        while (true) {
+            int pinCnt = getIntVolatile(null, absPtr + PAGE_PIN_CNT_OFFSET);
+
+            if (pinCnt < 0) {
+                return false;
+            }
+
+            if (compareAndSwapInt(null, absPtr + PAGE_PIN_CNT_OFFSET, pinCnt, pinCnt + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Marks a page that is not acquired as removed, after that {@link #tryAcquirePage(long)} fails until {@link #unmarkRemoved(long)}.
+     *
+     * @param absPtr Absolute pointer.
+     * @return {@code True} if the page was marked, {@code false} if it is acquired.
+     */
+    static boolean tryMarkRemoved(long absPtr) {
+        return compareAndSwapInt(null, absPtr + PAGE_PIN_CNT_OFFSET, 0, REMOVED_PIN_CNT);
+    }
+
+    /**
+     * Returns {@code true} if the page is {@link #tryMarkRemoved(long) marked as removed}.
+     *
+     * @param absPtr Absolute pointer.
+     */
+    static boolean isMarkedRemoved(long absPtr) {
+        return getIntVolatile(null, absPtr + PAGE_PIN_CNT_OFFSET) == REMOVED_PIN_CNT;
+    }
+
+    /**
+     * Resets the pin count of a page {@link #tryMarkRemoved(long) marked as removed}, does nothing if the page is not marked.
+     *
+     * @param absPtr Absolute pointer.
+     */
+    static void unmarkRemoved(long absPtr) {
+        compareAndSwapInt(null, absPtr + PAGE_PIN_CNT_OFFSET, REMOVED_PIN_CNT, 0);
+    }
+
     /**
      * Returns number of acquires for the page.
      *
@@ -295,7 +348,7 @@ public class PageHeader {
      * @param absPtr Absolute memory pointer to the page header.
      * @return Group ID written to the page.
      */
-    private static int pageGroupId(long absPtr) {
+    static int pageGroupId(long absPtr) {
         return getInt(absPtr + PAGE_GROUP_ID_OFFSET);
     }
 
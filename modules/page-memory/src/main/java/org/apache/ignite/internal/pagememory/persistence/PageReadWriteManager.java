@@ -58,4 +58,16 @@ public interface PageReadWriteManager {
      * @throws IgniteInternalCheckedException If IO exception occurred while allocating a page ID.
      */
     long allocatePage(int grpId, int partId, byte flags) throws IgniteInternalCheckedException;
+
+    /**
+     * Returns the number of partition pages that can be read from the store without racing with their allocation, i.e. pages with an
+     * index less than the returned value are guaranteed to have been written by a checkpoint or a page replacement.
+     *
+     * @param grpId Group ID.
+     * @param partId Partition ID.
+     * @return Number of readable pages, {@code 0} if the partition store is missing or is being destroyed.
+     */
+    default int readablePages(int grpId, int partId) {
+        return 0;
+    }
 }
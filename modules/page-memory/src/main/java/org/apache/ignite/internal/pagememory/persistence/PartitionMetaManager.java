@@ -100,6 +100,26 @@ public class PartitionMetaManager {
             FilePageStore filePageStore,
             ByteBuffer buffer,
             int partitionGeneration
+    ) throws IgniteInternalCheckedException {
+        readOrCreateMetaPage(groupPartitionId, filePageStore, buffer);
+
+        return createMeta(checkpointId, buffer, partitionGeneration);
+    }
+
+    /**
+     * Reads the partition meta page from the partition file to the buffer or creates a new one, the meta itself is created from the buffer
+     * by {@link #createMeta}. Allows to do the I/O in advance and to create the meta with the checkpoint ID actual at the time of use.
+     *
+     * <p>If it creates a new one, it writes the meta page to the file.</p>
+     *
+     * @param groupPartitionId Partition of the group.
+     * @param filePageStore Partition file page store.
+     * @param buffer Buffer for reading and writing pages.
+     */
+    public void readOrCreateMetaPage(
+            GroupPartitionId groupPartitionId,
+            FilePageStore filePageStore,
+            ByteBuffer buffer
     ) throws IgniteInternalCheckedException {
         long bufferAddr = bufferAddress(buffer);
 
@@ -110,12 +130,7 @@ public class PartitionMetaManager {
             try {
                 filePageStore.readWithoutPageIdCheck(partitionMetaPageId, buffer, false);
 
-                return partitionMetaFactory.createPartitionMeta(
-                        checkpointId,
-                        ioRegistry.resolve(bufferAddr),
-                        bufferAddr,
-                        partitionGeneration
-                );
+                return;
             } catch (IgniteInternalDataIntegrityViolationException e) {
                 LOG.info(() -> "Error reading partition meta page, will be recreated: " + groupPartitionId, e);
             }
@@ -136,8 +151,23 @@ public class PartitionMetaManager {
         filePageStore.write(partitionMetaPageId, buffer.rewind());
 
         filePageStore.sync();
+    }
+
+    /**
+     * Creates the partition {@link PartitionMeta meta} from the meta page read by {@link #readOrCreateMetaPage}.
+     *
+     * @param checkpointId Checkpoint ID.
+     * @param buffer Buffer with the partition meta page.
+     * @param partitionGeneration Partition generation at the time of its creation.
+     */
+    public PartitionMeta createMeta(
+            @Nullable UUID checkpointId,
+            ByteBuffer buffer,
+            int partitionGeneration
+    ) throws IgniteInternalCheckedException {
+        long bufferAddr = bufferAddress(buffer);
 
-        return partitionMetaFactory.createPartitionMeta(checkpointId, io, bufferAddr, partitionGeneration);
+        return partitionMetaFactory.createPartitionMeta(checkpointId, ioRegistry.resolve(bufferAddr), bufferAddr, partitionGeneration);
     }
 
     /**
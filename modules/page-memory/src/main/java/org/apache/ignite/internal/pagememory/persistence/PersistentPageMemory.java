@@ -42,6 +42,8 @@ import static org.apache.ignite.internal.pagememory.persistence.PageHeader.times
 import static org.apache.ignite.internal.pagememory.persistence.PagePool.SEGMENT_INDEX_MASK;
 import static org.apache.ignite.internal.pagememory.persistence.throttling.PagesWriteThrottlePolicy.CP_BUF_FILL_THRESHOLD;
 import static org.apache.ignite.internal.pagememory.util.PageIdUtils.effectivePageId;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.flag;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageId;
 import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageIndex;
 import static org.apache.ignite.internal.pagememory.util.PageIdUtils.partitionId;
 import static org.apache.ignite.internal.pagememory.util.PageIdUtils.tag;
@@ -73,10 +75,13 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -105,6 +110,8 @@ import org.apache.ignite.internal.pagememory.persistence.replacement.PageReplace
 import org.apache.ignite.internal.pagememory.persistence.replacement.PageReplacementPolicyFactory;
 import org.apache.ignite.internal.pagememory.persistence.replacement.RandomLruPageReplacementPolicyFactory;
 import org.apache.ignite.internal.pagememory.persistence.replacement.SegmentedLruPageReplacementPolicyFactory;
+import org.apache.ignite.internal.pagememory.persistence.replacement.SequentialScanHint;
+import org.apache.ignite.internal.pagememory.persistence.replacement.TwoQueuePageReplacementPolicyFactory;
 import org.apache.ignite.internal.pagememory.persistence.throttling.PagesWriteThrottlePolicy;
 import org.apache.ignite.internal.util.CollectionUtils;
 import org.apache.ignite.internal.util.OffheapReadWriteLock;
@@ -212,6 +219,9 @@ public class PersistentPageMemory implements PageMemory {
     /** Checkpoint timeout lock. */
     private final CheckpointTimeoutLock checkpointTimeoutLock;
 
+    /** Partition destruction lock manager. */
+    private final PartitionDestructionLockManager partitionDestructionLockManager;
+
     private final PersistentPageMemoryMetrics metrics;
 
     /**
@@ -246,6 +256,7 @@ public class PersistentPageMemory implements PageMemory {
         this.sizes = concat(segmentSizes, checkpointBufferSize);
         this.pageStoreManager = pageStoreManager;
         this.checkpointTimeoutLock = checkpointTimeoutLock;
+        this.partitionDestructionLockManager = partitionDestructionLockManager;
 
         directMemoryProvider = new UnsafeMemoryProvider(null);
 
@@ -312,6 +323,8 @@ public class PersistentPageMemory implements PageMemory {
                 return new SegmentedLruPageReplacementPolicyFactory();
             case CLOCK:
                 return new ClockPageReplacementPolicyFactory();
+            case TWO_QUEUE:
+                return new TwoQueuePageReplacementPolicyFactory();
             default:
                 throw new IgniteInternalException("Unexpected page replacement mode: " + replacementMode);
         }
@@ -538,6 +551,10 @@ public class PersistentPageMemory implements PageMemory {
 
             long absPtr = seg.absolute(relPtr);
 
+            if (seg.lockFreeLookup) {
+                seg.markRemovedNewPage(absPtr);
+            }
+
             zeroMemory(absPtr + PAGE_OVERHEAD, pageSize());
 
             fullPageId(absPtr, fullId);
@@ -561,6 +578,10 @@ public class PersistentPageMemory implements PageMemory {
             seg.pageReplacementPolicy.onMiss(relPtr);
 
             seg.loadedPages.put(grpId, effectivePageId(pageId), relPtr, partGen);
+
+            if (seg.lockFreeLookup) {
+                PageHeader.unmarkRemoved(absPtr);
+            }
         } catch (IgniteOutOfMemoryException oom) {
             IgniteOutOfMemoryException e = new IgniteOutOfMemoryException("Out of memory in data region ["
                     + "name=" + dataRegionConfiguration.name()
@@ -612,6 +633,17 @@ public class PersistentPageMemory implements PageMemory {
 
         Segment seg = segment(grpId, pageId);
 
+        if (seg.lockFreeLookup) {
+            long absPtr = acquirePageLockFree(seg, grpId, pageId);
+
+            if (absPtr != INVALID_REL_PTR) {
+                waitUntilPageIsFullyInitialized(absPtr);
+                metrics.recordPageAcquireTime(System.nanoTime() - startTime);
+
+                return absPtr;
+            }
+        }
+
         seg.readLock().lock();
 
         boolean waitUntilPageIsFullyInitialized = false;
@@ -676,6 +708,10 @@ public class PersistentPageMemory implements PageMemory {
 
                 absPtr = seg.absolute(relPtr);
 
+                if (seg.lockFreeLookup) {
+                    seg.markRemovedNewPage(absPtr);
+                }
+
                 fullPageId(absPtr, fullId);
                 timestamp(absPtr, coarseCurrentTimeMillis());
                 partitionGeneration(absPtr, partGen);
@@ -688,17 +724,6 @@ public class PersistentPageMemory implements PageMemory {
                 // We can clear dirty flag after the page has been allocated.
                 setDirty(fullId, absPtr, false, false);
 
-                seg.pageReplacementPolicy.onMiss(relPtr);
-
-                seg.loadedPages.put(
-                        grpId,
-                        fullId.effectivePageId(),
-                        relPtr,
-                        partGen
-                );
-
-                delayedPageReplacementTracker.waitUnlock(fullId);
-
                 readPageFromStore = true;
 
                 // Mark page header as invalid. We have not yet read the real value of "pageId" from the page, thus the state of "rwLock"
@@ -712,9 +737,26 @@ public class PersistentPageMemory implements PageMemory {
                 assert locked : "Page ID " + fullId + " expected to be locked";
 
                 lockedPageAbsPtr = absPtr;
+
+                seg.pageReplacementPolicy.onMiss(relPtr);
+
+                seg.loadedPages.put(
+                        grpId,
+                        fullId.effectivePageId(),
+                        relPtr,
+                        partGen
+                );
+
+                // The page becomes visible to lock-free readers only now, when its header and lock are initialized and the lock is held.
+                if (seg.lockFreeLookup) {
+                    PageHeader.unmarkRemoved(absPtr);
+                }
+
+                delayedPageReplacementTracker.waitUnlock(fullId);
             } else if (relPtr == OUTDATED_REL_PTR) {
                 assert pageIndex(pageId) == 0 : fullId;
 
+                // Marks the page as removed if lock-free lookup is enabled, so it is not pinned while being reinitialized.
                 relPtr = seg.refreshOutdatedPage(grpId, pageId, false);
 
                 absPtr = seg.absolute(relPtr);
@@ -737,6 +779,10 @@ public class PersistentPageMemory implements PageMemory {
 
                 seg.pageReplacementPolicy.onRemove(relPtr);
                 seg.pageReplacementPolicy.onMiss(relPtr);
+
+                if (seg.lockFreeLookup) {
+                    PageHeader.unmarkRemoved(absPtr);
+                }
             } else {
                 absPtr = seg.absolute(relPtr);
 
@@ -791,6 +837,131 @@ public class PersistentPageMemory implements PageMemory {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Submits loading of the next {@link PersistentDataRegionConfiguration#readAheadPages()} pages of the partition file to the
+     * {@link PersistentDataRegionConfiguration#readAheadExecutor() read-ahead executor}. Read-ahead is best-effort: if the executor
+     * rejects the task the pages are simply loaded by the scan itself.</p>
+     */
+    @Override
+    public int readAhead(int grpId, long pageId) {
+        int readAheadPages = dataRegionConfiguration.readAheadPages();
+        Executor readAheadExecutor = dataRegionConfiguration.readAheadExecutor();
+
+        if (readAheadPages <= 0 || readAheadExecutor == null || !started) {
+            return 0;
+        }
+
+        try {
+            readAheadExecutor.execute(() -> loadPagesAhead(grpId, pageId, readAheadPages));
+        } catch (RejectedExecutionException e) {
+            return 0;
+        }
+
+        return readAheadPages;
+    }
+
+    /**
+     * Loads partition pages following the given one into memory, skipping the ones that are already loaded.
+     *
+     * <p>Only pages below {@link PageReadWriteManager#readablePages} are loaded so as not to race with their allocation, and the
+     * partition destruction lock is taken with {@code tryLock} so that a partition being destroyed is never read. Loaded pages are
+     * reported to the replacement policy as {@link SequentialScanHint scan} pages.</p>
+     *
+     * @param grpId Group ID.
+     * @param pageId ID of the page the sequential read has reached.
+     * @param readAheadPages Maximum number of pages to load.
+     */
+    private void loadPagesAhead(int grpId, long pageId, int readAheadPages) {
+        int partId = partitionId(pageId);
+
+        Lock destructionLock = partitionDestructionLockManager.destructionLock(new GroupPartitionId(grpId, partId)).readLock();
+
+        if (!destructionLock.tryLock()) {
+            return;
+        }
+
+        boolean prevScan = SequentialScanHint.start();
+
+        try {
+            byte flag = flag(pageId);
+            int from = Math.max(pageIndex(pageId) + 1, 1);
+            int to = (int) Math.min((long) from + readAheadPages, pageStoreManager.readablePages(grpId, partId));
+
+            for (int pageIdx = from; pageIdx < to && started; pageIdx++) {
+                FullPageId fullId = new FullPageId(pageId(partId, flag, pageIdx), grpId);
+
+                if (hasLoadedPage(fullId)) {
+                    continue;
+                }
+
+                long page = acquirePage(grpId, fullId.pageId());
+
+                releasePage(grpId, fullId.pageId(), page);
+
+                metrics.incrementReadAheadMetric();
+            }
+        } catch (IgniteInternalCheckedException | RuntimeException e) {
+            LOG.debug("Failed to read pages ahead [grpId={}, pageId={}]", e, grpId, hexLong(pageId));
+        } finally {
+            SequentialScanHint.restore(prevScan);
+
+            destructionLock.unlock();
+        }
+    }
+
+    /**
+     * Tries to acquire a page that is already loaded into memory without taking the segment lock.
+     *
+     * <p>The page is pinned only if it is not being removed from the loaded pages (see {@link PageHeader#tryAcquirePage}), after that
+     * its header is checked to still belong to the requested page of the current partition generation. A frame stays marked as removed
+     * while its header and lock are (re)initialized under the segment write lock and cannot be marked while pinned, so the header read
+     * after a successful pin is stable until the page is released. If the page is still being read from the store, the caller waits for
+     * it in {@link #waitUntilPageIsFullyInitialized}.</p>
+     *
+     * @param seg Segment with {@link Segment#lockFreeLookup}.
+     * @param grpId Group ID.
+     * @param pageId Page ID.
+     * @return Absolute pointer to the acquired page or {@link #INVALID_REL_PTR} if the page must be acquired under the segment lock.
+     */
+    private long acquirePageLockFree(Segment seg, int grpId, long pageId) {
+        int partId = partitionId(pageId);
+
+        long relPtr = seg.loadedPages.get(
+                grpId,
+                effectivePageId(pageId),
+                seg.partGenerationLockFree(grpId, partId),
+                INVALID_REL_PTR,
+                INVALID_REL_PTR
+        );
+
+        if (relPtr == INVALID_REL_PTR) {
+            return INVALID_REL_PTR;
+        }
+
+        long absPtr = seg.absolute(relPtr);
+
+        if (!PageHeader.tryAcquirePage(absPtr)) {
+            return INVALID_REL_PTR;
+        }
+
+        // The frame could have been reused for another page or refreshed for a new partition generation between the lookup and the pin.
+        if (effectivePageId(PageHeader.pageId(absPtr)) != effectivePageId(pageId)
+                || PageHeader.pageGroupId(absPtr) != grpId
+                || partitionGeneration(absPtr) < seg.partGenerationLockFree(grpId, partId)) {
+            PageHeader.releasePage(absPtr);
+
+            return INVALID_REL_PTR;
+        }
+
+        incrementAndGetInt(seg.acquiredPagesPtr);
+
+        seg.pageReplacementPolicy.onHit(relPtr);
+
+        return absPtr;
+    }
+
     /**
      * This method is called when the thread finishes acquiring the page, but this thread is not the one that reads page data from the
      * storage. Such a waiting is required to receive a valid state of page header, in particular we need a valid state of {@link #rwLock}
@@ -1354,6 +1525,13 @@ public class PersistentPageMemory implements PageMemory {
         /** Page ID to relative pointer map. */
         private final LoadedPagesMap loadedPages;
 
+        /**
+         * Whether loaded pages are acquired without the segment lock, see {@link PersistentPageMemory#acquirePageLockFree}. In this mode
+         * a page is marked as removed (see {@link PageHeader#tryMarkRemoved}) before it is removed from {@link #loadedPages} and
+         * unmarked after its frame is put back with a new page.
+         */
+        private final boolean lockFreeLookup;
+
         /** Pointer to acquired pages integer counter. */
         private final long acquiredPagesPtr;
 
@@ -1395,6 +1573,9 @@ public class PersistentPageMemory implements PageMemory {
          */
         private final Object2IntMap<GroupPartitionId> partGenerationMap = new Object2IntOpenHashMap<>();
 
+        /** Copy of {@link #partGenerationMap} for reading without the segment lock, published only if {@link #lockFreeLookup}. */
+        private volatile Object2IntMap<GroupPartitionId> partGenerationSnapshot = new Object2IntOpenHashMap<>();
+
         /** Segment closed flag. */
         private boolean closed;
 
@@ -1417,9 +1598,17 @@ public class PersistentPageMemory implements PageMemory {
 
             long ldPagesAddr = region.address() + ldPagesMapOffInRegion;
 
-            memPerTbl = RobinHoodBackwardShiftHashMap.requiredMemory(pages);
+            if (dataRegionConfiguration.lockFreePageLookup()) {
+                memPerTbl = SeqLockRobinHoodHashMap.requiredMemory(pages);
+
+                loadedPages = new SeqLockRobinHoodHashMap(ldPagesAddr, memPerTbl);
+            } else {
+                memPerTbl = RobinHoodBackwardShiftHashMap.requiredMemory(pages);
+
+                loadedPages = new RobinHoodBackwardShiftHashMap(ldPagesAddr, memPerTbl);
+            }
 
-            loadedPages = new RobinHoodBackwardShiftHashMap(ldPagesAddr, memPerTbl);
+            lockFreeLookup = loadedPages.optimisticReads();
 
             pages = (int) ((totalMemory - memPerTbl - ldPagesMapOffInRegion) / sysPageSize);
 
@@ -1548,7 +1737,7 @@ public class PersistentPageMemory implements PageMemory {
         public boolean tryToRemovePage(FullPageId fullPageId, long absPtr) throws IgniteInternalCheckedException {
             assert writeLock().isHeldByCurrentThread() : fullPageId;
 
-            if (isAcquired(absPtr)) {
+            if (lockFreeLookup ? !PageHeader.tryMarkRemoved(absPtr) : isAcquired(absPtr)) {
                 // Page is pinned by another thread, such as a checkpoint dirty page writer or in the process of being modified - nothing
                 // needs to be done.
                 return false;
@@ -1579,6 +1768,10 @@ public class PersistentPageMemory implements PageMemory {
                     return true;
                 }
 
+                if (lockFreeLookup) {
+                    PageHeader.unmarkRemoved(absPtr);
+                }
+
                 return false;
             } else {
                 loadedPages.remove(fullPageId.groupId(), fullPageId.effectivePageId());
@@ -1604,10 +1797,6 @@ public class PersistentPageMemory implements PageMemory {
 
             long absPtr = absolute(relPtr);
 
-            zeroMemory(absPtr + PAGE_OVERHEAD, pageSize());
-
-            dirty(absPtr, false);
-
             long tmpBufPtr = tempBufferPointer(absPtr);
 
             if (tmpBufPtr != INVALID_REL_PTR) {
@@ -1621,6 +1810,14 @@ public class PersistentPageMemory implements PageMemory {
                 releaseCheckpointBufferPage(tmpBufPtr);
             }
 
+            if (lockFreeLookup) {
+                markRemoved(absPtr);
+            }
+
+            zeroMemory(absPtr + PAGE_OVERHEAD, pageSize());
+
+            dirty(absPtr, false);
+
             if (rmv) {
                 loadedPages.remove(grpId, effectivePageId(pageId));
             }
@@ -1628,6 +1825,36 @@ public class PersistentPageMemory implements PageMemory {
             return relPtr;
         }
 
+        /**
+         * Marks a page of an invalidated partition as removed (see {@link PageHeader#tryMarkRemoved}) before its frame is reused. The page
+         * may only be pinned for a short time by a lock-free reader (see {@link PersistentPageMemory#acquirePageLockFree}), which sees the
+         * new partition generation and releases the page, so the method waits for that instead of reusing a pinned frame.
+         *
+         * @param absPtr Absolute pointer to the page.
+         */
+        private void markRemoved(long absPtr) {
+            assert getWriteHoldCount() > 0 : hexLong(absPtr);
+
+            while (!PageHeader.tryMarkRemoved(absPtr) && !PageHeader.isMarkedRemoved(absPtr)) {
+                Thread.onSpinWait();
+            }
+        }
+
+        /**
+         * Prepares a frame taken from the free pages or from page replacement to be filled with a new page while lock-free lookup is
+         * enabled: the frame is kept {@link PageHeader#tryMarkRemoved marked as removed} until its header and lock are initialized, so
+         * that a lock-free reader that still has a pointer to the frame from the loaded pages cannot pin it in the meantime. Must be
+         * followed by {@link PageHeader#unmarkRemoved} once the page is put into {@link #loadedPages}.
+         *
+         * @param absPtr Absolute pointer to the page.
+         */
+        private void markRemovedNewPage(long absPtr) {
+            // A frame that has never been loaded is not marked yet, but no reader can have a pointer to it.
+            PageHeader.tryMarkRemoved(absPtr);
+
+            assert PageHeader.isMarkedRemoved(absPtr) : "Frame of a new page must not be pinned: " + hexLong(absPtr);
+        }
+
         /**
          * Removes random oldest page for page replacement from memory to storage.
          *
@@ -1749,23 +1976,46 @@ public class PersistentPageMemory implements PageMemory {
 
             int partitionGeneration = partGenerationMap.getOrDefault(groupPartitionId, INIT_PART_GENERATION);
 
+            int newPartitionGeneration;
+
             if (partitionGeneration == Integer.MAX_VALUE) {
                 LOG.info("Partition generation overflow [grpId={}, partId={}]", grpId, partId);
 
-                partGenerationMap.put(groupPartitionId, INIT_PART_GENERATION);
-
-                return INIT_PART_GENERATION;
+                newPartitionGeneration = INIT_PART_GENERATION;
             } else {
-                partGenerationMap.put(groupPartitionId, partitionGeneration + 1);
-
-                return partitionGeneration + 1;
+                newPartitionGeneration = partitionGeneration + 1;
             }
+
+            partGenerationMap.put(groupPartitionId, newPartitionGeneration);
+
+            publishPartGenerations();
+
+            return newPartitionGeneration;
         }
 
         private void resetGroupPartitionsGeneration(int grpId) {
             assert getWriteHoldCount() > 0 : "grpId=" + grpId;
 
             partGenerationMap.keySet().removeIf(grpPart -> grpPart.getGroupId() == grpId);
+
+            publishPartGenerations();
+        }
+
+        private void publishPartGenerations() {
+            if (lockFreeLookup) {
+                partGenerationSnapshot = new Object2IntOpenHashMap<>(partGenerationMap);
+            }
+        }
+
+        /**
+         * Returns partition generation like {@link #partGeneration(int, int)} does, but without holding the segment lock. Must only be
+         * used if {@link #lockFreeLookup}.
+         *
+         * @param grpId Group ID.
+         * @param partId Partition ID.
+         */
+        private int partGenerationLockFree(int grpId, int partId) {
+            return partGenerationSnapshot.getOrDefault(new GroupPartitionId(grpId, partId), INIT_PART_GENERATION);
         }
 
         /**
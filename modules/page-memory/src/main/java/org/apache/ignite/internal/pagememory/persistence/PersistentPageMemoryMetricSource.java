@@ -36,6 +36,7 @@ public class PersistentPageMemoryMetricSource implements MetricSource {
     public static final String DIRTY_PAGES = "DirtyPages";
     public static final String LOADED_PAGES = "LoadedPages";
     public static final String PAGE_ACQUIRE_TIME = "PageAcquireTime";
+    public static final String PAGES_READ_AHEAD = "PagesReadAhead";
 
     private final String name;
 
@@ -20,6 +20,7 @@ package org.apache.ignite.internal.pagememory.persistence;
 import static org.apache.ignite.internal.pagememory.persistence.PersistentPageMemoryMetricSource.DIRTY_PAGES;
 import static org.apache.ignite.internal.pagememory.persistence.PersistentPageMemoryMetricSource.LOADED_PAGES;
 import static org.apache.ignite.internal.pagememory.persistence.PersistentPageMemoryMetricSource.PAGES_READ;
+import static org.apache.ignite.internal.pagememory.persistence.PersistentPageMemoryMetricSource.PAGES_READ_AHEAD;
 import static org.apache.ignite.internal.pagememory.persistence.PersistentPageMemoryMetricSource.PAGES_WRITTEN;
 import static org.apache.ignite.internal.pagememory.persistence.PersistentPageMemoryMetricSource.PAGE_ACQUIRE_TIME;
 import static org.apache.ignite.internal.pagememory.persistence.PersistentPageMemoryMetricSource.PAGE_CACHE_HITS;
@@ -53,6 +54,8 @@ public class PersistentPageMemoryMetrics implements PageCacheMetrics {
 
     private final LongAdderMetric pageReplacements;
 
+    private final LongAdderMetric readAheadPages;
+
     PersistentPageMemoryMetrics(
             PersistentPageMemoryMetricSource source,
             PersistentPageMemory pageMemory,
@@ -108,6 +111,11 @@ public class PersistentPageMemoryMetrics implements PageCacheMetrics {
                 "Number of times a page was replaced (evicted) from the page cache."
         ));
 
+        readAheadPages = source.addMetric(new LongAdderMetric(
+                PAGES_READ_AHEAD,
+                "Number of pages loaded from disk ahead of sequential scans since the last restart."
+        ));
+
         source.addMetric(new LongGauge(
                 LOADED_PAGES,
                 "Current number of pages loaded in memory.",
@@ -154,6 +162,11 @@ public class PersistentPageMemoryMetrics implements PageCacheMetrics {
         pageReplacements.increment();
     }
 
+    /** Increases the read-ahead pages metric by one. */
+    public void incrementReadAheadMetric() {
+        readAheadPages.increment();
+    }
+
     /**
      * Returns the total number of page cache hits since the last restart.
      *
@@ -198,4 +211,13 @@ public class PersistentPageMemoryMetrics implements PageCacheMetrics {
     public long pagesWritten() {
         return writePagesToDisk.value();
     }
+
+    /**
+     * Returns the total number of pages loaded ahead of sequential scans since the last restart.
+     *
+     * @return Number of pages read ahead.
+     */
+    public long pagesReadAhead() {
+        return readAheadPages.value();
+    }
 }
@@ -0,0 +1,482 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence;
+
+import static org.apache.ignite.internal.util.GridUnsafe.getInt;
+import static org.apache.ignite.internal.util.GridUnsafe.getIntVolatile;
+import static org.apache.ignite.internal.util.GridUnsafe.getLong;
+import static org.apache.ignite.internal.util.GridUnsafe.putInt;
+import static org.apache.ignite.internal.util.GridUnsafe.putIntVolatile;
+import static org.apache.ignite.internal.util.GridUnsafe.putLong;
+import static org.apache.ignite.internal.util.IgniteUtils.safeAbs;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import java.lang.invoke.VarHandle;
+import java.util.function.BiConsumer;
+import org.apache.ignite.internal.pagememory.FullPageId;
+import org.apache.ignite.internal.pagememory.mem.IgniteOutOfMemoryException;
+import org.apache.ignite.internal.util.GridUnsafe;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Loaded pages mapping to relative pointer based on Robin Hood hashing with backward shift deletion, same as
+ * {@link RobinHoodBackwardShiftHashMap}, which supports {@link #optimisticReads() optimistic reads}.
+ *
+ * <p>Each cell has a sequence number (seqlock): a writer makes it odd before changing the cell and even after that. A reader reads the
+ * sequence number, then the cell, then the sequence number again, and uses the cell only if the number is even and has not changed.
+ * Modifications are still expected to be protected by outside locking, only {@link #get} may be called concurrently with them.</p>
+ *
+ * <p>An entry that is being moved by a concurrent insertion or deletion may be missed by a concurrent {@link #get}, in which case the
+ * {@code absent} value is returned, so the caller should double-check under the lock.</p>
+ */
+public class SeqLockRobinHoodHashMap implements LoadedPagesMap {
+    /** Size of count of entries (value returned by size() method). */
+    private static final int MAPSIZE_SIZE = 4;
+
+    /** Padding to provide read/write from word beginning. */
+    private static final int MAPSIZE_PADDING = 4;
+
+    /** Count of entries offset starting from base address. */
+    private static final int MAPSIZE_OFFSET = 0;
+
+    /** Sequence number offset from entry base, odd while the cell is being changed. */
+    private static final int SEQ_OFFSET = 0;
+
+    /** Offset of initial/ideal bucket starting from entry base. */
+    private static final int IDEAL_BUCKET_OFFSET = 4;
+
+    /** Group ID offset from entry base. */
+    private static final int GRP_ID_OFFSET = 8;
+
+    /** Version (tag/generation) offset from entry base. */
+    private static final int VERSION_OFFSET = 12;
+
+    /** Page ID offset from entry base. */
+    private static final int PAGE_ID_OFFSET = 16;
+
+    /** Value offset from entry base. */
+    private static final int VALUE_OFFSET = 24;
+
+    /** Bytes required for storing one entry (cell), the same as for {@link RobinHoodBackwardShiftHashMap}. */
+    private static final int BYTES_PER_CELL = 32;
+
+    /** Page ID used for empty bucket. */
+    private static final long EMPTY_PAGE_ID = 0;
+
+    /** Group ID used for empty bucket. */
+    private static final int EMPTY_GRP_ID = 0;
+
+    /** Number of buckets, indicates range of scan memory, max probe count and maximum map size. */
+    private final int numBuckets;
+
+    /** Base address of map content. */
+    private final long baseAddr;
+
+    /**
+     * Returns estimated memory size required for this map to store the given number of elements.
+     *
+     * @param elementsCnt Maximum elements can be stored in map, its maximum size.
+     */
+    public static long requiredMemory(long elementsCnt) {
+        return RobinHoodBackwardShiftHashMap.requiredMemory(elementsCnt);
+    }
+
+    /**
+     * Creates map in preallocated unsafe memory segment.
+     *
+     * @param baseAddr Base buffer address.
+     * @param size Size available for map, number of buckets (cells) to store will be determined accordingly.
+     */
+    public SeqLockRobinHoodHashMap(long baseAddr, long size) {
+        this.numBuckets = (int) ((size - MAPSIZE_SIZE - MAPSIZE_PADDING) / BYTES_PER_CELL);
+        this.baseAddr = baseAddr;
+
+        GridUnsafe.setMemory(baseAddr, size, (byte) 0);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean optimisticReads() {
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long get(int grpId, long pageId, int reqVer, long absent, long outdated) {
+        assert grpId != EMPTY_GRP_ID;
+
+        int idxInit = idealBucket(grpId, pageId);
+
+        for (int i = 0; i < numBuckets; i++) {
+            int idxCurr = (idxInit + i) % numBuckets;
+
+            long base = entryBase(idxCurr);
+
+            int seq = getIntVolatile(null, base + SEQ_OFFSET);
+
+            if ((seq & 1) != 0) {
+                // The cell is being changed, the entry may be moving.
+                return absent;
+            }
+
+            int curGrpId = getGrpId(base);
+            long curPageId = getPageId(base);
+            int curIdealBucket = getIdealBucket(base);
+            int curVer = getVersion(base);
+            long curVal = getValue(base);
+
+            VarHandle.loadLoadFence();
+
+            if (getInt(base + SEQ_OFFSET) != seq) {
+                return absent;
+            }
+
+            if (isEmpty(curGrpId, curPageId)) {
+                return absent;
+            } else if (curGrpId == grpId && curPageId == pageId) {
+                return curVer >= reqVer ? curVal : outdated;
+            } else if (distance(idxCurr, curIdealBucket) < distance(idxCurr, idxInit)) {
+                // Current entry has quite good position, it would be swapped at hypothetical insert of current value.
+                return absent;
+            }
+        }
+
+        return absent;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void put(int grpId, long pageId, long val, int ver) {
+        assert grpId != EMPTY_GRP_ID;
+
+        int idxInit = idealBucket(grpId, pageId);
+
+        int swapCnt = 0;
+
+        int grpIdToInsert = grpId;
+        long pageIdToInsert = pageId;
+        long valToInsert = val;
+        int verToInsert = ver;
+        int idxIdealToInsert = idxInit;
+
+        for (int i = 0; i < numBuckets; i++) {
+            int idxCurr = (idxInit + i) % numBuckets;
+
+            long base = entryBase(idxCurr);
+
+            int curGrpId = getGrpId(base);
+            long curPageId = getPageId(base);
+            int curIdealBucket = getIdealBucket(base);
+
+            if (isEmpty(curGrpId, curPageId)) {
+                setCellValue(base, idxIdealToInsert, grpIdToInsert, pageIdToInsert, valToInsert, verToInsert);
+
+                setSize(size() + 1);
+
+                return;
+            } else if (curGrpId == grpIdToInsert && curPageId == pageIdToInsert) {
+                if (swapCnt != 0) {
+                    throw new IllegalStateException("Swapped " + swapCnt + " times. Entry: " + dumpEntry(idxCurr));
+                }
+
+                beginWrite(base);
+
+                putLong(base + VALUE_OFFSET, valToInsert);
+
+                endWrite(base);
+
+                return;
+            } else if (distance(idxCurr, curIdealBucket) < distance(idxCurr, idxIdealToInsert)) {
+                long curVal = getValue(base);
+                int curVer = getVersion(base);
+
+                setCellValue(base, idxIdealToInsert, grpIdToInsert, pageIdToInsert, valToInsert, verToInsert);
+
+                idxIdealToInsert = curIdealBucket;
+                grpIdToInsert = curGrpId;
+                pageIdToInsert = curPageId;
+                valToInsert = curVal;
+                verToInsert = curVer;
+
+                swapCnt++;
+            }
+        }
+
+        throw new IgniteOutOfMemoryException("No room for a new key");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean remove(int grpId, long pageId) {
+        assert grpId != EMPTY_GRP_ID;
+
+        int idx = indexOf(grpId, pageId);
+
+        if (idx < 0) {
+            return false;
+        }
+
+        setSize(size() - 1);
+
+        doBackwardShift(idx);
+
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long refresh(int grpId, long pageId, int ver) {
+        assert grpId != EMPTY_GRP_ID;
+
+        int idx = indexOf(grpId, pageId);
+
+        if (idx < 0) {
+            throw new IllegalArgumentException("Element not found group ID: " + grpId + ", page ID: " + pageId
+                    + " during search of cell to refresh. Refresh should be called for existent outdated element. ");
+        }
+
+        long base = entryBase(idx);
+
+        if (getVersion(base) >= ver) {
+            throw new IllegalArgumentException("Fresh element found at " + dumpEntry(idx) + " during search of cell to refresh. "
+                    + "Refresh should be called for existent outdated element. ");
+        }
+
+        beginWrite(base);
+
+        putInt(base + VERSION_OFFSET, ver);
+
+        endWrite(base);
+
+        return getValue(base);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public LongArrayList removeIf(int startIdxToClear, int endIdxToClear, KeyPredicate keyPred) {
+        assert endIdxToClear >= startIdxToClear
+                : "Start and end indexes are not consistent: {" + startIdxToClear + ", " + endIdxToClear + "}";
+
+        LongArrayList list = new LongArrayList(endIdxToClear - startIdxToClear);
+
+        for (int idx = startIdxToClear; idx < endIdxToClear; idx++) {
+            long base = entryBase(idx);
+
+            int grpId = getGrpId(base);
+            long pageId = getPageId(base);
+
+            if (isEmpty(grpId, pageId) || !keyPred.test(grpId, pageId)) {
+                continue;
+            }
+
+            long valAt = getValue(base);
+
+            setSize(size() - 1);
+
+            doBackwardShift(idx);
+
+            list.add(valAt);
+
+            idx--; // Need recheck current cell because of backward shift.
+        }
+
+        return list;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public @Nullable ReplaceCandidate getNearestAt(int idxStart) {
+        for (int i = 0; i < numBuckets; i++) {
+            long base = entryBase((idxStart + i) % numBuckets);
+
+            if (!isEmpty(getGrpId(base), getPageId(base))) {
+                return new ReplaceCandidate(getVersion(base), getValue(base), getFullPageId(base));
+            }
+        }
+
+        return null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int capacity() {
+        return numBuckets;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final int size() {
+        return getInt(baseAddr + MAPSIZE_OFFSET);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void forEach(BiConsumer<FullPageId, Long> act) {
+        for (int i = 0; i < numBuckets; i++) {
+            long base = entryBase(i);
+
+            if (!isEmpty(getGrpId(base), getPageId(base))) {
+                act.accept(getFullPageId(base), getValue(base));
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the cell with the given key, {@code -1} if absent. Must be called under outside locking.
+     *
+     * @param grpId Group ID.
+     * @param pageId Page ID.
+     */
+    private int indexOf(int grpId, long pageId) {
+        int idxInit = idealBucket(grpId, pageId);
+
+        for (int i = 0; i < numBuckets; i++) {
+            int idxCurr = (idxInit + i) % numBuckets;
+
+            long base = entryBase(idxCurr);
+
+            int curGrpId = getGrpId(base);
+            long curPageId = getPageId(base);
+
+            if (isEmpty(curGrpId, curPageId)) {
+                return -1;
+            } else if (curGrpId == grpId && curPageId == pageId) {
+                return idxCurr;
+            } else if (distance(idxCurr, getIdealBucket(base)) < distance(idxCurr, idxInit)) {
+                // If our value was present in map we had already found it.
+                return -1;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Shifts backward the entries following the removed one until an empty cell or a cell in its ideal bucket.
+     *
+     * @param idxRmv Removed index.
+     */
+    private void doBackwardShift(int idxRmv) {
+        for (int i = 0; i < numBuckets - 1; i++) {
+            int idxCurr = (idxRmv + i) % numBuckets;
+            int idxNext = (idxRmv + i + 1) % numBuckets;
+
+            long baseNext = entryBase(idxNext);
+
+            int nextGrpId = getGrpId(baseNext);
+            long nextPageId = getPageId(baseNext);
+            int nextIdealBucket = getIdealBucket(baseNext);
+
+            if (isEmpty(nextGrpId, nextPageId) || distance(idxNext, nextIdealBucket) == 0) {
+                setEmpty(entryBase(idxCurr));
+
+                return;
+            }
+
+            setCellValue(entryBase(idxCurr), nextIdealBucket, nextGrpId, nextPageId, getValue(baseNext), getVersion(baseNext));
+        }
+
+        setEmpty(entryBase((idxRmv - 1 + numBuckets) % numBuckets));
+    }
+
+    private int idealBucket(int grpId, long pageId) {
+        return safeAbs(FullPageId.hashCode(grpId, pageId)) % numBuckets;
+    }
+
+    private long entryBase(int idx) {
+        assert idx >= 0 && idx < numBuckets : "idx=" + idx + ", numBuckets=" + numBuckets;
+
+        return baseAddr + MAPSIZE_SIZE + MAPSIZE_PADDING + (long) idx * BYTES_PER_CELL;
+    }
+
+    private int distance(int curr, int baseIdx) {
+        int diff = curr - baseIdx;
+
+        return diff < 0 ? diff + numBuckets : diff;
+    }
+
+    private static boolean isEmpty(int grpId, long pageId) {
+        return pageId == EMPTY_PAGE_ID && grpId == EMPTY_GRP_ID;
+    }
+
+    /** Makes the sequence number of the cell odd, so that concurrent readers ignore the cell until {@link #endWrite}. */
+    private static void beginWrite(long base) {
+        putInt(base + SEQ_OFFSET, getInt(base + SEQ_OFFSET) + 1);
+
+        VarHandle.storeStoreFence();
+    }
+
+    /** Makes the sequence number of the cell even again, publishing the changes of the cell. */
+    private static void endWrite(long base) {
+        putIntVolatile(null, base + SEQ_OFFSET, getInt(base + SEQ_OFFSET) + 1);
+    }
+
+    private void setCellValue(long base, int idealBucket, int grpId, long pageId, long val, int ver) {
+        assert idealBucket >= 0 && idealBucket < numBuckets;
+
+        beginWrite(base);
+
+        putInt(base + IDEAL_BUCKET_OFFSET, idealBucket);
+        putInt(base + GRP_ID_OFFSET, grpId);
+        putLong(base + PAGE_ID_OFFSET, pageId);
+        putLong(base + VALUE_OFFSET, val);
+        putInt(base + VERSION_OFFSET, ver);
+
+        endWrite(base);
+    }
+
+    private void setEmpty(long base) {
+        setCellValue(base, 0, EMPTY_GRP_ID, EMPTY_PAGE_ID, 0, 0);
+    }
+
+    private static int getIdealBucket(long base) {
+        return getInt(base + IDEAL_BUCKET_OFFSET);
+    }
+
+    private static int getGrpId(long base) {
+        return getInt(base + GRP_ID_OFFSET);
+    }
+
+    private static long getPageId(long base) {
+        return getLong(base + PAGE_ID_OFFSET);
+    }
+
+    private static long getValue(long base) {
+        return getLong(base + VALUE_OFFSET);
+    }
+
+    private static int getVersion(long base) {
+        return getInt(base + VERSION_OFFSET);
+    }
+
+    private static FullPageId getFullPageId(long base) {
+        return new FullPageId(getPageId(base), getGrpId(base));
+    }
+
+    private void setSize(int sz) {
+        putInt(baseAddr + MAPSIZE_OFFSET, sz);
+    }
+
+    private String dumpEntry(int idx) {
+        long base = entryBase(idx);
+
+        return "slot [" + idx + "]:i.buc=" + getIdealBucket(base)
+                + ",(grp=" + getGrpId(base) + ",page=" + getPageId(base) + ")"
+                + "->(val=" + getValue(base) + ",ver=" + getVersion(base) + ")";
+    }
+}
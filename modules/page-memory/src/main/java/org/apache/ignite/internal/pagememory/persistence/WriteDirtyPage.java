@@ -35,4 +35,28 @@ public interface WriteDirtyPage {
      * @throws IgniteInternalCheckedException If failed.
      */
     PageWriteTarget write(PersistentPageMemory pageMemory, FullPageId fullPageId, ByteBuffer buffer) throws IgniteInternalCheckedException;
+
+    /**
+     * Writes pages of the same partition with consecutive page indexes to the page store.
+     *
+     * <p>By default, the pages are written one by one, implementations may write adjacent pages with a single write.</p>
+     *
+     * @param pageMemory Page memory.
+     * @param fullPageIds Full page ids in ascending order of page indexes.
+     * @param buffers Byte buffers to write from.
+     * @param count Number of pages to write.
+     * @param targets Array to put the target files where the pages were written.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    default void write(
+            PersistentPageMemory pageMemory,
+            FullPageId[] fullPageIds,
+            ByteBuffer[] buffers,
+            int count,
+            PageWriteTarget[] targets
+    ) throws IgniteInternalCheckedException {
+        for (int i = 0; i < count; i++) {
+            targets[i] = write(pageMemory, fullPageIds[i], buffers[i]);
+        }
+    }
 }
@@ -69,12 +69,15 @@ public class CheckpointDirtyPages {
         return dirtyPagesCount;
     }
 
-    /** Creates a concurrent queue of dirty partitions to be written to at checkpoint. */
+    /**
+     * Creates a concurrent queue of dirty partitions to be written to at checkpoint. Partitions of a data region are ordered by group ID
+     * and partition ID, so that the partition files are written in the order in which they are located in the storage directories.
+     */
     public IgniteConcurrentMultiPairQueue<PersistentPageMemory, GroupPartitionId> toDirtyPartitionQueue() {
         List<IgniteBiTuple<PersistentPageMemory, GroupPartitionId[]>> dirtyPartitions = dirtyPagesAndPartitions.stream()
                 .map(dirtyPagesAndPartitions -> new IgniteBiTuple<>(
                         dirtyPagesAndPartitions.pageMemory,
-                        dirtyPagesAndPartitions.dirtyPartitions.toArray(GroupPartitionId[]::new))
+                        dirtyPagesAndPartitions.dirtyPartitions.stream().sorted().toArray(GroupPartitionId[]::new))
                 )
                 .collect(toList());
 
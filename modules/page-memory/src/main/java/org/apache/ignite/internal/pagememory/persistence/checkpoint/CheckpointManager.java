@@ -22,6 +22,7 @@ import static org.apache.ignite.internal.pagememory.persistence.CheckpointUrgenc
 import static org.apache.ignite.internal.util.IgniteUtils.closeAll;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
@@ -43,6 +44,7 @@ import org.apache.ignite.internal.pagememory.persistence.PageWriteTarget;
 import org.apache.ignite.internal.pagememory.persistence.PartitionDestructionLockManager;
 import org.apache.ignite.internal.pagememory.persistence.PartitionMetaManager;
 import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
+import org.apache.ignite.internal.pagememory.persistence.WriteDirtyPage;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointDirtyPages.CheckpointDirtyPagesView;
 import org.apache.ignite.internal.pagememory.persistence.compaction.Compactor;
 import org.apache.ignite.internal.pagememory.persistence.store.DeltaFilePageStoreIo;
@@ -143,12 +145,35 @@ public class CheckpointManager {
 
         partitionDestructionLockManager = new PartitionDestructionLockManager();
 
+        WriteDirtyPage dirtyPageWriter = new WriteDirtyPage() {
+            @Override
+            public PageWriteTarget write(
+                    PersistentPageMemory pageMemory,
+                    FullPageId fullPageId,
+                    ByteBuffer buffer
+            ) throws IgniteInternalCheckedException {
+                return writePageToFilePageStore(pageMemory, fullPageId, buffer);
+            }
+
+            @Override
+            public void write(
+                    PersistentPageMemory pageMemory,
+                    FullPageId[] fullPageIds,
+                    ByteBuffer[] buffers,
+                    int count,
+                    PageWriteTarget[] targets
+            ) throws IgniteInternalCheckedException {
+                writePagesToFilePageStore(pageMemory, fullPageIds, buffers, count, targets);
+            }
+        };
+
         checkpointPagesWriterFactory = new CheckpointPagesWriterFactory(
-                this::writePageToFilePageStore,
+                dirtyPageWriter,
                 ioRegistry,
                 partitionMetaManager,
                 pageSize,
-                partitionDestructionLockManager
+                partitionDestructionLockManager,
+                checkpointConfig.writeStrategy()
         );
 
         compactor = new Compactor(
@@ -158,7 +183,8 @@ public class CheckpointManager {
                 filePageStoreManager,
                 pageSize,
                 failureManager,
-                partitionDestructionLockManager
+                partitionDestructionLockManager,
+                checkpointMetricSource
         );
 
         checkpointer = new Checkpointer(
@@ -334,6 +360,79 @@ public class CheckpointManager {
             return PageWriteTarget.MAIN_FILE;
         }
 
+        newDeltaFilePageStoreIo(pageMemory, pageId, filePageStore).write(pageId.pageId(), pageBuf);
+
+        return PageWriteTarget.DELTA_FILE;
+    }
+
+    /**
+     * Writes pages of the same partition with consecutive page indexes to the page store, pages located one after another in the target
+     * file are written with a single write.
+     *
+     * @param pageMemory Page memory.
+     * @param pageIds Page IDs in ascending order of page indexes.
+     * @param pageBufs Page buffers to write from.
+     * @param count Number of pages to write.
+     * @param targets Array to put the target files where the pages were written.
+     * @throws IgniteInternalCheckedException If page writing failed (IO error occurred).
+     */
+    void writePagesToFilePageStore(
+            PersistentPageMemory pageMemory,
+            FullPageId[] pageIds,
+            ByteBuffer[] pageBufs,
+            int count,
+            PageWriteTarget[] targets
+    ) throws IgniteInternalCheckedException {
+        if (count == 0) {
+            return;
+        }
+
+        FullPageId firstPageId = pageIds[0];
+
+        FilePageStore filePageStore = filePageStoreManager.getStore(GroupPartitionId.convert(firstPageId));
+
+        // If the partition is deleted (or will be soon), then such writes to the disk should be skipped.
+        if (filePageStore == null || filePageStore.isMarkedToDestroy()) {
+            Arrays.fill(targets, 0, count, PageWriteTarget.NONE);
+
+            return;
+        }
+
+        long[] rawPageIds = new long[count];
+
+        // Pages that were not stored on the disk at the beginning of the checkpoint go to the main file, the rest go to the delta file.
+        int mainFileFrom = count;
+
+        for (int i = 0; i < count; i++) {
+            assert i == 0 || (pageIds[i].groupId() == firstPageId.groupId() && pageIds[i].partitionId() == firstPageId.partitionId()
+                    && pageIds[i].pageIdx() > pageIds[i - 1].pageIdx()) : "Unexpected page: " + pageIds[i] + ", first: " + firstPageId;
+
+            rawPageIds[i] = pageIds[i].pageId();
+
+            if (mainFileFrom == count && pageIds[i].pageIdx() >= filePageStore.checkpointedPageCount()) {
+                mainFileFrom = i;
+            }
+        }
+
+        if (mainFileFrom > 0) {
+            newDeltaFilePageStoreIo(pageMemory, firstPageId, filePageStore).write(rawPageIds, pageBufs, 0, mainFileFrom);
+
+            Arrays.fill(targets, 0, mainFileFrom, PageWriteTarget.DELTA_FILE);
+        }
+
+        if (mainFileFrom < count) {
+            filePageStore.write(rawPageIds, pageBufs, mainFileFrom, count);
+
+            Arrays.fill(targets, mainFileFrom, count, PageWriteTarget.MAIN_FILE);
+        }
+    }
+
+    /** Returns the delta file of the partition which is written by the current checkpoint, creating it if needed. */
+    private DeltaFilePageStoreIo newDeltaFilePageStoreIo(
+            PersistentPageMemory pageMemory,
+            FullPageId pageId,
+            FilePageStore filePageStore
+    ) throws IgniteInternalCheckedException {
         CheckpointProgress lastCheckpointProgress = lastCheckpointProgress();
 
         assert lastCheckpointProgress != null : "Checkpoint has not happened yet";
@@ -364,9 +463,7 @@ public class CheckpointManager {
                 }
         );
 
-        deltaFilePageStoreFuture.join().write(pageId.pageId(), pageBuf);
-
-        return PageWriteTarget.DELTA_FILE;
+        return deltaFilePageStoreFuture.join();
     }
 
     /**
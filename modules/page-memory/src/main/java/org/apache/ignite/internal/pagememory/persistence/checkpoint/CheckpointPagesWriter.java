@@ -122,6 +122,9 @@ public class CheckpointPagesWriter implements Runnable {
 
     private final PartitionDestructionLockManager partitionDestructionLockManager;
 
+    /** Thread local with write batches for the checkpoint threads, {@code null} if pages are written one by one. */
+    private final @Nullable ThreadLocal<CheckpointWriteBatch> threadWriteBatch;
+
     /**
      * Creates task for write pages.
      *
@@ -138,6 +141,7 @@ public class CheckpointPagesWriter implements Runnable {
      * @param partitionMetaManager Partition meta information manager.
      * @param shutdownNow Shutdown supplier.
      * @param partitionDestructionLockManager Partition Destruction Lock Manager.
+     * @param threadWriteBatch Thread local with write batches, {@code null} if pages are written one by one.
      */
     CheckpointPagesWriter(
             CheckpointMetricsTracker tracker,
@@ -152,7 +156,8 @@ public class CheckpointPagesWriter implements Runnable {
             PageIoRegistry ioRegistry,
             PartitionMetaManager partitionMetaManager,
             BooleanSupplier shutdownNow,
-            PartitionDestructionLockManager partitionDestructionLockManager
+            PartitionDestructionLockManager partitionDestructionLockManager,
+            @Nullable ThreadLocal<CheckpointWriteBatch> threadWriteBatch
     ) {
         this.tracker = tracker;
         this.dirtyPartitionQueue = dirtyPartitionQueue;
@@ -167,6 +172,7 @@ public class CheckpointPagesWriter implements Runnable {
         this.partitionMetaManager = partitionMetaManager;
         this.shutdownNow = shutdownNow;
         this.partitionDestructionLockManager = partitionDestructionLockManager;
+        this.threadWriteBatch = threadWriteBatch;
     }
 
     @Override
@@ -176,6 +182,8 @@ public class CheckpointPagesWriter implements Runnable {
 
             ByteBuffer tmpWriteBuf = threadBuf.get();
 
+            CheckpointWriteBatch writeBatch = threadWriteBatch == null ? null : threadWriteBatch.get();
+
             var queueResult = new Result<PersistentPageMemory, GroupPartitionId>();
 
             while (!shutdownNow.getAsBoolean() && dirtyPartitionQueue.next(queueResult)) {
@@ -183,9 +191,9 @@ public class CheckpointPagesWriter implements Runnable {
 
                 PersistentPageMemory pageMemory = queueResult.getKey();
 
-                PageStoreWriter pageStoreWriter = createPageStoreWriter(pageMemory, pageIdsToRetry);
+                PageStoreWriter pageStoreWriter = createPageStoreWriter(pageMemory, pageIdsToRetry, writeBatch);
 
-                writeDirtyPages(pageMemory, queueResult.getValue(), tmpWriteBuf, pageStoreWriter);
+                writeDirtyPages(pageMemory, queueResult.getValue(), tmpWriteBuf, pageStoreWriter, writeBatch);
             }
 
             int attemptWriteRetryDirtyPages = 0;
@@ -206,7 +214,8 @@ public class CheckpointPagesWriter implements Runnable {
             PersistentPageMemory pageMemory,
             GroupPartitionId partitionId,
             ByteBuffer tmpWriteBuf,
-            PageStoreWriter pageStoreWriter
+            PageStoreWriter pageStoreWriter,
+            @Nullable CheckpointWriteBatch writeBatch
     ) throws IgniteInternalCheckedException {
         CheckpointDirtyPagesView checkpointDirtyPagesView = checkpointDirtyPagesView(pageMemory, partitionId);
 
@@ -232,7 +241,16 @@ public class CheckpointPagesWriter implements Runnable {
 
                 writeDirtyPage(pageMemory, pageId, tmpWriteBuf, pageStoreWriter, true);
             }
+
+            if (writeBatch != null) {
+                writeBatch.write(pageWriter, this::onPageWritten);
+            }
         } finally {
+            if (writeBatch != null) {
+                // Releases the pages that have not been written due to an error.
+                writeBatch.reset();
+            }
+
             partitionDestructionLock.unlock();
         }
     }
@@ -272,7 +290,7 @@ public class CheckpointPagesWriter implements Runnable {
         for (Entry<PersistentPageMemory, List<DirtyFullPageId>> entry : pageIdsToRetry.entrySet()) {
             PersistentPageMemory pageMemory = entry.getKey();
 
-            PageStoreWriter pageStoreWriter = createPageStoreWriter(pageMemory, newPageIdsToRetry);
+            PageStoreWriter pageStoreWriter = createPageStoreWriter(pageMemory, newPageIdsToRetry, null);
 
             GroupPartitionId partitionId = null;
 
@@ -327,7 +345,7 @@ public class CheckpointPagesWriter implements Runnable {
             for (PersistentPageMemory pageMemory : pageMemoryList) {
                 int count = 0;
 
-                PageStoreWriter pageStoreWriter = createPageStoreWriter(pageMemory, null);
+                PageStoreWriter pageStoreWriter = createPageStoreWriter(pageMemory, null, null);
 
                 while (pageMemory.isCpBufferOverflowThresholdExceeded()) {
                     if (++count >= CP_BUFFER_PAGES_BATCH_THRESHOLD) {
@@ -381,10 +399,12 @@ public class CheckpointPagesWriter implements Runnable {
      *
      * @param pageMemory Page memory.
      * @param pagesToRetry Page IDs that need to be rewritten.
+     * @param writeBatch Batch to collect the pages into before writing, {@code null} to write the pages one by one.
      */
     private PageStoreWriter createPageStoreWriter(
             PersistentPageMemory pageMemory,
-            @Nullable Map<PersistentPageMemory, List<DirtyFullPageId>> pagesToRetry
+            @Nullable Map<PersistentPageMemory, List<DirtyFullPageId>> pagesToRetry,
+            @Nullable CheckpointWriteBatch writeBatch
     ) {
         return (fullPageId, buf, tag) -> {
             if (tag == TRY_AGAIN_TAG) {
@@ -408,12 +428,22 @@ public class CheckpointPagesWriter implements Runnable {
 
             checkpointProgress.writtenPagesCounter().incrementAndGet();
 
-            PageWriteTarget target = pageWriter.write(pageMemory, fullPageId, buf);
+            if (writeBatch == null) {
+                onPageWritten(fullPageId, pageWriter.write(pageMemory, fullPageId, buf));
+            } else {
+                if (!writeBatch.canAdd(pageMemory, fullPageId)) {
+                    writeBatch.write(pageWriter, this::onPageWritten);
+                }
 
-            recordPageWrite(target, GroupPartitionId.convert(fullPageId));
+                writeBatch.add(pageMemory, fullPageId, buf);
+            }
         };
     }
 
+    private void onPageWritten(FullPageId fullPageId, PageWriteTarget target) {
+        recordPageWrite(target, GroupPartitionId.convert(fullPageId));
+    }
+
     /**
      * Records a page write to the appropriate file based on the write target.
      *
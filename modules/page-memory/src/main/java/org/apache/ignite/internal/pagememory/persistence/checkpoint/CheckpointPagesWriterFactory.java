@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.BooleanSupplier;
+import org.apache.ignite.internal.pagememory.configuration.CheckpointWriteStrategy;
 import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
 import org.apache.ignite.internal.pagememory.persistence.GroupPartitionId;
 import org.apache.ignite.internal.pagememory.persistence.PartitionDestructionLockManager;
@@ -30,6 +31,7 @@ import org.apache.ignite.internal.pagememory.persistence.PartitionMetaManager;
 import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
 import org.apache.ignite.internal.pagememory.persistence.WriteDirtyPage;
 import org.apache.ignite.internal.util.IgniteConcurrentMultiPairQueue;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Factory class for checkpoint pages writer.
@@ -51,6 +53,9 @@ public class CheckpointPagesWriterFactory {
 
     private final PartitionDestructionLockManager partitionDestructionLockManager;
 
+    /** Thread local with write batches for the checkpoint threads, {@code null} if pages are written one by one. */
+    private final @Nullable ThreadLocal<CheckpointWriteBatch> threadWriteBatch;
+
     /**
      * Constructor.
      *
@@ -59,6 +64,7 @@ public class CheckpointPagesWriterFactory {
      * @param partitionMetaManager Partition meta information manager.
      * @param pageSize Page size in bytes.
      * @param partitionDestructionLockManager Partition Destruction Lock Manager.
+     * @param writeStrategy Strategy of writing dirty pages to the file page stores.
      */
     CheckpointPagesWriterFactory(
             WriteDirtyPage dirtyPageWriter,
@@ -66,7 +72,8 @@ public class CheckpointPagesWriterFactory {
             PartitionMetaManager partitionMetaManager,
             // TODO: IGNITE-17017 Move to common config
             int pageSize,
-            PartitionDestructionLockManager partitionDestructionLockManager
+            PartitionDestructionLockManager partitionDestructionLockManager,
+            CheckpointWriteStrategy writeStrategy
     ) {
         this.dirtyPageWriter = dirtyPageWriter;
         this.ioRegistry = ioRegistry;
@@ -80,6 +87,10 @@ public class CheckpointPagesWriterFactory {
 
             return tmpWriteBuf;
         });
+
+        threadWriteBatch = writeStrategy == CheckpointWriteStrategy.COALESCED
+                ? ThreadLocal.withInitial(() -> new CheckpointWriteBatch(pageSize))
+                : null;
     }
 
     /**
@@ -118,7 +129,8 @@ public class CheckpointPagesWriterFactory {
                 ioRegistry,
                 partitionMetaManager,
                 shutdownNow,
-                partitionDestructionLockManager
+                partitionDestructionLockManager,
+                threadWriteBatch
         );
     }
 }
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.checkpoint;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.function.BiConsumer;
+import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
+import org.apache.ignite.internal.pagememory.FullPageId;
+import org.apache.ignite.internal.pagememory.configuration.CheckpointWriteStrategy;
+import org.apache.ignite.internal.pagememory.persistence.PageWriteTarget;
+import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
+import org.apache.ignite.internal.pagememory.persistence.WriteDirtyPage;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Batch of copied dirty pages of a partition with consecutive page indexes that are written to the page store together, used for
+ * {@link CheckpointWriteStrategy#COALESCED}.
+ *
+ * <p>Pages of the batch remain pinned in the page memory until the batch is written or reset. Once a page is copied for the checkpoint it
+ * is no longer dirty, so without the pin it could be replaced and read back from the page store before its new content gets there.</p>
+ *
+ * <p>Not thread safe.</p>
+ */
+class CheckpointWriteBatch {
+    /** Maximum number of pages in a batch. */
+    static final int MAX_PAGES = 64;
+
+    private final ByteBuffer[] pageBufs = new ByteBuffer[MAX_PAGES];
+
+    private final FullPageId[] pageIds = new FullPageId[MAX_PAGES];
+
+    /** Absolute pointers of the pinned pages. */
+    private final long[] pagePtrs = new long[MAX_PAGES];
+
+    private final PageWriteTarget[] targets = new PageWriteTarget[MAX_PAGES];
+
+    private @Nullable PersistentPageMemory pageMemory;
+
+    private int size;
+
+    /**
+     * Constructor.
+     *
+     * @param pageSize Page size in bytes.
+     */
+    CheckpointWriteBatch(int pageSize) {
+        ByteBuffer buf = ByteBuffer.allocateDirect(pageSize * MAX_PAGES);
+
+        for (int i = 0; i < MAX_PAGES; i++) {
+            pageBufs[i] = buf.duplicate()
+                    .position(i * pageSize)
+                    .limit((i + 1) * pageSize)
+                    .slice()
+                    .order(ByteOrder.nativeOrder());
+        }
+    }
+
+    /** Returns the number of pages in the batch. */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns {@code true} if the page can be added to the batch: the batch is not full and the page directly follows the last page of
+     * the batch.
+     *
+     * @param pageMemory Page memory.
+     * @param pageId Page ID.
+     */
+    boolean canAdd(PersistentPageMemory pageMemory, FullPageId pageId) {
+        if (size == 0) {
+            return true;
+        }
+
+        if (size == MAX_PAGES || this.pageMemory != pageMemory) {
+            return false;
+        }
+
+        FullPageId lastPageId = pageIds[size - 1];
+
+        return lastPageId.groupId() == pageId.groupId()
+                && lastPageId.partitionId() == pageId.partitionId()
+                && lastPageId.pageIdx() + 1 == pageId.pageIdx();
+    }
+
+    /**
+     * Pins the page and adds its copy to the batch.
+     *
+     * @param pageMemory Page memory.
+     * @param pageId Page ID.
+     * @param pageBuf Copy of the page content.
+     * @throws IgniteInternalCheckedException If failed to pin the page.
+     */
+    void add(PersistentPageMemory pageMemory, FullPageId pageId, ByteBuffer pageBuf) throws IgniteInternalCheckedException {
+        assert canAdd(pageMemory, pageId) : pageId;
+
+        pagePtrs[size] = pageMemory.acquirePage(pageId.groupId(), pageId.pageId());
+
+        pageBufs[size].clear().put(pageBuf.rewind()).rewind();
+
+        pageBuf.rewind();
+
+        pageIds[size] = pageId;
+
+        this.pageMemory = pageMemory;
+
+        size++;
+    }
+
+    /**
+     * Writes the pages of the batch and resets it.
+     *
+     * @param pageWriter Writer of the pages.
+     * @param onPageWritten Callback to be invoked for every written page with the target file.
+     * @throws IgniteInternalCheckedException If failed to write the pages.
+     */
+    void write(WriteDirtyPage pageWriter, BiConsumer<FullPageId, PageWriteTarget> onPageWritten) throws IgniteInternalCheckedException {
+        if (size == 0) {
+            return;
+        }
+
+        try {
+            pageWriter.write(pageMemory, pageIds, pageBufs, size, targets);
+
+            for (int i = 0; i < size; i++) {
+                onPageWritten.accept(pageIds[i], targets[i]);
+            }
+        } finally {
+            reset();
+        }
+    }
+
+    /** Unpins the pages and clears the batch without writing the pages. */
+    void reset() {
+        PersistentPageMemory pageMemory = this.pageMemory;
+
+        for (int i = 0; i < size; i++) {
+            pageMemory.releasePage(pageIds[i].groupId(), pageIds[i].pageId(), pagePtrs[i]);
+
+            pageIds[i] = null;
+            targets[i] = null;
+        }
+
+        this.pageMemory = null;
+
+        size = 0;
+    }
+}
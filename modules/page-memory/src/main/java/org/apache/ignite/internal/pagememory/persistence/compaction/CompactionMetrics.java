@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.compaction;
+
+import org.apache.ignite.internal.metrics.AtomicLongMetric;
+import org.apache.ignite.internal.metrics.LongAdderMetric;
+import org.apache.ignite.internal.pagememory.metrics.CollectionMetricSource;
+
+/** Delta file compaction metrics, updated at the start of each compaction round. */
+class CompactionMetrics {
+    private final AtomicLongMetric deltaFiles;
+
+    private final AtomicLongMetric partitionsWithDeltaFiles;
+
+    private final AtomicLongMetric maxDeltaFileChainDepth;
+
+    private final LongAdderMetric deltaFileReadLookups;
+
+    CompactionMetrics(CollectionMetricSource source) {
+        deltaFiles = source.addMetric(new AtomicLongMetric(
+                "DeltaFiles",
+                "Total number of delta files of all partitions."
+        ));
+
+        partitionsWithDeltaFiles = source.addMetric(new AtomicLongMetric(
+                "PartitionsWithDeltaFiles",
+                "Number of partitions that have at least one delta file."
+        ));
+
+        maxDeltaFileChainDepth = source.addMetric(new AtomicLongMetric(
+                "MaxDeltaFileChainDepth",
+                "Maximum number of delta files of a single partition, each of them may be looked up when reading a page."
+        ));
+
+        deltaFileReadLookups = source.addMetric(new LongAdderMetric(
+                "DeltaFileReadLookups",
+                "Total number of delta files looked up when reading pages from partition files."
+        ));
+    }
+
+    /**
+     * Updates metrics.
+     *
+     * @param compactionRound Compaction round that has just been created.
+     */
+    void update(CompactionRound compactionRound) {
+        deltaFiles.value(compactionRound.totalDeltaFileCount);
+        partitionsWithDeltaFiles.value(compactionRound.partitionsWithDeltaFilesCount);
+        maxDeltaFileChainDepth.value(compactionRound.maxDeltaFileCount);
+
+        deltaFileReadLookups.add(compactionRound.deltaFileReadLookups);
+    }
+}
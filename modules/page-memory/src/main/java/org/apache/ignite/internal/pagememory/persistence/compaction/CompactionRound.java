@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.pagememory.persistence.compaction;
 
+import java.util.ArrayList;
 import java.util.Queue;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -34,33 +35,77 @@ class CompactionRound {
     /** Total number of all partition delta files. */
     final int totalDeltaFileCount;
 
-    /** Queue of delta files (one per partition) to be merged into the partition file. */
+    /** Number of partition files that have at least one delta file. */
+    final int partitionsWithDeltaFilesCount;
+
+    /** Maximum number of delta files of a single partition file. */
+    final int maxDeltaFileCount;
+
+    /** Total number of delta files looked up by page reads since the previous compaction round. */
+    final long deltaFileReadLookups;
+
+    /**
+     * Queue of delta files (one per partition) to be merged into the partition file, in the {@link DeltaFileForCompaction#PRIORITY_ORDER
+     * priority order}.
+     */
     final Queue<DeltaFileForCompaction> queue;
 
-    private CompactionRound(int partitionFileCount, int totalDeltaFileCount, Queue<DeltaFileForCompaction> queue) {
+    private CompactionRound(
+            int partitionFileCount,
+            int totalDeltaFileCount,
+            int partitionsWithDeltaFilesCount,
+            int maxDeltaFileCount,
+            long deltaFileReadLookups,
+            Queue<DeltaFileForCompaction> queue
+    ) {
         this.partitionFileCount = partitionFileCount;
         this.totalDeltaFileCount = totalDeltaFileCount;
+        this.partitionsWithDeltaFilesCount = partitionsWithDeltaFilesCount;
+        this.maxDeltaFileCount = maxDeltaFileCount;
+        this.deltaFileReadLookups = deltaFileReadLookups;
         this.queue = queue;
     }
 
     static CompactionRound create(FilePageStoreManager filePageStoreManager) {
         var partitionFileCount = new int[]{0};
         var totalDeltaFileCount = new int[]{0};
+        var partitionsWithDeltaFilesCount = new int[]{0};
+        var maxDeltaFileCount = new int[]{0};
+        var totalDeltaFileReadLookups = new long[]{0};
 
-        var queue = new ConcurrentLinkedQueue<DeltaFileForCompaction>();
+        var deltaFiles = new ArrayList<DeltaFileForCompaction>();
 
         filePageStoreManager.allPageStores().forEach(pageStore -> {
             partitionFileCount[0]++;
 
-            totalDeltaFileCount[0] += pageStore.pageStore().deltaFileCount();
+            int deltaFileCount = pageStore.pageStore().deltaFileCount();
+            long deltaFileReadLookups = pageStore.pageStore().takeDeltaFileReadLookups();
+
+            totalDeltaFileCount[0] += deltaFileCount;
+            totalDeltaFileReadLookups[0] += deltaFileReadLookups;
+
+            if (deltaFileCount > 0) {
+                partitionsWithDeltaFilesCount[0]++;
+
+                maxDeltaFileCount[0] = Math.max(maxDeltaFileCount[0], deltaFileCount);
+            }
 
             DeltaFilePageStoreIo deltaFileToCompaction = pageStore.pageStore().getDeltaFileToCompaction();
 
             if (deltaFileToCompaction != null) {
-                queue.add(new DeltaFileForCompaction(pageStore, deltaFileToCompaction));
+                deltaFiles.add(new DeltaFileForCompaction(pageStore, deltaFileToCompaction, deltaFileCount, deltaFileReadLookups));
             }
         });
 
-        return new CompactionRound(partitionFileCount[0], totalDeltaFileCount[0], queue);
+        deltaFiles.sort(DeltaFileForCompaction.PRIORITY_ORDER);
+
+        return new CompactionRound(
+                partitionFileCount[0],
+                totalDeltaFileCount[0],
+                partitionsWithDeltaFilesCount[0],
+                maxDeltaFileCount[0],
+                totalDeltaFileReadLookups[0],
+                new ConcurrentLinkedQueue<>(deltaFiles)
+        );
     }
 }
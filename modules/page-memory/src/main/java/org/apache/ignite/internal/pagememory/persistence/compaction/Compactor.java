@@ -35,6 +35,7 @@ import org.apache.ignite.internal.lang.IgniteInternalException;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.pagememory.io.PageIo;
+import org.apache.ignite.internal.pagememory.metrics.CollectionMetricSource;
 import org.apache.ignite.internal.pagememory.persistence.GroupPartitionId;
 import org.apache.ignite.internal.pagememory.persistence.PartitionDestructionLockManager;
 import org.apache.ignite.internal.pagememory.persistence.WriteSpeedFormatter;
@@ -65,6 +66,10 @@ import org.jetbrains.annotations.Nullable;
  * <p>Optimization has been implemented to speed up checkpointing. When a checkpoint starts, compaction is stopped to allow for the IO
  * operations for it. However, this is only true as long as the total number of delta files does not exceed 3 * partitions, to prevent
  * errors due to a large number of open files.</p>
+ *
+ * <p>Delta files within a round are compacted in priority order: partitions whose page reads had to look up the most delta files since
+ * the previous round go first, then partitions with the longest chain of delta files. This way, if the round is interrupted by a
+ * checkpoint, the partitions that suffer the most from read amplification have already been compacted.</p>
  */
 public class Compactor extends IgniteWorker {
     /** Logger. */
@@ -96,6 +101,8 @@ public class Compactor extends IgniteWorker {
     /** Current compaction round, {@code null} means the round has either not started yet or has finished. */
     private volatile @Nullable CompactionRound currentCompactionRound;
 
+    private final CompactionMetrics compactionMetrics;
+
     /**
      * Creates new ignite worker with given parameters.
      *
@@ -106,6 +113,7 @@ public class Compactor extends IgniteWorker {
      * @param pageSize Page size in bytes.
      * @param failureManager Failure processor that is used to handle critical errors.
      * @param partitionDestructionLockManager Partition Destruction Lock Manager.
+     * @param metricSource Metric source to register compaction metrics in.
      */
     public Compactor(
             IgniteLogger log,
@@ -114,7 +122,8 @@ public class Compactor extends IgniteWorker {
             FilePageStoreManager filePageStoreManager,
             int pageSize,
             FailureManager failureManager,
-            PartitionDestructionLockManager partitionDestructionLockManager
+            PartitionDestructionLockManager partitionDestructionLockManager,
+            CollectionMetricSource metricSource
     ) {
         super(log, igniteInstanceName, "compaction-thread");
 
@@ -137,6 +146,8 @@ public class Compactor extends IgniteWorker {
         }
 
         this.pageSize = pageSize;
+
+        compactionMetrics = new CompactionMetrics(metricSource);
     }
 
     @Override
@@ -204,12 +215,15 @@ public class Compactor extends IgniteWorker {
      * <p>Only compactor is expected to call this method. When compaction is {@link #triggerCompaction() triggered} by other threads, we
      * need to compact all delta files for all partitions as long as the delta files exist. Delta files are compacted in batches (one for
      * each partition file) into several threads, which evenly reduces the load for all partition files on reading pages, since when reading
-     * pages, we must look for it from the oldest delta file.
+     * pages, we must look for it from the oldest delta file. Within a batch, the partitions with the highest read amplification are
+     * compacted first.
      */
     void doCompaction() {
         while (true) {
             CompactionRound compactionRound = CompactionRound.create(filePageStoreManager);
 
+            compactionMetrics.update(compactionRound);
+
             if (compactionRound.queue.isEmpty()) {
                 break;
             }
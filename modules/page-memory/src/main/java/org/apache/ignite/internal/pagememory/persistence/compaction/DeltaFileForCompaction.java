@@ -17,21 +17,41 @@
 
 package org.apache.ignite.internal.pagememory.persistence.compaction;
 
+import java.util.Comparator;
 import org.apache.ignite.internal.pagememory.persistence.store.DeltaFilePageStoreIo;
 import org.apache.ignite.internal.pagememory.persistence.store.FilePageStore;
 import org.apache.ignite.internal.pagememory.persistence.store.GroupPageStoresMap.GroupPartitionPageStore;
 
 /** Delta file for compaction. */
 class DeltaFileForCompaction {
+    /**
+     * Compaction priority order: first the partitions whose reads looked up the most delta files, then the partitions with the longest
+     * chain of delta files.
+     */
+    static final Comparator<DeltaFileForCompaction> PRIORITY_ORDER = Comparator
+            .comparingLong((DeltaFileForCompaction file) -> file.deltaFileReadLookups)
+            .thenComparingInt(file -> file.deltaFileCount)
+            .reversed();
+
     final GroupPartitionPageStore<FilePageStore> groupPartitionFilePageStore;
 
     final DeltaFilePageStoreIo deltaFilePageStoreIo;
 
+    /** Number of delta files of the partition at the start of the compaction round. */
+    final int deltaFileCount;
+
+    /** Number of delta files looked up by page reads of the partition since the previous compaction round. */
+    final long deltaFileReadLookups;
+
     DeltaFileForCompaction(
             GroupPartitionPageStore<FilePageStore> groupPartitionFilePageStore,
-            DeltaFilePageStoreIo deltaFilePageStoreIo
+            DeltaFilePageStoreIo deltaFilePageStoreIo,
+            int deltaFileCount,
+            long deltaFileReadLookups
     ) {
         this.groupPartitionFilePageStore = groupPartitionFilePageStore;
         this.deltaFilePageStoreIo = deltaFilePageStoreIo;
+        this.deltaFileCount = deltaFileCount;
+        this.deltaFileReadLookups = deltaFileReadLookups;
     }
 }
@@ -39,7 +39,8 @@ public abstract class PageReplacementPolicy {
     /**
      * Existing page touched.
      *
-     * <p>Note: This method can be invoked under segment write lock or segment read lock.
+     * <p>Note: This method can be invoked under segment write lock or segment read lock, or without segment lock while the page is
+     * acquired if lock-free page lookup is enabled.
      *
      * @param relPtr Relative pointer to page.
      */
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.replacement;
+
+/**
+ * Hint to page replacement policies that pages are loaded into memory by a sequential scan of the current thread, so they are unlikely
+ * to be accessed again soon.
+ *
+ * <p>Usage:</p>
+ * <pre>{@code
+ * boolean prevScan = SequentialScanHint.start();
+ *
+ * try {
+ *     // Scan pages.
+ * } finally {
+ *     SequentialScanHint.restore(prevScan);
+ * }
+ * }</pre>
+ *
+ * @see TwoQueuePageReplacementPolicy
+ */
+public final class SequentialScanHint {
+    private static final ThreadLocal<boolean[]> SCAN = ThreadLocal.withInitial(() -> new boolean[1]);
+
+    private SequentialScanHint() {
+    }
+
+    /**
+     * Marks the current thread as performing a sequential scan.
+     *
+     * @return Previous value of the hint to be passed to {@link #restore(boolean)}.
+     */
+    public static boolean start() {
+        boolean[] scan = SCAN.get();
+
+        boolean prev = scan[0];
+
+        scan[0] = true;
+
+        return prev;
+    }
+
+    /**
+     * Restores the value of the hint for the current thread.
+     *
+     * @param prev Value returned by {@link #start()}.
+     */
+    public static void restore(boolean prev) {
+        SCAN.get()[0] = prev;
+    }
+
+    /** Returns {@code true} if the current thread performs a sequential scan. */
+    public static boolean isScan() {
+        return SCAN.get()[0];
+    }
+}
@@ -0,0 +1,466 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.replacement;
+
+import static org.apache.ignite.internal.util.GridUnsafe.getByte;
+import static org.apache.ignite.internal.util.GridUnsafe.getInt;
+import static org.apache.ignite.internal.util.GridUnsafe.getLong;
+import static org.apache.ignite.internal.util.GridUnsafe.putByte;
+import static org.apache.ignite.internal.util.GridUnsafe.putInt;
+import static org.apache.ignite.internal.util.GridUnsafe.putLong;
+import static org.apache.ignite.internal.util.IgniteUtils.safeAbs;
+
+import org.apache.ignite.internal.util.GridUnsafe;
+
+/**
+ * Pages lists of the 2Q page replacement algorithm.
+ *
+ * <p>Contains two lists of loaded pages and a ghost list of recently evicted pages:</p>
+ * <ul>
+ *     <li>A1in - FIFO list of pages loaded into memory for the first time. Pages are evicted from it first while it is larger than
+ *     {@link #A1IN_TO_TOTAL_PAGES_RATIO} of pages, hits on its pages do not change the order.</li>
+ *     <li>Am - LRU list of hot pages. A page gets there if it is loaded again shortly after its eviction from A1in, i.e. it is in the
+ *     ghost list.</li>
+ *     <li>A1out - ghost list of the {@link #A1OUT_TO_TOTAL_PAGES_RATIO} of pages last evicted from A1in. It keeps only a hash of the page
+ *     ID and an eviction stamp in a table indexed by the hash, so a hash collision can rarely make a page look recently evicted.</li>
+ * </ul>
+ *
+ * <p>Pages loaded by a sequential scan are added to the head (the cold end) of A1in and are not remembered in the ghost list on
+ * eviction, so a large scan replaces only its own pages and cannot promote them to Am.</p>
+ */
+public class TwoQueuePageList {
+    /** Ratio to limit count of pages in A1in list, when exceeded pages are evicted from A1in. */
+    private static final double A1IN_TO_TOTAL_PAGES_RATIO = 0.25;
+
+    /** Ratio to limit count of pages remembered in A1out ghost list. */
+    private static final double A1OUT_TO_TOTAL_PAGES_RATIO = 0.5;
+
+    /** Null page index. */
+    static final int NULL_IDX = -1;
+
+    /** Page is not in any list. */
+    static final byte NONE = 0;
+
+    /** Page is in A1in list. */
+    static final byte A1IN = 1;
+
+    /** Page is in Am list. */
+    static final byte AM = 2;
+
+    /** Flag of a page loaded by a sequential scan. */
+    private static final byte SCAN_FLAG = 0x10;
+
+    /** Mask of the list of a page. */
+    private static final byte LIST_MASK = 0x0F;
+
+    /** Index of the head (oldest) page of A1in list. */
+    private int a1inHeadIdx = NULL_IDX;
+
+    /** Index of the tail (newest) page of A1in list. */
+    private int a1inTailIdx = NULL_IDX;
+
+    /** Count of pages in A1in list. */
+    private int a1inPagesCnt;
+
+    /** Index of the head (least recently used) page of Am list. */
+    private int amHeadIdx = NULL_IDX;
+
+    /** Index of the tail (most recently used) page of Am list. */
+    private int amTailIdx = NULL_IDX;
+
+    /** Count of pages in Am list. */
+    private int amPagesCnt;
+
+    /** A1in pages limit. */
+    private final int a1inPagesLimit;
+
+    /** A1out ghost list size. */
+    private final int a1outPagesLimit;
+
+    /** Number of slots in the ghost table. */
+    private final int ghostSlots;
+
+    /** Stamp of the last page added to the ghost list. */
+    private int ghostStamp;
+
+    /** Index of the page returned by {@link #poll()} until {@link #evicted} or {@link #putBack} is called for it. */
+    private int polledIdx = NULL_IDX;
+
+    /** Flags of the page returned by {@link #poll()}. */
+    private byte polledFlags;
+
+    /** Pointer to memory region to store links. */
+    private final long linksPtr;
+
+    /** Pointer to memory region to store page flags (list and scan flag). */
+    private final long flagsPtr;
+
+    /** Pointer to memory region to store ghost table: hash in the high 32 bits and eviction stamp in the low 32 bits. */
+    private final long ghostPtr;
+
+    /**
+     * Constructor.
+     *
+     * @param totalPagesCnt Total pages count.
+     * @param memPtr Pointer to memory region.
+     */
+    public TwoQueuePageList(int totalPagesCnt, long memPtr) {
+        linksPtr = memPtr;
+        flagsPtr = linksPtr + (((long) totalPagesCnt) << 3);
+        ghostPtr = flagsPtr + flagsSize(totalPagesCnt);
+
+        ghostSlots = Math.max(totalPagesCnt, 1);
+
+        GridUnsafe.setMemory(linksPtr, ((long) totalPagesCnt) << 3, (byte) 0xFF);
+        GridUnsafe.setMemory(flagsPtr, flagsSize(totalPagesCnt), (byte) 0);
+        GridUnsafe.setMemory(ghostPtr, ((long) ghostSlots) << 3, (byte) 0);
+
+        a1inPagesLimit = Math.max(1, (int) (totalPagesCnt * A1IN_TO_TOTAL_PAGES_RATIO));
+        a1outPagesLimit = Math.max(1, (int) (totalPagesCnt * A1OUT_TO_TOTAL_PAGES_RATIO));
+    }
+
+    /**
+     * Adds a page loaded into memory.
+     *
+     * @param pageIdx Page index.
+     * @param pageHash Hash of the full page ID.
+     * @param scan Whether the page is loaded by a sequential scan.
+     */
+    public synchronized void add(int pageIdx, int pageHash, boolean scan) {
+        assert list(pageIdx) == NONE : pageIdx;
+
+        if (scan) {
+            flags(pageIdx, (byte) (A1IN | SCAN_FLAG));
+
+            addToHead(pageIdx, A1IN);
+        } else if (removeFromGhost(pageHash)) {
+            flags(pageIdx, AM);
+
+            addToTail(pageIdx, AM);
+        } else {
+            flags(pageIdx, A1IN);
+
+            addToTail(pageIdx, A1IN);
+        }
+    }
+
+    /**
+     * Notifies about a hit of a loaded page.
+     *
+     * @param pageIdx Page index.
+     */
+    public synchronized void hit(int pageIdx) {
+        byte flags = flags(pageIdx);
+
+        if ((flags & LIST_MASK) == AM && amTailIdx != pageIdx) {
+            remove0(pageIdx, AM);
+
+            addToTail(pageIdx, AM);
+        } else if ((flags & SCAN_FLAG) != 0) {
+            // The page was loaded by a scan but is also accessed otherwise, treat it as a regular A1in page from now on.
+            flags(pageIdx, A1IN);
+        }
+    }
+
+    /**
+     * Removes a page from the lists, for example when it has been evicted.
+     *
+     * @param pageIdx Page index.
+     */
+    public synchronized void remove(int pageIdx) {
+        byte list = list(pageIdx);
+
+        if (list != NONE) {
+            remove0(pageIdx, list);
+
+            flags(pageIdx, NONE);
+        }
+    }
+
+    /**
+     * Removes a page to evict: the head of A1in if it is over the limit or Am is empty, otherwise the head of Am.
+     *
+     * @return Page index or {@link #NULL_IDX} if both lists are empty.
+     */
+    public int poll() {
+        return poll(false);
+    }
+
+    /**
+     * Removes a page to evict, see {@link #poll()}.
+     *
+     * @param fallback Whether to take the head of the list which is not chosen by default, used when all pages of the default list
+     *      turned out to be pinned. If that list is empty, the head of the default list is taken.
+     * @return Page index or {@link #NULL_IDX} if both lists are empty.
+     */
+    public synchronized int poll(boolean fallback) {
+        assert polledIdx == NULL_IDX : polledIdx;
+
+        boolean a1in = a1inPagesCnt > a1inPagesLimit || amHeadIdx == NULL_IDX;
+
+        if (fallback) {
+            a1in = !a1in;
+        }
+
+        int idx = a1in ? a1inHeadIdx : amHeadIdx;
+
+        if (idx == NULL_IDX) {
+            idx = a1in ? amHeadIdx : a1inHeadIdx;
+        }
+
+        if (idx != NULL_IDX) {
+            polledIdx = idx;
+            polledFlags = flags(idx);
+
+            remove0(idx, list(idx));
+
+            // Hits are ignored until the page is put back.
+            flags(idx, NONE);
+        }
+
+        return idx;
+    }
+
+    /**
+     * Completes eviction of the page returned by {@link #poll()}.
+     *
+     * @param pageIdx Page index.
+     * @param pageHash Hash of the full page ID.
+     * @param remember Whether the page should be remembered in the ghost list if it came from A1in and was not loaded by a scan.
+     */
+    public synchronized void evicted(int pageIdx, int pageHash, boolean remember) {
+        assert polledIdx == pageIdx : "Unexpected evicted page index [polledIdx=" + polledIdx + ", pageIdx=" + pageIdx + ']';
+
+        if (remember && polledFlags == A1IN) {
+            addToGhost(pageHash);
+        }
+
+        polledIdx = NULL_IDX;
+    }
+
+    /**
+     * Returns the page returned by {@link #poll()} that could not be evicted to the tail of its list.
+     *
+     * @param pageIdx Page index.
+     * @return Count of pages in the list the page was returned to.
+     */
+    public synchronized int putBack(int pageIdx) {
+        assert polledIdx == pageIdx : "Unexpected page index [polledIdx=" + polledIdx + ", pageIdx=" + pageIdx + ']';
+
+        byte list = (byte) (polledFlags & LIST_MASK);
+
+        flags(pageIdx, polledFlags);
+
+        addToTail(pageIdx, list);
+
+        polledIdx = NULL_IDX;
+
+        return list == AM ? amPagesCnt : a1inPagesCnt;
+    }
+
+    private void addToTail(int pageIdx, byte list) {
+        assert prev(pageIdx) == NULL_IDX : prev(pageIdx);
+        assert next(pageIdx) == NULL_IDX : next(pageIdx);
+
+        int tailIdx = list == AM ? amTailIdx : a1inTailIdx;
+
+        if (tailIdx == NULL_IDX) {
+            head(list, pageIdx);
+        } else {
+            link(tailIdx, pageIdx);
+        }
+
+        tail(list, pageIdx);
+
+        incrementCount(list, 1);
+    }
+
+    private void addToHead(int pageIdx, byte list) {
+        assert prev(pageIdx) == NULL_IDX : prev(pageIdx);
+        assert next(pageIdx) == NULL_IDX : next(pageIdx);
+
+        int headIdx = list == AM ? amHeadIdx : a1inHeadIdx;
+
+        if (headIdx == NULL_IDX) {
+            tail(list, pageIdx);
+        } else {
+            link(pageIdx, headIdx);
+        }
+
+        head(list, pageIdx);
+
+        incrementCount(list, 1);
+    }
+
+    private void remove0(int pageIdx, byte list) {
+        assert pageIdx != NULL_IDX;
+
+        int prevIdx = prev(pageIdx);
+        int nextIdx = next(pageIdx);
+
+        if (prevIdx == NULL_IDX) {
+            head(list, nextIdx);
+        } else {
+            next(prevIdx, nextIdx);
+        }
+
+        if (nextIdx == NULL_IDX) {
+            tail(list, prevIdx);
+        } else {
+            prev(nextIdx, prevIdx);
+        }
+
+        clearLinks(pageIdx);
+
+        incrementCount(list, -1);
+    }
+
+    private void head(byte list, int pageIdx) {
+        if (list == AM) {
+            amHeadIdx = pageIdx;
+        } else {
+            a1inHeadIdx = pageIdx;
+        }
+    }
+
+    private void tail(byte list, int pageIdx) {
+        if (list == AM) {
+            amTailIdx = pageIdx;
+        } else {
+            a1inTailIdx = pageIdx;
+        }
+    }
+
+    private void incrementCount(byte list, int delta) {
+        if (list == AM) {
+            amPagesCnt += delta;
+        } else {
+            a1inPagesCnt += delta;
+        }
+    }
+
+    private void addToGhost(int pageHash) {
+        ghostStamp++;
+
+        if (ghostStamp == 0) {
+            // Zero stamp marks an empty slot.
+            ghostStamp = 1;
+        }
+
+        putLong(ghostSlotPtr(pageHash), ((long) pageHash << 32) | (ghostStamp & 0xFFFFFFFFL));
+    }
+
+    private boolean removeFromGhost(int pageHash) {
+        long slotPtr = ghostSlotPtr(pageHash);
+
+        long slot = getLong(slotPtr);
+
+        int stamp = (int) slot;
+
+        if (stamp == 0 || (int) (slot >>> 32) != pageHash) {
+            return false;
+        }
+
+        putLong(slotPtr, 0L);
+
+        // Stamps are compared with overflow in mind, only the last a1outPagesLimit evicted pages are in the ghost list.
+        return ghostStamp - stamp < a1outPagesLimit;
+    }
+
+    private long ghostSlotPtr(int pageHash) {
+        return ghostPtr + (((long) (safeAbs(pageHash) % ghostSlots)) << 3);
+    }
+
+    private void link(int prevIdx, int nextIdx) {
+        prev(nextIdx, prevIdx);
+        next(prevIdx, nextIdx);
+    }
+
+    private void clearLinks(int pageIdx) {
+        putLong(linksPtr + (((long) pageIdx) << 3), -1L);
+    }
+
+    private int prev(int pageIdx) {
+        return getInt(linksPtr + (((long) pageIdx) << 3));
+    }
+
+    private void prev(int pageIdx, int prevIdx) {
+        putInt(linksPtr + (((long) pageIdx) << 3), prevIdx);
+    }
+
+    private int next(int pageIdx) {
+        return getInt(linksPtr + (((long) pageIdx) << 3) + 4);
+    }
+
+    private void next(int pageIdx, int nextIdx) {
+        putInt(linksPtr + (((long) pageIdx) << 3) + 4, nextIdx);
+    }
+
+    private byte flags(int pageIdx) {
+        return getByte(flagsPtr + pageIdx);
+    }
+
+    private void flags(int pageIdx, byte flags) {
+        putByte(flagsPtr + pageIdx, flags);
+    }
+
+    /**
+     * Gets the list the page is in: {@link #A1IN}, {@link #AM} or {@link #NONE}.
+     *
+     * @param pageIdx Page index.
+     */
+    synchronized byte list(int pageIdx) {
+        return (byte) (flags(pageIdx) & LIST_MASK);
+    }
+
+    /**
+     * Gets the index of the head page of A1in list.
+     */
+    synchronized int a1inHeadIdx() {
+        return a1inHeadIdx;
+    }
+
+    /**
+     * Gets count of pages in A1in list.
+     */
+    synchronized int a1inPagesCount() {
+        return a1inPagesCnt;
+    }
+
+    /**
+     * Gets count of pages in Am list.
+     */
+    synchronized int amPagesCount() {
+        return amPagesCnt;
+    }
+
+    private static long flagsSize(int pagesCnt) {
+        return (pagesCnt + 7) & (~7L);
+    }
+
+    /**
+     * Memory required to service {@code pagesCnt} pages.
+     *
+     * @param pagesCnt Pages count.
+     */
+    public static long requiredMemory(int pagesCnt) {
+        return ((long) pagesCnt << 3) /* links = 2 ints per page */
+                + flagsSize(pagesCnt) /* flags = 1 byte per page + 8 byte align */
+                + ((long) Math.max(pagesCnt, 1) << 3) /* ghost table = 1 long per page */;
+    }
+}
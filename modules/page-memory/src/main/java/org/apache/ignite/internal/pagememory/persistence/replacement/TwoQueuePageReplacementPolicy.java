@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.replacement;
+
+import static org.apache.ignite.internal.pagememory.persistence.PageHeader.fullPageId;
+import static org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory.INVALID_REL_PTR;
+import static org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory.OUTDATED_REL_PTR;
+import static org.apache.ignite.internal.pagememory.persistence.replacement.TwoQueuePageList.NULL_IDX;
+
+import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
+import org.apache.ignite.internal.pagememory.FullPageId;
+import org.apache.ignite.internal.pagememory.persistence.LoadedPagesMap;
+import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory.Segment;
+
+/**
+ * Scan-resistant 2Q page replacement policy implementation, see {@link TwoQueuePageList}.
+ *
+ * <p>Pages loaded while {@link SequentialScanHint} is set are inserted at the cold end, so a sequential scan does not flush the hot
+ * working set out of the data region.</p>
+ */
+public class TwoQueuePageReplacementPolicy extends PageReplacementPolicy {
+    /** Pages lists. */
+    private final TwoQueuePageList lists;
+
+    /**
+     * Constructor.
+     *
+     * @param seg Page memory segment.
+     * @param ptr Pointer to memory region.
+     * @param pagesCnt Pages count.
+     */
+    protected TwoQueuePageReplacementPolicy(Segment seg, long ptr, int pagesCnt) {
+        super(seg);
+
+        lists = new TwoQueuePageList(pagesCnt, ptr);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onHit(long relPtr) {
+        int pageIdx = (int) seg.pageIndex(relPtr);
+
+        lists.hit(pageIdx);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onMiss(long relPtr) {
+        int pageIdx = (int) seg.pageIndex(relPtr);
+
+        FullPageId fullId = fullPageId(seg.absolute(relPtr));
+
+        lists.add(pageIdx, fullId.hashCode(), SequentialScanHint.isScan());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onRemove(long relPtr) {
+        int pageIdx = (int) seg.pageIndex(relPtr);
+
+        lists.remove(pageIdx);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long replace() throws IgniteInternalCheckedException {
+        LoadedPagesMap loadedPages = seg.loadedPages();
+
+        // Pinned pages put back in a row and the list they are taken from.
+        int putBackCnt = 0;
+        boolean fallback = false;
+
+        for (int i = 0; i < loadedPages.size(); i++) {
+            int pageIdx = lists.poll(fallback);
+
+            if (pageIdx == NULL_IDX) {
+                break;
+            }
+
+            long relPtr = seg.relative(pageIdx);
+            long absPtr = seg.absolute(relPtr);
+
+            FullPageId fullId = fullPageId(absPtr);
+
+            // Check loaded pages map for outdated page.
+            relPtr = loadedPages.get(
+                    fullId.groupId(),
+                    fullId.effectivePageId(),
+                    seg.partGeneration(fullId.groupId(), fullId.partitionId()),
+                    INVALID_REL_PTR,
+                    OUTDATED_REL_PTR
+            );
+
+            assert relPtr != INVALID_REL_PTR : fullId;
+
+            if (relPtr == OUTDATED_REL_PTR) {
+                lists.evicted(pageIdx, fullId.hashCode(), false);
+
+                return seg.refreshOutdatedPage(fullId.groupId(), fullId.pageId(), true);
+            }
+
+            if (seg.tryToRemovePage(fullId, absPtr)) {
+                lists.evicted(pageIdx, fullId.hashCode(), true);
+
+                return relPtr;
+            }
+
+            // Return page to its list and switch to the other list once every page of this one has been tried.
+            if (++putBackCnt >= lists.putBack(pageIdx)) {
+                fallback = !fallback;
+                putBackCnt = 0;
+            }
+        }
+
+        throw seg.oomException("no pages to replace");
+    }
+}
@@ -34,11 +34,13 @@ import java.nio.channels.ClosedByInterruptException;
 import java.nio.channels.ClosedChannelException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.apache.ignite.internal.fileio.FileIo;
 import org.apache.ignite.internal.fileio.FileIoFactory;
 import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
+import org.apache.ignite.internal.pagememory.configuration.PageCompression;
 import org.apache.ignite.internal.pagememory.io.PageIo;
 import org.apache.ignite.internal.pagememory.persistence.IgniteInternalDataIntegrityViolationException;
 import org.apache.ignite.internal.util.FastCrc;
@@ -61,6 +63,9 @@ public abstract class AbstractFilePageStoreIo implements Closeable {
 
     private volatile @Nullable FileIo fileIo;
 
+    /** Compression of the pages being written, pages are decompressed on read regardless of it. */
+    private volatile PageCompression pageCompression = PageCompression.DISABLED;
+
     /** Initialized file page store IO. */
     private volatile boolean initialized;
 
@@ -173,21 +178,25 @@ public abstract class AbstractFilePageStoreIo implements Closeable {
                     assert PageIo.getType(pageBuf) != 0 : "Invalid state. Type is 0! pageId = " + hexLong(pageId);
                     assert PageIo.getVersion(pageBuf) != 0 : "Invalid state. Version is 0! pageId = " + hexLong(pageId);
 
+                    ByteBuffer writeBuf = PageCompressor.compressPage(pageBuf, pageSize(), pageCompression);
+
+                    int writeSize = PageCompressor.storedSize(writeBuf, pageSize());
+
                     if (!skipCrc) {
-                        assert PageIo.getCrc(pageBuf) == 0 : hexLong(pageId);
+                        assert PageIo.getCrc(writeBuf) == 0 : hexLong(pageId);
 
-                        PageIo.setCrc(pageBuf, calcCrc32(pageBuf, pageSize()));
+                        PageIo.setCrc(writeBuf, calcCrc32(writeBuf, writeSize));
                     }
 
                     // Check whether crc was calculated somewhere above the stack if it is forcibly skipped.
-                    assert skipCrc || PageIo.getCrc(pageBuf) != 0
-                            || calcCrc32(pageBuf, pageSize()) == 0 : "CRC hasn't been calculated, crc=0";
+                    assert skipCrc || PageIo.getCrc(writeBuf) != 0
+                            || calcCrc32(writeBuf, writeSize) == 0 : "CRC hasn't been calculated, crc=0";
 
-                    assert pageBuf.position() == 0 : pageBuf.position();
+                    assert writeBuf.position() == 0 : writeBuf.position();
 
                     long pageOff = pageOffset(pageId);
 
-                    fileIo.writeFully(pageBuf, pageOff);
+                    fileIo.writeFully(writeBuf, pageOff);
 
                     PageIo.setCrc(pageBuf, 0);
 
@@ -231,6 +240,128 @@ public abstract class AbstractFilePageStoreIo implements Closeable {
         }
     }
 
+    /**
+     * Writes pages, pages located one after another in the file are written with a single write.
+     *
+     * <p>If {@link #pageCompression() page compression} is enabled, the pages are written one by one since they are stored sparsely.</p>
+     *
+     * @param pageIds Page IDs.
+     * @param pageBufs Page buffers to write from.
+     * @param from Index of the first page to write (inclusive).
+     * @param to Index of the last page to write (exclusive).
+     * @throws IgniteInternalCheckedException If page writing failed (IO error occurred).
+     */
+    public void write(long[] pageIds, ByteBuffer[] pageBufs, int from, int to) throws IgniteInternalCheckedException {
+        if (pageCompression != PageCompression.DISABLED) {
+            for (int i = from; i < to; i++) {
+                write(pageIds[i], pageBufs[i]);
+            }
+
+            return;
+        }
+
+        int rangeStart = from;
+
+        for (int i = from + 1; i <= to; i++) {
+            if (i == to || pageOffset(pageIds[i]) != pageOffset(pageIds[i - 1]) + pageSize()) {
+                if (i - rangeStart == 1) {
+                    write(pageIds[rangeStart], pageBufs[rangeStart]);
+                } else {
+                    writeAdjacent(pageIds, pageBufs, rangeStart, i);
+                }
+
+                rangeStart = i;
+            }
+        }
+    }
+
+    /**
+     * Writes pages that are located one after another in the file with a single write, see {@link FileIo#writeFully(ByteBuffer[], long)}.
+     *
+     * @param pageIds Page IDs.
+     * @param pageBufs Page buffers to write from.
+     * @param from Index of the first page to write (inclusive).
+     * @param to Index of the last page to write (exclusive).
+     * @throws IgniteInternalCheckedException If page writing failed (IO error occurred).
+     */
+    private void writeAdjacent(long[] pageIds, ByteBuffer[] pageBufs, int from, int to) throws IgniteInternalCheckedException {
+        ensure();
+
+        ByteBuffer[] writeBufs = Arrays.copyOfRange(pageBufs, from, to);
+
+        boolean interrupted = false;
+
+        while (true) {
+            FileIo fileIo = this.fileIo;
+
+            try {
+                readWriteLock.readLock().lock();
+
+                try {
+                    for (int i = from; i < to; i++) {
+                        ByteBuffer pageBuf = pageBufs[i];
+
+                        assert pageBuf.position() == 0 : pageBuf.position();
+                        assert pageBuf.order() == nativeOrder() : "Page buffer order " + pageBuf.order()
+                                + " should be same with " + nativeOrder();
+                        assert pageBuf.remaining() == pageSize() : "pageId=" + hexLong(pageIds[i]) + ", remaining=" + pageBuf.remaining();
+                        assert PageIo.getType(pageBuf) != 0 : "Invalid state. Type is 0! pageId = " + hexLong(pageIds[i]);
+                        assert PageIo.getVersion(pageBuf) != 0 : "Invalid state. Version is 0! pageId = " + hexLong(pageIds[i]);
+
+                        if (!skipCrc) {
+                            assert PageIo.getCrc(pageBuf) == 0 : hexLong(pageIds[i]);
+
+                            PageIo.setCrc(pageBuf, calcCrc32(pageBuf, pageSize()));
+                        }
+                    }
+
+                    fileIo.writeFully(writeBufs, pageOffset(pageIds[from]));
+
+                    for (ByteBuffer pageBuf : writeBufs) {
+                        PageIo.setCrc(pageBuf.rewind(), 0);
+                    }
+
+                    if (interrupted) {
+                        Thread.currentThread().interrupt();
+                    }
+
+                    return;
+                } finally {
+                    readWriteLock.readLock().unlock();
+                }
+            } catch (IOException e) {
+                IOException cause = e;
+                if (cause instanceof ClosedChannelException) {
+                    try {
+                        if (cause instanceof ClosedByInterruptException) {
+                            interrupted = true;
+
+                            Thread.interrupted();
+                        }
+
+                        reinit(fileIo);
+
+                        for (ByteBuffer pageBuf : writeBufs) {
+                            PageIo.setCrc(pageBuf.rewind(), 0);
+                        }
+
+                        continue;
+                    } catch (IOException e0) {
+                        e0.addSuppressed(cause);
+
+                        cause = e0;
+                    }
+                }
+
+                throw new IgniteInternalCheckedException(
+                        "Failed to write pages [filePath=" + filePath + ", firstPageId=" + pageIds[from]
+                                + ", pageCount=" + (to - from) + "]",
+                        cause
+                );
+            }
+        }
+    }
+
     /**
      * Sync method used to ensure that the given pages are guaranteed to be written to the file page store.
      *
@@ -473,7 +604,8 @@ public abstract class AbstractFilePageStoreIo implements Closeable {
      * @param pageOff Page offset in the file.
      * @param pageBuf Page buffer to read into.
      * @param checkCrc Check CRC on page.
-     * @param keepCrc By default reading zeroes CRC which was on file, but you can keep it in pageBuf if set keepCrc.
+     * @param keepCrc By default reading zeroes CRC which was on file, but you can keep it in pageBuf if set keepCrc. For a compressed
+     *      page it is the CRC of the compressed page.
      * @throws IgniteInternalCheckedException If reading failed (IO error occurred).
      */
     private void read0(
@@ -510,7 +642,7 @@ public abstract class AbstractFilePageStoreIo implements Closeable {
             pageBuf.position(0);
 
             if (checkCrc) {
-                int curCrc32 = FastCrc.calcCrc(pageBuf, pageSize());
+                int curCrc32 = FastCrc.calcCrc(pageBuf, PageCompressor.storedSize(pageBuf, pageSize()));
 
                 if ((savedCrc32 ^ curCrc32) != 0) {
                     pageBuf.rewind();
@@ -525,6 +657,8 @@ public abstract class AbstractFilePageStoreIo implements Closeable {
 
             assert PageIo.getCrc(pageBuf) == 0;
 
+            PageCompressor.decompressPage(pageBuf, pageSize());
+
             if (keepCrc) {
                 PageIo.setCrc(pageBuf, savedCrc32);
             }
@@ -576,6 +710,22 @@ public abstract class AbstractFilePageStoreIo implements Closeable {
         }
     }
 
+    /**
+     * Returns the compression of the pages being written.
+     */
+    public PageCompression pageCompression() {
+        return pageCompression;
+    }
+
+    /**
+     * Sets the compression of the pages being written, already written pages are not affected.
+     *
+     * @param pageCompression Page compression.
+     */
+    public void pageCompression(PageCompression pageCompression) {
+        this.pageCompression = pageCompression;
+    }
+
     /**
      * Returns file page store path.
      */
@@ -30,9 +30,11 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.IntFunction;
 import java.util.function.Supplier;
 import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
+import org.apache.ignite.internal.pagememory.configuration.PageCompression;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -104,6 +106,9 @@ public class FilePageStore implements PageStore {
     /** Flag that the file and its delta files will be destroyed. */
     private volatile boolean toDestroy;
 
+    /** Number of delta files looked up by page reads since the last {@link #takeDeltaFileReadLookups()}. */
+    private final LongAdder deltaFileReadLookups = new LongAdder();
+
     /**
      * Constructor.
      *
@@ -189,14 +194,24 @@ public class FilePageStore implements PageStore {
      * @throws IgniteInternalCheckedException If reading failed (IO error occurred).
      */
     public void readWithoutPageIdCheck(long pageId, ByteBuffer pageBuf, boolean keepCrc) throws IgniteInternalCheckedException {
-        for (DeltaFilePageStoreIo deltaFilePageStoreIo : deltaFilePageStoreIos) {
-            long pageOff = deltaFilePageStoreIo.pageOffset(pageId);
+        int lookups = 0;
+
+        try {
+            for (DeltaFilePageStoreIo deltaFilePageStoreIo : deltaFilePageStoreIos) {
+                lookups++;
 
-            if (pageOff >= 0) {
-                if (deltaFilePageStoreIo.readWithMergedToFilePageStoreCheck(pageId, pageOff, pageBuf, keepCrc)) {
-                    return;
+                long pageOff = deltaFilePageStoreIo.pageOffset(pageId);
+
+                if (pageOff >= 0) {
+                    if (deltaFilePageStoreIo.readWithMergedToFilePageStoreCheck(pageId, pageOff, pageBuf, keepCrc)) {
+                        return;
+                    }
                 }
             }
+        } finally {
+            if (lookups > 0) {
+                deltaFileReadLookups.add(lookups);
+            }
         }
 
         filePageStoreIo.read(pageId, filePageStoreIo.pageOffset(pageId), pageBuf, keepCrc);
@@ -216,6 +231,21 @@ public class FilePageStore implements PageStore {
         filePageStoreIo.write(pageId, pageBuf);
     }
 
+    /**
+     * Writes pages to the file page store, pages located one after another in the file are written with a single write.
+     *
+     * @param pageIds Page IDs.
+     * @param pageBufs Page buffers to write from.
+     * @param from Index of the first page to write (inclusive).
+     * @param to Index of the last page to write (exclusive).
+     * @throws IgniteInternalCheckedException If page writing failed (IO error occurred).
+     */
+    public void write(long[] pageIds, ByteBuffer[] pageBufs, int from, int to) throws IgniteInternalCheckedException {
+        assert to == from || pageIndex(pageIds[to - 1]) <= pageCount : "pageIdx=" + pageIndex(pageIds[to - 1]) + ", pageCount=" + pageCount;
+
+        filePageStoreIo.write(pageIds, pageBufs, from, to);
+    }
+
     @Override
     public void sync() throws IgniteInternalCheckedException {
         filePageStoreIo.sync();
@@ -293,6 +323,20 @@ public class FilePageStore implements PageStore {
         pageAllocationListener = listener;
     }
 
+    /**
+     * Sets the compression of the pages written to the file page store and its delta files, including the delta files created later.
+     * Pages that have already been written are not affected and are still read correctly.
+     *
+     * @param pageCompression Page compression.
+     */
+    public void pageCompression(PageCompression pageCompression) {
+        filePageStoreIo.pageCompression(pageCompression);
+
+        for (DeltaFilePageStoreIo deltaFilePageStoreIo : deltaFilePageStoreIos) {
+            deltaFilePageStoreIo.pageCompression(pageCompression);
+        }
+    }
+
     /**
      * Gets or creates a new delta file, a new delta file will be created when the previous one is {@link #completeNewDeltaFile()
      * completed}.
@@ -349,6 +393,8 @@ public class FilePageStore implements PageStore {
                     header
             );
 
+            newDeltaFilePageStoreIo.pageCompression(filePageStoreIo.pageCompression());
+
             newValue = new ArrayList<>(previousValue.size() + 1);
 
             // Should add to the head, since read operations should always start from the most recent.
@@ -392,6 +438,16 @@ public class FilePageStore implements PageStore {
         return deltaFilePageStoreIos.size();
     }
 
+    /**
+     * Returns the number of delta files looked up by page reads since the previous call of this method and resets it. The value shows how
+     * much the reads of the partition are slowed down by its delta files.
+     *
+     * <p>Thread safe.
+     */
+    public long takeDeltaFileReadLookups() {
+        return deltaFileReadLookups.sumThenReset();
+    }
+
     /**
      * Returns the delta file to compaction (oldest), {@code null} if there is nothing to compact.
      *
@@ -83,6 +83,9 @@ public class FilePageStoreManager implements PageReadWriteManager {
     /** Partition file template, example "part-1.bin". */
     public static final String PART_FILE_TEMPLATE = PART_FILE_PREFIX + "%d" + FILE_SUFFIX;
 
+    /** Regexp for the partition file, example "part-1.bin". */
+    public static final String PART_FILE_REGEXP = PART_FILE_PREFIX + "(\\d+)\\" + FILE_SUFFIX;
+
     /** Partition file template to be removed, example "part-1.del". */
     public static final String DEL_PART_FILE_TEMPLATE = PART_FILE_PREFIX + "%d" + DEL_FILE_SUFFIX;
 
@@ -270,6 +273,13 @@ public class FilePageStoreManager implements PageReadWriteManager {
         }
     }
 
+    @Override
+    public int readablePages(int grpId, int partId) {
+        FilePageStore pageStore = getStore(new GroupPartitionId(grpId, partId));
+
+        return pageStore == null || pageStore.isMarkedToDestroy() ? 0 : pageStore.checkpointedPageCount();
+    }
+
     /**
      * Returns view for all page stores of all groups.
      */
@@ -520,6 +530,32 @@ public class FilePageStoreManager implements PageReadWriteManager {
         }
     }
 
+    /**
+     * Scans the group directory to find IDs of all partitions for which partition files exist.
+     *
+     * @param groupId Group ID.
+     * @return IDs of partitions, empty if there is no group directory.
+     */
+    public Set<Integer> partitionIdsOnFs(int groupId) {
+        Path groupDir = groupDir(groupId);
+
+        if (!Files.isDirectory(groupDir)) {
+            return Set.of();
+        }
+
+        Pattern partitionFilePattern = Pattern.compile(PART_FILE_REGEXP);
+
+        try (Stream<Path> partitionFiles = Files.list(groupDir)) {
+            return partitionFiles
+                    .map(path -> partitionFilePattern.matcher(path.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .map(matcher -> Integer.parseInt(matcher.group(1)))
+                    .collect(toUnmodifiableSet());
+        } catch (IOException e) {
+            throw new IgniteInternalException(Common.INTERNAL_ERR, "Cannot scan for partition IDs: " + groupDir, e);
+        }
+    }
+
     private static int extractTableId(Path tableDir) {
         Path fileName = tableDir.getFileName();
 
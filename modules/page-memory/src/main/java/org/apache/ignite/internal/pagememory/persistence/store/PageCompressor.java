@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.store;
+
+import static java.nio.ByteOrder.nativeOrder;
+import static org.apache.ignite.internal.pagememory.io.PageIo.COMMON_HEADER_END;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.apache.ignite.internal.pagememory.configuration.PageCompression;
+import org.apache.ignite.internal.pagememory.io.PageIo;
+import org.apache.ignite.internal.pagememory.util.PageUtils;
+
+/**
+ * Compresses pages before they are written to a file page store and decompresses them right after they are read.
+ *
+ * <p>Layout of a compressed page: the common page header ({@link PageIo#COMMON_HEADER_END} bytes) is kept as is, with the
+ * {@link PageIo#getCompressionType(ByteBuffer) compression type} and the {@link PageIo#getCompressedSize(ByteBuffer) compressed size}
+ * filled in, followed by the compressed page body. Only the compressed size is written to the file, the rest of the page slot is left
+ * untouched, so for freshly created files (such as delta files) it stays a hole on file systems that support sparse files.
+ *
+ * <p>Pages in memory always have a zero compression type, so reading a page does not depend on the compression that is currently
+ * configured: any page that has been compressed on write is decompressed on read.
+ */
+class PageCompressor {
+    /** Minimum share of a page (as a divisor of the page size) that compression must save, otherwise the page is written as is. */
+    private static final int MIN_GAIN_DIVISOR = 8;
+
+    private static final ThreadLocal<Deflater> DEFLATER = ThreadLocal.withInitial(() -> new Deflater(Deflater.BEST_SPEED));
+
+    private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(Inflater::new);
+
+    /** Thread local buffer that holds a compressed page. */
+    private static final ThreadLocal<ByteBuffer> THREAD_BUF = new ThreadLocal<>();
+
+    private PageCompressor() {
+        // No-op.
+    }
+
+    /**
+     * Compresses the page, if it makes sense.
+     *
+     * @param page Page buffer, must not be modified by the method.
+     * @param pageSize Page size in bytes.
+     * @param compression Page compression.
+     * @return Either the given page buffer if the page has not been compressed, or a thread local buffer with the compressed page with
+     *      the position set to {@code 0} and the limit set to the compressed size.
+     */
+    static ByteBuffer compressPage(ByteBuffer page, int pageSize, PageCompression compression) {
+        if (compression == PageCompression.DISABLED) {
+            return page;
+        }
+
+        assert compression == PageCompression.DEFLATE : compression;
+        assert PageIo.getCompressionType(page) == 0 : PageIo.getCompressionType(page);
+
+        ByteBuffer compressed = threadLocalBuffer(pageSize);
+
+        Deflater deflater = DEFLATER.get();
+
+        deflater.reset();
+        deflater.setInput(page.duplicate().limit(pageSize).position(COMMON_HEADER_END));
+        deflater.finish();
+
+        compressed.limit(pageSize - pageSize / MIN_GAIN_DIVISOR).position(COMMON_HEADER_END);
+
+        while (!deflater.finished() && compressed.hasRemaining()) {
+            deflater.deflate(compressed);
+        }
+
+        if (!deflater.finished()) {
+            // Compression does not give enough gain.
+            return page;
+        }
+
+        int compressedSize = compressed.position();
+
+        PageUtils.copyMemory(page, 0, compressed, 0, COMMON_HEADER_END);
+
+        PageIo.setCompressionType(compressed, compression.id());
+        PageIo.setCompressedSize(compressed, (short) compressedSize);
+
+        return compressed.limit(compressedSize).position(0);
+    }
+
+    /**
+     * Decompresses the page in place if it was compressed on write.
+     *
+     * @param page Page buffer that contains the page read from the file.
+     * @param pageSize Page size in bytes.
+     * @throws IOException If the page could not be decompressed.
+     */
+    static void decompressPage(ByteBuffer page, int pageSize) throws IOException {
+        byte compressionType = PageIo.getCompressionType(page);
+
+        if (compressionType == 0) {
+            return;
+        }
+
+        PageCompression compression;
+
+        try {
+            compression = PageCompression.fromId(compressionType);
+        } catch (IllegalArgumentException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+
+        assert compression == PageCompression.DEFLATE : compression;
+
+        int bodySize = storedSize(page, pageSize) - COMMON_HEADER_END;
+
+        ByteBuffer compressed = threadLocalBuffer(pageSize);
+
+        PageUtils.copyMemory(page, COMMON_HEADER_END, compressed, 0, bodySize);
+
+        Inflater inflater = INFLATER.get();
+
+        inflater.reset();
+        inflater.setInput(compressed.limit(bodySize).position(0));
+
+        ByteBuffer body = page.duplicate().limit(pageSize).position(COMMON_HEADER_END);
+
+        try {
+            while (!inflater.finished() && body.hasRemaining()) {
+                if (inflater.inflate(body) == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Failed to decompress page", e);
+        }
+
+        if (!inflater.finished() || body.hasRemaining()) {
+            throw new IOException("Failed to decompress page, unexpected page body size [compressedSize=" + (bodySize + COMMON_HEADER_END)
+                    + ", decompressedSize=" + body.position() + ", pageSize=" + pageSize + ']');
+        }
+
+        PageIo.setCompressionType(page, (byte) 0);
+        PageIo.setCompressedSize(page, (short) 0);
+    }
+
+    /**
+     * Returns the number of bytes the page occupies in the file: the compressed size for compressed pages, the page size otherwise.
+     *
+     * <p>If the compressed size stored in the page header is out of bounds the page size is returned, so that the subsequent CRC check
+     * reports the corruption.
+     *
+     * @param page Page buffer.
+     * @param pageSize Page size in bytes.
+     */
+    static int storedSize(ByteBuffer page, int pageSize) {
+        if (PageIo.getCompressionType(page) == 0) {
+            return pageSize;
+        }
+
+        int compressedSize = PageIo.getCompressedSize(page) & 0xFFFF;
+
+        return compressedSize > COMMON_HEADER_END && compressedSize < pageSize ? compressedSize : pageSize;
+    }
+
+    private static ByteBuffer threadLocalBuffer(int pageSize) {
+        ByteBuffer buffer = THREAD_BUF.get();
+
+        if (buffer == null || buffer.capacity() < pageSize) {
+            buffer = ByteBuffer.allocateDirect(pageSize).order(nativeOrder());
+
+            THREAD_BUF.set(buffer);
+        }
+
+        return buffer.clear();
+    }
+}
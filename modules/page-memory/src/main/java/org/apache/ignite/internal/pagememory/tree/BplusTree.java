@@ -30,6 +30,7 @@ import static org.apache.ignite.internal.pagememory.tree.BplusTree.Result.NOT_FO
 import static org.apache.ignite.internal.pagememory.tree.BplusTree.Result.RETRY;
 import static org.apache.ignite.internal.pagememory.tree.BplusTree.Result.RETRY_ROOT;
 import static org.apache.ignite.internal.pagememory.util.PageIdUtils.effectivePageId;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageIndex;
 import static org.apache.ignite.internal.util.ArrayUtils.OBJECT_EMPTY_ARRAY;
 import static org.apache.ignite.internal.util.ArrayUtils.clearTail;
 import static org.apache.ignite.internal.util.ArrayUtils.set;
@@ -198,6 +199,9 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
     /** Number of retries. */
     private static final int LOCK_RETRIES = getInteger(IGNITE_BPLUS_TREE_LOCK_RETRIES, 1000);
 
+    /** Number of consecutive moves to a forward leaf page after which a cursor is considered a sequential scan. */
+    private static final int READ_AHEAD_FORWARD_MOVES = 2;
+
     /** Flag that the tree is destroyed. */
     private final AtomicBoolean destroyed = new AtomicBoolean(false);
 
@@ -5801,6 +5805,15 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
         /** Cached value for retrieving diagnosing info in case of failure. */
         public GetCursor getCursor;
 
+        /** Number of consecutive moves to a forward leaf page. */
+        private int forwardMoves;
+
+        /** Index of the first partition page covered by the last read-ahead request. */
+        private int readAheadFromIdx;
+
+        /** Number of pages covered by the last read-ahead request. */
+        private int readAheadPages;
+
         /**
          * Constructor.
          *
@@ -5998,6 +6011,9 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
                 }
 
                 long pageId = nextPageId;
+
+                onForwardMove(pageId);
+
                 long page = acquirePage(pageId);
                 try {
                     long pageAddr = readLock(pageId, page); // Doing explicit null check.
@@ -6031,6 +6047,27 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
             return reinitialize();
         }
 
+        /**
+         * Asks the page memory to read ahead the partition pages following the given one once the cursor has made enough consecutive
+         * forward moves. A new request is made only when the cursor leaves the first half of the window covered by the previous one.
+         *
+         * @param pageId ID of the forward page the cursor is moving to.
+         */
+        private void onForwardMove(long pageId) {
+            if (++forwardMoves < READ_AHEAD_FORWARD_MOVES) {
+                return;
+            }
+
+            int pageIdx = pageIndex(pageId);
+
+            if (pageIdx >= readAheadFromIdx && pageIdx < readAheadFromIdx + readAheadPages / 2) {
+                return;
+            }
+
+            readAheadPages = pageMem.readAhead(grpId, pageId);
+            readAheadFromIdx = pageIdx + 1;
+        }
+
         /**
          * Updates lower bound.
          *
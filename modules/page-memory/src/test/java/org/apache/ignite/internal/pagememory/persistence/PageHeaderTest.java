@@ -30,6 +30,9 @@ import static org.apache.ignite.internal.pagememory.persistence.PageHeader.pinCo
 import static org.apache.ignite.internal.pagememory.persistence.PageHeader.releasePage;
 import static org.apache.ignite.internal.pagememory.persistence.PageHeader.tempBufferPointer;
 import static org.apache.ignite.internal.pagememory.persistence.PageHeader.timestamp;
+import static org.apache.ignite.internal.pagememory.persistence.PageHeader.tryAcquirePage;
+import static org.apache.ignite.internal.pagememory.persistence.PageHeader.tryMarkRemoved;
+import static org.apache.ignite.internal.pagememory.persistence.PageHeader.unmarkRemoved;
 import static org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory.INVALID_REL_PTR;
 import static org.apache.ignite.internal.util.GridUnsafe.allocateMemory;
 import static org.apache.ignite.internal.util.GridUnsafe.freeMemory;
@@ -126,6 +129,26 @@ public class PageHeaderTest {
         assertFalse(isAcquired(pageHeaderAddr));
     }
 
+    @Test
+    void testMarkRemoved() {
+        assertTrue(tryAcquirePage(pageHeaderAddr));
+        assertFalse(tryMarkRemoved(pageHeaderAddr));
+
+        assertEquals(0, releasePage(pageHeaderAddr));
+        assertTrue(tryMarkRemoved(pageHeaderAddr));
+
+        assertFalse(tryAcquirePage(pageHeaderAddr));
+        assertFalse(isAcquired(pageHeaderAddr));
+
+        unmarkRemoved(pageHeaderAddr);
+        assertEquals(0, pinCount(pageHeaderAddr));
+
+        // Does nothing for a page that is not marked.
+        assertTrue(tryAcquirePage(pageHeaderAddr));
+        unmarkRemoved(pageHeaderAddr);
+        assertEquals(1, pinCount(pageHeaderAddr));
+    }
+
     @Test
     void testReadWriteCheckpointTempBufferRelativePointer() {
         tempBufferPointer(pageHeaderAddr, 42);
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence;
+
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.runRace;
+import static org.apache.ignite.internal.util.GridUnsafe.allocateMemory;
+import static org.apache.ignite.internal.util.GridUnsafe.freeMemory;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** For {@link SeqLockRobinHoodHashMap} testing. */
+public class SeqLockRobinHoodHashMapTest extends BaseIgniteAbstractTest {
+    private static final int CAPACITY = 1_000;
+
+    private static final int GRP_ID = 1;
+
+    private static final long ABSENT = -1;
+
+    private static final long OUTDATED = -2;
+
+    private long memSize;
+
+    private long memAddr;
+
+    private SeqLockRobinHoodHashMap map;
+
+    @BeforeEach
+    void setUp() {
+        memSize = SeqLockRobinHoodHashMap.requiredMemory(CAPACITY);
+        memAddr = allocateMemory(memSize);
+
+        map = new SeqLockRobinHoodHashMap(memAddr, memSize);
+    }
+
+    @AfterEach
+    void tearDown() {
+        freeMemory(memAddr);
+    }
+
+    @Test
+    void testPutGetRemoveRefresh() {
+        map.put(GRP_ID, 1, 100, 1);
+
+        assertEquals(100, map.get(GRP_ID, 1, 1, ABSENT, OUTDATED));
+        assertEquals(OUTDATED, map.get(GRP_ID, 1, 2, ABSENT, OUTDATED));
+        assertEquals(ABSENT, map.get(GRP_ID, 2, 1, ABSENT, OUTDATED));
+
+        assertEquals(100, map.refresh(GRP_ID, 1, 2));
+        assertEquals(100, map.get(GRP_ID, 1, 2, ABSENT, OUTDATED));
+
+        assertTrue(map.remove(GRP_ID, 1));
+        assertFalse(map.remove(GRP_ID, 1));
+
+        assertEquals(ABSENT, map.get(GRP_ID, 1, 1, ABSENT, OUTDATED));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    void testRandomOperations() {
+        Random random = new Random(0);
+
+        Map<Long, Long> expected = new HashMap<>();
+
+        for (int i = 0; i < 100_000; i++) {
+            long pageId = random.nextInt(2 * CAPACITY) + 1;
+
+            if (random.nextBoolean() && expected.size() < CAPACITY) {
+                map.put(GRP_ID, pageId, pageId * 10, 1);
+
+                expected.put(pageId, pageId * 10);
+            } else {
+                assertEquals(expected.remove(pageId) != null, map.remove(GRP_ID, pageId));
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+
+        for (long pageId = 1; pageId <= 2 * CAPACITY; pageId++) {
+            assertEquals(expected.getOrDefault(pageId, ABSENT), map.get(GRP_ID, pageId, 1, ABSENT, OUTDATED));
+        }
+    }
+
+    @Test
+    void testConcurrentReadsDoNotSeeTornEntries() {
+        AtomicBoolean stop = new AtomicBoolean();
+
+        Runnable reader = () -> {
+            while (!stop.get()) {
+                long pageId = ThreadLocalRandom.current().nextInt(2 * CAPACITY) + 1;
+
+                long val = map.get(GRP_ID, pageId, 1, ABSENT, OUTDATED);
+
+                assertTrue(val == ABSENT || val == pageId * 10, "pageId=" + pageId + ", val=" + val);
+            }
+        };
+
+        runRace(
+                () -> {
+                    Random random = new Random(0);
+
+                    try {
+                        for (int i = 0; i < 1_000_000; i++) {
+                            long pageId = random.nextInt(2 * CAPACITY) + 1;
+
+                            if (random.nextBoolean() && map.size() < CAPACITY) {
+                                map.put(GRP_ID, pageId, pageId * 10, 1);
+                            } else {
+                                map.remove(GRP_ID, pageId);
+                            }
+                        }
+                    } finally {
+                        stop.set(true);
+                    }
+                },
+                reader::run,
+                reader::run
+        );
+    }
+}
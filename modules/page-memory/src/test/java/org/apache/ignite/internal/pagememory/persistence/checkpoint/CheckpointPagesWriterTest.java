@@ -24,6 +24,8 @@ import static org.apache.ignite.internal.pagememory.persistence.PersistentPageMe
 import static org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointTestUtils.createPartitionMetaManager;
 import static org.apache.ignite.internal.pagememory.persistence.checkpoint.TestCheckpointUtils.createDirtyPagesAndPartitions;
 import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageId;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureExceptionMatcher.willThrow;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
 import static org.apache.ignite.internal.util.GridUnsafe.allocateBuffer;
 import static org.apache.ignite.internal.util.GridUnsafe.bufferAddress;
 import static org.apache.ignite.lang.ErrorGroups.Common.INTERNAL_ERR;
@@ -38,6 +40,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
@@ -47,6 +50,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -57,6 +62,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
+import org.apache.ignite.internal.pagememory.FullPageId;
 import org.apache.ignite.internal.pagememory.TestPageIoModule.TestPageIo;
 import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
 import org.apache.ignite.internal.pagememory.persistence.DirtyFullPageId;
@@ -154,7 +160,8 @@ public class CheckpointPagesWriterTest extends BaseIgniteAbstractTest {
                 ioRegistry,
                 createPartitionMetaManager(Map.of(groupPartId0, partitionMeta0, groupPartId1, partitionMeta1)),
                 () -> false,
-                new PartitionDestructionLockManager()
+                new PartitionDestructionLockManager(),
+                null
         );
 
         pagesWriter.run();
@@ -234,7 +241,8 @@ public class CheckpointPagesWriterTest extends BaseIgniteAbstractTest {
                 ioRegistry,
                 createPartitionMetaManager(Map.of(groupPartId, mock(PartitionMeta.class))),
                 () -> false,
-                new PartitionDestructionLockManager()
+                new PartitionDestructionLockManager(),
+                null
         );
 
         pagesWriter.run();
@@ -296,7 +304,8 @@ public class CheckpointPagesWriterTest extends BaseIgniteAbstractTest {
                 ioRegistry,
                 createPartitionMetaManager(Map.of(groupPartId, partitionMeta)),
                 () -> checkpointWritePageCount.get() > 0,
-                new PartitionDestructionLockManager()
+                new PartitionDestructionLockManager(),
+                null
         );
 
         pagesWriter.run();
@@ -307,6 +316,143 @@ public class CheckpointPagesWriterTest extends BaseIgniteAbstractTest {
         assertThat(updatedPartitions.keySet(), contains(groupPartId));
     }
 
+    @Test
+    void testWritePagesCoalesced() throws Exception {
+        PersistentPageMemory pageMemory = createPageMemory(0);
+
+        CheckpointDirtyPages checkpointDirtyPages = new CheckpointDirtyPages(List.of(createDirtyPagesAndPartitions(
+                pageMemory,
+                dirtyFullPageId(0, 0, 1), dirtyFullPageId(0, 0, 2), dirtyFullPageId(0, 0, 4), dirtyFullPageId(0, 1, 5)
+        )));
+
+        List<List<FullPageId>> writtenBatches = new ArrayList<>();
+
+        WriteDirtyPage pageWriter = createCoalescingDirtyPageWriter(writtenBatches);
+
+        ConcurrentMap<GroupPartitionId, PartitionWriteStats> updatedPartitions = new ConcurrentHashMap<>();
+
+        CompletableFuture<?> doneFuture = new CompletableFuture<>();
+
+        CheckpointPagesWriter pagesWriter = createCoalescingPagesWriter(
+                pageMemory,
+                checkpointDirtyPages,
+                updatedPartitions,
+                doneFuture,
+                pageWriter
+        );
+
+        pagesWriter.run();
+
+        assertThat(doneFuture, willCompleteSuccessfully());
+
+        // Adjacent pages are written together, a gap or another partition starts a new batch.
+        assertThat(writtenBatches, containsInAnyOrder(
+                List.<FullPageId>of(dirtyFullPageId(0, 0, 1), dirtyFullPageId(0, 0, 2)),
+                List.<FullPageId>of(dirtyFullPageId(0, 0, 4)),
+                List.<FullPageId>of(dirtyFullPageId(0, 1, 5))
+        ));
+
+        // Partition meta pages are written one by one.
+        assertThat(updatedPartitions.get(groupPartId(0, 0)).getTotalWrites(), equalTo(4));
+        assertThat(updatedPartitions.get(groupPartId(0, 1)).getTotalWrites(), equalTo(2));
+
+        // All pinned pages are released.
+        verify(pageMemory, times(4)).acquirePage(anyInt(), anyLong());
+        verify(pageMemory, times(4)).releasePage(anyInt(), anyLong(), anyLong());
+    }
+
+    @Test
+    void testFailWritePagesCoalesced() throws Exception {
+        PersistentPageMemory pageMemory = createPageMemory(0);
+
+        CheckpointDirtyPages checkpointDirtyPages = new CheckpointDirtyPages(List.of(createDirtyPagesAndPartitions(
+                pageMemory,
+                dirtyFullPageId(0, 0, 1), dirtyFullPageId(0, 0, 2), dirtyFullPageId(0, 0, 3)
+        )));
+
+        WriteDirtyPage pageWriter = createCoalescingDirtyPageWriter(new ArrayList<>());
+
+        doThrow(new IgniteInternalCheckedException(INTERNAL_ERR))
+                .when(pageWriter)
+                .write(any(), any(FullPageId[].class), any(ByteBuffer[].class), anyInt(), any(PageWriteTarget[].class));
+
+        CompletableFuture<?> doneFuture = new CompletableFuture<>();
+
+        CheckpointPagesWriter pagesWriter = createCoalescingPagesWriter(
+                pageMemory,
+                checkpointDirtyPages,
+                new ConcurrentHashMap<>(),
+                doneFuture,
+                pageWriter
+        );
+
+        pagesWriter.run();
+
+        assertThat(doneFuture, willThrow(IgniteInternalCheckedException.class));
+
+        // Pages of the batch that failed to be written are released too.
+        verify(pageMemory, times(3)).acquirePage(anyInt(), anyLong());
+        verify(pageMemory, times(3)).releasePage(anyInt(), anyLong(), anyLong());
+    }
+
+    private static CheckpointPagesWriter createCoalescingPagesWriter(
+            PersistentPageMemory pageMemory,
+            CheckpointDirtyPages checkpointDirtyPages,
+            ConcurrentMap<GroupPartitionId, PartitionWriteStats> updatedPartitions,
+            CompletableFuture<?> doneFuture,
+            WriteDirtyPage pageWriter
+    ) {
+        CheckpointProgressImpl checkpointProgress = new CheckpointProgressImpl(0);
+        checkpointProgress.pagesToWrite(checkpointDirtyPages);
+
+        PartitionMeta partitionMeta = mock(PartitionMeta.class);
+        when(partitionMeta.partitionGeneration()).thenReturn(1);
+
+        return new CheckpointPagesWriter(
+                new CheckpointMetricsTracker(),
+                checkpointDirtyPages.toDirtyPartitionQueue(),
+                singletonList(pageMemory),
+                updatedPartitions,
+                doneFuture,
+                () -> {},
+                createThreadLocalBuffer(),
+                checkpointProgress,
+                pageWriter,
+                ioRegistry,
+                createPartitionMetaManager(Map.of(groupPartId(0, 0), partitionMeta, groupPartId(0, 1), partitionMeta)),
+                () -> false,
+                new PartitionDestructionLockManager(),
+                ThreadLocal.withInitial(() -> new CheckpointWriteBatch(PAGE_SIZE))
+        );
+    }
+
+    /**
+     * Returns mocked instance of {@link WriteDirtyPage} that writes pages in batches.
+     *
+     * @param writtenBatches Collector of page IDs of the batches that fall into {@link WriteDirtyPage#write(PersistentPageMemory,
+     *      FullPageId[], ByteBuffer[], int, PageWriteTarget[])}.
+     */
+    private static WriteDirtyPage createCoalescingDirtyPageWriter(List<List<FullPageId>> writtenBatches) throws Exception {
+        WriteDirtyPage writer = mock(WriteDirtyPage.class);
+
+        doReturn(PageWriteTarget.MAIN_FILE).when(writer).write(any(), any(FullPageId.class), any());
+
+        doAnswer(invocation -> {
+            FullPageId[] pageIds = invocation.getArgument(1);
+            int count = invocation.getArgument(3);
+            PageWriteTarget[] targets = invocation.getArgument(4);
+
+            Arrays.fill(targets, 0, count, PageWriteTarget.MAIN_FILE);
+
+            // The batch reuses its arrays, so they are copied.
+            writtenBatches.add(List.of(Arrays.copyOf(pageIds, count)));
+
+            return null;
+        }).when(writer).write(any(), any(FullPageId[].class), any(ByteBuffer[].class), anyInt(), any(PageWriteTarget[].class));
+
+        return writer;
+    }
+
     /**
      * Returns mocked instance of {@link PersistentPageMemory}.
      *
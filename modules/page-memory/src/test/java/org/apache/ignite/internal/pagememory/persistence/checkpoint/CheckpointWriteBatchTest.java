@@ -0,0 +1,258 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.checkpoint;
+
+import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_DATA;
+import static org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointWriteBatch.MAX_PAGES;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageId;
+import static org.apache.ignite.lang.ErrorGroups.Common.INTERNAL_ERR;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
+import org.apache.ignite.internal.pagememory.FullPageId;
+import org.apache.ignite.internal.pagememory.persistence.PageWriteTarget;
+import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
+import org.apache.ignite.internal.pagememory.persistence.WriteDirtyPage;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * For {@link CheckpointWriteBatch} testing.
+ */
+public class CheckpointWriteBatchTest extends BaseIgniteAbstractTest {
+    private static final int PAGE_SIZE = 1024;
+
+    private final CheckpointWriteBatch batch = new CheckpointWriteBatch(PAGE_SIZE);
+
+    private final PersistentPageMemory pageMemory = mock(PersistentPageMemory.class);
+
+    /** Page IDs of the batches passed to the page writer. */
+    private final List<List<FullPageId>> writtenBatches = new ArrayList<>();
+
+    /** Pages that are pinned in the page memory. */
+    private final List<Long> pinnedPageIds = new ArrayList<>();
+
+    private final WriteDirtyPage pageWriter = mock(WriteDirtyPage.class);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // The absolute pointer of a pinned page is its ID, which allows to check that the page is released with the right pointer.
+        when(pageMemory.acquirePage(anyInt(), anyLong())).then(invocation -> {
+            long pageId = invocation.getArgument(1);
+
+            pinnedPageIds.add(pageId);
+
+            return pageId;
+        });
+
+        doAnswer(invocation -> {
+            long pageId = invocation.getArgument(1);
+            long pagePtr = invocation.getArgument(2);
+
+            assertEquals(pageId, pagePtr);
+            assertTrue(pinnedPageIds.remove(Long.valueOf(pageId)));
+
+            return null;
+        }).when(pageMemory).releasePage(anyInt(), anyLong(), anyLong());
+
+        doAnswer(invocation -> {
+            FullPageId[] pageIds = invocation.getArgument(1);
+            ByteBuffer[] pageBufs = invocation.getArgument(2);
+            int count = invocation.getArgument(3);
+            PageWriteTarget[] targets = invocation.getArgument(4);
+
+            for (int i = 0; i < count; i++) {
+                // Every page is filled with the lowest byte of its index.
+                assertEquals(PAGE_SIZE, pageBufs[i].remaining());
+                assertEquals((byte) pageIds[i].pageIdx(), pageBufs[i].get(PAGE_SIZE - 1));
+
+                targets[i] = PageWriteTarget.MAIN_FILE;
+            }
+
+            // The batch reuses its arrays, so they are copied.
+            writtenBatches.add(List.of(Arrays.copyOf(pageIds, count)));
+
+            return null;
+        }).when(pageWriter).write(any(), any(FullPageId[].class), any(ByteBuffer[].class), anyInt(), any(PageWriteTarget[].class));
+    }
+
+    @Test
+    void testWriteAdjacentPages() throws Exception {
+        List<FullPageId> writtenPageIds = new ArrayList<>();
+
+        for (int pageIdx = 1; pageIdx <= 3; pageIdx++) {
+            assertTrue(batch.canAdd(pageMemory, fullPageId(0, pageIdx)));
+
+            batch.add(pageMemory, fullPageId(0, pageIdx), pageBuffer(pageIdx));
+        }
+
+        assertEquals(3, batch.size());
+        assertEquals(3, pinnedPageIds.size());
+
+        batch.write(pageWriter, (pageId, target) -> {
+            assertSame(PageWriteTarget.MAIN_FILE, target);
+
+            writtenPageIds.add(pageId);
+        });
+
+        assertThat(writtenBatches, contains(List.of(fullPageId(0, 1), fullPageId(0, 2), fullPageId(0, 3))));
+        assertThat(writtenPageIds, contains(fullPageId(0, 1), fullPageId(0, 2), fullPageId(0, 3)));
+
+        assertEquals(0, batch.size());
+        assertThat(pinnedPageIds, empty());
+    }
+
+    @Test
+    void testCanAdd() throws Exception {
+        assertTrue(batch.canAdd(pageMemory, fullPageId(0, 5)));
+
+        batch.add(pageMemory, fullPageId(0, 5), pageBuffer(5));
+
+        // Gap between the page indexes.
+        assertFalse(batch.canAdd(pageMemory, fullPageId(0, 7)));
+        // Preceding page.
+        assertFalse(batch.canAdd(pageMemory, fullPageId(0, 4)));
+        // Same page index in another partition and group.
+        assertFalse(batch.canAdd(pageMemory, fullPageId(1, 6)));
+        assertFalse(batch.canAdd(pageMemory, new FullPageId(pageId(0, FLAG_DATA, 6), 1)));
+        // Another page memory.
+        assertFalse(batch.canAdd(mock(PersistentPageMemory.class), fullPageId(0, 6)));
+
+        assertTrue(batch.canAdd(pageMemory, fullPageId(0, 6)));
+
+        for (int pageIdx = 6; pageIdx < MAX_PAGES + 5; pageIdx++) {
+            assertTrue(batch.canAdd(pageMemory, fullPageId(0, pageIdx)));
+
+            batch.add(pageMemory, fullPageId(0, pageIdx), pageBuffer(pageIdx));
+        }
+
+        // The batch is full.
+        assertFalse(batch.canAdd(pageMemory, fullPageId(0, MAX_PAGES + 5)));
+
+        batch.reset();
+
+        assertTrue(batch.canAdd(pageMemory, fullPageId(0, MAX_PAGES + 5)));
+        assertThat(pinnedPageIds, empty());
+
+        verify(pageWriter, never()).write(any(), any(FullPageId[].class), any(ByteBuffer[].class), anyInt(), any(PageWriteTarget[].class));
+    }
+
+    @Test
+    void testSplitOnGaps() throws Exception {
+        int[] pageIdxs = {1, 2, 4, 5, 6, 9};
+
+        for (int pageIdx : pageIdxs) {
+            FullPageId pageId = fullPageId(0, pageIdx);
+
+            // This is how the checkpoint pages writer uses the batch.
+            if (!batch.canAdd(pageMemory, pageId)) {
+                batch.write(pageWriter, (id, target) -> {});
+            }
+
+            batch.add(pageMemory, pageId, pageBuffer(pageIdx));
+        }
+
+        batch.write(pageWriter, (id, target) -> {});
+
+        assertThat(writtenBatches, contains(
+                List.of(fullPageId(0, 1), fullPageId(0, 2)),
+                List.of(fullPageId(0, 4), fullPageId(0, 5), fullPageId(0, 6)),
+                List.of(fullPageId(0, 9))
+        ));
+
+        assertThat(pinnedPageIds, empty());
+    }
+
+    @Test
+    void testWriteError() throws Exception {
+        doThrow(new IgniteInternalCheckedException(INTERNAL_ERR))
+                .when(pageWriter)
+                .write(any(), any(FullPageId[].class), any(ByteBuffer[].class), anyInt(), any(PageWriteTarget[].class));
+
+        batch.add(pageMemory, fullPageId(0, 1), pageBuffer(1));
+        batch.add(pageMemory, fullPageId(0, 2), pageBuffer(2));
+
+        List<FullPageId> writtenPageIds = new ArrayList<>();
+
+        assertThrows(IgniteInternalCheckedException.class, () -> batch.write(pageWriter, (pageId, target) -> writtenPageIds.add(pageId)));
+
+        assertThat(writtenPageIds, empty());
+
+        // Pages are released even though they have not been written.
+        assertEquals(0, batch.size());
+        assertThat(pinnedPageIds, empty());
+    }
+
+    @Test
+    void testPinErrorInTheMiddleOfBatch() throws Exception {
+        batch.add(pageMemory, fullPageId(0, 1), pageBuffer(1));
+        batch.add(pageMemory, fullPageId(0, 2), pageBuffer(2));
+
+        doThrow(new IgniteInternalCheckedException(INTERNAL_ERR)).when(pageMemory).acquirePage(anyInt(), anyLong());
+
+        assertThrows(IgniteInternalCheckedException.class, () -> batch.add(pageMemory, fullPageId(0, 3), pageBuffer(3)));
+
+        // The page that failed to be pinned is not added, so it is not going to be released.
+        assertEquals(2, batch.size());
+
+        // This is what the checkpoint pages writer does on an error.
+        batch.reset();
+
+        assertEquals(0, batch.size());
+        assertThat(pinnedPageIds, empty());
+
+        verify(pageMemory).releasePage(0, fullPageId(0, 1).pageId(), fullPageId(0, 1).pageId());
+        verify(pageMemory).releasePage(0, fullPageId(0, 2).pageId(), fullPageId(0, 2).pageId());
+        verify(pageMemory, never()).releasePage(0, fullPageId(0, 3).pageId(), fullPageId(0, 3).pageId());
+    }
+
+    private static FullPageId fullPageId(int partId, int pageIdx) {
+        return new FullPageId(pageId(partId, FLAG_DATA, pageIdx), 0);
+    }
+
+    private static ByteBuffer pageBuffer(int pageIdx) {
+        ByteBuffer buf = ByteBuffer.allocateDirect(PAGE_SIZE);
+
+        while (buf.hasRemaining()) {
+            buf.put((byte) pageIdx);
+        }
+
+        return buf.rewind();
+    }
+}
@@ -68,6 +68,7 @@ import org.apache.ignite.internal.configuration.testframework.ConfigurationExten
 import org.apache.ignite.internal.failure.FailureManager;
 import org.apache.ignite.internal.lang.NodeStoppingException;
 import org.apache.ignite.internal.pagememory.configuration.CheckpointConfiguration;
+import org.apache.ignite.internal.pagememory.configuration.CheckpointWriteStrategy;
 import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
 import org.apache.ignite.internal.pagememory.metrics.CollectionMetricSource;
 import org.apache.ignite.internal.pagememory.persistence.DirtyFullPageId;
@@ -575,7 +576,8 @@ public class CheckpointerTest extends BaseIgniteAbstractTest {
                 ioRegistry,
                 partitionMetaManager,
                 PAGE_SIZE,
-                partitionDestructionLockManager
+                partitionDestructionLockManager,
+                CheckpointWriteStrategy.PAGE_BY_PAGE
         );
     }
 
@@ -24,6 +24,7 @@ import static org.apache.ignite.internal.testframework.matchers.CompletableFutur
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
 import static org.apache.ignite.internal.util.GridUnsafe.bufferAddress;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -44,6 +45,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
@@ -51,6 +53,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import org.apache.ignite.internal.failure.FailureManager;
 import org.apache.ignite.internal.pagememory.io.PageIo;
+import org.apache.ignite.internal.pagememory.metrics.CollectionMetricSource;
 import org.apache.ignite.internal.pagememory.persistence.GroupPartitionId;
 import org.apache.ignite.internal.pagememory.persistence.PartitionDestructionLockManager;
 import org.apache.ignite.internal.pagememory.persistence.store.DeltaFilePageStoreIo;
@@ -251,6 +254,41 @@ public class CompactorTest extends BaseIgniteAbstractTest {
         );
     }
 
+    @Test
+    void testDoCompactionInPriorityOrder() throws Throwable {
+        var groupPageStoresMap = new GroupPageStoresMap<FilePageStore>(new LongOperationAsyncExecutor("test", log));
+
+        // Not read, but has the longest chain of delta files.
+        FilePageStore deepFilePageStore = createFilePageStore(createDeltaFilePageStoreIo());
+        when(deepFilePageStore.deltaFileCount()).thenReturn(3);
+
+        // Read the most through delta files.
+        FilePageStore hotFilePageStore = createFilePageStore(createDeltaFilePageStoreIo());
+        when(hotFilePageStore.takeDeltaFileReadLookups()).thenReturn(100L);
+
+        FilePageStore coldFilePageStore = createFilePageStore(createDeltaFilePageStoreIo());
+
+        groupPageStoresMap.put(new GroupPartitionId(0, 0), coldFilePageStore);
+        groupPageStoresMap.put(new GroupPartitionId(0, 1), deepFilePageStore);
+        groupPageStoresMap.put(new GroupPartitionId(0, 2), hotFilePageStore);
+
+        Compactor compactor = spy(newCompactor(newFilePageStoreManager(groupPageStoresMap)));
+
+        var mergeOrder = new ArrayList<FilePageStore>();
+
+        doAnswer(answer -> {
+            mergeOrder.add(answer.getArgument(0));
+
+            return answer.callRealMethod();
+        })
+                .when(compactor)
+                .mergeDeltaFileToMainFile(any(FilePageStore.class), any(DeltaFilePageStoreIo.class), any(CompactionMetricsTracker.class));
+
+        compactor.doCompaction();
+
+        assertThat(mergeOrder, contains(hotFilePageStore, deepFilePageStore, coldFilePageStore));
+    }
+
     @Test
     void testBody() throws Exception {
         Compactor compactor = spy(newCompactor());
@@ -375,7 +413,8 @@ public class CompactorTest extends BaseIgniteAbstractTest {
                 filePageStoreManager,
                 PAGE_SIZE,
                 mock(FailureManager.class),
-                new PartitionDestructionLockManager()
+                new PartitionDestructionLockManager(),
+                new CollectionMetricSource("test", "test", null)
         );
     }
 
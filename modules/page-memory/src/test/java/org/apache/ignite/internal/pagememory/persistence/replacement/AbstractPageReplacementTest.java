@@ -29,6 +29,7 @@ import static org.apache.ignite.internal.pagememory.persistence.PersistentPageMe
 import static org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointState.FINISHED;
 import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageIndex;
 import static org.apache.ignite.internal.testframework.IgniteTestUtils.runAsync;
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.runRace;
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureExceptionMatcher.willTimeoutFast;
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willBe;
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
@@ -38,7 +39,9 @@ import static org.apache.ignite.internal.util.GridUnsafe.freeBuffer;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -51,10 +54,12 @@ import static org.mockito.Mockito.verify;
 
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.BooleanSupplier;
 import org.apache.ignite.internal.components.LogSyncer;
 import org.apache.ignite.internal.configuration.testframework.ConfigurationExtension;
@@ -127,6 +132,11 @@ public abstract class AbstractPageReplacementTest extends IgniteAbstractTest {
 
     protected abstract ReplacementMode replacementMode();
 
+    /** Returns the value of {@link PersistentDataRegionConfiguration#lockFreePageLookup()} for the tested page memory. */
+    protected boolean lockFreePageLookup() {
+        return false;
+    }
+
     @BeforeEach
     void setUp() throws Exception {
         FailureManager failureManager = mock(FailureManager.class);
@@ -166,7 +176,8 @@ public abstract class AbstractPageReplacementTest extends IgniteAbstractTest {
 
         pageMemory = new PersistentPageMemory(
                 PersistentDataRegionConfiguration.builder()
-                        .pageSize(PAGE_SIZE).size(MAX_MEMORY_SIZE).replacementMode(replacementMode()).build(),
+                        .pageSize(PAGE_SIZE).size(MAX_MEMORY_SIZE).replacementMode(replacementMode())
+                        .lockFreePageLookup(lockFreePageLookup()).build(),
                 metricSource,
                 ioRegistry,
                 new long[]{MAX_MEMORY_SIZE},
@@ -373,6 +384,55 @@ public abstract class AbstractPageReplacementTest extends IgniteAbstractTest {
         assertMetricValue(LOADED_PAGES, is(greaterThan(1L)));
     }
 
+    /** Checks that concurrent readers always see the content of the requested page while pages are replaced and reloaded. */
+    @Test
+    void testConcurrentAcquireWithPageReplacement() throws Throwable {
+        var pageIds = new ArrayList<Long>();
+
+        // Twice as many pages as fit into the memory, written to the disk in small batches so that they can be replaced.
+        for (int i = 0; i < 8; i++) {
+            inCheckpointReadLock(() -> {
+                for (int j = 0; j < PAGE_COUNT / 4; j++) {
+                    long pageId = pageMemory.allocatePage(null, GROUP_ID, PARTITION_ID, FLAG_DATA);
+
+                    createAndFillTestSimpleValuePage(pageId);
+
+                    pageIds.add(pageId);
+                }
+            });
+
+            assertThat(checkpointManager.forceCheckpoint("for test").futureFor(FINISHED), willCompleteSuccessfully());
+        }
+
+        RunnableX readRandomPages = () -> readRandomPages(pageIds, 5_000);
+
+        runRace(readRandomPages, readRandomPages, readRandomPages, readRandomPages);
+
+        assertTrue(pageMemory.pageReplacementOccurred());
+    }
+
+    private void readRandomPages(List<Long> pageIds, int count) throws Exception {
+        for (int i = 0; i < count; i++) {
+            long pageId = pageIds.get(ThreadLocalRandom.current().nextInt(pageIds.size()));
+
+            long page = pageMemory.acquirePage(GROUP_ID, pageId);
+
+            try {
+                long pageAddr = pageMemory.readLock(GROUP_ID, pageId, page);
+
+                assertNotEquals(0L, pageAddr);
+
+                try {
+                    assertEquals(pageIndex(pageId) * 3L, TestSimpleValuePageIo.getLongValue(pageAddr));
+                } finally {
+                    pageMemory.readUnlock(GROUP_ID, pageId, page);
+                }
+            } finally {
+                pageMemory.releasePage(GROUP_ID, pageId, page);
+            }
+        }
+    }
+
     private void assertMetricValue(String metricName, Matcher<Long> valueMatcher) {
         assertThat(metricSet, hasMetric(metricName, hasValue(valueMatcher)));
     }
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.replacement;
+
+import static org.apache.ignite.internal.pagememory.persistence.replacement.TwoQueuePageList.A1IN;
+import static org.apache.ignite.internal.pagememory.persistence.replacement.TwoQueuePageList.AM;
+import static org.apache.ignite.internal.pagememory.persistence.replacement.TwoQueuePageList.NONE;
+import static org.apache.ignite.internal.pagememory.persistence.replacement.TwoQueuePageList.NULL_IDX;
+import static org.apache.ignite.internal.util.GridUnsafe.allocateMemory;
+import static org.apache.ignite.internal.util.GridUnsafe.freeMemory;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** For {@link TwoQueuePageList} testing. */
+public class TwoQueuePageListTest extends BaseIgniteAbstractTest {
+    private static final int PAGES_CNT = 16;
+
+    private long memPtr;
+
+    private TwoQueuePageList lists;
+
+    @BeforeEach
+    void setUp() {
+        memPtr = allocateMemory(TwoQueuePageList.requiredMemory(PAGES_CNT));
+
+        lists = new TwoQueuePageList(PAGES_CNT, memPtr);
+    }
+
+    @AfterEach
+    void tearDown() {
+        freeMemory(memPtr);
+    }
+
+    @Test
+    void testNewPagesAreEvictedInFifoOrder() {
+        for (int i = 0; i < 4; i++) {
+            lists.add(i, hash(i), false);
+        }
+
+        // Hits do not change the order of A1in.
+        lists.hit(0);
+
+        assertEquals(0, evict());
+        assertEquals(1, evict());
+        assertEquals(2, evict());
+        assertEquals(3, evict());
+        assertEquals(NULL_IDX, lists.poll());
+    }
+
+    @Test
+    void testPageEvictedFromA1inIsPromotedOnReload() {
+        lists.add(0, hash(0), false);
+
+        assertEquals(0, evict());
+
+        lists.add(0, hash(0), false);
+
+        assertEquals(AM, lists.list(0));
+        assertEquals(1, lists.amPagesCount());
+    }
+
+    @Test
+    void testScanPagesAreNotPromoted() {
+        lists.add(0, hash(0), false);
+        lists.add(1, hash(1), true);
+
+        // Scan page is inserted at the cold end.
+        assertEquals(1, lists.a1inHeadIdx());
+        assertEquals(1, evict());
+
+        lists.add(1, hash(1), false);
+
+        assertEquals(A1IN, lists.list(1));
+        assertEquals(0, lists.amPagesCount());
+    }
+
+    @Test
+    void testA1inIsEvictedFirstWhenOverLimit() {
+        // Put a hot page into Am.
+        lists.add(0, hash(0), false);
+        assertEquals(0, evict());
+        lists.add(0, hash(0), false);
+
+        // Fill A1in over its limit (a quarter of pages).
+        for (int i = 1; i <= PAGES_CNT / 4 + 1; i++) {
+            lists.add(i, hash(i), false);
+        }
+
+        assertEquals(1, evict());
+
+        // A1in is at its limit now, so the least recently used page of Am goes next.
+        assertEquals(0, evict());
+    }
+
+    @Test
+    void testPutBackAndRemove() {
+        lists.add(0, hash(0), false);
+        lists.add(1, hash(1), false);
+
+        assertEquals(0, lists.poll());
+
+        // Hits of a polled page are ignored.
+        lists.hit(0);
+
+        lists.putBack(0);
+
+        assertEquals(A1IN, lists.list(0));
+        assertEquals(1, lists.a1inHeadIdx());
+
+        lists.remove(1);
+
+        assertEquals(NONE, lists.list(1));
+        assertEquals(0, lists.a1inHeadIdx());
+        assertEquals(1, lists.a1inPagesCount());
+    }
+
+    @Test
+    void testFallbackPollTakesOtherList() {
+        // Put a hot page into Am.
+        lists.add(0, hash(0), false);
+        assertEquals(0, evict());
+        lists.add(0, hash(0), false);
+
+        lists.add(1, hash(1), false);
+
+        // A1in is within its limit, so Am goes first by default.
+        assertEquals(0, lists.poll());
+        assertEquals(1, lists.putBack(0));
+
+        assertEquals(1, lists.poll(true));
+        assertEquals(1, lists.putBack(1));
+
+        // Fallback to a non-empty list if the other one is empty.
+        lists.remove(1);
+
+        assertEquals(0, lists.poll(true));
+        lists.evicted(0, hash(0), true);
+
+        assertEquals(NULL_IDX, lists.poll());
+        assertEquals(NULL_IDX, lists.poll(true));
+    }
+
+    private int evict() {
+        int pageIdx = lists.poll();
+
+        lists.evicted(pageIdx, hash(pageIdx), true);
+
+        return pageIdx;
+    }
+
+    private static int hash(int pageIdx) {
+        return pageIdx * 31 + 7;
+    }
+}
@@ -25,6 +25,8 @@ import static org.apache.ignite.internal.pagememory.persistence.store.TestPageSt
 import static org.apache.ignite.internal.pagememory.persistence.store.TestPageStoreUtils.createPageByteBuffer;
 import static org.apache.ignite.internal.pagememory.persistence.store.TestPageStoreUtils.randomBytes;
 import static org.apache.ignite.internal.testframework.IgniteTestUtils.runRace;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -37,10 +39,13 @@ import static org.mockito.Mockito.verify;
 import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import org.apache.ignite.internal.fileio.AsyncFileIoFactory;
 import org.apache.ignite.internal.fileio.FileIo;
 import org.apache.ignite.internal.fileio.FileIoFactory;
 import org.apache.ignite.internal.fileio.RandomAccessFileIoFactory;
+import org.apache.ignite.internal.pagememory.configuration.PageCompression;
+import org.apache.ignite.internal.pagememory.io.PageIo;
 import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
 import org.apache.ignite.internal.testframework.WorkDirectory;
 import org.apache.ignite.internal.testframework.WorkDirectoryExtension;
@@ -242,6 +247,43 @@ public abstract class AbstractFilePageStoreIoTest extends BaseIgniteAbstractTest
         }
     }
 
+    @Test
+    void testWriteMultiplePages() throws Exception {
+        Path testFilePath = workDir.resolve("test");
+
+        try (AbstractFilePageStoreIo filePageStoreIo = createFilePageStoreIo(testFilePath)) {
+            filePageStoreIo.ensure();
+
+            int[] pageIdxs = {0, 1, 2, 5, 6};
+
+            long[] pageIds = new long[pageIdxs.length];
+            ByteBuffer[] pageBufs = new ByteBuffer[pageIdxs.length];
+
+            for (int i = 0; i < pageIdxs.length; i++) {
+                int pageIdx = pageIdxs[i];
+
+                pageIds[i] = createDataPageId(() -> pageIdx);
+
+                pageBufs[i] = createPageByteBuffer(pageIds[i], PAGE_SIZE);
+
+                pageBufs[i].position(PageIo.COMMON_HEADER_END).put(randomBytes(128)).rewind();
+            }
+
+            // Pages 0-2 and 5-6 are located one after another in the file.
+            filePageStoreIo.write(pageIds, pageBufs, 0, pageIdxs.length);
+
+            for (int i = 0; i < pageIdxs.length; i++) {
+                assertEquals(0, getCrc(pageBufs[i]));
+
+                ByteBuffer readBuffer = ByteBuffer.allocate(PAGE_SIZE).order(pageBufs[i].order());
+
+                filePageStoreIo.read(pageIds[i], filePageStoreIo.pageOffset(pageIds[i]), readBuffer, false);
+
+                assertEquals(pageBufs[i].rewind(), readBuffer.rewind());
+            }
+        }
+    }
+
     @Test
     void testRead() throws Exception {
         Path testFilePath = workDir.resolve("test");
@@ -280,6 +322,51 @@ public abstract class AbstractFilePageStoreIoTest extends BaseIgniteAbstractTest
         }
     }
 
+    @Test
+    void testReadWriteCompressed() throws Exception {
+        Path testFilePath = workDir.resolve("test");
+
+        try (AbstractFilePageStoreIo filePageStoreIo = createFilePageStoreIo(testFilePath)) {
+            filePageStoreIo.ensure();
+
+            filePageStoreIo.pageCompression(PageCompression.DEFLATE);
+
+            long compressiblePageId = createDataPageId(() -> 0);
+
+            ByteBuffer compressiblePage = createPageByteBuffer(compressiblePageId, PAGE_SIZE);
+
+            filePageStoreIo.write(compressiblePageId, compressiblePage.rewind());
+
+            // Only the compressed part of the page has been written.
+            assertThat(Files.size(testFilePath), lessThan(2L * PAGE_SIZE));
+
+            long incompressiblePageId = createDataPageId(() -> 1);
+
+            ByteBuffer incompressiblePage = createPageByteBuffer(incompressiblePageId, PAGE_SIZE);
+
+            incompressiblePage.position(PageIo.COMMON_HEADER_END).put(randomBytes(PAGE_SIZE - PageIo.COMMON_HEADER_END));
+
+            filePageStoreIo.write(incompressiblePageId, incompressiblePage.rewind());
+
+            assertEquals(3 * PAGE_SIZE, Files.size(testFilePath));
+
+            // Pages are decompressed on read even if the compression is disabled.
+            filePageStoreIo.pageCompression(PageCompression.DISABLED);
+
+            for (ByteBuffer expPage : List.of(compressiblePage, incompressiblePage)) {
+                long pageId = PageIo.getPageId(expPage);
+
+                ByteBuffer readBuffer = ByteBuffer.allocate(PAGE_SIZE).order(expPage.order());
+
+                filePageStoreIo.read(pageId, filePageStoreIo.pageOffset(pageId), readBuffer, false);
+
+                assertEquals(expPage.rewind(), readBuffer.rewind());
+                assertEquals(0, PageIo.getCompressionType(readBuffer));
+                assertEquals(0, getCrc(readBuffer));
+            }
+        }
+    }
+
     @Test
     void testFilePath() throws Exception {
         Path testFilePath = workDir.resolve("test");
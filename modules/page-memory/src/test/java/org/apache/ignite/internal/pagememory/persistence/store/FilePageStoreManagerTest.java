@@ -371,6 +371,30 @@ public class FilePageStoreManagerTest extends BaseIgniteAbstractTest {
         );
     }
 
+    @Test
+    void testPartitionIdsOnFs() throws Exception {
+        FilePageStoreManager manager = createManager();
+
+        manager.start();
+
+        assertThat(manager.partitionIdsOnFs(1), empty());
+
+        createAndAddFilePageStore(manager, new GroupPartitionId(1, 0));
+        createAndAddFilePageStore(manager, new GroupPartitionId(1, 3));
+        createAndAddFilePageStore(manager, new GroupPartitionId(2, 1));
+
+        manager.getStore(new GroupPartitionId(1, 0)).ensure();
+        manager.getStore(new GroupPartitionId(1, 3)).ensure();
+        manager.getStore(new GroupPartitionId(2, 1)).ensure();
+
+        // Delta files must not be taken into account.
+        Files.createFile(manager.deltaFilePageStorePath(1, 5, 0));
+
+        assertThat(manager.partitionIdsOnFs(1), containsInAnyOrder(0, 3));
+        assertThat(manager.partitionIdsOnFs(2), containsInAnyOrder(1));
+        assertThat(manager.partitionIdsOnFs(3), empty());
+    }
+
     @Test
     void testDestroyPartition() throws Exception {
         FilePageStoreManager manager = createManager();
@@ -310,6 +310,10 @@ public class FilePageStoreTest extends BaseIgniteAbstractTest {
                 assertEquals(pageId2, PageIo.getPageId(buffer.rewind()));
 
                 verify(filePageStoreIo, times(0)).read(eq(pageId2), anyLong(), eq(buffer), eq(true));
+
+                // Pages 0 and 1 were looked up in both delta files, page 2 only in the newest one.
+                assertEquals(5, filePageStore.takeDeltaFileReadLookups());
+                assertEquals(0, filePageStore.takeDeltaFileReadLookups());
             } finally {
                 freeBuffer(buffer);
             }
@@ -291,6 +291,9 @@ public class PartitionReplicaLifecycleManager extends
 
     private final TxRecoveryEngine txRecoveryEngine;
 
+    /** Schedules replica starts on node recovery. */
+    private final ReplicaRecoveryScheduler replicaRecoveryScheduler;
+
     private final EventListener<CreateZoneEventParameters> onCreateZoneListener = this::onCreateZone;
     private final EventListener<PrimaryReplicaEventParameters> onPrimaryReplicaExpiredListener = this::onPrimaryReplicaExpired;
     private final EventListener<DropZoneEventParameters> onZoneDropListener = fromConsumer(this::onZoneDrop);
@@ -429,6 +432,13 @@ public class PartitionReplicaLifecycleManager extends
         this.clockService = clockService;
         this.executorInclinedSchemaSyncService = new ExecutorInclinedSchemaSyncService(schemaSyncService, partitionOperationsExecutor);
         this.executorInclinedPlacementDriver = new ExecutorInclinedPlacementDriver(placementDriver, partitionOperationsExecutor);
+        this.replicaRecoveryScheduler = new ReplicaRecoveryScheduler(
+                () -> localNode().name(),
+                placementDriver,
+                clockService,
+                ioExecutor,
+                Runtime.getRuntime().availableProcessors()
+        );
         this.txManager = txManager;
         this.schemaManager = schemaManager;
         this.dataStorageManager = dataStorageManager;
@@ -893,7 +903,12 @@ public class PartitionReplicaLifecycleManager extends
                     .thenApply(unused -> true);
         };
 
-        return replicaMgr.weakStartReplica(zonePartitionId, startReplicaSupplier, forcedAssignments, revision)
+        // On node recovery all local replicas are started at once, so the starts are run in parallel in the order of their priority.
+        Supplier<CompletableFuture<Boolean>> startOperation = onRecovery
+                ? () -> replicaRecoveryScheduler.schedule(zonePartitionId, () -> inBusyLockAsync(busyLock, startReplicaSupplier))
+                : startReplicaSupplier;
+
+        return replicaMgr.weakStartReplica(zonePartitionId, startOperation, forcedAssignments, revision)
                 .whenComplete((res, ex) -> {
                     if (ex != null && !hasCause(ex, NodeStoppingException.class)) {
                         String errorMessage = String.format(
@@ -984,6 +999,8 @@ public class PartitionReplicaLifecycleManager extends
         metaStorageMgr.unregisterWatch(stableAssignmentsRebalanceListener);
         metaStorageMgr.unregisterWatch(assignmentsSwitchRebalanceListener);
 
+        replicaRecoveryScheduler.stop();
+
         startedReplicationGroups.waitForStartingReplicas();
         cleanUpPartitionsResources(startedReplicationGroups.streamStartedReplicationGroups());
     }
@@ -0,0 +1,291 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.partition.replicator;
+
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.apache.ignite.internal.util.CompletableFutures.copyStateTo;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.apache.ignite.internal.hlc.ClockService;
+import org.apache.ignite.internal.lang.NodeStoppingException;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.placementdriver.LeasePlacementDriver;
+import org.apache.ignite.internal.placementdriver.ReplicaMeta;
+import org.apache.ignite.internal.replicator.ZonePartitionId;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Schedules starts of zone partition replicas on node recovery.
+ *
+ * <p>On node recovery all local zone partitions are started at once, and every start includes loading the Raft snapshot, initializing the
+ * Raft log and catching up the state machine. This class runs such starts in parallel on the given executor, limiting the number of
+ * concurrent starts, and orders the pending starts by priority:
+ * <ol>
+ *     <li>Partitions whose valid primary replica lease is held by the local node: such partitions are unavailable until the local replica
+ *     is started, because the lease can't be moved to another node before it expires;</li>
+ *     <li>Partitions without a valid lease: the local replica may be needed to elect a Raft leader and a primary replica;</li>
+ *     <li>Partitions whose lease is held by another node: they are available without the local replica.</li>
+ * </ol>
+ *
+ * <p>Progress of every partition start is logged, as well as the overall recovery duration.
+ */
+class ReplicaRecoveryScheduler {
+    private static final IgniteLogger LOG = Loggers.forClass(ReplicaRecoveryScheduler.class);
+
+    static final int LOCAL_PRIMARY_PRIORITY = 0;
+
+    static final int NO_PRIMARY_PRIORITY = 1;
+
+    static final int REMOTE_PRIMARY_PRIORITY = 2;
+
+    private final Supplier<String> localNodeName;
+
+    private final LeasePlacementDriver placementDriver;
+
+    private final ClockService clockService;
+
+    private final Executor executor;
+
+    /** Maximum number of concurrently starting replicas. */
+    private final int parallelism;
+
+    /** Pending starts. Guarded by {@code this}. */
+    private final PriorityQueue<RecoveryTask> queue = new PriorityQueue<>(
+            Comparator.<RecoveryTask>comparingInt(task -> task.priority).thenComparingLong(task -> task.sequenceNumber)
+    );
+
+    /** Number of currently running starts. Guarded by {@code this}. */
+    private int running;
+
+    /** Sequence number of the next scheduled start, used to keep FIFO order within a priority. Guarded by {@code this}. */
+    private long nextSequenceNumber;
+
+    /** Number of starts scheduled since the scheduler became busy. Guarded by {@code this}. */
+    private int scheduledCount;
+
+    /** Number of starts completed since the scheduler became busy. Guarded by {@code this}. */
+    private int completedCount;
+
+    /** Time when the scheduler became busy. Guarded by {@code this}. */
+    private long busySinceNanos;
+
+    /** Guarded by {@code this}. */
+    private boolean stopped;
+
+    /**
+     * Constructor.
+     *
+     * @param localNodeName Supplier of the local node name.
+     * @param placementDriver Placement driver used to prioritize partitions.
+     * @param clockService Clock service.
+     * @param executor Executor to run replica starts on.
+     * @param parallelism Maximum number of concurrently starting replicas.
+     */
+    ReplicaRecoveryScheduler(
+            Supplier<String> localNodeName,
+            LeasePlacementDriver placementDriver,
+            ClockService clockService,
+            Executor executor,
+            int parallelism
+    ) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        }
+
+        this.localNodeName = localNodeName;
+        this.placementDriver = placementDriver;
+        this.clockService = clockService;
+        this.executor = executor;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Schedules a start of the given partition replica.
+     *
+     * @param zonePartitionId Zone partition ID.
+     * @param startOperation Replica start operation.
+     * @return Future that completes with the result of the start operation.
+     */
+    CompletableFuture<Boolean> schedule(ZonePartitionId zonePartitionId, Supplier<CompletableFuture<Boolean>> startOperation) {
+        var task = new RecoveryTask(zonePartitionId, priority(zonePartitionId), startOperation);
+
+        List<RecoveryTask> tasksToRun;
+
+        synchronized (this) {
+            if (stopped) {
+                return failedFuture(new NodeStoppingException());
+            }
+
+            if (running == 0 && queue.isEmpty()) {
+                busySinceNanos = System.nanoTime();
+                scheduledCount = 0;
+                completedCount = 0;
+            }
+
+            task.sequenceNumber = nextSequenceNumber++;
+
+            scheduledCount++;
+
+            queue.add(task);
+
+            tasksToRun = pollTasksToRun();
+        }
+
+        tasksToRun.forEach(this::run);
+
+        return task.result;
+    }
+
+    /** Fails all pending starts with {@link NodeStoppingException}. Starts that are already running are not affected. */
+    void stop() {
+        List<RecoveryTask> pendingTasks;
+
+        synchronized (this) {
+            stopped = true;
+
+            pendingTasks = new ArrayList<>(queue);
+
+            queue.clear();
+        }
+
+        pendingTasks.forEach(task -> task.result.completeExceptionally(new NodeStoppingException()));
+    }
+
+    /** Computes the recovery priority of the given partition, lower values are started earlier. */
+    int priority(ZonePartitionId zonePartitionId) {
+        ReplicaMeta primaryReplica = placementDriver.getCurrentPrimaryReplica(zonePartitionId, clockService.current());
+
+        @Nullable String leaseholder = primaryReplica == null ? null : primaryReplica.getLeaseholder();
+
+        if (leaseholder == null) {
+            return NO_PRIMARY_PRIORITY;
+        }
+
+        return leaseholder.equals(localNodeName.get()) ? LOCAL_PRIMARY_PRIORITY : REMOTE_PRIMARY_PRIORITY;
+    }
+
+    private List<RecoveryTask> pollTasksToRun() {
+        assert Thread.holdsLock(this);
+
+        List<RecoveryTask> tasksToRun = new ArrayList<>();
+
+        while (running < parallelism && !queue.isEmpty()) {
+            tasksToRun.add(queue.poll());
+
+            running++;
+        }
+
+        return tasksToRun;
+    }
+
+    private void run(RecoveryTask task) {
+        try {
+            executor.execute(() -> start(task));
+        } catch (Throwable e) {
+            task.result.completeExceptionally(e);
+
+            onTaskFinished(task, 0);
+        }
+    }
+
+    private void start(RecoveryTask task) {
+        long startNanos = System.nanoTime();
+
+        CompletableFuture<Boolean> startFuture;
+
+        try {
+            startFuture = task.startOperation.get();
+        } catch (Throwable e) {
+            startFuture = failedFuture(e);
+        }
+
+        startFuture
+                .whenComplete((res, ex) -> onTaskFinished(task, System.nanoTime() - startNanos))
+                .whenComplete(copyStateTo(task.result));
+    }
+
+    private void onTaskFinished(RecoveryTask task, long startDurationNanos) {
+        List<RecoveryTask> tasksToRun;
+
+        int completed;
+        int remaining;
+        long recoveryDurationNanos = 0;
+
+        synchronized (this) {
+            running--;
+
+            completed = ++completedCount;
+            remaining = scheduledCount - completedCount;
+
+            if (running == 0 && queue.isEmpty()) {
+                recoveryDurationNanos = System.nanoTime() - busySinceNanos;
+            }
+
+            tasksToRun = stopped ? List.of() : pollTasksToRun();
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(
+                    "Replica recovery start finished "
+                            + "[zonePartitionId={}, priority={}, queuedMs={}, startMs={}, completed={}, remaining={}].",
+                    task.zonePartitionId,
+                    task.priority,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - task.createdNanos - startDurationNanos),
+                    TimeUnit.NANOSECONDS.toMillis(startDurationNanos),
+                    completed,
+                    remaining
+            );
+        }
+
+        if (recoveryDurationNanos != 0) {
+            LOG.info("Replicas recovery starts finished [count={}, durationMs={}].", completed,
+                    TimeUnit.NANOSECONDS.toMillis(recoveryDurationNanos));
+        }
+
+        tasksToRun.forEach(this::run);
+    }
+
+    private static class RecoveryTask {
+        final ZonePartitionId zonePartitionId;
+
+        final int priority;
+
+        final Supplier<CompletableFuture<Boolean>> startOperation;
+
+        final CompletableFuture<Boolean> result = new CompletableFuture<>();
+
+        final long createdNanos = System.nanoTime();
+
+        /** Guarded by the scheduler's monitor. */
+        long sequenceNumber;
+
+        RecoveryTask(ZonePartitionId zonePartitionId, int priority, Supplier<CompletableFuture<Boolean>> startOperation) {
+            this.zonePartitionId = zonePartitionId;
+            this.priority = priority;
+            this.startOperation = startOperation;
+        }
+    }
+}
@@ -25,6 +25,7 @@ import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.raft.RaftGroupConfiguration;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.storage.MvPartitionStorage.WriteClosure;
 import org.apache.ignite.internal.storage.ReadResult;
 import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.storage.StorageException;
@@ -108,6 +109,16 @@ public interface PartitionMvStorageAccess {
      */
     void addWriteCommitted(RowId rowId, @Nullable BinaryRow row, HybridTimestamp commitTimestamp, int catalogVersion);
 
+    /**
+     * Executes the closure within a single storage write batch, see {@link MvPartitionStorage#runConsistently}. Writes performed by
+     * {@link #addWrite} and {@link #addWriteCommitted} inside of the closure are applied to the storage together.
+     *
+     * @param closure Data access closure to be executed.
+     * @return Closure result.
+     * @throws StorageException If failed to write data to the storage.
+     */
+    <V> V runConsistently(WriteClosure<V> closure) throws StorageException;
+
     /** Returns the last applied index of this storage. */
     long lastAppliedIndex();
 
@@ -43,6 +43,7 @@ import org.apache.ignite.internal.raft.RaftGroupConfiguration;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
 import org.apache.ignite.raft.jraft.RaftMessagesFactory;
 import org.apache.ignite.raft.jraft.entity.RaftOutter.SnapshotMeta;
+import org.apache.ignite.raft.jraft.storage.SnapshotThrottle;
 import org.apache.ignite.raft.jraft.storage.snapshot.SnapshotCopier;
 import org.apache.ignite.raft.jraft.storage.snapshot.SnapshotReader;
 import org.apache.ignite.raft.jraft.storage.snapshot.SnapshotWriter;
@@ -103,6 +104,9 @@ public class PartitionSnapshotStorage {
 
     private final RaftSnapshotsMetricsSource snapshotsMetricsSource;
 
+    /** Throttle of incoming snapshots, {@code null} if their throughput is not limited. */
+    private volatile @Nullable SnapshotThrottle snapshotThrottle;
+
     /** Constructor. */
     public PartitionSnapshotStorage(
             PartitionKey partitionKey,
@@ -406,4 +410,14 @@ public class PartitionSnapshotStorage {
     public LogStorageAccess logStorage() {
         return logStorage;
     }
+
+    /** Returns the throttle of incoming snapshots, {@code null} if their throughput is not limited. */
+    public @Nullable SnapshotThrottle snapshotThrottle() {
+        return snapshotThrottle;
+    }
+
+    /** Sets the throttle of incoming snapshots, {@code null} to not limit their throughput. */
+    public void snapshotThrottle(@Nullable SnapshotThrottle snapshotThrottle) {
+        this.snapshotThrottle = snapshotThrottle;
+    }
 }
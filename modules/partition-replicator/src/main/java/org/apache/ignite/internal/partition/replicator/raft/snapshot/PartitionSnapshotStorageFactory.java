@@ -100,7 +100,7 @@ public class PartitionSnapshotStorageFactory implements SnapshotStorageFactory {
 
         @Override
         public void setSnapshotThrottle(SnapshotThrottle snapshotThrottle) {
-            // No-op.
+            snapshotStorage.snapshotThrottle(snapshotThrottle);
         }
 
         @Override
@@ -19,8 +19,10 @@ package org.apache.ignite.internal.partition.replicator.raft.snapshot.incoming;
 
 import static java.util.concurrent.CompletableFuture.allOf;
 import static java.util.concurrent.CompletableFuture.anyOf;
+import static java.util.concurrent.CompletableFuture.delayedExecutor;
 import static java.util.concurrent.CompletableFuture.failedFuture;
 import static java.util.concurrent.CompletableFuture.runAsync;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 import static org.apache.ignite.internal.hlc.HybridTimestamp.hybridTimestamp;
@@ -88,6 +90,7 @@ import org.apache.ignite.internal.tx.storage.state.TxStatePartitionStorage;
 import org.apache.ignite.internal.util.IgniteSpinBusyLock;
 import org.apache.ignite.internal.versioned.VersionedSerialization;
 import org.apache.ignite.raft.jraft.error.RaftError;
+import org.apache.ignite.raft.jraft.storage.SnapshotThrottle;
 import org.apache.ignite.raft.jraft.storage.snapshot.SnapshotCopier;
 import org.apache.ignite.raft.jraft.storage.snapshot.SnapshotReader;
 import org.jetbrains.annotations.Nullable;
@@ -107,6 +110,9 @@ public class IncomingSnapshotCopier extends SnapshotCopier {
 
     private static final long MAX_MV_DATA_PAYLOADS_BATCH_BYTES_HINT = 100 * 1024;
 
+    /** Delay before another attempt to request a batch of MV data when the snapshot throttle doesn't allow any more data. */
+    private static final long THROTTLED_REQUEST_RETRY_INTERVAL_MILLIS = 100;
+
     private static final int MAX_TX_DATA_BATCH_SIZE = 1000;
 
     private final PartitionSnapshotStorage partitionSnapshotStorage;
@@ -437,65 +443,116 @@ public class IncomingSnapshotCopier extends SnapshotCopier {
         }
 
         try {
-            return partitionSnapshotStorage.messagingService().invoke(
-                    snapshotSender,
-                    TABLE_MSG_FACTORY.snapshotMvDataRequest()
-                            .id(snapshotUri.snapshotId)
-                            .batchSizeHint(MAX_MV_DATA_PAYLOADS_BATCH_BYTES_HINT)
-                            .build(),
-                    NETWORK_TIMEOUT_MILLIS
-            ).thenComposeAsync(response -> {
-                SnapshotMvDataResponse snapshotMvDataResponse = ((SnapshotMvDataResponse) response);
+            return loadSnapshotMvDataBatches(snapshotContext, snapshotSender, requestSnapshotMvDataBatch(snapshotSender));
+        } finally {
+            busyLock.leaveBusy();
+        }
+    }
 
-                for (ResponseEntry entry : snapshotMvDataResponse.rows()) {
-                    // Let's write all versions for the row ID.
-                    for (int i = 0; i < entry.rowVersions().size(); i++) {
-                        if (!busyLock.enterBusy()) {
-                            return nullCompletedFuture();
-                        }
+    /**
+     * Stores the batch of MV data once it is received, and then the following batches.
+     *
+     * <p>The next batch is requested before the current one is stored, so that the sender reads it and the network transfers it while
+     * the current one is being written. There is never more than one request in flight, so the sender processes the requests one by one
+     * and the receiver never buffers more than two batches.
+     */
+    private CompletableFuture<?> loadSnapshotMvDataBatches(
+            SnapshotContext snapshotContext,
+            InternalClusterNode snapshotSender,
+            CompletableFuture<@Nullable SnapshotMvDataResponse> responseFuture
+    ) {
+        return responseFuture.thenComposeAsync(snapshotMvDataResponse -> {
+            if (snapshotMvDataResponse == null) {
+                // The copier has been cancelled.
+                return nullCompletedFuture();
+            }
 
-                        try {
-                            writeVersion(snapshotContext, entry, i);
-                        } finally {
-                            busyLock.leaveBusy();
-                        }
-                    }
+            CompletableFuture<@Nullable SnapshotMvDataResponse> nextResponseFuture = snapshotMvDataResponse.finish()
+                    ? null
+                    : requestSnapshotMvDataBatch(snapshotSender);
+
+            for (ResponseEntry entry : snapshotMvDataResponse.rows()) {
+                if (!busyLock.enterBusy()) {
+                    return nullCompletedFuture();
                 }
 
-                snapshotStats.onMvBatchProcessing(snapshotMvDataResponse.rows().size());
+                try {
+                    writeRowVersions(snapshotContext, entry);
+                } finally {
+                    busyLock.leaveBusy();
+                }
+            }
 
-                if (snapshotMvDataResponse.finish()) {
-                    snapshotStats.onLoadMvDataPhaseEnd();
-                    snapshotsMetricsSource.onLoadMvDataPhaseEnd();
+            snapshotStats.onMvBatchProcessing(snapshotMvDataResponse.rows().size());
 
-                    if (LOG.isInfoEnabled()) {
-                        LOG.info(
-                                "Multi-versioned data has been loaded [snapshotId={}, {}, totalRows={}, totalBatches={},"
-                                        + " mvDataLoadingTime={}ms]",
-                                snapshotUri.snapshotId,
-                                createPartitionInfo(),
-                                snapshotMvDataResponse.rows().size(),
-                                snapshotStats.totalMvDataRows(),
-                                snapshotStats.totalMvDataBatches(),
-                                snapshotStats.loadMvDataPhaseDuration()
-                        );
-                    }
+            if (snapshotMvDataResponse.finish()) {
+                snapshotStats.onLoadMvDataPhaseEnd();
+                snapshotsMetricsSource.onLoadMvDataPhaseEnd();
 
-                    return nullCompletedFuture();
-                } else {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug(
-                                "A portion of multi-versioned data has been loaded [snapshotId={}, {}, rows={}]",
-                                snapshotUri.snapshotId,
-                                createPartitionInfo(),
-                                snapshotMvDataResponse.rows().size()
-                        );
-                    }
+                if (LOG.isInfoEnabled()) {
+                    LOG.info(
+                            "Multi-versioned data has been loaded [snapshotId={}, {}, totalRows={}, totalBatches={},"
+                                    + " mvDataLoadingTime={}ms]",
+                            snapshotUri.snapshotId,
+                            createPartitionInfo(),
+                            snapshotMvDataResponse.rows().size(),
+                            snapshotStats.totalMvDataRows(),
+                            snapshotStats.totalMvDataBatches(),
+                            snapshotStats.loadMvDataPhaseDuration()
+                    );
+                }
 
-                    // Let's upload the rest.
-                    return loadSnapshotMvData(snapshotContext, snapshotSender);
+                return nullCompletedFuture();
+            } else {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug(
+                            "A portion of multi-versioned data has been loaded [snapshotId={}, {}, rows={}]",
+                            snapshotUri.snapshotId,
+                            createPartitionInfo(),
+                            snapshotMvDataResponse.rows().size()
+                    );
                 }
-            }, executor);
+
+                // Let's upload the rest.
+                return loadSnapshotMvDataBatches(snapshotContext, snapshotSender, nextResponseFuture);
+            }
+        }, executor);
+    }
+
+    /**
+     * Requests the next batch of MV data. Completes with {@code null} if the copier has been cancelled.
+     *
+     * <p>If the storage has a {@link PartitionSnapshotStorage#snapshotThrottle() snapshot throttle}, the batch size is limited by it, and
+     * the request is postponed while the throttle doesn't allow any more data.
+     */
+    private CompletableFuture<@Nullable SnapshotMvDataResponse> requestSnapshotMvDataBatch(InternalClusterNode snapshotSender) {
+        if (!busyLock.enterBusy()) {
+            return nullCompletedFuture();
+        }
+
+        try {
+            long batchSizeHint = MAX_MV_DATA_PAYLOADS_BATCH_BYTES_HINT;
+
+            SnapshotThrottle snapshotThrottle = partitionSnapshotStorage.snapshotThrottle();
+
+            if (snapshotThrottle != null) {
+                batchSizeHint = snapshotThrottle.throttledByThroughput(batchSizeHint);
+
+                if (batchSizeHint == 0) {
+                    Executor delayedExecutor = delayedExecutor(THROTTLED_REQUEST_RETRY_INTERVAL_MILLIS, TimeUnit.MILLISECONDS, executor);
+
+                    return supplyAsync(() -> null, delayedExecutor).thenCompose(v -> requestSnapshotMvDataBatch(snapshotSender));
+                }
+            }
+
+            return partitionSnapshotStorage.messagingService().invoke(
+                    snapshotSender,
+                    TABLE_MSG_FACTORY.snapshotMvDataRequest()
+                            .id(snapshotUri.snapshotId)
+                            .batchSizeHint(batchSizeHint)
+                            .build(),
+                    NETWORK_TIMEOUT_MILLIS
+            ).thenApply(SnapshotMvDataResponse.class::cast);
         } finally {
             busyLock.leaveBusy();
         }
@@ -704,7 +761,11 @@ public class IncomingSnapshotCopier extends SnapshotCopier {
         return "zoneId=" + partitionKey.zoneId() + ", partitionId=" + partitionKey.partitionId();
     }
 
-    private void writeVersion(SnapshotContext snapshotContext, ResponseEntry entry, int entryIndex) {
+    /**
+     * Writes all versions of the row ID at once, so that the storage receives them as a single write batch instead of a batch per
+     * version.
+     */
+    private void writeRowVersions(SnapshotContext snapshotContext, ResponseEntry entry) {
         PartitionMvStorageAccess partition = snapshotContext.partitionsByTableId.get(entry.tableId());
 
         if (partition == null) {
@@ -714,6 +775,16 @@ public class IncomingSnapshotCopier extends SnapshotCopier {
             return;
         }
 
+        partition.runConsistently(locker -> {
+            for (int i = 0; i < entry.rowVersions().size(); i++) {
+                writeVersion(snapshotContext, partition, entry, i);
+            }
+
+            return null;
+        });
+    }
+
+    private void writeVersion(SnapshotContext snapshotContext, PartitionMvStorageAccess partition, ResponseEntry entry, int entryIndex) {
         RowId rowId = new RowId(partId(), entry.rowId());
 
         BinaryRowMessage rowVersion = entry.rowVersions().get(entryIndex);
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.partition.replicator;
+
+import static org.apache.ignite.internal.partition.replicator.ReplicaRecoveryScheduler.LOCAL_PRIMARY_PRIORITY;
+import static org.apache.ignite.internal.partition.replicator.ReplicaRecoveryScheduler.NO_PRIMARY_PRIORITY;
+import static org.apache.ignite.internal.partition.replicator.ReplicaRecoveryScheduler.REMOTE_PRIMARY_PRIORITY;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureExceptionMatcher.willThrow;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willBe;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+import org.apache.ignite.internal.hlc.HybridClockImpl;
+import org.apache.ignite.internal.hlc.TestClockService;
+import org.apache.ignite.internal.lang.NodeStoppingException;
+import org.apache.ignite.internal.placementdriver.LeasePlacementDriver;
+import org.apache.ignite.internal.placementdriver.ReplicaMeta;
+import org.apache.ignite.internal.replicator.ZonePartitionId;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+class ReplicaRecoverySchedulerTest extends BaseIgniteAbstractTest {
+    private static final String LOCAL_NODE_NAME = "local";
+
+    private static final String REMOTE_NODE_NAME = "remote";
+
+    private final LeasePlacementDriver placementDriver = mock(LeasePlacementDriver.class);
+
+    private final List<ZonePartitionId> startOrder = new CopyOnWriteArrayList<>();
+
+    @Test
+    void prioritizesPartitionsByLeaseholder() {
+        var localPrimary = new ZonePartitionId(0, 0);
+        var noPrimary = new ZonePartitionId(0, 1);
+        var remotePrimary = new ZonePartitionId(0, 2);
+
+        mockLeaseholder(localPrimary, LOCAL_NODE_NAME);
+        mockLeaseholder(remotePrimary, REMOTE_NODE_NAME);
+
+        ReplicaRecoveryScheduler scheduler = createScheduler(1);
+
+        assertThat(scheduler.priority(localPrimary), is(LOCAL_PRIMARY_PRIORITY));
+        assertThat(scheduler.priority(noPrimary), is(NO_PRIMARY_PRIORITY));
+        assertThat(scheduler.priority(remotePrimary), is(REMOTE_PRIMARY_PRIORITY));
+    }
+
+    @Test
+    void startsReplicasInPriorityOrder() {
+        var first = new ZonePartitionId(0, 0);
+        var localPrimary = new ZonePartitionId(0, 1);
+        var noPrimary = new ZonePartitionId(0, 2);
+        var remotePrimary = new ZonePartitionId(0, 3);
+
+        mockLeaseholder(localPrimary, LOCAL_NODE_NAME);
+        mockLeaseholder(remotePrimary, REMOTE_NODE_NAME);
+
+        ReplicaRecoveryScheduler scheduler = createScheduler(1);
+
+        var firstStartFuture = new CompletableFuture<Boolean>();
+
+        CompletableFuture<Boolean> firstResult = scheduler.schedule(first, startOperation(first, firstStartFuture));
+
+        CompletableFuture<Boolean> remotePrimaryResult = scheduler.schedule(remotePrimary, startOperation(remotePrimary, null));
+        CompletableFuture<Boolean> noPrimaryResult = scheduler.schedule(noPrimary, startOperation(noPrimary, null));
+        CompletableFuture<Boolean> localPrimaryResult = scheduler.schedule(localPrimary, startOperation(localPrimary, null));
+
+        // Only one start is allowed to run at a time.
+        assertThat(startOrder, contains(first));
+
+        firstStartFuture.complete(true);
+
+        assertThat(firstResult, willBe(true));
+        assertThat(localPrimaryResult, willBe(true));
+        assertThat(noPrimaryResult, willBe(true));
+        assertThat(remotePrimaryResult, willBe(true));
+
+        assertThat(startOrder, contains(first, localPrimary, noPrimary, remotePrimary));
+    }
+
+    @Test
+    void failedStartDoesNotBlockOtherStarts() {
+        var failing = new ZonePartitionId(0, 0);
+        var other = new ZonePartitionId(0, 1);
+
+        ReplicaRecoveryScheduler scheduler = createScheduler(1);
+
+        CompletableFuture<Boolean> failingResult = scheduler.schedule(failing, () -> {
+            throw new IllegalStateException("Test");
+        });
+
+        CompletableFuture<Boolean> otherResult = scheduler.schedule(other, startOperation(other, null));
+
+        assertThat(failingResult, willThrow(IllegalStateException.class));
+        assertThat(otherResult, willBe(true));
+    }
+
+    @Test
+    void stopFailsPendingStarts() {
+        var running = new ZonePartitionId(0, 0);
+        var pending = new ZonePartitionId(0, 1);
+
+        ReplicaRecoveryScheduler scheduler = createScheduler(1);
+
+        var runningStartFuture = new CompletableFuture<Boolean>();
+
+        CompletableFuture<Boolean> runningResult = scheduler.schedule(running, startOperation(running, runningStartFuture));
+        CompletableFuture<Boolean> pendingResult = scheduler.schedule(pending, startOperation(pending, null));
+
+        scheduler.stop();
+
+        assertThat(pendingResult, willThrow(NodeStoppingException.class));
+        assertThat(scheduler.schedule(pending, startOperation(pending, null)), willThrow(NodeStoppingException.class));
+
+        runningStartFuture.complete(true);
+
+        assertThat(runningResult, willBe(true));
+        assertThat(startOrder, contains(running));
+    }
+
+    private ReplicaRecoveryScheduler createScheduler(int parallelism) {
+        return new ReplicaRecoveryScheduler(
+                () -> LOCAL_NODE_NAME,
+                placementDriver,
+                new TestClockService(new HybridClockImpl()),
+                Runnable::run,
+                parallelism
+        );
+    }
+
+    private void mockLeaseholder(ZonePartitionId zonePartitionId, String leaseholder) {
+        ReplicaMeta replicaMeta = mock(ReplicaMeta.class);
+
+        when(replicaMeta.getLeaseholder()).thenReturn(leaseholder);
+
+        when(placementDriver.getCurrentPrimaryReplica(eq(zonePartitionId), any())).thenReturn(replicaMeta);
+    }
+
+    private Supplier<CompletableFuture<Boolean>> startOperation(
+            ZonePartitionId zonePartitionId,
+            @Nullable CompletableFuture<Boolean> startFuture
+    ) {
+        return () -> {
+            startOrder.add(zonePartitionId);
+
+            return startFuture == null ? CompletableFuture.completedFuture(true) : startFuture;
+        };
+    }
+}
@@ -43,6 +43,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.doAnswer;
@@ -143,6 +144,7 @@ import org.apache.ignite.internal.type.NativeTypes;
 import org.apache.ignite.internal.versioned.VersionedSerialization;
 import org.apache.ignite.raft.jraft.Status;
 import org.apache.ignite.raft.jraft.error.RaftError;
+import org.apache.ignite.raft.jraft.storage.SnapshotThrottle;
 import org.apache.ignite.raft.jraft.storage.snapshot.SnapshotCopier;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -312,6 +314,45 @@ public class IncomingSnapshotCopierTest extends BaseIgniteAbstractTest {
         verify(lowWatermark).updateLowWatermark(eq(newLowWatermarkValue));
     }
 
+    @Test
+    void testSnapshotThrottleLimitsMvDataBatches() {
+        fillOriginalStorages();
+
+        createTargetStorages();
+
+        MessagingService messagingService = messagingServiceForSuccessScenario(outgoingMvPartitionStorage,
+                outgoingTxStatePartitionStorage, rowIds, txIds);
+
+        PartitionSnapshotStorage partitionSnapshotStorage = createPartitionSnapshotStorage(
+                incomingMvTableStorage,
+                incomingTxStateStorage,
+                messagingService
+        );
+
+        // The throttle doesn't allow any data on the first attempt, so the request must be postponed.
+        SnapshotThrottle snapshotThrottle = mock(SnapshotThrottle.class);
+        when(snapshotThrottle.throttledByThroughput(anyLong())).thenReturn(0L, 10L);
+
+        partitionSnapshotStorage.snapshotThrottle(snapshotThrottle);
+
+        SnapshotCopier snapshotCopier = partitionSnapshotStorage.startIncomingSnapshot(
+                SnapshotUri.toStringUri(snapshotId, NODE_NAME)
+        );
+
+        assertThat(runAsync(snapshotCopier::join), willSucceedIn(1, TimeUnit.SECONDS));
+
+        assertEquals(Status.OK().getCode(), snapshotCopier.getCode());
+
+        verify(snapshotThrottle, times(2)).throttledByThroughput(anyLong());
+        verify(messagingService).invoke(
+                eq(clusterNode),
+                argThat(request -> request instanceof SnapshotMvDataRequest && ((SnapshotMvDataRequest) request).batchSizeHint() == 10L),
+                anyLong()
+        );
+
+        assertEqualsMvRows(outgoingMvPartitionStorage, incomingMvTableStorage.getMvPartition(PARTITION_ID), rowIds);
+    }
+
     private void createTargetStorages() {
         assertThat(incomingMvTableStorage.createMvPartition(PARTITION_ID), willCompleteSuccessfully());
         incomingTxStateStorage.getOrCreatePartitionStorage(PARTITION_ID);
@@ -52,6 +52,15 @@ public class LogStorageConfigurationSchema {
     @Value(hasDefault = true)
     public int maxLogEntrySizeBytes = UNSPECIFIED_MAX_LOG_ENTRY_SIZE;
 
+    /**
+     * Maximum time in microseconds a segment file sync waits for concurrent writes of other Raft groups to complete, so that they can be
+     * made durable by the same sync (group commit). {@code 0} means that writes are synced immediately, only sharing a sync with writes
+     * that have been completed while the previous sync was in progress.
+     */
+    @Value(hasDefault = true)
+    @Range(min = 0)
+    public long groupCommitWindowMicros = 0;
+
     /**
      * Computes the default maximum log entry size based on the segment file size.
      *
@@ -21,6 +21,7 @@ import org.apache.ignite.configuration.annotation.Config;
 import org.apache.ignite.configuration.annotation.ConfigValue;
 import org.apache.ignite.configuration.annotation.PublicName;
 import org.apache.ignite.configuration.annotation.Value;
+import org.apache.ignite.configuration.validation.Range;
 
 /**
  * Raft configuration schema.
@@ -102,6 +103,38 @@ public class RaftConfigurationSchema {
     @Value(hasDefault = true)
     public double maxInflightOverflowRate = 1.3;
 
+    /**
+     * Set true to pack AppendEntries requests of different RAFT groups that are addressed to the same node into a single
+     * network message.
+     */
+    @Value(hasDefault = true)
+    public boolean coalesceAppendEntries = false;
+
+    /**
+     * Set true to let a RAFT leader serve linearizable reads locally while its leader lease is valid, instead of confirming the
+     * leadership with a quorum heartbeat round. Reads fall back to the quorum round when the lease has expired.
+     *
+     * <p>The lease relies on the clock drift between nodes being bounded by {@link #leaseReadMaxClockDriftMillis}.
+     */
+    @Value(hasDefault = true)
+    public boolean leaseReads = false;
+
+    /**
+     * Upper bound of the clock drift between nodes (in milliseconds) accumulated over a leader lease. The lease used for local
+     * reads is shortened by this value.
+     */
+    @Value(hasDefault = true)
+    @Range(min = 0)
+    public int leaseReadMaxClockDriftMillis = 100;
+
+    /**
+     * Maximum throughput (in bytes per second) of snapshots installed on this node, shared by all RAFT groups. {@code 0} means that
+     * the throughput is not limited.
+     */
+    @Value(hasDefault = true)
+    @Range(min = 0)
+    public long snapshotThroughputLimitBytes = 0;
+
     /** Configuration for RAFT disruptor's. */
     @ConfigValue
     public DisruptorConfigurationSchema disruptor;
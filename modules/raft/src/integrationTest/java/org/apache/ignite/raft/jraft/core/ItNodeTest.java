@@ -57,6 +57,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.codahale.metrics.ConsoleReporter;
+import com.codahale.metrics.MetricRegistry;
 import com.lmax.disruptor.EventHandler;
 import com.lmax.disruptor.RingBuffer;
 import java.io.File;
@@ -4498,6 +4499,41 @@ public class ItNodeTest extends BaseIgniteAbstractTest {
         assertTrue(res.get().isOk());
     }
 
+    /**
+     * Tests that the leader serves reads by its lease while the lease is valid and falls back to ReadIndex otherwise.
+     */
+    @Test
+    public void testLeaseReadFallsBackToReadIndex() throws Exception {
+        List<TestPeer> peers = TestUtils.generatePeers(testInfo, 3);
+        cluster = new TestCluster("unittest", dataPath, peers, ELECTION_TIMEOUT_MILLIS, testInfo);
+
+        for (TestPeer peer : peers) {
+            RaftOptions opts = new RaftOptions();
+            opts.setReadOnlyOptions(ReadOnlyOption.ReadOnlyLeaseBased);
+            assertTrue(cluster.start(peer, false, 300, true, null, opts));
+        }
+
+        Node leader = cluster.waitAndGetLeader();
+        assertNotNull(leader);
+
+        sendTestTaskAndWait(leader);
+
+        // first call will fail-fast when no connection
+        if (!assertReadIndex(leader, 11))
+            assertTrue(assertReadIndex(leader, 11));
+
+        MetricRegistry metrics = leader.getNodeMetrics().getMetricRegistry();
+
+        assertTrue(metrics.counter("read-index-lease-reads").getCount() > 0);
+
+        // The lease can't be trusted if the clock drift bound exceeds it.
+        leader.getRaftOptions().setLeaseReadMaxClockDriftMs(leader.getOptions().getLeaderLeaseTimeoutMs());
+
+        assertTrue(assertReadIndex(leader, 11));
+
+        assertTrue(metrics.counter("read-index-lease-fallbacks").getCount() > 0);
+    }
+
     @Test
     public void exLeaderDoesntBecomeLeaderIfExternallyEnforcedConfigDoesNotContainIt() throws Exception {
         final long configFromResetIndex = 2L;
@@ -67,9 +67,11 @@ import org.apache.ignite.internal.util.IgniteUtils;
 import org.apache.ignite.raft.jraft.RaftMessagesFactory;
 import org.apache.ignite.raft.jraft.Status;
 import org.apache.ignite.raft.jraft.option.NodeOptions;
+import org.apache.ignite.raft.jraft.option.ReadOnlyOption;
 import org.apache.ignite.raft.jraft.rpc.impl.ActionRequestInterceptor;
 import org.apache.ignite.raft.jraft.rpc.impl.RaftGroupEventsClientListener;
 import org.apache.ignite.raft.jraft.rpc.impl.core.AppendEntriesRequestInterceptor;
+import org.apache.ignite.raft.jraft.storage.snapshot.ThroughputSnapshotThrottle;
 import org.apache.ignite.raft.jraft.util.Utils;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
@@ -240,6 +242,15 @@ public class Loza implements RaftManager {
         opts.getRaftOptions().setDisruptorBufferSize(raftConfig.disruptor().queueSize());
 
         opts.getRaftOptions().setSync(raftConfig.fsync());
+        opts.getRaftOptions().setCoalesceAppendEntries(raftConfig.coalesceAppendEntries());
+        opts.getRaftOptions().setReadOnlyOptions(
+                raftConfig.leaseReads() ? ReadOnlyOption.ReadOnlyLeaseBased : ReadOnlyOption.ReadOnlySafe
+        );
+        opts.getRaftOptions().setLeaseReadMaxClockDriftMs(raftConfig.leaseReadMaxClockDriftMillis());
+
+        if (raftConfig.snapshotThroughputLimitBytes() > 0) {
+            opts.setSnapshotThrottle(new ThroughputSnapshotThrottle(raftConfig.snapshotThroughputLimitBytes(), 1));
+        }
 
         return raftServer.startAsync(componentContext);
     }
@@ -29,6 +29,7 @@ import java.nio.channels.FileChannel;
 import java.nio.channels.FileChannel.MapMode;
 import java.nio.file.Path;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.apache.ignite.internal.close.ManuallyCloseable;
@@ -38,6 +39,9 @@ import org.jetbrains.annotations.Nullable;
  * This class represents an append-only memory-mapped segment file.
  *
  * <p>This implementation is thread-safe in terms of concurrent writes.
+ *
+ * <p>If the file is synced, writes become durable using group commit: a write is not considered complete until all writes that precede it
+ * in the file are completed, and a single sync makes all completed writes durable, see {@link SegmentFileSyncScheduler}.
  */
 class SegmentFile implements ManuallyCloseable {
     /**
@@ -61,6 +65,9 @@ class SegmentFile implements ManuallyCloseable {
     /** Flag indicating if an fsync call should follow every write to the buffer. */
     private final boolean isSync;
 
+    /** Scheduler of syncs, {@code null} if the file is not synced. */
+    private final @Nullable SegmentFileSyncScheduler syncScheduler;
+
     private final Path path;
 
     private final FileProperties fileProperties;
@@ -77,20 +84,38 @@ class SegmentFile implements ManuallyCloseable {
     /** Position in the buffer <b>up to which</b> all written bytes have been synced. */
     private volatile int syncPosition;
 
+    /**
+     * Durability requests that have not been collected by a sync yet: the upper 32 bits hold the number of the batch the requests belong
+     * to, which is incremented every time a sync collects the requests, the lower 32 bits hold the number of the requests.
+     */
+    private final AtomicLong pendingSyncRequests = new AtomicLong();
+
     /** Lock used to atomically execute fsync. */
     private final Object syncLock = new Object();
 
-    private SegmentFile(FileChannel channel, Path path, boolean isSync) throws IOException {
+    private SegmentFile(FileChannel channel, Path path, @Nullable SegmentFileSyncScheduler syncScheduler) throws IOException {
         buffer = channel.map(MapMode.READ_WRITE, 0, channel.size());
 
         assert buffer.limit() > 0 : "File " + path + " is empty.";
 
         this.path = path;
-        this.isSync = isSync;
+        this.isSync = syncScheduler != null;
+        this.syncScheduler = syncScheduler;
         this.fileProperties = fileProperties(path);
     }
 
     static SegmentFile createNew(Path path, long fileSize, boolean isSync) throws IOException {
+        return createNew(path, fileSize, isSync ? new SegmentFileSyncScheduler(0) : null);
+    }
+
+    /**
+     * Creates a new segment file.
+     *
+     * @param path File path.
+     * @param fileSize File size.
+     * @param syncScheduler Scheduler of syncs or {@code null} if writes should not be synced.
+     */
+    static SegmentFile createNew(Path path, long fileSize, @Nullable SegmentFileSyncScheduler syncScheduler) throws IOException {
         if (fileSize < 0) {
             throw new IllegalArgumentException("File size is negative: " + fileSize);
         }
@@ -105,13 +130,23 @@ class SegmentFile implements ManuallyCloseable {
         try (var file = new RandomAccessFile(path.toFile(), "rw")) {
             file.setLength(fileSize);
 
-            return new SegmentFile(file.getChannel(), path, isSync);
+            return new SegmentFile(file.getChannel(), path, syncScheduler);
         }
     }
 
     static SegmentFile openExisting(Path path, boolean isSync) throws IOException {
+        return openExisting(path, isSync ? new SegmentFileSyncScheduler(0) : null);
+    }
+
+    /**
+     * Opens an existing segment file.
+     *
+     * @param path File path.
+     * @param syncScheduler Scheduler of syncs or {@code null} if writes should not be synced.
+     */
+    static SegmentFile openExisting(Path path, @Nullable SegmentFileSyncScheduler syncScheduler) throws IOException {
         try (var channel = FileChannel.open(path, READ, WRITE)) {
-            return new SegmentFile(channel, path, isSync);
+            return new SegmentFile(channel, path, syncScheduler);
         }
     }
 
@@ -149,15 +184,27 @@ class SegmentFile implements ManuallyCloseable {
 
         private final int pos;
 
-        WriteBuffer(ByteBuffer slice) {
+        private final boolean syncOnClose;
+
+        WriteBuffer(ByteBuffer slice, boolean syncOnClose) {
             this.slice = slice;
             this.pos = slice.position();
+            this.syncOnClose = syncOnClose;
         }
 
         ByteBuffer buffer() {
             return slice;
         }
 
+        SegmentFile segmentFile() {
+            return SegmentFile.this;
+        }
+
+        /** Returns the position in the file <b>up to which</b> this buffer writes. */
+        int endPosition() {
+            return slice.limit();
+        }
+
         @Override
         public void close() {
             if (isSync) {
@@ -168,7 +215,9 @@ class SegmentFile implements ManuallyCloseable {
 
                 lastWritePosition = slice.limit();
 
-                sync(slice.limit());
+                if (syncOnClose) {
+                    syncWrites(slice.limit());
+                }
             }
 
             numWriters.decrementAndGet();
@@ -222,6 +271,16 @@ class SegmentFile implements ManuallyCloseable {
      * byte buffer. If there's not enough space to reserve the given amount of bytes, then {@code null} is returned.
      */
     @Nullable WriteBuffer reserve(int size) {
+        return reserve(size, true);
+    }
+
+    /**
+     * Reserves the given amount of bytes at the end of this file.
+     *
+     * <p>Same as {@link #reserve(int)}, but if {@code syncOnClose} is {@code false}, closing the returned buffer does not make the write
+     * durable. In this case the caller is expected to call {@link #syncWrites} once it has completed a batch of writes.
+     */
+    @Nullable WriteBuffer reserve(int size, boolean syncOnClose) {
         numWriters.incrementAndGet();
 
         try {
@@ -234,7 +293,7 @@ class SegmentFile implements ManuallyCloseable {
                 return null;
             }
 
-            return new WriteBuffer(slice);
+            return new WriteBuffer(slice, syncOnClose);
         } catch (Throwable e) {
             numWriters.decrementAndGet();
 
@@ -250,6 +309,60 @@ class SegmentFile implements ManuallyCloseable {
         return syncPosition;
     }
 
+    /** Returns the number of durability requests that have not been collected by a sync yet. */
+    int pendingSyncRequests() {
+        return (int) pendingSyncRequests.get();
+    }
+
+    /** Returns the position of the first non-reserved byte in the file or {@code -1} if the file is closed. */
+    int reservedPosition() {
+        return bufferPosition.get();
+    }
+
+    /**
+     * Makes all completed writes up to the given position durable, if this file is synced. Otherwise, does nothing.
+     *
+     * <p>Uses group commit: if no sync is in progress, the calling thread syncs all writes completed so far (possibly waiting for
+     * concurrent writes, see {@link SegmentFileSyncScheduler}). Otherwise, it waits for the ongoing sync and only syncs if its writes have
+     * not been covered by it.
+     */
+    void syncWrites(int upToPosition) {
+        if (!isSync || upToPosition <= syncPosition) {
+            return;
+        }
+
+        int batch = batch(pendingSyncRequests.incrementAndGet());
+
+        synchronized (syncLock) {
+            if (upToPosition <= syncPosition) {
+                // The request has been covered by a sync it has not been collected by, so it must not be counted in the next batch.
+                // Batches are only collected under the sync lock, so the batch of the request cannot be collected concurrently.
+                if (batch(pendingSyncRequests.get()) == batch) {
+                    pendingSyncRequests.decrementAndGet();
+                }
+
+                return;
+            }
+
+            assert syncScheduler != null;
+
+            syncScheduler.awaitConcurrentWrites(this);
+
+            // Requests must be collected before reading the last write position, so that every collected request is covered by the sync.
+            int batchSize = (int) pendingSyncRequests.getAndUpdate(requests -> (long) (batch(requests) + 1) << Integer.SIZE);
+
+            long startNanos = System.nanoTime();
+
+            syncLocked(lastWritePosition);
+
+            syncScheduler.onSync(batchSize, System.nanoTime() - startNanos);
+        }
+    }
+
+    private static int batch(long pendingSyncRequests) {
+        return (int) (pendingSyncRequests >>> Integer.SIZE);
+    }
+
     void sync() {
         sync(lastWritePosition);
     }
@@ -260,17 +373,23 @@ class SegmentFile implements ManuallyCloseable {
         }
 
         synchronized (syncLock) {
-            int syncPosition = this.syncPosition;
+            syncLocked(upToPosition);
+        }
+    }
 
-            if (upToPosition <= syncPosition) {
-                return;
-            }
+    private void syncLocked(int upToPosition) {
+        assert Thread.holdsLock(syncLock);
 
-            //noinspection AccessToStaticFieldLockedOnInstance
-            SYNCER.force(buffer, syncPosition, upToPosition - syncPosition);
+        int syncPosition = this.syncPosition;
 
-            this.syncPosition = upToPosition;
+        if (upToPosition <= syncPosition) {
+            return;
         }
+
+        //noinspection AccessToStaticFieldLockedOnInstance
+        SYNCER.force(buffer, syncPosition, upToPosition - syncPosition);
+
+        this.syncPosition = upToPosition;
     }
 
     private @Nullable ByteBuffer reserveBytes(int size) {
@@ -33,6 +33,7 @@ import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 import org.apache.ignite.internal.close.ManuallyCloseable;
@@ -137,7 +138,8 @@ class SegmentFileManager implements ManuallyCloseable {
     /** Configured maximum log entry size. */
     private final int maxLogEntrySize;
 
-    private final boolean isSync;
+    /** Scheduler of segment file syncs, {@code null} if fsync is disabled. */
+    private final @Nullable SegmentFileSyncScheduler syncScheduler;
 
     /** Lock used to block threads while a rollover is in progress. */
     private final Object rolloverLock = new Object();
@@ -164,12 +166,15 @@ class SegmentFileManager implements ManuallyCloseable {
     ) throws IOException {
         this.segmentFilesDir = baseDir.resolve("segments");
         this.stripes = stripes;
-        this.isSync = raftConfiguration.fsync().value();
 
         Files.createDirectories(segmentFilesDir);
 
         LogStorageView logStorageView = storageConfiguration.value();
 
+        this.syncScheduler = raftConfiguration.fsync().value()
+                ? new SegmentFileSyncScheduler(logStorageView.groupCommitWindowMicros())
+                : null;
+
         segmentFileSize = toIntExact(logStorageView.segmentFileSizeBytes());
 
         maxLogEntrySize = maxLogEntrySize(logStorageView);
@@ -253,10 +258,15 @@ class SegmentFileManager implements ManuallyCloseable {
         return garbageCollector;
     }
 
+    /** Returns the scheduler of segment file syncs or {@code null} if fsync is disabled. */
+    @Nullable SegmentFileSyncScheduler syncScheduler() {
+        return syncScheduler;
+    }
+
     private SegmentFileWithMemtable allocateNewSegmentFile(int fileOrdinal) throws IOException {
         Path path = segmentFilesDir.resolve(SegmentFile.fileName(new FileProperties(fileOrdinal)));
 
-        SegmentFile segmentFile = SegmentFile.createNew(path, segmentFileSize, isSync);
+        SegmentFile segmentFile = SegmentFile.createNew(path, segmentFileSize, syncScheduler);
 
         writeHeader(segmentFile);
 
@@ -269,7 +279,7 @@ class SegmentFileManager implements ManuallyCloseable {
      * possibly incomplete segment file.
      */
     private SegmentFileWithMemtable recoverLatestSegmentFile(Path segmentFilePath) throws IOException {
-        SegmentFile segmentFile = SegmentFile.openExisting(segmentFilePath, isSync);
+        SegmentFile segmentFile = SegmentFile.openExisting(segmentFilePath, syncScheduler);
 
         var memTable = new StripedMemTable(stripes);
 
@@ -286,7 +296,7 @@ class SegmentFileManager implements ManuallyCloseable {
      * never happen during this method's invocation), not to validate storage integrity.
      */
     private SegmentFileWithMemtable recoverSegmentFile(Path segmentFilePath) throws IOException {
-        SegmentFile segmentFile = SegmentFile.openExisting(segmentFilePath, isSync);
+        SegmentFile segmentFile = SegmentFile.openExisting(segmentFilePath, syncScheduler);
 
         var memTable = new SingleThreadMemTable();
 
@@ -300,24 +310,61 @@ class SegmentFileManager implements ManuallyCloseable {
     }
 
     void appendEntry(long groupId, LogEntry entry, LogEntryEncoder encoder) throws IOException {
-        int segmentEntrySize = SegmentPayload.size(entry, encoder);
+        appendEntries(groupId, List.of(entry), encoder);
+    }
 
-        if (segmentEntrySize > maxLogEntrySize) {
-            throw new IllegalArgumentException(String.format(
-                    "Segment entry is too big (%d bytes), maximum allowed segment entry size: %d bytes.",
-                    segmentEntrySize, maxLogEntrySize
-            ));
-        }
+    /**
+     * Appends a batch of entries of the given group.
+     *
+     * <p>If fsync is enabled, the entries are made durable with a single sync after all of them have been written (unless a rollover
+     * happens in the middle of the batch, in which case the previous segment file is synced before switching to the next one). The sync
+     * itself may be shared with concurrent writers of other groups, see {@link SegmentFileSyncScheduler}.
+     */
+    void appendEntries(long groupId, List<LogEntry> entries, LogEntryEncoder encoder) throws IOException {
+        SegmentFile lastSegmentFile = null;
+
+        int lastWriteEndPosition = 0;
+
+        for (LogEntry entry : entries) {
+            int segmentEntrySize = SegmentPayload.size(entry, encoder);
+
+            if (segmentEntrySize > maxLogEntrySize) {
+                throw new IllegalArgumentException(String.format(
+                        "Segment entry is too big (%d bytes), maximum allowed segment entry size: %d bytes.",
+                        segmentEntrySize, maxLogEntrySize
+                ));
+            }
+
+            SegmentFile segmentFile;
 
-        try (WriteBufferWithMemtable writeBufferWithMemtable = reserveBytesWithRollover(segmentEntrySize)) {
-            ByteBuffer segmentBuffer = writeBufferWithMemtable.buffer();
+            int writeEndPosition;
 
-            int segmentOffset = segmentBuffer.position();
+            try (WriteBufferWithMemtable writeBufferWithMemtable = reserveBytesWithRollover(segmentEntrySize, false)) {
+                ByteBuffer segmentBuffer = writeBufferWithMemtable.buffer();
 
-            SegmentPayload.writeTo(segmentBuffer, groupId, segmentEntrySize, entry, encoder);
+                int segmentOffset = segmentBuffer.position();
 
-            // Append to memtable before write buffer is released to avoid races with checkpoint on rollover.
-            writeBufferWithMemtable.memtable().appendSegmentFileOffset(groupId, entry.getId().getIndex(), segmentOffset);
+                SegmentPayload.writeTo(segmentBuffer, groupId, segmentEntrySize, entry, encoder);
+
+                // Append to memtable before write buffer is released to avoid races with checkpoint on rollover.
+                writeBufferWithMemtable.memtable().appendSegmentFileOffset(groupId, entry.getId().getIndex(), segmentOffset);
+
+                segmentFile = writeBufferWithMemtable.segmentFile();
+
+                writeEndPosition = writeBufferWithMemtable.endPosition();
+            }
+
+            if (lastSegmentFile != null && lastSegmentFile != segmentFile) {
+                lastSegmentFile.syncWrites(lastWriteEndPosition);
+            }
+
+            lastSegmentFile = segmentFile;
+
+            lastWriteEndPosition = writeEndPosition;
+        }
+
+        if (lastSegmentFile != null) {
+            lastSegmentFile.syncWrites(lastWriteEndPosition);
         }
     }
 
@@ -402,10 +449,14 @@ class SegmentFileManager implements ManuallyCloseable {
     }
 
     private WriteBufferWithMemtable reserveBytesWithRollover(int size) throws IOException {
+        return reserveBytesWithRollover(size, true);
+    }
+
+    private WriteBufferWithMemtable reserveBytesWithRollover(int size, boolean syncOnClose) throws IOException {
         while (true) {
             SegmentFileWithMemtable segmentFileWithMemtable = currentSegmentFile();
 
-            WriteBuffer writeBuffer = segmentFileWithMemtable.segmentFile().reserve(size);
+            WriteBuffer writeBuffer = segmentFileWithMemtable.segmentFile().reserve(size, syncOnClose);
 
             if (writeBuffer != null) {
                 return new WriteBufferWithMemtable(writeBuffer, segmentFileWithMemtable.memtable());
@@ -561,7 +612,7 @@ class SegmentFileManager implements ManuallyCloseable {
 
             // TODO: Add a cache for recently accessed segment files, see https://issues.apache.org/jira/browse/IGNITE-26622.
             try {
-                SegmentFile segmentFile = SegmentFile.openExisting(path, isSync);
+                SegmentFile segmentFile = SegmentFile.openExisting(path, syncScheduler);
 
                 ByteBuffer buffer = segmentFile.buffer().position(segmentFilePointer.payloadOffset());
 
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.raft.storage.segstore;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.metrics.DistributionMetric;
+import org.apache.ignite.internal.metrics.Metric;
+
+/**
+ * Group commit scheduler of segment file syncs.
+ *
+ * <p>Segment files are shared by all Raft groups, so multiple writer threads (usually, one per log manager stripe) may request their
+ * writes to become durable at the same time. Instead of issuing an fsync per write, a writer that finds no sync in progress becomes the
+ * leader of a sync batch: it waits up to {@link #windowNanos} for the writes that have already been reserved in the file by other threads
+ * to complete and then syncs everything written so far at once. Writers whose data has been covered by the leader's sync return
+ * without syncing on their own.
+ *
+ * <p>The scheduler is shared by all segment files of a {@link SegmentFileManager} and collects sync batch size and latency histograms.
+ */
+class SegmentFileSyncScheduler {
+    /** Histogram bucket bounds for the number of durability requests completed by a single sync. */
+    private static final long[] BATCH_SIZE_BOUNDS = {1, 2, 4, 8, 16, 32, 64, 128};
+
+    /** Histogram bucket bounds for the sync duration in nanoseconds. */
+    private static final long[] SYNC_DURATION_BOUNDS = {
+            TimeUnit.MICROSECONDS.toNanos(10),
+            TimeUnit.MICROSECONDS.toNanos(100),
+            TimeUnit.MILLISECONDS.toNanos(1),
+            TimeUnit.MILLISECONDS.toNanos(10),
+            TimeUnit.MILLISECONDS.toNanos(100),
+            TimeUnit.SECONDS.toNanos(1),
+    };
+
+    /** Maximum time a sync batch leader waits for concurrent writes before syncing, in nanoseconds. */
+    private final long windowNanos;
+
+    private final DistributionMetric batchSize = new DistributionMetric(
+            "SegmentFileSyncBatchSize",
+            "Number of log writes made durable by a single segment file sync.",
+            BATCH_SIZE_BOUNDS
+    );
+
+    private final DistributionMetric syncDuration = new DistributionMetric(
+            "SegmentFileSyncDuration",
+            "Duration of a segment file sync in nanoseconds.",
+            SYNC_DURATION_BOUNDS
+    );
+
+    /**
+     * Constructor.
+     *
+     * @param windowMicros Maximum time a sync batch leader waits for concurrent writes before syncing, in microseconds. {@code 0} means
+     *         that the leader syncs immediately, only batching writes that have been completed while the previous sync was in progress.
+     */
+    SegmentFileSyncScheduler(long windowMicros) {
+        if (windowMicros < 0) {
+            throw new IllegalArgumentException("Group commit window must not be negative: " + windowMicros);
+        }
+
+        this.windowNanos = TimeUnit.MICROSECONDS.toNanos(windowMicros);
+    }
+
+    /**
+     * Waits for the writes that have been reserved in the given file up to the moment of this call to complete, but no longer than the
+     * configured window. Must be called by the sync batch leader before syncing.
+     */
+    void awaitConcurrentWrites(SegmentFile segmentFile) {
+        if (windowNanos == 0) {
+            return;
+        }
+
+        int reservedPosition = segmentFile.reservedPosition();
+
+        long deadline = System.nanoTime() + windowNanos;
+
+        while (segmentFile.lastWritePosition() < reservedPosition && System.nanoTime() - deadline < 0) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Records a completed sync.
+     *
+     * @param batchSize Number of durability requests completed by the sync.
+     * @param durationNanos Sync duration in nanoseconds.
+     */
+    void onSync(int batchSize, long durationNanos) {
+        this.batchSize.add(batchSize);
+        this.syncDuration.add(durationNanos);
+    }
+
+    /** Returns the sync batch size and latency histograms. */
+    List<Metric> metrics() {
+        return List.of(batchSize, syncDuration);
+    }
+
+    DistributionMetric batchSizeMetric() {
+        return batchSize;
+    }
+
+    DistributionMetric syncDurationMetric() {
+        return syncDuration;
+    }
+}
@@ -95,8 +95,10 @@ class SegstoreLogStorage implements LogStorage {
 
     @Override
     public int appendEntries(List<LogEntry> entries) {
-        for (LogEntry entry : entries) {
-            appendEntryImpl(entry);
+        try {
+            segmentFileManager.appendEntries(groupId, entries, logEntryEncoder);
+        } catch (IOException e) {
+            throw new IgniteInternalException(INTERNAL_ERR, e);
         }
 
         long firstLogIndexInclusive = this.firstLogIndexInclusive;
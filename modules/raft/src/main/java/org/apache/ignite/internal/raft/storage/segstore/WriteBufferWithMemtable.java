@@ -38,6 +38,14 @@ class WriteBufferWithMemtable implements AutoCloseable {
         return memtable;
     }
 
+    SegmentFile segmentFile() {
+        return writeBuffer.segmentFile();
+    }
+
+    int endPosition() {
+        return writeBuffer.endPosition();
+    }
+
     @Override
     public void close() {
         writeBuffer.close();
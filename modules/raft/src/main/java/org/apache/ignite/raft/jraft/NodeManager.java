@@ -29,6 +29,7 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiPredicate;
 import java.util.stream.Collectors;
 import org.apache.ignite.internal.logger.IgniteLogger;
@@ -38,11 +39,14 @@ import org.apache.ignite.raft.jraft.core.Scheduler;
 import org.apache.ignite.raft.jraft.entity.NodeId;
 import org.apache.ignite.raft.jraft.entity.PeerId;
 import org.apache.ignite.raft.jraft.option.NodeOptions;
+import org.apache.ignite.raft.jraft.option.RaftOptions;
 import org.apache.ignite.raft.jraft.rpc.CoalescedHeartbeatRequestBuilder;
 import org.apache.ignite.raft.jraft.rpc.InvokeCallback;
 import org.apache.ignite.raft.jraft.rpc.Message;
 import org.apache.ignite.raft.jraft.rpc.RpcClient;
 import org.apache.ignite.raft.jraft.rpc.RpcRequests.AppendEntriesRequest;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.CoalescedAppendEntriesRequest;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.CoalescedAppendEntriesResponse;
 import org.apache.ignite.raft.jraft.rpc.RpcRequests.CoalescedHeartbeatResponse;
 import org.apache.ignite.raft.jraft.rpc.impl.IgniteRpcClient;
 import org.apache.ignite.raft.jraft.util.OnlyForTest;
@@ -58,6 +62,11 @@ public class NodeManager implements Lifecycle<NodeOptions> {
     private final ConcurrentMap<NodeId, Node> nodeMap = new ConcurrentHashMap<>();
     private final ConcurrentMap<String, List<Node>> groupMap = new ConcurrentHashMap<>();
     private final ConcurrentMap<PeerId, Queue<Object[]>> coalesced = new ConcurrentHashMap<>();
+    private final ConcurrentMap<PeerId, AppendEntriesQueue> appendEntriesQueues = new ConcurrentHashMap<>();
+    /** Response futures of the sent coalesced AppendEntries requests by batch ID, until every nested request is answered. */
+    private final ConcurrentMap<Long, List<CompletableFuture<Message>>> pendingAppendEntries = new ConcurrentHashMap<>();
+    /** Generator of coalesced AppendEntries batch IDs. */
+    private final AtomicLong appendEntriesBatchIdGen = new AtomicLong();
 
     /** Node options. */
     private NodeOptions options;
@@ -267,4 +276,174 @@ public class NodeManager implements Lifecycle<NodeOptions> {
     public ConcurrentMap<PeerId, Queue<Object[]>> getCoalesced() {
         return coalesced;
     }
+
+    /**
+     * Enqueues an AppendEntries request to be sent to the remote peer, possibly together with the requests of other groups.
+     *
+     * <p>There is no timer involved: the queue of the peer is flushed as soon as the flushing stripe is free, so the requests which
+     * pile up while the previous batch is being sent are packed into a single {@link CoalescedAppendEntriesRequest}, bounded by
+     * {@link RaftOptions#getMaxByteCountPerRpc()} bytes of log entries. The requests of one group keep their order, since the queue
+     * of a peer is always flushed by the same stripe.
+     *
+     * @param to Remote peer.
+     * @param request Request.
+     * @param timeoutMs Request timeout.
+     * @return Future with the response.
+     */
+    public CompletableFuture<Message> enqueueAppendEntries(PeerId to, AppendEntriesRequest request, long timeoutMs) {
+        CompletableFuture<Message> fut = new CompletableFuture<>();
+
+        AppendEntriesQueue queue = appendEntriesQueues.computeIfAbsent(to,
+                k -> new AppendEntriesQueue(options.getStripedExecutor().next()));
+
+        queue.requests.add(new Object[]{request, fut, timeoutMs});
+
+        if (queue.scheduled.compareAndSet(false, true)) {
+            queue.executor.execute(() -> flushAppendEntries(to, queue));
+        }
+
+        return fut;
+    }
+
+    /**
+     * Sends all AppendEntries requests accumulated for the remote peer.
+     */
+    private void flushAppendEntries(PeerId peer, AppendEntriesQueue queue) {
+        // Reset the flag before draining, any request added after this point schedules another flush.
+        queue.scheduled.set(false);
+
+        int maxBytes = options.getRaftOptions().getMaxByteCountPerRpc();
+
+        while (!queue.requests.isEmpty()) {
+            List<AppendEntriesRequest> batch = new ArrayList<>();
+            List<CompletableFuture<Message>> futs = new ArrayList<>();
+            List<Long> timeouts = new ArrayList<>();
+            long timeoutMs = 0;
+            long bytes = 0;
+
+            Object[] req;
+
+            while (bytes < maxBytes && (req = queue.requests.poll()) != null) {
+                var msg = (AppendEntriesRequest) req[0];
+
+                batch.add(msg);
+                futs.add((CompletableFuture<Message>) req[1]);
+                timeouts.add((long) req[2]);
+
+                timeoutMs = Math.max(timeoutMs, (long) req[2]);
+                bytes += msg.data() == null ? 0 : msg.data().remaining();
+            }
+
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            Message msg;
+
+            if (batch.size() == 1) {
+                msg = batch.get(0);
+            } else {
+                long batchId = appendEntriesBatchIdGen.incrementAndGet();
+
+                msg = messagesFactory.coalescedAppendEntriesRequest().batchId(batchId).messages(batch).build();
+
+                registerPendingAppendEntries(batchId, futs, timeouts);
+            }
+
+            try {
+                rpcClient.invokeAsync(peer, msg, null, new InvokeCallback() {
+                    @Override
+                    public void complete(Object result, Throwable err) {
+                        if (err != null) {
+                            for (CompletableFuture<Message> fut : futs) {
+                                fut.completeExceptionally(err);
+                            }
+
+                            return;
+                        }
+
+                        if (!(result instanceof CoalescedAppendEntriesResponse)) {
+                            // Either a response to a single request or an error response to the whole batch.
+                            for (CompletableFuture<Message> fut : futs) {
+                                fut.complete((Message) result);
+                            }
+
+                            return;
+                        }
+
+                        // The rest of the nested requests are answered by separate messages as soon as they are processed.
+                        onCoalescedAppendEntriesResponse((CoalescedAppendEntriesResponse) result);
+                    }
+
+                    @Override
+                    public Executor executor() {
+                        return queue.executor;
+                    }
+                }, timeoutMs);
+            } catch (Exception e) {
+                LOG.error("Failed to send append entries message to remote node [remote={}].", e, peer);
+
+                for (CompletableFuture<Message> fut : futs) {
+                    fut.completeExceptionally(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Registers the response futures of a coalesced AppendEntries request, so that the responses to its nested requests can be
+     * matched by {@link #onCoalescedAppendEntriesResponse}. A nested request that is not answered in time fails with a timeout,
+     * the batch is unregistered once every nested request is answered or failed.
+     */
+    private void registerPendingAppendEntries(long batchId, List<CompletableFuture<Message>> futs, List<Long> timeouts) {
+        pendingAppendEntries.put(batchId, futs);
+
+        for (int i = 0; i < futs.size(); i++) {
+            futs.get(i).orTimeout(timeouts.get(i), TimeUnit.MILLISECONDS);
+        }
+
+        CompletableFuture.allOf(futs.toArray(CompletableFuture[]::new))
+                .whenComplete((unused, err) -> pendingAppendEntries.remove(batchId));
+    }
+
+    /**
+     * Completes the response futures of the nested requests of a coalesced AppendEntries request that are answered by the given
+     * response. The receiver sends the responses as soon as the nested requests are processed, so that a slow group doesn't delay the
+     * responses of the others: the first part is the response to the coalesced request itself, the rest come as separate messages.
+     *
+     * @param response Response to some of the nested requests.
+     */
+    public void onCoalescedAppendEntriesResponse(CoalescedAppendEntriesResponse response) {
+        List<CompletableFuture<Message>> futs = pendingAppendEntries.get(response.batchId());
+
+        if (futs == null) {
+            // Every nested request has already been answered or has timed out.
+            return;
+        }
+
+        int[] indexes = response.indexes();
+
+        int i = 0;
+        for (Message message : response.messages()) {
+            futs.get(indexes[i++]).complete(message); // Future completion will trigger callbacks.
+        }
+    }
+
+    /**
+     * AppendEntries requests waiting to be sent to a remote peer.
+     */
+    private static class AppendEntriesQueue {
+        /** Requests as triples of the request, its response future and its timeout. */
+        private final Queue<Object[]> requests = new ConcurrentLinkedQueue<>();
+
+        /** Whether a flush of the queue is scheduled. */
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        /** Stripe that flushes the queue. */
+        private final Executor executor;
+
+        AppendEntriesQueue(Executor executor) {
+            this.executor = executor;
+        }
+    }
 }
@@ -2129,9 +2129,15 @@ public class NodeImpl implements Node, RaftServerService {
         }
 
         ReadOnlyOption readOnlyOpt = this.raftOptions.getReadOnlyOptions();
-        if (readOnlyOpt == ReadOnlyOption.ReadOnlyLeaseBased && !isLeaderLeaseValid()) {
-            // If leader lease timeout, we must change option to ReadOnlySafe
-            readOnlyOpt = ReadOnlyOption.ReadOnlySafe;
+        if (readOnlyOpt == ReadOnlyOption.ReadOnlyLeaseBased) {
+            if (isLeaderLeaseValid()) {
+                this.metrics.recordTimes("read-index-lease-reads", 1);
+            }
+            else {
+                // If leader lease timeout, we must change option to ReadOnlySafe
+                readOnlyOpt = ReadOnlyOption.ReadOnlySafe;
+                this.metrics.recordTimes("read-index-lease-fallbacks", 1);
+            }
         }
 
         switch (readOnlyOpt) {
@@ -2311,18 +2317,28 @@ public class NodeImpl implements Node, RaftServerService {
 
     // in read_lock
     private boolean isLeaderLeaseValid() {
+        // Followers don't vote for another candidate until the leader lease expires on their side, the lease for local reads is
+        // shortened by the clock drift bound to make sure it expires on the leader first.
+        final long leaseTimeoutMs = this.options.getLeaderLeaseTimeoutMs() - this.raftOptions.getLeaseReadMaxClockDriftMs();
+        if (leaseTimeoutMs <= 0) {
+            return false;
+        }
         final long monotonicNowMs = Utils.monotonicMs();
         // Test with a current start lease timestamp.
-        if (checkLeaderLease(monotonicNowMs)) {
+        if (checkLeaderLease(monotonicNowMs, leaseTimeoutMs)) {
             return true;
         }
         // Refresh start lease timestamp and try again.
         checkDeadNodes0(this.conf.getConf().getPeers(), monotonicNowMs, false, null);
-        return checkLeaderLease(monotonicNowMs);
+        return checkLeaderLease(monotonicNowMs, leaseTimeoutMs);
     }
 
     private boolean checkLeaderLease(final long monotonicNowMs) {
-        return monotonicNowMs - this.lastLeaderTimestamp < this.options.getLeaderLeaseTimeoutMs();
+        return checkLeaderLease(monotonicNowMs, this.options.getLeaderLeaseTimeoutMs());
+    }
+
+    private boolean checkLeaderLease(final long monotonicNowMs, final long leaseTimeoutMs) {
+        return monotonicNowMs - this.lastLeaderTimestamp < leaseTimeoutMs;
     }
 
     private boolean isCurrentLeaderValid() {
@@ -95,6 +95,12 @@ public class RaftOptions implements Copiable<RaftOptions> {
      * The maximum replicator pipeline in-flight requests/responses, only valid when enable replicator pipeline.
      */
     private int maxReplicatorInflightMsgs = 256;
+
+    /**
+     * Whether to pack AppendEntries requests of different groups addressed to the same peer into a single network message.
+     */
+    private boolean coalesceAppendEntries = false;
+
     /**
      * Internal disruptor buffers size for Node/FSMCaller/LogManager etc.
      */
@@ -123,6 +129,13 @@ public class RaftOptions implements Copiable<RaftOptions> {
      */
     private ReadOnlyOption readOnlyOptions = ReadOnlyOption.ReadOnlySafe;
 
+    /**
+     * Upper bound of the clock drift between nodes accumulated over a leader lease, in milliseconds. The leader lease used by
+     * {@link ReadOnlyOption#ReadOnlyLeaseBased} is shortened by this value, so that followers can't elect a new leader while the
+     * old one still serves reads locally.
+     */
+    private int leaseReadMaxClockDriftMs = 0;
+
     /**
      * Read index read need compare current node's apply index with leader's commit index.
      * Only current node's apply index catch up leader's commit index, then call back success to read index closure.
@@ -192,6 +205,14 @@ public class RaftOptions implements Copiable<RaftOptions> {
         this.readOnlyOptions = readOnlyOptions;
     }
 
+    public int getLeaseReadMaxClockDriftMs() {
+        return this.leaseReadMaxClockDriftMs;
+    }
+
+    public void setLeaseReadMaxClockDriftMs(final int leaseReadMaxClockDriftMs) {
+        this.leaseReadMaxClockDriftMs = leaseReadMaxClockDriftMs;
+    }
+
     public int getMaxReadIndexLag() {
         return maxReadIndexLag;
     }
@@ -304,6 +325,14 @@ public class RaftOptions implements Copiable<RaftOptions> {
         this.syncMeta = syncMeta;
     }
 
+    public boolean isCoalesceAppendEntries() {
+        return this.coalesceAppendEntries;
+    }
+
+    public void setCoalesceAppendEntries(final boolean coalesceAppendEntries) {
+        this.coalesceAppendEntries = coalesceAppendEntries;
+    }
+
     public boolean isOpenStatistics() {
         return this.openStatistics;
     }
@@ -351,10 +380,12 @@ public class RaftOptions implements Copiable<RaftOptions> {
         raftOptions.setOpenStatistics(this.openStatistics);
         raftOptions.setReplicatorPipeline(this.replicatorPipeline);
         raftOptions.setMaxReplicatorInflightMsgs(this.maxReplicatorInflightMsgs);
+        raftOptions.setCoalesceAppendEntries(this.coalesceAppendEntries);
         raftOptions.setDisruptorBufferSize(this.disruptorBufferSize);
         raftOptions.setDisruptorPublishEventWaitTimeoutSecs(this.disruptorPublishEventWaitTimeoutSecs);
         raftOptions.setEnableLogEntryChecksum(this.enableLogEntryChecksum);
         raftOptions.setReadOnlyOptions(this.readOnlyOptions);
+        raftOptions.setLeaseReadMaxClockDriftMs(this.leaseReadMaxClockDriftMs);
         raftOptions.setRaftMessagesFactory(this.raftMessagesFactory);
         raftOptions.setMaxApplyQueueByteSize(this.maxApplyQueueByteSize);
         return raftOptions;
@@ -369,9 +400,11 @@ public class RaftOptions implements Copiable<RaftOptions> {
             + this.maxElectionDelayMs + ", electionHeartbeatFactor=" + this.electionHeartbeatFactor
             + ", applyBatch=" + this.applyBatch + ", sync=" + this.sync + ", syncMeta=" + this.syncMeta
             + ", openStatistics=" + this.openStatistics + ", replicatorPipeline=" + this.replicatorPipeline
-            + ", maxReplicatorInflightMsgs=" + this.maxReplicatorInflightMsgs + ", disruptorBufferSize="
+            + ", maxReplicatorInflightMsgs=" + this.maxReplicatorInflightMsgs
+            + ", coalesceAppendEntries=" + this.coalesceAppendEntries + ", disruptorBufferSize="
             + this.disruptorBufferSize + ", disruptorPublishEventWaitTimeoutSecs="
             + this.disruptorPublishEventWaitTimeoutSecs + ", enableLogEntryChecksum=" + this.enableLogEntryChecksum
-            + ", readOnlyOptions=" + this.readOnlyOptions + ", maxApplyQueueByteSize=" + this.maxApplyQueueByteSize + '}';
+            + ", readOnlyOptions=" + this.readOnlyOptions + ", leaseReadMaxClockDriftMs=" + this.leaseReadMaxClockDriftMs
+            + ", maxApplyQueueByteSize=" + this.maxApplyQueueByteSize + '}';
     }
 }
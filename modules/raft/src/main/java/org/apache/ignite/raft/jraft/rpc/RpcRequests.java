@@ -255,4 +255,27 @@ public final class RpcRequests {
     public interface CoalescedHeartbeatResponse extends Message {
         Collection<Message> messages();
     }
+
+    @Transferable(value = RaftMessageGroup.RpcRequestsMessageGroup.COALESCED_APPEND_ENTRIES_REQUEST)
+    public interface CoalescedAppendEntriesRequest extends Message {
+        /** ID of the batch, unique among the batches of the sender, that the responses to the nested requests refer to. */
+        long batchId();
+
+        Collection<AppendEntriesRequest> messages();
+    }
+
+    /**
+     * Responses to some of the nested requests of a {@link CoalescedAppendEntriesRequest}: the first one is sent as the response to the
+     * coalesced request, the following ones as separate messages.
+     */
+    @Transferable(value = RaftMessageGroup.RpcRequestsMessageGroup.COALESCED_APPEND_ENTRIES_RESPONSE)
+    public interface CoalescedAppendEntriesResponse extends Message {
+        /** ID of the batch, see {@link CoalescedAppendEntriesRequest#batchId()}. */
+        long batchId();
+
+        /** Positions of the answered requests in the batch, one per message. */
+        int[] indexes();
+
+        Collection<Message> messages();
+    }
 }
@@ -55,6 +55,8 @@ import org.apache.ignite.raft.jraft.rpc.impl.cli.SnapshotRequestProcessor;
 import org.apache.ignite.raft.jraft.rpc.impl.cli.TransferLeaderRequestProcessor;
 import org.apache.ignite.raft.jraft.rpc.impl.core.AppendEntriesRequestInterceptor;
 import org.apache.ignite.raft.jraft.rpc.impl.core.AppendEntriesRequestProcessor;
+import org.apache.ignite.raft.jraft.rpc.impl.core.CoalescedAppendEntriesRequestProcessor;
+import org.apache.ignite.raft.jraft.rpc.impl.core.CoalescedAppendEntriesResponseProcessor;
 import org.apache.ignite.raft.jraft.rpc.impl.core.GetFileRequestProcessor;
 import org.apache.ignite.raft.jraft.rpc.impl.core.HeartbeatRequestProcessor;
 import org.apache.ignite.raft.jraft.rpc.impl.core.InstallSnapshotRequestProcessor;
@@ -106,6 +108,8 @@ public class IgniteRpcServer implements RpcServer<Void> {
             new InterceptingAppendEntriesRequestProcessor(rpcExecutor, raftMessagesFactory,  appendEntriesRequestFilter);
         registerConnectionClosedEventListener(appendEntriesRequestProcessor);
         registerProcessor(appendEntriesRequestProcessor);
+        registerProcessor(new CoalescedAppendEntriesRequestProcessor(appendEntriesRequestProcessor, raftMessagesFactory));
+        registerProcessor(new CoalescedAppendEntriesResponseProcessor());
         registerProcessor(new GetFileRequestProcessor(rpcExecutor, raftMessagesFactory));
         registerProcessor(new InstallSnapshotRequestProcessor(rpcExecutor, raftMessagesFactory));
         registerProcessor(new RequestVoteRequestProcessor(rpcExecutor, raftMessagesFactory));
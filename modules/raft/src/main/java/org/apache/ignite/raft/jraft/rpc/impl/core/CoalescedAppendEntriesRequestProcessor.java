@@ -0,0 +1,264 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.raft.jraft.rpc.impl.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.network.InternalClusterNode;
+import org.apache.ignite.network.NetworkAddress;
+import org.apache.ignite.raft.jraft.NodeManager;
+import org.apache.ignite.raft.jraft.RaftMessagesFactory;
+import org.apache.ignite.raft.jraft.error.RaftError;
+import org.apache.ignite.raft.jraft.rpc.Message;
+import org.apache.ignite.raft.jraft.rpc.RaftRpcFactory;
+import org.apache.ignite.raft.jraft.rpc.RpcContext;
+import org.apache.ignite.raft.jraft.rpc.RpcProcessor;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.AppendEntriesRequest;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.CoalescedAppendEntriesRequest;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.CoalescedAppendEntriesResponse;
+
+/**
+ * Processor of AppendEntries requests of different groups that have been packed into a single network message by the sender.
+ *
+ * <p>Every nested request is dispatched to the executor that {@link AppendEntriesRequestProcessor} would have chosen for it had it been
+ * received on its own, so the per-group ordering and pipelining guarantees are preserved. The nested requests are dispatched right in the
+ * network thread, in the order they have been packed, so they can't be reordered with the standalone requests of the same group.
+ *
+ * <p>The responses are sent back as soon as the nested requests are answered, so that a slow group doesn't delay the responses of the
+ * others. The responses of the requests answered while the batch is being dispatched go out together in the response to the coalesced
+ * request, the ones answered later are sent in separate {@link CoalescedAppendEntriesResponse} messages, packing together those that are
+ * answered while the previous message is being sent.
+ */
+public class CoalescedAppendEntriesRequestProcessor implements RpcProcessor<CoalescedAppendEntriesRequest> {
+    private static final IgniteLogger LOG = Loggers.forClass(CoalescedAppendEntriesRequestProcessor.class);
+
+    /** Processor of the nested requests. */
+    private final AppendEntriesRequestProcessor delegate;
+
+    /** Message factory. */
+    private final RaftMessagesFactory msgFactory;
+
+    /**
+     * Constructor.
+     *
+     * @param delegate Processor of the nested requests.
+     * @param msgFactory Message factory.
+     */
+    public CoalescedAppendEntriesRequestProcessor(AppendEntriesRequestProcessor delegate, RaftMessagesFactory msgFactory) {
+        this.delegate = delegate;
+        this.msgFactory = msgFactory;
+    }
+
+    @Override
+    public void handleRequest(RpcContext rpcCtx, CoalescedAppendEntriesRequest request) {
+        List<AppendEntriesRequest> requests = new ArrayList<>(request.messages());
+
+        if (requests.isEmpty()) {
+            rpcCtx.sendResponse(msgFactory.coalescedAppendEntriesResponse()
+                    .batchId(request.batchId())
+                    .indexes(new int[0])
+                    .messages(List.of())
+                    .build());
+
+            return;
+        }
+
+        var responses = new NestedResponses(rpcCtx, request.batchId());
+
+        for (int i = 0; i < requests.size(); i++) {
+            AppendEntriesRequest req = requests.get(i);
+
+            var subCtx = new NestedRpcContext(responses, i);
+
+            ExecutorSelector selector = delegate.executorSelector();
+
+            Executor executor = selector == null ? null : selector.select(delegate.getClass().getName(), req, rpcCtx.getNodeManager());
+
+            if (executor == null) {
+                executor = delegate.executor();
+            }
+
+            try {
+                executor.execute(() -> delegate.handleRequest(subCtx, req));
+            } catch (RejectedExecutionException e) {
+                // The rejection is ok if an executor has been stopped, otherwise it shouldn't happen.
+                LOG.warn("A request execution was rejected [sender={}, groupId={}, reason={}]",
+                        rpcCtx.getSender(), req.groupId(), e.getMessage());
+
+                subCtx.sendResponse(RaftRpcFactory.DEFAULT.newResponse(msgFactory, RaftError.EBUSY, "Request execution was rejected"));
+            }
+        }
+
+        responses.dispatched();
+    }
+
+    @Override
+    public String interest() {
+        return CoalescedAppendEntriesRequest.class.getName();
+    }
+
+    /**
+     * Nested requests are dispatched in the network thread to keep them ordered with the standalone AppendEntries requests.
+     */
+    @Override
+    public Executor executor() {
+        return Runnable::run;
+    }
+
+    /**
+     * Responses to the nested requests of a coalesced request that are waiting to be sent.
+     */
+    private class NestedResponses {
+        private final RpcContext parent;
+
+        private final long batchId;
+
+        /** Pairs of the nested request index and its response. */
+        private final Queue<Object[]> responses = new ConcurrentLinkedQueue<>();
+
+        /**
+         * Whether the responses are being sent by some thread. Initially set until every nested request is dispatched, so that the
+         * responses of the requests answered right away go out together.
+         */
+        private final AtomicBoolean sending = new AtomicBoolean(true);
+
+        /** Whether the response to the coalesced request has been sent, guarded by {@link #sending}. */
+        private boolean responded;
+
+        NestedResponses(RpcContext parent, long batchId) {
+            this.parent = parent;
+            this.batchId = batchId;
+        }
+
+        void add(int index, Message response) {
+            responses.add(new Object[]{index, response});
+
+            sendAvailable();
+        }
+
+        /** Called once every nested request is dispatched. */
+        void dispatched() {
+            sending.set(false);
+
+            sendAvailable();
+        }
+
+        private void sendAvailable() {
+            // The responses added while another thread is sending are sent by that thread once it is done.
+            while (!responses.isEmpty() && sending.compareAndSet(false, true)) {
+                try {
+                    sendBatch();
+                } finally {
+                    sending.set(false);
+                }
+            }
+        }
+
+        private void sendBatch() {
+            List<Object[]> batch = new ArrayList<>();
+
+            Object[] response;
+
+            while ((response = responses.poll()) != null) {
+                batch.add(response);
+            }
+
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            int[] indexes = new int[batch.size()];
+            var messages = new ArrayList<Message>(batch.size());
+
+            for (int i = 0; i < batch.size(); i++) {
+                indexes[i] = (int) batch.get(i)[0];
+                messages.add((Message) batch.get(i)[1]);
+            }
+
+            CoalescedAppendEntriesResponse msg = msgFactory.coalescedAppendEntriesResponse()
+                    .batchId(batchId)
+                    .indexes(indexes)
+                    .messages(messages)
+                    .build();
+
+            if (responded) {
+                parent.sendResponseAsync(msg);
+            } else {
+                responded = true;
+
+                parent.sendResponse(msg);
+            }
+        }
+    }
+
+    /**
+     * Context of a nested request, passes its response to {@link NestedResponses}.
+     */
+    private static class NestedRpcContext implements RpcContext {
+        private final NestedResponses responses;
+
+        private final int index;
+
+        /** Guards against sending more than one response to the request. */
+        private final AtomicBoolean responded = new AtomicBoolean();
+
+        NestedRpcContext(NestedResponses responses, int index) {
+            this.responses = responses;
+            this.index = index;
+        }
+
+        @Override
+        public NodeManager getNodeManager() {
+            return responses.parent.getNodeManager();
+        }
+
+        @Override
+        public void sendResponse(Object responseObj) {
+            if (responded.compareAndSet(false, true)) {
+                responses.add(index, (Message) responseObj);
+            }
+        }
+
+        @Override
+        public void sendResponseAsync(Object responseObj) {
+            sendResponse(responseObj);
+        }
+
+        @Override
+        public NetworkAddress getRemoteAddress() {
+            return responses.parent.getRemoteAddress();
+        }
+
+        @Override
+        public InternalClusterNode getSender() {
+            return responses.parent.getSender();
+        }
+
+        @Override
+        public String getLocalConsistentId() {
+            return responses.parent.getLocalConsistentId();
+        }
+    }
+}
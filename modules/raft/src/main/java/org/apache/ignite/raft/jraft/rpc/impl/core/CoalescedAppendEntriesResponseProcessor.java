@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.raft.jraft.rpc.impl.core;
+
+import java.util.concurrent.Executor;
+import org.apache.ignite.raft.jraft.NodeManager;
+import org.apache.ignite.raft.jraft.rpc.RpcContext;
+import org.apache.ignite.raft.jraft.rpc.RpcProcessor;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.CoalescedAppendEntriesResponse;
+
+/**
+ * Processor of the responses to the nested requests of a coalesced AppendEntries request that are sent separately from the response to
+ * the coalesced request itself, see {@link CoalescedAppendEntriesRequestProcessor}.
+ */
+public class CoalescedAppendEntriesResponseProcessor implements RpcProcessor<CoalescedAppendEntriesResponse> {
+    @Override
+    public void handleRequest(RpcContext rpcCtx, CoalescedAppendEntriesResponse response) {
+        rpcCtx.getNodeManager().onCoalescedAppendEntriesResponse(response);
+    }
+
+    @Override
+    public String interest() {
+        return CoalescedAppendEntriesResponse.class.getName();
+    }
+
+    /**
+     * Completing the response futures is cheap, the callbacks are executed by the executors of the requests, see
+     * {@link NodeManager#onCoalescedAppendEntriesResponse}.
+     */
+    @Override
+    public Executor executor() {
+        return Runnable::run;
+    }
+}
@@ -32,9 +32,11 @@ import org.apache.ignite.raft.jraft.error.InvokeTimeoutException;
 import org.apache.ignite.raft.jraft.error.RaftError;
 import org.apache.ignite.raft.jraft.error.RemotingException;
 import org.apache.ignite.raft.jraft.option.NodeOptions;
+import org.apache.ignite.raft.jraft.option.RaftOptions;
 import org.apache.ignite.raft.jraft.option.RpcOptions;
 import org.apache.ignite.raft.jraft.rpc.CliRequests.GetLeaderRequest;
 import org.apache.ignite.raft.jraft.rpc.CliRequests.GetLeaderResponse;
+import org.apache.ignite.raft.jraft.rpc.InvokeCallback;
 import org.apache.ignite.raft.jraft.rpc.InvokeContext;
 import org.apache.ignite.raft.jraft.rpc.Message;
 import org.apache.ignite.raft.jraft.rpc.RaftClientService;
@@ -108,6 +110,10 @@ public class DefaultRaftClientService extends AbstractClientService implements R
                 return sendHeartbeat(peerId, request, timeoutMs, done, executor);
             }
 
+            if (!nodeOptions.isSystemGroup() && nodeOptions.getRaftOptions().isCoalesceAppendEntries()) {
+                return sendCoalesced(peerId, request, timeoutMs, done, executor);
+            }
+
             return invokeWithDone(peerId, request, done, timeoutMs, executor);
         }
 
@@ -141,22 +147,65 @@ public class DefaultRaftClientService extends AbstractClientService implements R
                 timeoutMs,
                 executor,
                 (peerId1, request1, ctx, callback, timeoutMs1) ->
-                        nodeManager.enqueue(peerId, (Message) request1).whenComplete((res, err) -> {
-                            if (err instanceof ExecutionException) {
-                                err = new RemotingException(err);
-                            } else if (err instanceof TimeoutException) // Translate timeout exception.
-                            {
-                                err = new InvokeTimeoutException();
-                            }
-
-                            Throwable finalErr = err;
-
-                            // Avoid deadlocks if a closure has completed in the same thread.
-                            Utils.runInThread(callback.executor(), () -> callback.complete(res, finalErr));
-                        })
+                        completeCallback(nodeManager.enqueue(peerId, (Message) request1), callback)
+        );
+    }
+
+    /**
+     * Sends an AppendEntries request packed together with the requests of other groups addressed to the same peer.
+     *
+     * @param peerId Remote peer id.
+     * @param request Request.
+     * @param timeoutMs Timeout.
+     * @param done Done callback.
+     * @param executor Executor where the done callback is executed.
+     * @return A future with response.
+     * @see RaftOptions#isCoalesceAppendEntries()
+     */
+    private Future<Message> sendCoalesced(
+            PeerId peerId,
+            AppendEntriesRequest request,
+            int timeoutMs,
+            RpcResponseClosure<AppendEntriesResponse> done,
+            Executor executor
+    ) {
+        NodeManager nodeManager = this.nodeOptions.getNodeManager();
+
+        return invokeWithDone(
+                peerId,
+                request,
+                null,
+                done,
+                timeoutMs,
+                executor,
+                (peerId1, request1, ctx, callback, timeoutMs1) ->
+                        completeCallback(nodeManager.enqueueAppendEntries(peerId, (AppendEntriesRequest) request1, timeoutMs1), callback)
         );
     }
 
+    /**
+     * Completes the invoke callback when a response future of a request sent through the node manager is completed.
+     *
+     * @param fut Response future.
+     * @param callback Invoke callback.
+     * @return A future with response.
+     */
+    private static CompletableFuture<Message> completeCallback(CompletableFuture<Message> fut, InvokeCallback callback) {
+        return fut.whenComplete((res, err) -> {
+            if (err instanceof ExecutionException) {
+                err = new RemotingException(err);
+            } else if (err instanceof TimeoutException) // Translate timeout exception.
+            {
+                err = new InvokeTimeoutException();
+            }
+
+            Throwable finalErr = err;
+
+            // Avoid deadlocks if a closure has completed in the same thread.
+            Utils.runInThread(callback.executor(), () -> callback.complete(res, finalErr));
+        });
+    }
+
     /**
      * Checks whether it is a read index request or not.
      * @param doneClosure Done closure.
@@ -21,12 +21,15 @@ import static java.util.Collections.nCopies;
 import static org.apache.ignite.internal.testframework.IgniteTestUtils.runRace;
 import static org.apache.ignite.internal.util.IgniteUtils.closeAllManually;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
 import org.apache.ignite.internal.lang.RunnableX;
 import org.apache.ignite.internal.raft.storage.segstore.SegmentFile.WriteBuffer;
 import org.apache.ignite.internal.testframework.ExecutorServiceExtension;
@@ -125,4 +128,59 @@ class SyncSegmentFileTest extends IgniteAbstractTest {
         assertThat(file.lastWritePosition(), is(size));
         assertThat(file.syncPosition(), is(size));
     }
+
+    @Test
+    void testDeferredSync() {
+        try (WriteBuffer ignored = file.reserve(10, false)) {
+            // No-op.
+        }
+
+        assertThat(file.lastWritePosition(), is(10));
+        assertThat(file.syncPosition(), is(0));
+
+        file.syncWrites(10);
+
+        assertThat(file.syncPosition(), is(10));
+    }
+
+    @RepeatedTest(10)
+    void testGroupCommitMultithreaded() throws IOException {
+        var syncScheduler = new SegmentFileSyncScheduler(TimeUnit.MILLISECONDS.toMicros(1));
+
+        Path path = workDir.resolve(SegmentFile.fileName(new FileProperties(1)));
+
+        SegmentFile groupCommitFile = SegmentFile.createNew(path, size, syncScheduler);
+
+        try {
+            int chunkSize = 32;
+
+            int numThreads = 4;
+
+            int numChunksPerThread = size / (chunkSize * numThreads);
+
+            RunnableX writer = () -> {
+                for (int i = 0; i < numChunksPerThread; i++) {
+                    try (WriteBuffer ignored = groupCommitFile.reserve(chunkSize)) {
+                        // No-op.
+                    }
+                }
+            };
+
+            runRace(nCopies(numThreads, writer).toArray(RunnableX[]::new));
+
+            assertThat(groupCommitFile.lastWritePosition(), is(size));
+            assertThat(groupCommitFile.syncPosition(), is(size));
+
+            // Requests covered by a sync they have not been collected by must not be left for the next batch.
+            assertThat(groupCommitFile.pendingSyncRequests(), is(0));
+
+            long syncs = LongStream.of(syncScheduler.batchSizeMetric().value()).sum();
+
+            assertThat(syncs, is(greaterThan(0L)));
+            assertThat(syncs, is(lessThanOrEqualTo((long) numThreads * numChunksPerThread)));
+            assertThat(LongStream.of(syncScheduler.syncDurationMetric().value()).sum(), is(syncs));
+        } finally {
+            groupCommitFile.close();
+        }
+    }
 }
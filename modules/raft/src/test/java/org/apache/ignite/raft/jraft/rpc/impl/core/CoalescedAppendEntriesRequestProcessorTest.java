@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.raft.jraft.rpc.impl.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.apache.ignite.raft.jraft.Node;
+import org.apache.ignite.raft.jraft.RaftMessagesFactory;
+import org.apache.ignite.raft.jraft.entity.NodeId;
+import org.apache.ignite.raft.jraft.entity.PeerId;
+import org.apache.ignite.raft.jraft.error.RaftError;
+import org.apache.ignite.raft.jraft.option.RaftOptions;
+import org.apache.ignite.raft.jraft.rpc.Message;
+import org.apache.ignite.raft.jraft.rpc.RaftServerService;
+import org.apache.ignite.raft.jraft.rpc.RpcRequestClosure;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.AppendEntriesRequest;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.CoalescedAppendEntriesResponse;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.ErrorResponse;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.PingRequest;
+import org.apache.ignite.raft.jraft.test.MockAsyncContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.apache.ignite.raft.jraft.test.TestUtils.createPingRequest;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Tests for {@link CoalescedAppendEntriesRequestProcessor}.
+ */
+@ExtendWith(MockitoExtension.class)
+public class CoalescedAppendEntriesRequestProcessorTest extends BaseIgniteAbstractTest {
+    private static final String PEER_ID = "localhost:8081";
+
+    private static final String SERVER_ID = "localhost:8082";
+
+    private final RaftMessagesFactory msgFactory = new RaftMessagesFactory();
+
+    @Mock(extraInterfaces = RaftServerService.class)
+    private Node node;
+
+    private MockAsyncContext asyncContext;
+
+    private CoalescedAppendEntriesRequestProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        asyncContext = new MockAsyncContext();
+
+        processor = new CoalescedAppendEntriesRequestProcessor(new AppendEntriesRequestProcessor(Runnable::run, msgFactory), msgFactory);
+    }
+
+    @Test
+    void testResponsesKeepRequestsOrder() {
+        RaftOptions raftOptions = new RaftOptions();
+        raftOptions.setReplicatorPipeline(false);
+
+        when(node.getGroupId()).thenReturn("known");
+        when(node.getNodeId()).thenReturn(new NodeId("known", PeerId.parsePeer(PEER_ID)));
+        when(node.getRaftOptions()).thenReturn(raftOptions);
+
+        asyncContext.getNodeManager().add(node);
+
+        AppendEntriesRequest unknownGroupRequest = createRequest("unknown");
+        AppendEntriesRequest knownGroupRequest = createRequest("known");
+
+        PingRequest knownGroupResponse = createPingRequest();
+
+        when(((RaftServerService) node).handleAppendEntriesRequest(eq(knownGroupRequest), any())).thenReturn(knownGroupResponse);
+
+        processor.handleRequest(asyncContext, msgFactory.coalescedAppendEntriesRequest()
+                .messages(List.of(unknownGroupRequest, knownGroupRequest))
+                .build());
+
+        CoalescedAppendEntriesResponse coalescedResponse = asyncContext.as(CoalescedAppendEntriesResponse.class);
+
+        // Both requests are answered right away, so the responses are sent together.
+        assertArrayEquals(new int[]{0, 1}, coalescedResponse.indexes());
+
+        List<Message> responses = new ArrayList<>(coalescedResponse.messages());
+
+        assertEquals(2, responses.size());
+
+        assertThat(responses.get(0), instanceOf(ErrorResponse.class));
+        assertEquals(RaftError.ENOENT.getNumber(), ((ErrorResponse) responses.get(0)).errorCode());
+
+        assertSame(knownGroupResponse, responses.get(1));
+    }
+
+    @Test
+    void testStalledGroupDoesNotDelayResponsesOfOtherGroups() {
+        var rpcCtx = new RecordingRpcContext();
+
+        Node slowNode = mockNode("slow");
+        Node fastNode = mockNode("fast");
+
+        rpcCtx.getNodeManager().add(slowNode);
+        rpcCtx.getNodeManager().add(fastNode);
+
+        AppendEntriesRequest slowGroupRequest = createRequest("slow");
+        AppendEntriesRequest fastGroupRequest = createRequest("fast");
+
+        PingRequest slowGroupResponse = createPingRequest();
+        PingRequest fastGroupResponse = createPingRequest();
+
+        var slowGroupDone = new AtomicReference<RpcRequestClosure>();
+
+        // The slow group answers only when the test lets it.
+        when(((RaftServerService) slowNode).handleAppendEntriesRequest(eq(slowGroupRequest), any())).thenAnswer(invocation -> {
+            slowGroupDone.set(invocation.getArgument(1));
+
+            return null;
+        });
+        when(((RaftServerService) fastNode).handleAppendEntriesRequest(eq(fastGroupRequest), any())).thenReturn(fastGroupResponse);
+
+        processor.handleRequest(rpcCtx, msgFactory.coalescedAppendEntriesRequest()
+                .batchId(42)
+                .messages(List.of(slowGroupRequest, fastGroupRequest))
+                .build());
+
+        // The response of the fast group is sent while the slow group is still processing its request.
+        assertEquals(1, rpcCtx.responses.size());
+        assertThat(rpcCtx.asyncResponses, empty());
+
+        assertResponse(rpcCtx.responses.get(0), 42, 1, fastGroupResponse);
+
+        slowGroupDone.get().sendResponse(slowGroupResponse);
+
+        // The response of the slow group is sent separately.
+        assertEquals(1, rpcCtx.responses.size());
+        assertEquals(1, rpcCtx.asyncResponses.size());
+
+        assertResponse(rpcCtx.asyncResponses.get(0), 42, 0, slowGroupResponse);
+    }
+
+    @Test
+    void testEmptyRequest() {
+        processor.handleRequest(asyncContext, msgFactory.coalescedAppendEntriesRequest().messages(List.of()).build());
+
+        assertThat(asyncContext.as(CoalescedAppendEntriesResponse.class).messages(), empty());
+    }
+
+    private static Node mockNode(String groupId) {
+        RaftOptions raftOptions = new RaftOptions();
+        raftOptions.setReplicatorPipeline(false);
+
+        Node node = mock(Node.class, withSettings().extraInterfaces(RaftServerService.class));
+
+        when(node.getGroupId()).thenReturn(groupId);
+        when(node.getNodeId()).thenReturn(new NodeId(groupId, PeerId.parsePeer(PEER_ID)));
+        when(node.getRaftOptions()).thenReturn(raftOptions);
+
+        return node;
+    }
+
+    private static void assertResponse(Object response, long batchId, int index, Message message) {
+        assertThat(response, instanceOf(CoalescedAppendEntriesResponse.class));
+
+        var coalescedResponse = (CoalescedAppendEntriesResponse) response;
+
+        assertEquals(batchId, coalescedResponse.batchId());
+        assertArrayEquals(new int[]{index}, coalescedResponse.indexes());
+        assertEquals(List.of(message), new ArrayList<>(coalescedResponse.messages()));
+    }
+
+    private AppendEntriesRequest createRequest(String groupId) {
+        return msgFactory.appendEntriesRequest()
+                .committedIndex(0)
+                .groupId(groupId)
+                .peerId(PEER_ID)
+                .serverId(SERVER_ID)
+                .prevLogIndex(0)
+                .term(0)
+                .prevLogTerm(0)
+                .build();
+    }
+
+    /**
+     * Context that records the responses sent to the coalesced request and the ones sent separately.
+     */
+    private static class RecordingRpcContext extends MockAsyncContext {
+        private final List<Object> responses = new CopyOnWriteArrayList<>();
+
+        private final List<Object> asyncResponses = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void sendResponse(Object responseObject) {
+            responses.add(responseObject);
+        }
+
+        @Override
+        public void sendResponseAsync(Object responseObj) {
+            asyncResponses.add(responseObj);
+        }
+    }
+}
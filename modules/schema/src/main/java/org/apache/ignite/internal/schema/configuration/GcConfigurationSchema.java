@@ -37,6 +37,15 @@ public class GcConfigurationSchema {
     @Value(hasDefault = true)
     public int batchSize = 5;
 
+    /**
+     * The maximal number of entries in the storage to be garbage collected in a single batch while there's a garbage backlog. Batches
+     * of a storage grow from {@link #batchSize} up to this value while garbage is left and batches complete quickly, and shrink back
+     * when they take long enough to slow down concurrent writes. Values not greater than {@link #batchSize} disable the adaptation.
+     */
+    @Range(min = 0)
+    @Value(hasDefault = true)
+    public int maxBatchSize = 100;
+
     /** Low watermark configuration. */
     @ConfigValue
     public LowWatermarkConfigurationSchema lowWatermark;
@@ -28,4 +28,11 @@ public class StatisticsAutoRefreshConfigurationSchema {
     @Value(hasDefault = true)
     @Range(min = 1)
     public final int staleRowsCheckIntervalSeconds = 60;
+
+    /**
+     * Whether column statistics (number of distinct values, fraction of nulls and histograms) are collected automatically for tables
+     * whose size has changed significantly since the last collection. Collection reads the whole table, so it is disabled by default.
+     */
+    @Value(hasDefault = true)
+    public final boolean analyzeStaleTables = false;
 }
@@ -99,10 +99,13 @@ import org.apache.ignite.internal.sql.engine.schema.SqlSchemaManager;
 import org.apache.ignite.internal.sql.engine.schema.SqlSchemaManagerImpl;
 import org.apache.ignite.internal.sql.engine.sql.ParsedResult;
 import org.apache.ignite.internal.sql.engine.sql.ParserServiceImpl;
+import org.apache.ignite.internal.sql.engine.statistic.ColumnStatisticAggregatorImpl;
 import org.apache.ignite.internal.sql.engine.statistic.SqlStatisticManager;
 import org.apache.ignite.internal.sql.engine.statistic.SqlStatisticManagerImpl;
 import org.apache.ignite.internal.sql.engine.statistic.SqlStatisticUpdateManager;
+import org.apache.ignite.internal.sql.engine.statistic.SqlStatisticsViewProvider;
 import org.apache.ignite.internal.sql.engine.statistic.StatisticAggregatorImpl;
+import org.apache.ignite.internal.sql.engine.statistic.TableRowsScannerImpl;
 import org.apache.ignite.internal.sql.engine.tx.QueryTransactionContext;
 import org.apache.ignite.internal.sql.engine.tx.QueryTransactionContextImpl;
 import org.apache.ignite.internal.sql.engine.util.Commons;
@@ -167,6 +170,8 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
     private final SqlSchemaManager sqlSchemaManager;
     private final SqlStatisticUpdateManager sqlStatisticManager;
 
+    private final SqlStatisticsViewProvider statisticsViewProvider;
+
     private final FailureManager failureManager;
 
     private final SystemViewManager systemViewManager;
@@ -263,8 +268,22 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
                 lowWaterMark,
                 commonScheduler,
                 statAggregator,
-                clusterCfg.statistics().autoRefresh().staleRowsCheckIntervalSeconds()
+                clusterCfg.statistics().autoRefresh().staleRowsCheckIntervalSeconds(),
+                new ColumnStatisticAggregatorImpl(
+                        () -> logicalTopologyService.localLogicalTopology().nodes(),
+                        () -> clusterSrvc.topologyService().localMember(),
+                        clusterSrvc.messagingService(),
+                        new TableRowsScannerImpl(
+                                tableManager,
+                                placementDriver,
+                                clockService,
+                                txManager,
+                                () -> clusterSrvc.topologyService().localMember()
+                        )
+                ),
+                clusterCfg.statistics().autoRefresh().analyzeStaleTables()
         );
+        statisticsViewProvider = new SqlStatisticsViewProvider(sqlStatisticManager);
         sqlSchemaManager = new SqlSchemaManagerImpl(
                 catalogManager,
                 sqlStatisticManager,
@@ -632,7 +651,11 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
 
     @Override
     public List<SystemView<?>> systemViews() {
-        return queriesViewProvider.getViews();
+        List<SystemView<?>> views = new ArrayList<>(queriesViewProvider.getViews());
+
+        views.addAll(statisticsViewProvider.getViews());
+
+        return views;
     }
 
     @Override
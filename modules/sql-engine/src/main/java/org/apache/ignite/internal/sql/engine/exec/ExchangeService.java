@@ -58,11 +58,13 @@ public interface ExchangeService extends LifecycleAware {
      * @param exchangeId The ID of the exchange through which the data will be requested.
      * @param amountOfBatches The number of batches of data to request.
      * @param state The state to propagate to the remote node, or null if state is not changed or not required.
+     * @param filter The filter to apply to the rows on the remote node before sending them, or null if filter is not changed
+     *      or not required.
      * @return A {@link CompletableFuture future} representing the result of operation,
      *      which completes when the request message has been sent.
      */
     CompletableFuture<Void> request(String nodeName, ExecutionId executionId, long fragmentId, long exchangeId, int amountOfBatches,
-            @Nullable SharedState state);
+            @Nullable SharedState state, @Nullable RuntimeFilter filter);
 
     /**
      * Asynchronously sends an error message to the specified node.
@@ -36,12 +36,14 @@ import org.apache.ignite.internal.sql.engine.exec.rel.Outbox;
 import org.apache.ignite.internal.sql.engine.message.MessageService;
 import org.apache.ignite.internal.sql.engine.message.QueryBatchMessage;
 import org.apache.ignite.internal.sql.engine.message.QueryBatchRequestMessage;
+import org.apache.ignite.internal.sql.engine.message.RuntimeFilterMessage;
 import org.apache.ignite.internal.sql.engine.message.SharedStateMessage;
 import org.apache.ignite.internal.sql.engine.message.SqlQueryMessageGroup;
 import org.apache.ignite.internal.sql.engine.message.SqlQueryMessagesFactory;
 import org.apache.ignite.internal.util.ExceptionUtils;
 import org.apache.ignite.lang.IgniteException;
 import org.apache.ignite.lang.TraceableException;
+import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -104,7 +106,7 @@ public class ExchangeServiceImpl implements ExchangeService {
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<Void> request(String nodeName, ExecutionId executionId, long fragmentId, long exchangeId, int amountOfBatches,
-            @Nullable SharedState state) {
+            @Nullable SharedState state, @Nullable RuntimeFilter filter) {
         return messageService.send(
                 nodeName,
                 FACTORY.queryBatchRequestMessage()
@@ -114,6 +116,7 @@ public class ExchangeServiceImpl implements ExchangeService {
                         .exchangeId(exchangeId)
                         .amountOfBatches(amountOfBatches)
                         .sharedStateMessage(SharedStateMessageConverter.toMessage(state))
+                        .runtimeFilterMessage(toMessage(filter))
                         .build()
         );
     }
@@ -156,11 +159,12 @@ public class ExchangeServiceImpl implements ExchangeService {
             try {
                 SharedStateMessage sharedStateMessage = msg.sharedStateMessage();
                 SharedState state = SharedStateMessageConverter.fromMessage(sharedStateMessage);
+                RuntimeFilter filter = fromMessage(msg.runtimeFilterMessage());
 
                 if (state != null) {
-                    outbox.onRewindRequest(node.name(), state, msg.amountOfBatches());
+                    outbox.onRewindRequest(node.name(), state, msg.amountOfBatches(), filter);
                 } else {
-                    outbox.onRequest(node.name(), msg.amountOfBatches());
+                    outbox.onRequest(node.name(), msg.amountOfBatches(), filter);
                 }
             } catch (Throwable e) {
                 Throwable toUse = convertEvaluationException(e);
@@ -202,6 +206,28 @@ public class ExchangeServiceImpl implements ExchangeService {
         }
     }
 
+    @Contract("null -> null; !null -> !null")
+    private static @Nullable RuntimeFilterMessage toMessage(@Nullable RuntimeFilter filter) {
+        if (filter == null) {
+            return null;
+        }
+
+        return FACTORY.runtimeFilterMessage()
+                .keys(filter.keys())
+                .bits(filter.bits())
+                .hashFunctions(filter.hashFunctions())
+                .build();
+    }
+
+    @Contract("null -> null; !null -> !null")
+    private static @Nullable RuntimeFilter fromMessage(@Nullable RuntimeFilterMessage msg) {
+        if (msg == null) {
+            return null;
+        }
+
+        return new RuntimeFilter(msg.keys(), msg.bits(), msg.hashFunctions());
+    }
+
     private static Throwable convertEvaluationException(Throwable e) {
         if (e instanceof ExpressionEvaluationException) {
             return SqlExceptionMapperUtil.mapToPublicSqlException(e);
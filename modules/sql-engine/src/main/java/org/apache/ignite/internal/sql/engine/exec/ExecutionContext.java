@@ -74,6 +74,8 @@ public class ExecutionContext<RowT> implements SqlEvaluationContext<RowT> {
 
     private final int inBufSize;
 
+    private final ExecutionMemoryTracker memoryTracker;
+
     private final QueryTaskExecutor executor;
 
     private final ExecutionId executionId;
@@ -131,6 +133,7 @@ public class ExecutionContext<RowT> implements SqlEvaluationContext<RowT> {
      * @param txAttributes Transaction attributes.
      * @param timeZoneId Session time-zone ID.
      * @param inBufSize Default execution nodes' internal buffer size. Negative value means default value.
+     * @param memoryQuota Memory quota in bytes of the materializing execution nodes. Zero or negative value means no limit.
      * @param clock The clock to use to get the system time.
      * @param username Authenticated user name or {@code null} for unknown user.
      * @param topologyVersion Topology version the query was mapped on.
@@ -149,6 +152,7 @@ public class ExecutionContext<RowT> implements SqlEvaluationContext<RowT> {
             TxAttributes txAttributes,
             ZoneId timeZoneId,
             int inBufSize,
+            long memoryQuota,
             Clock clock,
             @Nullable String username,
             @Nullable Long topologyVersion
@@ -166,6 +170,7 @@ public class ExecutionContext<RowT> implements SqlEvaluationContext<RowT> {
         this.txAttributes = txAttributes;
         this.timeZoneId = timeZoneId;
         this.inBufSize = inBufSize < 0 ? Commons.IN_BUFFER_SIZE : inBufSize;
+        this.memoryTracker = new ExecutionMemoryTracker(memoryQuota);
         this.currentUser = username;
         this.topologyVersion = topologyVersion;
 
@@ -279,6 +284,13 @@ public class ExecutionContext<RowT> implements SqlEvaluationContext<RowT> {
         return inBufSize;
     }
 
+    /**
+     * Gets tracker of the memory consumed by the materializing execution nodes of the fragment.
+     */
+    public ExecutionMemoryTracker memoryTracker() {
+        return memoryTracker;
+    }
+
     /** {@inheritDoc} */
     @Override
     public SchemaPlus getRootSchema() {
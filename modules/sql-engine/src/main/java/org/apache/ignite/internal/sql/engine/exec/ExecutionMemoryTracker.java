@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec;
+
+import static org.apache.ignite.internal.lang.IgniteStringFormatter.format;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.internal.lang.IgniteSystemProperties;
+import org.apache.ignite.internal.sql.engine.api.expressions.RowAccessor;
+import org.apache.ignite.lang.ErrorGroups.Sql;
+import org.apache.ignite.sql.SqlException;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Keeps track of the memory consumed by the materializing execution nodes (sort, hash aggregate, hash join) of a query fragment.
+ *
+ * <p>The memory is accounted by an estimation of the size of the rows held by the nodes, thus the quota is a soft limit. Nodes
+ * that are able to spill their state to disk use {@link #tryReserve(long)} and move the rows to a {@link SpillFile} once the quota
+ * is exhausted, the rest of the nodes use {@link #reserve(long)} and fail the query.
+ */
+public class ExecutionMemoryTracker {
+    /**
+     * Memory quota in bytes of a single query fragment executed on the node. Zero or negative value means there is no limit.
+     */
+    public static final long FRAGMENT_MEMORY_QUOTA = IgniteSystemProperties.getLong("IGNITE_SQL_FRAGMENT_MEMORY_QUOTA", 0L);
+
+    /** Estimated overhead of a row object itself. */
+    private static final int ROW_OVERHEAD = 16;
+
+    /** Estimated size of a field reference together with the header of the object it points to. */
+    private static final int FIELD_OVERHEAD = 24;
+
+    private final long quota;
+
+    private final AtomicLong reserved = new AtomicLong();
+
+    /**
+     * Constructor.
+     *
+     * @param quota Memory quota in bytes. Zero or negative value means there is no limit.
+     */
+    public ExecutionMemoryTracker(long quota) {
+        this.quota = quota;
+    }
+
+    /** Returns {@code true} if the memory consumption is limited. */
+    public boolean limited() {
+        return quota > 0;
+    }
+
+    /** Returns memory quota in bytes, or non-positive value if there is no limit. */
+    public long quota() {
+        return quota;
+    }
+
+    /** Returns amount of the memory in bytes reserved at the moment. */
+    public long reserved() {
+        return reserved.get();
+    }
+
+    /**
+     * Tries to reserve the given amount of memory.
+     *
+     * @param bytes Amount of memory in bytes.
+     * @return {@code true} if the memory has been reserved, {@code false} if the reservation would exceed the quota.
+     */
+    public boolean tryReserve(long bytes) {
+        assert bytes >= 0 : bytes;
+
+        if (!limited()) {
+            reserved.addAndGet(bytes);
+
+            return true;
+        }
+
+        while (true) {
+            long current = reserved.get();
+
+            if (current + bytes > quota) {
+                return false;
+            }
+
+            if (reserved.compareAndSet(current, current + bytes)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Reserves the given amount of memory.
+     *
+     * @param bytes Amount of memory in bytes.
+     * @throws SqlException If the reservation would exceed the quota.
+     */
+    public void reserve(long bytes) {
+        if (!tryReserve(bytes)) {
+            throw new SqlException(Sql.RUNTIME_ERR, format(
+                    "Query fragment memory quota exceeded [quota={}, reserved={}, requested={}]",
+                    quota, reserved.get(), bytes
+            ));
+        }
+    }
+
+    /**
+     * Releases previously reserved memory.
+     *
+     * @param bytes Amount of memory in bytes.
+     */
+    public void release(long bytes) {
+        assert bytes >= 0 : bytes;
+
+        if (bytes > 0) {
+            long res = reserved.addAndGet(-bytes);
+
+            assert res >= 0 : res;
+        }
+    }
+
+    /**
+     * Estimates the amount of heap memory occupied by the given row.
+     *
+     * @param accessor Row accessor.
+     * @param row Row to estimate.
+     * @return Estimated size of the row in bytes.
+     */
+    public static <RowT> long estimateSize(RowAccessor<RowT> accessor, RowT row) {
+        int cols = accessor.columnsCount(row);
+
+        long size = ROW_OVERHEAD;
+
+        for (int i = 0; i < cols; i++) {
+            size += estimateSize(accessor.get(i, row));
+        }
+
+        return size;
+    }
+
+    /**
+     * Estimates the amount of heap memory occupied by the given value.
+     *
+     * @param val Value to estimate.
+     * @return Estimated size of the value in bytes.
+     */
+    public static long estimateSize(@Nullable Object val) {
+        if (val == null) {
+            return Long.BYTES;
+        } else if (val instanceof String) {
+            return FIELD_OVERHEAD + 2L * ((String) val).length();
+        } else if (val instanceof byte[]) {
+            return FIELD_OVERHEAD + ((byte[]) val).length;
+        } else if (val instanceof BigDecimal) {
+            return 2L * FIELD_OVERHEAD + ((BigDecimal) val).unscaledValue().bitLength() / Byte.SIZE;
+        } else {
+            return FIELD_OVERHEAD;
+        }
+    }
+}
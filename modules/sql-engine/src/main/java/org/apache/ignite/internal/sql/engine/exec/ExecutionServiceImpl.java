@@ -511,6 +511,7 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
                 TxAttributes.dummy(),
                 operationContext.timeZoneId(),
                 -1,
+                ExecutionMemoryTracker.FRAGMENT_MEMORY_QUOTA,
                 Clock.systemUTC(),
                 operationContext.userName(),
                 // ExecutablePlan use no mapping.
@@ -1103,6 +1104,7 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
                     txAttributes,
                     ctx.timeZoneId(),
                     -1,
+                    ExecutionMemoryTracker.FRAGMENT_MEMORY_QUOTA,
                     Clock.systemUTC(),
                     ctx.userName(),
                     topologyVersion
@@ -340,13 +340,19 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
             nonEquiCondition = (left, right) -> nonEquiPredicate.test(ctx, left, right);
         }
 
-        Node<RowT> node = HashJoinNode.create(ctx, joinProjection, leftType, rightType, joinType, rel.analyzeCondition(), nonEquiCondition);
+        HashJoinNode<RowT> node = HashJoinNode.create(
+                ctx, joinProjection, leftType, rightType, joinType, rel.analyzeCondition(), nonEquiCondition
+        );
 
         Node<RowT> leftInput = visit(rel.getLeft());
         Node<RowT> rightInput = visit(rel.getRight());
 
         node.register(asList(leftInput, rightInput));
 
+        if (leftInput instanceof Inbox && Commons.RUNTIME_FILTER_MAX_KEYS > 0) {
+            node.runtimeFilterTarget((Inbox<RowT>) leftInput);
+        }
+
         return node;
     }
 
@@ -673,11 +679,13 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
         long fetch = rel.fetch == null ? -1 : validateAndGetFetchOffsetParams(rel.fetch, "fetch");
 
         SqlComparator sqlComparator = expressionFactory.comparator(collation);
+        RowFactory<RowT> rowFactory = ctx.rowFactoryFactory().create(convertStructuredType(rel.getRowType()));
         SortNode<RowT> node = new SortNode<>(
                 ctx,
                 (r1, r2) -> sqlComparator.compare(ctx, r1, r2),
                 offset,
-                fetch
+                fetch,
+                rowFactory
         );
 
         Node<RowT> input = visit(rel.getInput());
@@ -864,8 +872,11 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
         }
 
         RowFactory<RowT> rowFactory = ctx.rowFactoryFactory().create(convertStructuredType(rowType));
+        RowFactory<RowT> inputRowFactory = ctx.rowFactoryFactory().create(convertStructuredType(rel.getInput().getRowType()));
 
-        HashAggregateNode<RowT> node = new HashAggregateNode<>(ctx, type, rel.getGroupSets(), accumulators, rowFactory);
+        HashAggregateNode<RowT> node = new HashAggregateNode<>(
+                ctx, type, rel.getGroupSets(), accumulators, rowFactory, inputRowFactory
+        );
 
         Node<RowT> input = visit(rel.getInput());
 
@@ -892,8 +903,11 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
         }
 
         RowFactory<RowT> rowFactory = ctx.rowFactoryFactory().create(convertStructuredType(rowType));
+        RowFactory<RowT> inputRowFactory = ctx.rowFactoryFactory().create(convertStructuredType(rel.getInput().getRowType()));
 
-        HashAggregateNode<RowT> node = new HashAggregateNode<>(ctx, type, rel.getGroupSets(), accumulators, rowFactory);
+        HashAggregateNode<RowT> node = new HashAggregateNode<>(
+                ctx, type, rel.getGroupSets(), accumulators, rowFactory, inputRowFactory
+        );
 
         Node<RowT> input = visit(rel.getInput());
 
@@ -919,8 +933,11 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
         }
 
         RowFactory<RowT> rowFactory = ctx.rowFactoryFactory().create(convertStructuredType(rowType));
+        RowFactory<RowT> inputRowFactory = ctx.rowFactoryFactory().create(convertStructuredType(rel.getInput().getRowType()));
 
-        HashAggregateNode<RowT> node = new HashAggregateNode<>(ctx, type, rel.getGroupSets(), accumulators, rowFactory);
+        HashAggregateNode<RowT> node = new HashAggregateNode<>(
+                ctx, type, rel.getGroupSets(), accumulators, rowFactory, inputRowFactory
+        );
 
         Node<RowT> input = visit(rel.getInput());
 
@@ -0,0 +1,241 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.UUID;
+import org.apache.calcite.avatica.util.ByteString;
+import org.apache.ignite.internal.tostring.S;
+
+/**
+ * Bloom filter over the join keys of the build side of a hash join.
+ *
+ * <p>The filter is sent to the fragments producing the probe side of the join, which use it to drop the rows that definitely have no
+ * match before they are sent over the network. The filter may give false positives, but never false negatives: every row with a key
+ * that has been {@link #add(RowHandler, Object, int[]) added} to the filter passes the {@link #test(RowHandler, Object) test}.
+ *
+ * <p>Keys are hashed in a way that doesn't depend on the JVM the filter is used in. Rows with key values of unsupported types always
+ * pass the test.
+ */
+public final class RuntimeFilter {
+    /** Number of bits per expected key. Gives about 1% of false positives with {@link #HASH_FUNCTIONS} hash functions. */
+    private static final int BITS_PER_KEY = 10;
+
+    private static final int HASH_FUNCTIONS = 7;
+
+    /** Positions of the key columns in the rows being tested. */
+    private final int[] keys;
+
+    private final long[] bits;
+
+    private final int hashFunctions;
+
+    /**
+     * Constructor.
+     *
+     * @param keys Positions of the key columns in the rows being tested.
+     * @param bits Bits of the filter.
+     * @param hashFunctions Number of hash functions.
+     */
+    public RuntimeFilter(int[] keys, long[] bits, int hashFunctions) {
+        assert keys.length > 0;
+        assert bits.length > 0;
+        assert hashFunctions > 0 : hashFunctions;
+
+        this.keys = keys;
+        this.bits = bits;
+        this.hashFunctions = hashFunctions;
+    }
+
+    /**
+     * Creates an empty filter.
+     *
+     * @param keys Positions of the key columns in the rows being tested.
+     * @param expectedKeys Expected number of distinct keys to be added.
+     * @return Empty filter.
+     */
+    public static RuntimeFilter create(int[] keys, int expectedKeys) {
+        long bitsCount = Math.max(Long.SIZE, (long) expectedKeys * BITS_PER_KEY);
+
+        return new RuntimeFilter(keys, new long[(int) ((bitsCount + Long.SIZE - 1) / Long.SIZE)], HASH_FUNCTIONS);
+    }
+
+    /** Returns positions of the key columns in the rows being tested. */
+    public int[] keys() {
+        return keys;
+    }
+
+    /** Returns bits of the filter. */
+    public long[] bits() {
+        return bits;
+    }
+
+    /** Returns number of hash functions. */
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+
+    /**
+     * Adds the key of the given row to the filter. Keys containing {@code null} are ignored, since they never match.
+     *
+     * @param handler Row handler.
+     * @param row Row to add key of.
+     * @param positions Positions of the key columns in the given row.
+     * @return {@code false} if the key contains value of unsupported type, thus the filter can't be used.
+     */
+    public <RowT> boolean add(RowHandler<RowT> handler, RowT row, int[] positions) {
+        assert positions.length == keys.length;
+
+        long hash = 0;
+
+        for (int pos : positions) {
+            Object value = handler.get(pos, row);
+
+            if (value == null) {
+                return true;
+            }
+
+            if (!supported(value)) {
+                return false;
+            }
+
+            hash = 31 * hash + valueHash(value);
+        }
+
+        long mixed = mix(hash);
+
+        for (int i = 1; i <= hashFunctions; i++) {
+            long bit = bitIndex(mixed, i);
+
+            bits[(int) (bit >>> 6)] |= 1L << bit;
+        }
+
+        return true;
+    }
+
+    /**
+     * Tests whether the row may have a match.
+     *
+     * @param handler Row handler.
+     * @param row Row to test.
+     * @return {@code false} if the row definitely has no match, {@code true} otherwise.
+     */
+    public <RowT> boolean test(RowHandler<RowT> handler, RowT row) {
+        long hash = 0;
+
+        for (int key : keys) {
+            Object value = handler.get(key, row);
+
+            if (value == null) {
+                return false;
+            }
+
+            if (!supported(value)) {
+                return true;
+            }
+
+            hash = 31 * hash + valueHash(value);
+        }
+
+        long mixed = mix(hash);
+
+        for (int i = 1; i <= hashFunctions; i++) {
+            long bit = bitIndex(mixed, i);
+
+            if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /** Combines two halves of the hash to get index of the bit for the i-th hash function. */
+    private long bitIndex(long hash, int i) {
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+
+        return ((hash1 + i * hash2) & Integer.MAX_VALUE) % ((long) bits.length * Long.SIZE);
+    }
+
+    private static boolean supported(Object value) {
+        return value instanceof Integer
+                || value instanceof Long
+                || value instanceof Short
+                || value instanceof Byte
+                || value instanceof Double
+                || value instanceof Float
+                || value instanceof BigDecimal
+                || value instanceof String
+                || value instanceof Boolean
+                || value instanceof UUID
+                || value instanceof LocalDate
+                || value instanceof LocalTime
+                || value instanceof LocalDateTime
+                || value instanceof Instant
+                || value instanceof ByteString
+                || value instanceof byte[];
+    }
+
+    /**
+     * Computes hash of the value. Values that may become equal after being serialized and read on the other side (like decimals with
+     * different scale) have the same hash.
+     */
+    private static int valueHash(Object value) {
+        if (value instanceof Double || value instanceof Float) {
+            double val = ((Number) value).doubleValue();
+
+            // Collapses positive and negative zeroes.
+            return Double.hashCode(val == 0.0d ? 0.0d : val);
+        } else if (value instanceof BigDecimal) {
+            BigDecimal val = (BigDecimal) value;
+
+            return val.signum() == 0 ? 0 : val.stripTrailingZeros().hashCode();
+        } else if (value instanceof Number) {
+            return Long.hashCode(((Number) value).longValue());
+        } else if (value instanceof ByteString) {
+            return Arrays.hashCode(((ByteString) value).getBytes());
+        } else if (value instanceof byte[]) {
+            return Arrays.hashCode((byte[]) value);
+        }
+
+        return value.hashCode();
+    }
+
+    /** Finalization step of MurmurHash3 to spread the bits of the hash over both halves of the result. */
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb93fe53e8b2bL;
+        hash ^= hash >>> 33;
+
+        return hash;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return S.toString(RuntimeFilter.class, this, "keys", Arrays.toString(keys), "bitsCount", (long) bits.length * Long.SIZE);
+    }
+}
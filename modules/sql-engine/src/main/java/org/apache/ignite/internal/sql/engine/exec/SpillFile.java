@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import org.apache.ignite.internal.binarytuple.BinaryTuple;
+import org.apache.ignite.internal.lang.IgniteSystemProperties;
+import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory;
+import org.apache.ignite.internal.sql.engine.util.Commons;
+import org.apache.ignite.lang.ErrorGroups.Sql;
+import org.apache.ignite.sql.SqlException;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Temporary file holding rows spilled to disk by an execution node which state does not fit into
+ * {@link ExecutionMemoryTracker memory quota}.
+ *
+ * <p>Rows are stored in the {@link BinaryTuple binary tuple} format, the same one is used to send rows over the network. The file
+ * is written sequentially and then read sequentially once via {@link #read()}; it is deleted on {@link #close()}.
+ *
+ * <p>The file is not thread-safe and must be used from the thread executing the owning query fragment.
+ */
+public class SpillFile<RowT> implements AutoCloseable {
+    /** Directory to create spill files in. Defaults to the directory for temporary files. */
+    public static final String SPILL_DIRECTORY = IgniteSystemProperties.getString(
+            "IGNITE_SQL_SPILL_DIRECTORY", System.getProperty("java.io.tmpdir"));
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final RowHandler<RowT> handler;
+
+    private final RowFactory<RowT> rowFactory;
+
+    private @Nullable Path path;
+
+    private @Nullable DataOutputStream out;
+
+    private @Nullable DataInputStream in;
+
+    private long rowsCount;
+
+    /**
+     * Constructor.
+     *
+     * @param handler Row handler to serialize rows with.
+     * @param rowFactory Row factory to restore rows with.
+     */
+    public SpillFile(RowHandler<RowT> handler, RowFactory<RowT> rowFactory) {
+        this.handler = handler;
+        this.rowFactory = rowFactory;
+    }
+
+    /** Returns number of rows written to the file. */
+    public long rowsCount() {
+        return rowsCount;
+    }
+
+    /**
+     * Appends a row to the file.
+     *
+     * @param row Row to append.
+     */
+    public void write(RowT row) {
+        assert in == null : "Spill file is already being read";
+
+        try {
+            if (out == null) {
+                path = Files.createTempFile(Paths.get(SPILL_DIRECTORY), "ignite-sql-spill-", ".bin");
+                out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE));
+            }
+
+            BinaryTuple tuple = handler.toBinaryTuple(row);
+            ByteBuffer buf = tuple.byteBuffer();
+
+            out.writeInt(tuple.elementCount());
+            out.writeInt(buf.remaining());
+
+            if (buf.hasArray()) {
+                out.write(buf.array(), buf.arrayOffset() + buf.position(), buf.remaining());
+            } else {
+                byte[] bytes = new byte[buf.remaining()];
+
+                buf.get(bytes);
+                out.write(bytes);
+            }
+
+            rowsCount++;
+        } catch (IOException e) {
+            throw new SqlException(Sql.RUNTIME_ERR, "Failed to spill rows to disk [path=" + path + ']', e);
+        }
+    }
+
+    /**
+     * Finishes writing and reads the next row from the file.
+     *
+     * @return Next row, or {@code null} if all the rows have been read.
+     */
+    public @Nullable RowT read() {
+        try {
+            if (in == null) {
+                if (out == null) {
+                    return null;
+                }
+
+                out.close();
+                out = null;
+
+                in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE));
+            }
+
+            int elementCount;
+
+            try {
+                elementCount = in.readInt();
+            } catch (EOFException ignored) {
+                return null;
+            }
+
+            byte[] bytes = new byte[in.readInt()];
+
+            in.readFully(bytes);
+
+            return rowFactory.create(new BinaryTuple(elementCount, bytes));
+        } catch (IOException e) {
+            throw new SqlException(Sql.RUNTIME_ERR, "Failed to read spilled rows from disk [path=" + path + ']', e);
+        }
+    }
+
+    /** Closes the file and deletes it from the disk. */
+    @Override
+    public void close() {
+        Commons.closeQuiet(out);
+        Commons.closeQuiet(in);
+
+        out = null;
+        in = null;
+
+        if (path != null) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException ignored) {
+                // No-op.
+            }
+
+            path = null;
+        }
+
+        rowsCount = 0;
+    }
+}
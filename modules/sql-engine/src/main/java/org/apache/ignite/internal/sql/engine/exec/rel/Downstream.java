@@ -17,6 +17,8 @@
 
 package org.apache.ignite.internal.sql.engine.exec.rel;
 
+import java.util.List;
+
 /**
  * Represents an abstract data consumer.
  *
@@ -31,6 +33,21 @@ public interface Downstream<RowT> {
      */
     void push(RowT row) throws Exception;
 
+    /**
+     * Pushes a batch of rows to consumer.
+     *
+     * <p>The batch must not contain more rows than were requested. Consumers may override this method to process the whole batch
+     * at once, avoiding the per-row overhead of {@link #push(Object)}. The list is reused by the producer for the next batch, so a
+     * consumer may modify it during the call, but must not keep a reference to it after the call.
+     *
+     * @param rows Data rows.
+     */
+    default void pushBatch(List<RowT> rows) throws Exception {
+        for (RowT row : rows) {
+            push(row);
+        }
+    }
+
     /**
      * Signals that data is over.
      */
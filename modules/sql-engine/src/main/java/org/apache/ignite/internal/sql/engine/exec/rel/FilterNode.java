@@ -20,7 +20,9 @@ package org.apache.ignite.internal.sql.engine.exec.rel;
 import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
+import java.util.List;
 import java.util.function.Predicate;
 import org.apache.ignite.internal.lang.IgniteStringBuilder;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
@@ -40,6 +42,9 @@ public class FilterNode<RowT> extends AbstractNode<RowT> implements SingleNode<R
 
     private boolean inLoop;
 
+    /** Reused list of the rows pushed downstream at once. */
+    private final List<RowT> batch = new ArrayList<>();
+
     // Metrics
     private long filteredRows;
 
@@ -90,6 +95,27 @@ public class FilterNode<RowT> extends AbstractNode<RowT> implements SingleNode<R
         filter();
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void pushBatch(List<RowT> rows) throws Exception {
+        assert downstream() != null;
+        assert waiting >= rows.size();
+
+        onRowsReceived(rows.size());
+
+        waiting -= rows.size();
+
+        for (RowT row : rows) {
+            if (pred.test(row)) {
+                inBuf.add(row);
+            } else {
+                onRowFiltered();
+            }
+        }
+
+        filter();
+    }
+
     /** {@inheritDoc} */
     @Override
     public void end() throws Exception {
@@ -124,15 +150,27 @@ public class FilterNode<RowT> extends AbstractNode<RowT> implements SingleNode<R
         try {
             int processed = 0;
             while (requested > 0 && !inBuf.isEmpty()) {
-                requested--;
-                downstream().push(inBuf.remove());
-
-                if (processed++ >= inBufSize) {
+                if (processed >= inBufSize) {
                     // Allow others to do their job.
                     execute(this::filter);
 
                     break;
                 }
+
+                int batchSize = Math.min(Math.min(requested, inBuf.size()), inBufSize - processed);
+
+                for (int i = 0; i < batchSize; i++) {
+                    batch.add(inBuf.remove());
+                }
+
+                requested -= batchSize;
+                processed += batchSize;
+
+                try {
+                    downstream().pushBatch(batch);
+                } finally {
+                    batch.clear();
+                }
             }
         } finally {
             inLoop = false;
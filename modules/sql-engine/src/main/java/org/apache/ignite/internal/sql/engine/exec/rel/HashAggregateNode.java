@@ -34,22 +34,48 @@ import org.apache.calcite.util.ImmutableBitSet;
 import org.apache.ignite.internal.lang.IgniteStringBuilder;
 import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionMemoryTracker;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.SpillFile;
 import org.apache.ignite.internal.sql.engine.exec.exp.agg.AccumulatorWrapper;
 import org.apache.ignite.internal.sql.engine.exec.exp.agg.AccumulatorsState;
 import org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateRow;
 import org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateType;
 import org.apache.ignite.internal.sql.engine.exec.exp.agg.GroupKey;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * HashAggregateNode.
  * TODO Documentation https://issues.apache.org/jira/browse/IGNITE-15859
+ *
+ * <p>Once the {@link ExecutionMemoryTracker memory quota} of the fragment is exhausted, input rows of the groups that are not in
+ * memory yet are spilled to disk, being partitioned by hash of the group key. Such partitions are aggregated one by one after
+ * the in-memory groups are emitted; a partition that does not fit into memory either is partitioned again using other bits of
+ * the hash, up to {@link #MAX_SPILL_LEVEL} times. The memory of the emitted groups is released batch by batch, so that the nodes
+ * consuming the output can use it.
  */
 public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements SingleNode<RowT>, Downstream<RowT> {
+    /** Number of bits of the group key hash used to choose a spill partition. */
+    private static final int SPILL_PARTITION_BITS = 3;
+
+    private static final int SPILL_PARTITIONS = 1 << SPILL_PARTITION_BITS;
+
+    /** Maximal number of times the rows can be re-partitioned, the query fails if the groups still do not fit into memory. */
+    private static final int MAX_SPILL_LEVEL = 4;
+
+    /** Estimated overhead of a group entry of the hash table. */
+    private static final int GROUP_OVERHEAD = 96;
+
+    /** Estimated size of a single accumulator state. */
+    private static final int ACCUMULATOR_SIZE = 32;
+
     private final AggregateType type;
 
     private final RowFactory<RowT> rowFactory;
 
+    /** Factory to restore spilled input rows with. {@code null} if spilling is disabled. */
+    private final @Nullable RowFactory<RowT> spillRowFactory;
+
     /** A bit set that contains fields included in all grouping sets. */
     private final ImmutableBitSet allFields;
 
@@ -71,10 +97,24 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
     public HashAggregateNode(
             ExecutionContext<RowT> ctx, AggregateType type, List<ImmutableBitSet> grpSets,
             List<AccumulatorWrapper<RowT>> accumulators, RowFactory<RowT> rowFactory) {
+        this(ctx, type, grpSets, accumulators, rowFactory, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param ctx Execution context.
+     * @param inputRowFactory Factory of the input rows, used to restore the rows spilled to disk. If {@code null}, the rows are
+     *         never spilled.
+     */
+    public HashAggregateNode(
+            ExecutionContext<RowT> ctx, AggregateType type, List<ImmutableBitSet> grpSets,
+            List<AccumulatorWrapper<RowT>> accumulators, RowFactory<RowT> rowFactory, @Nullable RowFactory<RowT> inputRowFactory) {
         super(ctx);
 
         this.type = type;
         this.rowFactory = rowFactory;
+        this.spillRowFactory = ctx.memoryTracker().limited() ? inputRowFactory : null;
 
         assert grpSets.size() <= Byte.MAX_VALUE : "Too many grouping sets";
 
@@ -132,6 +172,27 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void pushBatch(List<RowT> rows) throws Exception {
+        assert downstream() != null;
+        assert waiting >= rows.size();
+
+        onRowsReceived(rows.size());
+
+        waiting -= rows.size();
+
+        for (Grouping grouping : groupings) {
+            for (RowT row : rows) {
+                grouping.add(row);
+            }
+        }
+
+        if (waiting == 0) {
+            source().request(waiting = inBufSize);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public void end() throws Exception {
@@ -140,6 +201,10 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
 
         waiting = NOT_WAITING;
 
+        for (Grouping grouping : groupings) {
+            grouping.finishSpilling();
+        }
+
         flush();
     }
 
@@ -151,6 +216,14 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
         groupings.forEach(Grouping::reset);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void closeInternal() {
+        super.closeInternal();
+
+        groupings.forEach(Grouping::releaseResources);
+    }
+
     /** {@inheritDoc} */
     @Override
     protected Downstream<RowT> requestDownstream(int idx) {
@@ -226,6 +299,21 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
 
         private final Map<GroupKey, AggregateRow<RowT>> groups = new HashMap<>();
 
+        /** Amount of memory reserved for the groups. */
+        private long reservedMemory;
+
+        /** Group created for the empty input by {@link #init()}, no memory is reserved for it. */
+        private @Nullable AggregateRow<RowT> emptyGroup;
+
+        /** Number of times the rows being aggregated at the moment have been spilled. */
+        private int level;
+
+        /** Partitions to spill the rows of new groups to, once the memory quota is exhausted. */
+        private @Nullable SpillFile<RowT>[] spilling;
+
+        /** Spilled partitions to aggregate after the groups in memory are emitted. */
+        private final ArrayDeque<SpilledPartition<RowT>> spilled = new ArrayDeque<>();
+
         private Grouping(byte grpId, ImmutableBitSet grpFields) {
             this.grpId = grpId;
             this.grpFields = grpFields;
@@ -235,16 +323,47 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
             // Initializes aggregates for case when no any rows will be added into the aggregate to have 0 as result.
             // Doesn't do it for MAP type due to we don't want send from MAP node zero results because it looks redundant.
             if (AggregateRow.addEmptyGroup(grpFields, type)) {
-                groups.put(GroupKey.EMPTY_GRP_KEY, create());
+                emptyGroup = create();
+
+                groups.put(GroupKey.EMPTY_GRP_KEY, emptyGroup);
+            } else {
+                emptyGroup = null;
             }
         }
 
         private void reset() {
+            releaseResources();
+
             groups.clear();
 
             init();
         }
 
+        private void releaseResources() {
+            if (spilling != null) {
+                for (SpillFile<RowT> file : spilling) {
+                    if (file != null) {
+                        file.close();
+                    }
+                }
+
+                spilling = null;
+            }
+
+            spilled.forEach(p -> p.file.close());
+            spilled.clear();
+
+            level = 0;
+
+            releaseMemory();
+        }
+
+        private void releaseMemory() {
+            context().memoryTracker().release(reservedMemory);
+
+            reservedMemory = 0;
+        }
+
         private void add(RowT row) {
             RowHandler<RowT> handler = context().rowAccessor();
 
@@ -260,10 +379,113 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
 
             GroupKey grpKey = b.build();
 
-            AggregateRow<RowT> aggRow = groups.computeIfAbsent(grpKey, k -> create());
+            AggregateRow<RowT> aggRow = groups.get(grpKey);
+
+            if (aggRow == null) {
+                // Once spilling is started, all the new groups are spilled even if some memory has been freed in the meantime,
+                // otherwise a group would be both in memory and in a spilled partition and would be emitted twice.
+                if (spilling != null || (spillRowFactory != null && !reserveMemory(grpKey))) {
+                    spill(grpKey, row);
+
+                    return;
+                }
+
+                aggRow = create();
+
+                groups.put(grpKey, aggRow);
+            }
+
             aggRow.update(accs, grpFields, row);
         }
 
+        /** Reserves memory for a new group. Returns {@code false} if the group doesn't fit into memory and must be spilled. */
+        private boolean reserveMemory(GroupKey grpKey) {
+            ExecutionMemoryTracker memoryTracker = context().memoryTracker();
+
+            long size = groupSize(grpKey);
+
+            if (level >= MAX_SPILL_LEVEL) {
+                // Fails the query, the rows can't be partitioned any further.
+                memoryTracker.reserve(size);
+            } else if (!memoryTracker.tryReserve(size)) {
+                return false;
+            }
+
+            reservedMemory += size;
+
+            return true;
+        }
+
+        /** Estimates the memory occupied by a group. */
+        private long groupSize(GroupKey grpKey) {
+            long size = GROUP_OVERHEAD + (long) ACCUMULATOR_SIZE * accs.size();
+
+            for (int i = 0; i < grpKey.fieldsCount(); i++) {
+                size += ExecutionMemoryTracker.estimateSize(grpKey.field(i));
+            }
+
+            return size;
+        }
+
+        private void spill(GroupKey grpKey, RowT row) {
+            assert spillRowFactory != null;
+
+            if (spilling == null) {
+                spilling = new SpillFile[SPILL_PARTITIONS];
+            }
+
+            // Every level takes the next bits of the hash, so the rows of a partition are spread over the sub-partitions.
+            int hash = Integer.rotateLeft(grpKey.hashCode() * 0x9E3779B9, level * SPILL_PARTITION_BITS);
+            int part = hash >>> (Integer.SIZE - SPILL_PARTITION_BITS);
+
+            SpillFile<RowT> file = spilling[part];
+
+            if (file == null) {
+                file = new SpillFile<>(context().rowAccessor(), spillRowFactory);
+
+                spilling[part] = file;
+            }
+
+            file.write(row);
+        }
+
+        /** Completes the partitions being spilled, so they will be aggregated after the groups in memory. */
+        private void finishSpilling() {
+            if (spilling == null) {
+                return;
+            }
+
+            // Aggregates the partitions of the deepest level first to get rid of the spill files as soon as possible.
+            for (int i = spilling.length - 1; i >= 0; i--) {
+                if (spilling[i] != null) {
+                    spilled.addFirst(new SpilledPartition<>(spilling[i], level + 1));
+                }
+            }
+
+            spilling = null;
+        }
+
+        /** Loads groups of the next spilled partition into memory. */
+        private void restoreSpilled() {
+            releaseMemory();
+
+            SpilledPartition<RowT> partition;
+
+            while (groups.isEmpty() && (partition = spilled.pollFirst()) != null) {
+                level = partition.level;
+
+                try (SpillFile<RowT> file = partition.file) {
+                    RowT row;
+
+                    while ((row = file.read()) != null) {
+                        add(row);
+                    }
+                }
+
+                finishSpilling();
+            }
+        }
+
         /**
          * Returns up to {@code cnt} rows collected by the given node group by group.
          *
@@ -271,11 +493,17 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
          * @return Actually sent rows number.
          */
         private List<RowT> getRows(int cnt) {
+            if (groups.isEmpty()) {
+                restoreSpilled();
+            }
+
             Iterator<Map.Entry<GroupKey, AggregateRow<RowT>>> it = groups.entrySet().iterator();
 
             int rowNum = Math.min(cnt, groups.size());
             List<RowT> res = new ArrayList<>(rowNum);
 
+            long emittedSize = 0;
+
             for (int i = 0; i < rowNum; i++) {
                 Map.Entry<GroupKey, AggregateRow<RowT>> entry = it.next();
 
@@ -297,6 +525,21 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
 
                 res.add(row);
                 it.remove();
+
+                if (spillRowFactory != null && aggRow != emptyGroup) {
+                    emittedSize += groupSize(grpKey);
+                }
+            }
+
+            if (groups.isEmpty()) {
+                releaseMemory();
+            } else if (emittedSize > 0) {
+                // Releases the memory of the emitted groups right away, the rest of the groups may be requested much later.
+                assert emittedSize <= reservedMemory : "emittedSize=" + emittedSize + ", reservedMemory=" + reservedMemory;
+
+                context().memoryTracker().release(emittedSize);
+
+                reservedMemory -= emittedSize;
             }
 
             return res;
@@ -318,7 +561,20 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
         }
 
         private boolean isEmpty() {
-            return groups.isEmpty();
+            return groups.isEmpty() && spilled.isEmpty();
+        }
+    }
+
+    /** Partition of the input rows spilled to disk. */
+    private static class SpilledPartition<RowT> {
+        private final SpillFile<RowT> file;
+
+        /** Number of times the rows of the partition have been spilled. */
+        private final int level;
+
+        private SpilledPartition(SpillFile<RowT> file, int level) {
+            this.file = file;
+            this.level = level;
         }
     }
 }
@@ -34,12 +34,28 @@ import org.apache.calcite.rel.core.JoinRelType;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionMemoryTracker;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.RuntimeFilter;
 import org.apache.ignite.internal.sql.engine.exec.exp.SqlJoinProjection;
+import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.type.StructNativeType;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.TestOnly;
 
-/** HashJoin implementor. */
+/**
+ * HashJoin implementor.
+ *
+ * <p>Memory occupied by the right (build) side is accounted against the {@link ExecutionMemoryTracker memory quota} of the fragment,
+ * the query fails once the quota is exceeded.
+ *
+ * <p>When the left (probe) side is read from remote fragments, joins that never emit unmatched left rows send a {@link RuntimeFilter}
+ * built over the keys of the right side to these fragments, so rows having no match are dropped before being sent over the network.
+ * The left side is not requested until the filter is sent, which delays probing by the time needed to read the right side. The filter
+ * is applied in the outbox of the remote fragment, so it saves the network transfer and the processing on this node only: the rows are
+ * still fully read and deserialized by the remote fragment. Once the right side has more keys than the filter can hold, the filter is
+ * given up and the left side is requested right away.
+ */
 public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNode<RowT> {
     private static final int INITIAL_CAPACITY = 128;
     private static final BiPredicate<?, ?> ALWAYS_TRUE = (l, r) -> true;
@@ -49,9 +65,21 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
 
     final Map<Key, TouchedCollection<RowT>> hashStore = new Object2ObjectOpenHashMap<>(INITIAL_CAPACITY);
 
+    /** Amount of memory reserved for the rows of {@link #hashStore}. */
+    private long reservedMemory;
+
     private final int[] leftJoinPositions;
     private final int[] rightJoinPositions;
 
+    /** Inbox the left side is read from, if the runtime filter should be sent to it. */
+    private @Nullable Inbox<RowT> runtimeFilterTarget;
+
+    /** Whether the runtime filter has been sent or given up, the left side is not requested before that. */
+    private boolean runtimeFilterDone;
+
+    /** Maximum number of keys of the runtime filter, the filter is given up once the right side has more keys. */
+    private int runtimeFilterMaxKeys = Commons.RUNTIME_FILTER_MAX_KEYS;
+
     Iterator<RowT> rightIt = Collections.emptyIterator();
 
     final BiPredicate<RowT, RowT> nonEquiCondition;
@@ -83,12 +111,50 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
     @Override
     protected void rewindInternal() {
         rightIt = Collections.emptyIterator();
+        runtimeFilterDone = false;
 
-        hashStore.clear();
+        clearHashStore();
 
         super.rewindInternal();
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void closeInternal() {
+        super.closeInternal();
+
+        clearHashStore();
+    }
+
+    private void clearHashStore() {
+        hashStore.clear();
+
+        context().memoryTracker().release(reservedMemory);
+
+        reservedMemory = 0;
+    }
+
+    /**
+     * Sets the inbox the left side is read from. Once the right side is materialized, the filter built over its keys is sent to the
+     * fragments feeding the inbox. The left side is not requested until then, unless the right side has more keys than the filter can
+     * hold.
+     *
+     * <p>Ignored by the joins which emit unmatched rows of the left side.
+     *
+     * @param inbox Inbox which is the left input of this node.
+     */
+    public void runtimeFilterTarget(Inbox<RowT> inbox) {
+        if (!emitsUnmatchedLeftRows()) {
+            runtimeFilterTarget = inbox;
+        }
+    }
+
+    /** Overrides the maximum number of keys of the runtime filter. */
+    @TestOnly
+    void runtimeFilterMaxKeys(int maxKeys) {
+        runtimeFilterMaxKeys = maxKeys;
+    }
+
     /** Supplied algorithm implementation. */
     public static <RowT> HashJoinNode<RowT> create(ExecutionContext<RowT> ctx, @Nullable SqlJoinProjection projection,
             RelDataType leftRowType, RelDataType rightRowType, JoinRelType joinType, JoinInfo joinInfo,
@@ -165,6 +231,12 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
             this.outputProjection = outputProjection;
         }
 
+        /** {@inheritDoc} */
+        @Override
+        protected boolean emitsUnmatchedLeftRows() {
+            return false;
+        }
+
         @Override
         protected void pushLeft(RowT row) throws Exception {
             // Prevent fetching left if right is empty.
@@ -403,6 +475,12 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
             super.rewindInternal();
         }
 
+        /** {@inheritDoc} */
+        @Override
+        protected boolean emitsUnmatchedLeftRows() {
+            return false;
+        }
+
         @Override
         protected void pushLeft(RowT row) throws Exception {
             // Prevent fetching left if right is empty.
@@ -681,6 +759,12 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
             super(ctx, joinInfo, nonEquiCondition);
         }
 
+        /** {@inheritDoc} */
+        @Override
+        protected boolean emitsUnmatchedLeftRows() {
+            return false;
+        }
+
         @Override
         protected void pushLeft(RowT row) throws Exception {
             // Prevent fetching left if right is empty.
@@ -894,8 +978,22 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
         // No need to store the row in hashStore, if it contains NULL,
         // and we are not going to emit right part alone (like in RIGHT and FULL OUTER joins)
         if (keepRowsWithNull() || key != NULL_KEY) {
+            ExecutionMemoryTracker memoryTracker = context().memoryTracker();
+
+            if (memoryTracker.limited()) {
+                long size = ExecutionMemoryTracker.estimateSize(context().rowAccessor(), row);
+
+                memoryTracker.reserve(size);
+
+                reservedMemory += size;
+            }
+
             TouchedCollection<RowT> raw = hashStore.computeIfAbsent(key, k -> new TouchedCollection<>());
             raw.add(row);
+
+            if (runtimeFilterTarget != null && !runtimeFilterDone && hashStore.size() > runtimeFilterMaxKeys) {
+                giveUpRuntimeFilter();
+            }
         }
 
         if (waitingRight == 0) {
@@ -968,18 +1066,84 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
             rightSource().request(waitingRight = inBufSize);
         }
 
-        if (waitingLeft == 0 && leftInBuf.isEmpty()) {
+        if (waitingLeft == 0 && leftInBuf.isEmpty() && readyToProbe()) {
             leftSource().request(waitingLeft = inBufSize);
         }
 
         if (requested > 0 && waitingLeft == NOT_WAITING && waitingRight == NOT_WAITING && leftInBuf.isEmpty() && left == null
                 && !rightIt.hasNext()) {
             requested = 0;
-            hashStore.clear();
+            clearHashStore();
             downstream().end();
         }
     }
 
+    /**
+     * Sends the runtime filter to the target inbox as soon as the right side is materialized.
+     *
+     * @return {@code true} if the left side may be requested.
+     */
+    private boolean readyToProbe() {
+        if (runtimeFilterTarget == null || runtimeFilterDone) {
+            return true;
+        }
+
+        if (waitingRight != NOT_WAITING) {
+            return false;
+        }
+
+        RuntimeFilter filter = buildRuntimeFilter();
+
+        if (filter != null) {
+            runtimeFilterTarget.runtimeFilter(filter);
+        }
+
+        runtimeFilterDone = true;
+
+        return true;
+    }
+
+    /**
+     * Gives up the runtime filter, because the right side has more keys than the filter can hold, and starts probing without waiting
+     * for the rest of the right side.
+     */
+    private void giveUpRuntimeFilter() throws Exception {
+        runtimeFilterDone = true;
+
+        if (waitingLeft == 0 && leftInBuf.isEmpty()) {
+            leftSource().request(waitingLeft = inBufSize);
+        }
+    }
+
+    private @Nullable RuntimeFilter buildRuntimeFilter() {
+        if (hashStore.size() > runtimeFilterMaxKeys) {
+            return null;
+        }
+
+        RuntimeFilter filter = RuntimeFilter.create(leftJoinPositions, hashStore.size());
+        RowHandler<RowT> handler = context().rowAccessor();
+
+        for (Key key : hashStore.keySet()) {
+            if (key == NULL_KEY) {
+                continue;
+            }
+
+            if (!filter.add(handler, ((RowWrapper<RowT>) key).row, rightJoinPositions)) {
+                return null;
+            }
+        }
+
+        return filter;
+    }
+
+    /**
+     * Returns {@code true} if the join emits rows from the left shoulder having no match on the right shoulder, like LEFT and ANTI joins.
+     * Such joins can't filter out the left rows in advance.
+     */
+    protected boolean emitsUnmatchedLeftRows() {
+        return true;
+    }
+
     /**
      * Returns {@code true} if we need to store the row from right shoulder even if it contains NULL in any of join key position.
      *
@@ -42,6 +42,7 @@ import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory;
 import org.apache.ignite.internal.sql.engine.exec.ExchangeService;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.MailboxRegistry;
+import org.apache.ignite.internal.sql.engine.exec.RuntimeFilter;
 import org.apache.ignite.internal.sql.engine.exec.SharedState;
 import org.apache.ignite.internal.sql.engine.exec.rel.Inbox.RemoteSource.State;
 import org.apache.ignite.internal.util.ExceptionUtils;
@@ -101,7 +102,7 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
 
         Map<String, RemoteSource<RowT>> sources = new HashMap<>();
         for (String nodeName : srcNodeNames) {
-            sources.put(nodeName, new RemoteSource<>((cnt, state) -> requestBatches(nodeName, cnt, state)));
+            sources.put(nodeName, new RemoteSource<>((cnt, state, filter) -> requestBatches(nodeName, cnt, state, filter)));
         }
 
         this.perNodeBuffers = Map.copyOf(sources);
@@ -127,6 +128,18 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
         }
     }
 
+    /**
+     * Sets the filter to be propagated to all remote sources along with the next request. Remote sources apply the filter to the
+     * rows before sending them, thus the rows not passing the filter never reach this inbox.
+     *
+     * @param filter Filter to propagate.
+     */
+    public void runtimeFilter(RuntimeFilter filter) {
+        for (RemoteSource<RowT> source : perNodeBuffers.values()) {
+            source.runtimeFilterHolder = filter;
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public void closeInternal() {
@@ -379,8 +392,8 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
         }
     }
 
-    private void requestBatches(String nodeName, int cnt, @Nullable SharedState state) {
-        exchange.request(nodeName, executionId(), srcFragmentId, exchangeId, cnt, state)
+    private void requestBatches(String nodeName, int cnt, @Nullable SharedState state, @Nullable RuntimeFilter filter) {
+        exchange.request(nodeName, executionId(), srcFragmentId, exchangeId, cnt, state, filter)
                 .whenComplete((ignored, ex) -> {
                     if (ex != null) {
                         IgniteInternalException wrapperEx = ExceptionUtils.withCause(
@@ -465,7 +478,8 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
     static final class RemoteSource<RowT> {
         @FunctionalInterface
         private interface BatchRequester {
-            void request(int amountOfBatches, @Nullable SharedState state) throws IgniteInternalCheckedException;
+            void request(int amountOfBatches, @Nullable SharedState state, @Nullable RuntimeFilter filter)
+                    throws IgniteInternalCheckedException;
         }
 
         /**
@@ -546,6 +560,9 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
          */
         private @Nullable SharedState sharedStateHolder = null;
 
+        /** The filter is propagated only once with the next request message, the same way as {@link #sharedStateHolder}. */
+        private @Nullable RuntimeFilter runtimeFilterHolder = null;
+
         // Metrics
         Int2LongMap batchTimestamps = new Int2LongArrayMap(IO_BATCH_CNT);
         long rowsReceived = 0L;
@@ -566,6 +583,7 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
          */
         void reset(SharedState state) {
             sharedStateHolder = state;
+            runtimeFilterHolder = null;
             batches.clear();
             batchTimestamps.clear();
 
@@ -607,9 +625,10 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
 
                 lastRequested += countOfBatches;
 
-                batchRequester.request(countOfBatches, sharedStateHolder);
-                // shared state should be send only once until next rewind
+                batchRequester.request(countOfBatches, sharedStateHolder, runtimeFilterHolder);
+                // shared state and filter should be send only once until next rewind
                 sharedStateHolder = null;
+                runtimeFilterHolder = null;
             }
         }
 
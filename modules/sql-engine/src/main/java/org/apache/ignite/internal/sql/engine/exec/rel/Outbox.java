@@ -17,8 +17,6 @@
 
 package org.apache.ignite.internal.sql.engine.exec.rel;
 
-import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
-
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
@@ -41,6 +39,7 @@ import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionId;
 import org.apache.ignite.internal.sql.engine.exec.MailboxRegistry;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.RuntimeFilter;
 import org.apache.ignite.internal.sql.engine.exec.SharedState;
 import org.apache.ignite.internal.sql.engine.trait.Destination;
 import org.apache.ignite.internal.sql.engine.util.Commons;
@@ -113,11 +112,16 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
      *
      * @param nodeName An identifier of the demander.
      * @param amountOfBatches A count of demanded batches.
+     * @param filter A filter the rows should pass to be sent to the demander, or {@code null} if the filter is not changed.
      */
-    public void onRequest(String nodeName, int amountOfBatches) throws Exception {
+    public void onRequest(String nodeName, int amountOfBatches, @Nullable RuntimeFilter filter) throws Exception {
         checkState();
 
-        RemoteDownstream<?> downstream = nodeBuffers.get(nodeName);
+        RemoteDownstream<RowT> downstream = nodeBuffers.get(nodeName);
+
+        if (filter != null) {
+            downstream.runtimeFilter(filter, context().rowAccessor());
+        }
 
         downstream.onBatchRequested(amountOfBatches);
 
@@ -324,13 +328,20 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
     }
 
     private void flush() throws Exception {
+        RowHandler<RowT> handler = context().rowAccessor();
+
         while (!inBuf.isEmpty()) {
-            List<String> targets = dest.targets(inBuf.peek());
+            RowT row = inBuf.peek();
+            List<String> targets = dest.targets(row);
             List<RemoteDownstream<RowT>> buffers = new ArrayList<>(targets.size());
 
             for (String target : targets) {
                 RemoteDownstream<RowT> buffer = nodeBuffers.get(target);
 
+                if (!buffer.accepts(handler, row)) {
+                    continue;
+                }
+
                 if (!buffer.ready()) {
                     return;
                 }
@@ -338,9 +349,7 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
                 buffers.add(buffer);
             }
 
-            assert !nullOrEmpty(buffers);
-
-            RowT row = inBuf.remove();
+            inBuf.remove();
 
             for (RemoteDownstream<RowT> dest : buffers) {
                 dest.add(row);
@@ -383,16 +392,17 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
      * @param nodeName Requester node name.
      * @param state Shared state.
      * @param amountOfBatches Amount of batches requested.
+     * @param filter A filter the rows should pass to be sent to the requester, or {@code null} if not required.
      * @throws Exception If failed.
      */
-    public void onRewindRequest(String nodeName, SharedState state, int amountOfBatches) throws Exception {
+    public void onRewindRequest(String nodeName, SharedState state, int amountOfBatches, @Nullable RuntimeFilter filter) throws Exception {
         checkState();
 
         if (rewindQueue == null) {
             rewindQueue = new ArrayDeque<>(nodeBuffers.size());
         }
 
-        rewindQueue.offer(new RewindRequest(nodeName, state, amountOfBatches));
+        rewindQueue.offer(new RewindRequest(nodeName, state, amountOfBatches, filter));
 
         if (currentNode == null || currentNode.equals(nodeName)) {
             currentNode = null;
@@ -420,7 +430,7 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
         context().sharedState(rewind.state);
         rewind();
 
-        onRequest(currentNode, rewind.amountOfBatches);
+        onRequest(currentNode, rewind.amountOfBatches, rewind.filter);
     }
 
     @TestOnly
@@ -506,6 +516,9 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
         private @Nullable List<RowT> curr;
         private int pendingCount;
 
+        /** Filter provided by the downstream. Rows not passing the filter are not sent. */
+        private @Nullable RuntimeFilter filter;
+
         // Metrics
         long batchesRequested = 0L;
         long rowsReceived = 0L;
@@ -524,6 +537,7 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
          * <p>All collected so far rows will be truncated, all demanded batches will be considered as delivered.
          */
         void reset() {
+            filter = null;
             state = State.FILLING;
             lastSentBatchId += pendingCount;
             pendingCount = 0;
@@ -544,6 +558,29 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
             }
         }
 
+        /**
+         * Sets the filter provided by the downstream. Rows collected so far, but not yet sent, are filtered as well.
+         *
+         * @param filter Filter to apply.
+         * @param handler Row handler.
+         */
+        void runtimeFilter(RuntimeFilter filter, RowHandler<RowT> handler) {
+            this.filter = filter;
+
+            if (curr != null && (state == State.FILLING || state == State.FULL)) {
+                curr.removeIf(row -> !filter.test(handler, row));
+
+                if (curr.size() < IO_BATCH_SIZE) {
+                    state = State.FILLING;
+                }
+            }
+        }
+
+        /** Returns {@code false} if the row definitely has no use for the downstream, and thus must not be sent. */
+        boolean accepts(RowHandler<RowT> handler, RowT row) {
+            return filter == null || filter.test(handler, row);
+        }
+
         /** Returns {@code true} if this downstream is ready to accepts at least one more row. */
         boolean ready() {
             return state == State.FILLING;
@@ -626,11 +663,13 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
         final String nodeName;
         final SharedState state;
         final int amountOfBatches;
+        final @Nullable RuntimeFilter filter;
 
-        RewindRequest(String nodeName, SharedState state, int amountOfBatches) {
+        RewindRequest(String nodeName, SharedState state, int amountOfBatches, @Nullable RuntimeFilter filter) {
             this.nodeName = nodeName;
             this.state = state;
             this.amountOfBatches = amountOfBatches;
+            this.filter = filter;
         }
     }
 
@@ -19,6 +19,7 @@ package org.apache.ignite.internal.sql.engine.exec.rel;
 
 import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
 
+import java.util.List;
 import java.util.function.Function;
 import org.apache.ignite.internal.lang.IgniteStringBuilder;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
@@ -70,6 +71,21 @@ public class ProjectNode<RowT> extends AbstractNode<RowT> implements SingleNode<
         downstream().push(prj.apply(row));
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void pushBatch(List<RowT> rows) throws Exception {
+        assert downstream() != null;
+
+        onRowsReceived(rows.size());
+
+        // A consumer is allowed to modify the batch, see Downstream#pushBatch, so the rows are projected in place.
+        for (int i = 0; i < rows.size(); i++) {
+            rows.set(i, prj.apply(rows.get(i)));
+        }
+
+        downstream().pushBatch(rows);
+    }
+
     /** {@inheritDoc} */
     @Override
     public void end() throws Exception {
@@ -22,6 +22,7 @@ import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicReference;
@@ -155,6 +156,27 @@ public class RootNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void pushBatch(List<RowT> rows) throws Exception {
+        lock.lock();
+        try {
+            assert waiting >= rows.size();
+
+            onRowsReceived(rows.size());
+
+            waiting -= rows.size();
+
+            inBuff.addAll(rows);
+
+            if (inBuff.size() == inBufSize) {
+                cond.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public void end() throws Exception {
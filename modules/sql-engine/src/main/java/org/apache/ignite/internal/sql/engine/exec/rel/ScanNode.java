@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.sql.engine.exec.rel;
 
+import java.util.ArrayList;
 import java.util.List;
 import org.apache.ignite.internal.lang.IgniteStringBuilder;
 import org.apache.ignite.internal.sql.engine.QueryCancelledException;
@@ -39,6 +40,9 @@ public class ScanNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
 
     private boolean inLoop;
 
+    /** Reused list of the rows pushed downstream at once. */
+    private final List<RowT> batch = new ArrayList<>();
+
     /**
      * Constructor for a scan that returns rows from the given iterable.
      *
@@ -114,10 +118,22 @@ public class ScanNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
 
             int processed = 0;
             while (requested > 0 && inst.hasNext()) {
-                requested--;
-                downstream().push(inst.next());
+                int batchSize = Math.min(requested, inBufSize - processed);
+
+                do {
+                    batch.add(inst.next());
+                } while (batch.size() < batchSize && inst.hasNext());
+
+                requested -= batch.size();
+                processed += batch.size();
+
+                try {
+                    downstream().pushBatch(batch);
+                } finally {
+                    batch.clear();
+                }
 
-                if (++processed == inBufSize && requested > 0) {
+                if (processed == inBufSize && requested > 0) {
                     // allow others to do their job
                     this.execute(this::push);
 
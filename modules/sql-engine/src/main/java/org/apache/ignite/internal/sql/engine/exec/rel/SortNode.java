@@ -23,13 +23,22 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.PriorityQueue;
+import java.util.function.Supplier;
 import org.apache.ignite.internal.lang.IgniteStringBuilder;
+import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionMemoryTracker;
+import org.apache.ignite.internal.sql.engine.exec.SpillFile;
 import org.apache.ignite.internal.sql.engine.util.IgniteMath;
 import org.apache.ignite.internal.util.BoundedPriorityQueue;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Sort node.
+ *
+ * <p>Unbounded sort is able to spill its rows to disk once the {@link ExecutionMemoryTracker memory quota} of the fragment is
+ * exhausted: the buffered rows are written to a {@link SpillFile} as a sorted run, and all the runs are merged when the input ends.
+ * The memory of the emitted rows is released batch by batch, so that the nodes consuming the output can use it.
  */
 public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<RowT>, Downstream<RowT> {
     /** How many rows are requested by downstream. */
@@ -51,6 +60,23 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
     /** Reverse-ordered rows in case of limited sort. */
     private List<RowT> reversed;
 
+    private final Comparator<RowT> comp;
+
+    /** Factory to restore spilled rows with. {@code null} if spilling is disabled. */
+    private final @Nullable RowFactory<RowT> spillRowFactory;
+
+    /** Amount of memory reserved for the rows buffered in {@link #rows}. */
+    private long reservedMemory;
+
+    /** Amount of memory reserved for the buffered rows that have been emitted, released once per batch. */
+    private long emittedMemory;
+
+    /** Sorted runs spilled to disk. */
+    private final List<SpillFile<RowT>> runs = new ArrayList<>();
+
+    /** Heads of the sorted runs being merged. {@code null} until the merge is started. */
+    private @Nullable PriorityQueue<RunCursor<RowT>> merge;
+
     /**
      * Constructor.
      *
@@ -63,6 +89,25 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
             Comparator<RowT> comp,
             long offset,
             long fetch
+    ) {
+        this(ctx, comp, offset, fetch, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param ctx Execution context.
+     * @param comp Rows comparator.
+     * @param offset Offset.
+     * @param fetch Limit.
+     * @param rowFactory Factory of the input rows, used to restore the rows spilled to disk. If {@code null}, the rows are never
+     *         spilled.
+     */
+    public SortNode(ExecutionContext<RowT> ctx,
+            Comparator<RowT> comp,
+            long offset,
+            long fetch,
+            @Nullable RowFactory<RowT> rowFactory
     ) {
         super(ctx);
 
@@ -81,10 +126,17 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
 
         long limit = fetch == -1 ? -1 : IgniteMath.addExact(fetch, offset);
 
+        this.comp = comp == null ? (Comparator<RowT>) Comparator.naturalOrder() : comp;
+
         if (limit < 1 || limit > Integer.MAX_VALUE) {
             rows = new PriorityQueue<>(comp);
+
+            // Bounded sort holds at most limit rows, so only unbounded one needs to spill.
+            spillRowFactory = ctx.memoryTracker().limited() ? rowFactory : null;
         } else {
             rows = new BoundedPriorityQueue<>((int) limit, comp == null ? (Comparator<RowT>) Comparator.reverseOrder() : comp.reversed());
+
+            spillRowFactory = null;
         }
     }
 
@@ -107,6 +159,16 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
         if (reversed != null) {
             reversed.clear();
         }
+
+        releaseResources();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void closeInternal() {
+        super.closeInternal();
+
+        releaseResources();
     }
 
     /** {@inheritDoc} */
@@ -154,6 +216,10 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
 
         waiting--;
 
+        if (spillRowFactory != null) {
+            reserveMemory(row);
+        }
+
         rows.add(row);
 
         if (waiting == 0) {
@@ -188,6 +254,10 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
 
         inLoop = true;
         try {
+            if (merge == null && !runs.isEmpty()) {
+                startMerge();
+            }
+
             // Prepare final order (reversed).
             if (fetch > 0 && !rows.isEmpty()) {
                 if (reversed == null) {
@@ -210,10 +280,10 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
                 processed = 0;
             }
 
-            while (requested > 0 && !(reversed == null ? rows.isEmpty() : reversed.isEmpty())) {
+            while (requested > 0 && hasMoreRows()) {
                 requested--;
 
-                downstream().push(reversed == null ? rows.poll() : reversed.remove(reversed.size() - 1));
+                downstream().push(nextRow());
 
                 if (++processed >= inBufSize && requested > 0) {
                     // allow others to do their job
@@ -223,7 +293,9 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
                 }
             }
 
-            if (reversed == null ? rows.isEmpty() : reversed.isEmpty()) {
+            if (!hasMoreRows()) {
+                releaseResources();
+
                 if (requested > 0) {
                     downstream().end();
                 }
@@ -232,6 +304,144 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
             }
         } finally {
             inLoop = false;
+
+            releaseEmittedMemory();
+        }
+    }
+
+    private boolean hasMoreRows() {
+        if (merge != null) {
+            return !merge.isEmpty();
+        }
+
+        return reversed == null ? !rows.isEmpty() : !reversed.isEmpty();
+    }
+
+    private RowT nextRow() {
+        if (merge != null) {
+            RunCursor<RowT> cursor = merge.poll();
+
+            RowT row = cursor.head;
+
+            if (cursor.advance()) {
+                merge.add(cursor);
+            }
+
+            return row;
+        }
+
+        return reversed == null ? pollBuffered() : reversed.remove(reversed.size() - 1);
+    }
+
+    /** Polls the next buffered row to be emitted, the memory reserved for it is released with the rest of the batch. */
+    private @Nullable RowT pollBuffered() {
+        RowT row = rows.poll();
+
+        if (row != null && spillRowFactory != null) {
+            emittedMemory += ExecutionMemoryTracker.estimateSize(context().rowAccessor(), row);
+        }
+
+        return row;
+    }
+
+    /** Releases the memory of the emitted rows, so that the nodes consuming the output can use it. */
+    private void releaseEmittedMemory() {
+        if (emittedMemory == 0) {
+            return;
+        }
+
+        assert emittedMemory <= reservedMemory : "emittedMemory=" + emittedMemory + ", reservedMemory=" + reservedMemory;
+
+        context().memoryTracker().release(emittedMemory);
+
+        reservedMemory -= emittedMemory;
+        emittedMemory = 0;
+    }
+
+    private void reserveMemory(RowT row) {
+        ExecutionMemoryTracker memoryTracker = context().memoryTracker();
+
+        long size = ExecutionMemoryTracker.estimateSize(context().rowAccessor(), row);
+
+        if (!memoryTracker.tryReserve(size)) {
+            spillRun();
+
+            // Fails the query if there is no memory even for a single row.
+            memoryTracker.reserve(size);
+        }
+
+        reservedMemory += size;
+    }
+
+    /** Writes buffered rows to disk as a sorted run and releases the memory occupied by them. */
+    private void spillRun() {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        assert spillRowFactory != null;
+
+        SpillFile<RowT> run = new SpillFile<>(context().rowAccessor(), spillRowFactory);
+
+        runs.add(run);
+
+        RowT row;
+
+        while ((row = rows.poll()) != null) {
+            run.write(row);
+        }
+
+        context().memoryTracker().release(reservedMemory);
+
+        reservedMemory = 0;
+    }
+
+    /** Starts k-way merge of the spilled runs and the rows remaining in memory. */
+    private void startMerge() {
+        merge = new PriorityQueue<>(runs.size() + 1, (c1, c2) -> comp.compare(c1.head, c2.head));
+
+        for (SpillFile<RowT> run : runs) {
+            RunCursor<RowT> cursor = new RunCursor<>(run::read);
+
+            if (cursor.advance()) {
+                merge.add(cursor);
+            }
+        }
+
+        RunCursor<RowT> inMemory = new RunCursor<>(this::pollBuffered);
+
+        if (inMemory.advance()) {
+            merge.add(inMemory);
+        }
+    }
+
+    private void releaseResources() {
+        merge = null;
+
+        runs.forEach(SpillFile::close);
+        runs.clear();
+
+        context().memoryTracker().release(reservedMemory);
+
+        reservedMemory = 0;
+        emittedMemory = 0;
+    }
+
+    /** Cursor over a sorted run. */
+    private static class RunCursor<RowT> {
+        private final Supplier<RowT> source;
+
+        private RowT head;
+
+        RunCursor(Supplier<RowT> source) {
+            this.source = source;
+        }
+
+        /** Moves to the next row of the run. Returns {@code false} if the run is exhausted. */
+        boolean advance() {
+            head = source.get();
+
+            return head != null;
         }
     }
 }
@@ -17,6 +17,8 @@
 
 package org.apache.ignite.internal.sql.engine.exec.rel;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.Flow;
@@ -27,6 +29,8 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import org.apache.ignite.internal.lang.IgniteStringBuilder;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.util.Commons;
+import org.apache.ignite.internal.util.SubscriptionUtils;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -46,6 +50,9 @@ public abstract class StorageScanNode<RowT> extends AbstractNode<RowT> {
 
     private boolean inLoop;
 
+    /** Reused list of the rows pushed downstream at once. */
+    private final List<RowT> batch = new ArrayList<>();
+
     private @Nullable Subscription activeSubscription;
 
     /** Flag that indicate scan method was called already. */
@@ -127,32 +134,63 @@ public abstract class StorageScanNode<RowT> extends AbstractNode<RowT> {
      */
     protected abstract Publisher<RowT> scan();
 
+    /**
+     * Combines publishers of the given partitions into a single publisher of datasource. Up to
+     * {@link Commons#SCAN_PARTITIONS_PARALLELISM} partitions are read concurrently, thus the order of rows in the result is not defined.
+     *
+     * @param partsCount Number of partitions the iterator will produce publishers for.
+     * @param partitionPublishers Iterator over publishers of partitions.
+     * @return Publisher of datasource.
+     */
+    protected static <RowT> Publisher<RowT> partitionsPublisher(int partsCount, Iterator<Publisher<? extends RowT>> partitionPublishers) {
+        int parallelism = Math.min(partsCount, Commons.SCAN_PARTITIONS_PARALLELISM);
+
+        if (parallelism <= 1) {
+            return SubscriptionUtils.concat(partitionPublishers);
+        }
+
+        return SubscriptionUtils.merge(parallelism, Commons.PARALLEL_SCAN_PART_PREFETCH_SIZE, partitionPublishers);
+    }
+
     private void push() throws Exception {
         if (requested > 0 && !inBuff.isEmpty()) {
             int processed = 0;
             inLoop = true;
             try {
                 while (requested > 0 && !inBuff.isEmpty()) {
-                    if (processed++ >= inBufSize) {
+                    if (processed >= inBufSize) {
                         // Allow others to do their job.
                         execute(this::push);
 
                         return;
                     }
 
-                    RowT row = inBuff.poll();
+                    RowT row;
 
-                    if (filters != null && !filters.test(row)) {
-                        onRowFiltered();
-                        continue;
-                    }
+                    while (batch.size() < requested && processed < inBufSize && (row = inBuff.poll()) != null) {
+                        processed++;
+
+                        if (filters != null && !filters.test(row)) {
+                            onRowFiltered();
+                            continue;
+                        }
 
-                    if (rowTransformer != null) {
-                        row = rowTransformer.apply(row);
+                        if (rowTransformer != null) {
+                            row = rowTransformer.apply(row);
+                        }
+
+                        batch.add(row);
                     }
 
-                    requested--;
-                    downstream().push(row);
+                    if (!batch.isEmpty()) {
+                        requested -= batch.size();
+
+                        try {
+                            downstream().pushBatch(batch);
+                        } finally {
+                            batch.clear();
+                        }
+                    }
                 }
             } finally {
                 inLoop = false;
@@ -30,7 +30,6 @@ import org.apache.ignite.internal.sql.engine.exec.PartitionProvider;
 import org.apache.ignite.internal.sql.engine.exec.PartitionWithConsistencyToken;
 import org.apache.ignite.internal.sql.engine.exec.ScannableTable;
 import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
-import org.apache.ignite.internal.util.SubscriptionUtils;
 import org.apache.ignite.internal.util.TransformingIterator;
 import org.jetbrains.annotations.Nullable;
 
@@ -91,7 +90,7 @@ public class TableScanNode<RowT> extends StorageScanNode<RowT> {
         Iterator<Publisher<? extends RowT>> it = new TransformingIterator<>(
                 partitions.iterator(), p -> table.scan(context(), p, rowFactory, requiredColumns));
 
-        return SubscriptionUtils.concat(it);
+        return partitionsPublisher(partitions.size(), it);
     }
 
     @Override
@@ -33,4 +33,7 @@ public interface QueryBatchRequestMessage extends ExecutionContextAwareMessage {
 
     /** Returns a state that should be propagated to the target fragment. */
     @Nullable SharedStateMessage sharedStateMessage();
+
+    /** Returns a filter that should be applied to the rows before sending them to the requester. */
+    @Nullable RuntimeFilterMessage runtimeFilterMessage();
 }
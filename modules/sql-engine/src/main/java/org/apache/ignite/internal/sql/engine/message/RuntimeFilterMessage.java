@@ -0,0 +1,36 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.message;
+
+import org.apache.ignite.internal.network.NetworkMessage;
+import org.apache.ignite.internal.network.annotations.Transferable;
+
+/**
+ * A message that contains a bloom filter over the join keys built by a hash join.
+ */
+@Transferable(SqlQueryMessageGroup.RUNTIME_FILTER_MESSAGE)
+public interface RuntimeFilterMessage extends NetworkMessage {
+    /** Returns positions of the key columns in the rows being filtered. */
+    int[] keys();
+
+    /** Returns bits of the filter. */
+    long[] bits();
+
+    /** Returns number of hash functions. */
+    int hashFunctions();
+}
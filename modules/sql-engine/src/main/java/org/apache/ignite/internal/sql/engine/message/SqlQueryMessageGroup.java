@@ -52,4 +52,7 @@ public final class SqlQueryMessageGroup {
 
     /** See {@link DecimalValueMessage} for the details. */
     public static final short DECIMAL_VALUE_MESSAGE = 9;
+
+    /** See {@link RuntimeFilterMessage} for the details. */
+    public static final short RUNTIME_FILTER_MESSAGE = 10;
 }
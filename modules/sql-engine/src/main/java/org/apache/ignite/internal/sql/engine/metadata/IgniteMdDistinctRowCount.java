@@ -24,11 +24,18 @@ import org.apache.calcite.rel.metadata.BuiltInMetadata;
 import org.apache.calcite.rel.metadata.CyclicMetadataException;
 import org.apache.calcite.rel.metadata.ReflectiveRelMetadataProvider;
 import org.apache.calcite.rel.metadata.RelMdDistinctRowCount;
+import org.apache.calcite.rel.metadata.RelMdUtil;
 import org.apache.calcite.rel.metadata.RelMetadataProvider;
 import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexLocalRef;
 import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.ImmutableIntList;
 import org.apache.calcite.util.NumberUtil;
+import org.apache.ignite.internal.sql.engine.rel.ProjectableFilterableTableScan;
+import org.apache.ignite.internal.sql.engine.schema.IgniteStatistic;
+import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
+import org.apache.ignite.internal.sql.engine.statistic.ColumnStatistic;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -45,6 +52,67 @@ public class IgniteMdDistinctRowCount extends RelMdDistinctRowCount {
         return rel.estimateRowCount(mq);
     }
 
+    /**
+     * Estimates number of distinct values of the scanned columns from the collected column statistics. Falls back to the default
+     * estimation if any of the columns has not been analyzed.
+     */
+    public @Nullable Double getDistinctRowCount(
+            ProjectableFilterableTableScan rel,
+            RelMetadataQuery mq,
+            ImmutableBitSet groupKey,
+            @Nullable RexNode predicate
+    ) {
+        IgniteTable table = rel.getTable().unwrap(IgniteTable.class);
+
+        if (table == null || groupKey.isEmpty() || !(table.getStatistic() instanceof IgniteStatistic)) {
+            return super.getDistinctRowCount(rel, mq, groupKey, predicate);
+        }
+
+        IgniteStatistic statistic = (IgniteStatistic) table.getStatistic();
+        double distinctCount = 1.0;
+
+        for (int field : groupKey) {
+            int column = tableColumn(rel, field);
+            ColumnStatistic columnStatistic = column < 0 ? null : statistic.columnStatistic(column);
+
+            if (columnStatistic == null) {
+                return super.getDistinctRowCount(rel, mq, groupKey, predicate);
+            }
+
+            // Nulls form a separate group.
+            distinctCount *= columnStatistic.distinctCount() + (columnStatistic.nullFraction() > 0 ? 1 : 0);
+        }
+
+        Double rowCount = mq.getRowCount(rel);
+
+        if (predicate != null && rowCount != null) {
+            Double selectivity = mq.getSelectivity(rel, predicate);
+
+            rowCount = selectivity == null ? rowCount : rowCount * selectivity;
+        }
+
+        return rowCount == null ? distinctCount : RelMdUtil.numDistinctVals(distinctCount, rowCount);
+    }
+
+    /** Returns index of the table column the given output field of the scan refers to, or {@code -1} if it's an expression. */
+    private static int tableColumn(ProjectableFilterableTableScan rel, int field) {
+        int inputField = field;
+
+        if (rel.projects() != null) {
+            RexNode project = rel.projects().get(field);
+
+            if (!(project instanceof RexLocalRef)) {
+                return -1;
+            }
+
+            inputField = ((RexLocalRef) project).getIndex();
+        }
+
+        ImmutableIntList requiredColumns = rel.requiredColumns();
+
+        return requiredColumns == null ? inputField : requiredColumns.getInt(inputField);
+    }
+
     /** {@inheritDoc} */
     @Override
     public Double getDistinctRowCount(
@@ -19,6 +19,7 @@ package org.apache.ignite.internal.sql.engine.metadata;
 
 import static org.apache.calcite.rex.RexUtil.expandSearch;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.HashMap;
@@ -32,11 +33,13 @@ import org.apache.calcite.rel.metadata.RelMdUtil;
 import org.apache.calcite.rel.metadata.RelMetadataProvider;
 import org.apache.calcite.rel.metadata.RelMetadataQuery;
 import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexLiteral;
 import org.apache.calcite.rex.RexLocalRef;
 import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.rex.RexVisitor;
 import org.apache.calcite.rex.RexVisitorImpl;
 import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.type.SqlTypeFamily;
 import org.apache.calcite.util.ImmutableIntList;
 import org.apache.calcite.util.Util;
 import org.apache.calcite.util.mapping.Mapping;
@@ -44,7 +47,9 @@ import org.apache.calcite.util.mapping.Mappings;
 import org.apache.ignite.internal.sql.engine.rel.IgniteHashIndexSpool;
 import org.apache.ignite.internal.sql.engine.rel.IgniteSortedIndexSpool;
 import org.apache.ignite.internal.sql.engine.rel.ProjectableFilterableTableScan;
+import org.apache.ignite.internal.sql.engine.schema.IgniteStatistic;
 import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
+import org.apache.ignite.internal.sql.engine.statistic.ColumnStatistic;
 import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.sql.engine.util.RexUtils;
 import org.jetbrains.annotations.Nullable;
@@ -62,6 +67,12 @@ public class IgniteMdSelectivity extends RelMdSelectivity {
     public static final double DEFAULT_SELECTIVITY_INCREMENT = 0.05;
     public static final double DEFAULT_SELECTIVITY = 0.25;
 
+    /**
+     * The lowest selectivity derived from column statistics. Statistics are built from a sample, so even a value outside of the
+     * histogram may still be present in the table.
+     */
+    public static final double MIN_STATISTIC_SELECTIVITY = 0.0001;
+
     private static double computeOpsSelectivity(Map<RexNode, List<SqlKind>> operands, double baseSelectivity) {
         double result = baseSelectivity;
 
@@ -105,7 +116,12 @@ public class IgniteMdSelectivity extends RelMdSelectivity {
      * OR(<($t3, 110), >($t3, 150), AND(>=($t2, -($t1, 2)), <=($t2, +($t3, 2))), >($t4, $t2), <($t4, $t3)) selectivity computes separately
      * for each local ref with AND selectivity adjustment. <br>
      */
-    private static double computeOrSelectivity(RexCall call, @Nullable BitSet primaryKeys, @Nullable Mapping columnMapping) {
+    private static double computeOrSelectivity(
+            RexCall call,
+            @Nullable BitSet primaryKeys,
+            @Nullable Mapping columnMapping,
+            @Nullable IgniteStatistic statistic
+    ) {
         List<RexNode> operands = call.operands;
         List<RexNode> andOperands = new ArrayList<>();
         List<RexNode> otherOperands = new ArrayList<>();
@@ -129,7 +145,7 @@ public class IgniteMdSelectivity extends RelMdSelectivity {
         // AND inside OR
         for (RexNode andOp : andOperands) {
             baseSelectivity = Math.max(baseSelectivity, guessAndSelectivity(andOp, primaryKeys == null
-                    ? null : (BitSet) primaryKeys.clone(), columnMapping));
+                    ? null : (BitSet) primaryKeys.clone(), columnMapping, statistic));
         }
 
         List<RexNode> operandsToProcess = andConsist ? otherOperands : call.getOperands();
@@ -189,6 +205,7 @@ public class IgniteMdSelectivity extends RelMdSelectivity {
         ImmutableIntList keyColumns;
         BitSet primaryKeys = null;
         Mapping columnMapping = null;
+        IgniteStatistic statistic = null;
 
         // sys view is possible here
         if (table != null) {
@@ -203,6 +220,10 @@ public class IgniteMdSelectivity extends RelMdSelectivity {
             for (int i : keyColumns) {
                 primaryKeys.set(i);
             }
+
+            if (table.getStatistic() instanceof IgniteStatistic) {
+                statistic = (IgniteStatistic) table.getStatistic();
+            }
         }
 
         double artificialSel = 1.0;
@@ -216,17 +237,22 @@ public class IgniteMdSelectivity extends RelMdSelectivity {
 
             if (predicateExpanded.isA(SqlKind.OR)) {
                 double processed = computeOrSelectivity((RexCall) predicateExpanded, primaryKeys == null
-                        ? null : (BitSet) primaryKeys.clone(), columnMapping);
+                        ? null : (BitSet) primaryKeys.clone(), columnMapping, statistic);
                 sel *= processed;
             } else {
-                sel *= computeSelectivity(predicateExpanded, primaryKeys, columnMapping);
+                sel *= computeSelectivity(predicateExpanded, primaryKeys, columnMapping, statistic);
             }
         }
 
         return sel * artificialSel;
     }
 
-    private static double guessAndSelectivity(@Nullable RexNode predicate, @Nullable BitSet keyColumns, @Nullable Mapping columnMapping) {
+    private static double guessAndSelectivity(
+            @Nullable RexNode predicate,
+            @Nullable BitSet keyColumns,
+            @Nullable Mapping columnMapping,
+            @Nullable IgniteStatistic statistic
+    ) {
         double sel = 1.0;
         if ((predicate == null) || predicate.isAlwaysTrue()) {
             return sel;
@@ -235,18 +261,25 @@ public class IgniteMdSelectivity extends RelMdSelectivity {
         List<RexNode> conjunctions = RelOptUtil.conjunctions(predicate);
 
         for (RexNode pred : conjunctions) {
-            sel *= computeSelectivity(pred, keyColumns, columnMapping);
+            sel *= computeSelectivity(pred, keyColumns, columnMapping, statistic);
         }
 
         return sel;
     }
 
-    private static double computeSelectivity(RexNode predicate, @Nullable BitSet keyColumns, @Nullable Mapping columnMapping) {
+    private static double computeSelectivity(
+            RexNode predicate,
+            @Nullable BitSet keyColumns,
+            @Nullable Mapping columnMapping,
+            @Nullable IgniteStatistic statistic
+    ) {
         double sel = 1.0;
         double artificialSel = 1.0;
 
+        Double statisticSel = statisticSelectivity(predicate, columnMapping, statistic);
+
         if (predicate.getKind() == SqlKind.IS_NOT_NULL) {
-            sel *= IS_NOT_NULL_SELECTIVITY;
+            sel *= statisticSel != null ? statisticSel : IS_NOT_NULL_SELECTIVITY;
         } else if (
                 (predicate instanceof RexCall)
                         && (((RexCall) predicate).getOperator()
@@ -264,16 +297,125 @@ public class IgniteMdSelectivity extends RelMdSelectivity {
                     }
                 }
             }
-            sel *= EQ_SELECTIVITY;
+            sel *= statisticSel != null ? statisticSel : EQ_SELECTIVITY;
         } else if (predicate.isA(SqlKind.COMPARISON)) {
-            sel *= COMPARISON_SELECTIVITY;
+            sel *= statisticSel != null ? statisticSel : COMPARISON_SELECTIVITY;
         } else {
-            sel *= DEFAULT_SELECTIVITY;
+            sel *= statisticSel != null ? statisticSel : DEFAULT_SELECTIVITY;
         }
 
         return sel * artificialSel;
     }
 
+    /**
+     * Estimates selectivity of a simple predicate over a single column (comparison with a constant or a null check) using the collected
+     * column statistics.
+     *
+     * @return Estimated selectivity or {@code null} if the predicate is not supported or the column has not been analyzed.
+     */
+    private static @Nullable Double statisticSelectivity(
+            RexNode predicate,
+            @Nullable Mapping columnMapping,
+            @Nullable IgniteStatistic statistic
+    ) {
+        if (statistic == null || columnMapping == null || !(predicate instanceof RexCall)) {
+            return null;
+        }
+
+        List<RexNode> operands = ((RexCall) predicate).getOperands();
+        SqlKind kind = predicate.getKind();
+
+        if (kind == SqlKind.IS_NULL || kind == SqlKind.IS_NOT_NULL) {
+            ColumnStatistic columnStatistic = columnStatistic(operands.get(0), columnMapping, statistic);
+
+            if (columnStatistic == null) {
+                return null;
+            }
+
+            double nullFraction = columnStatistic.nullFraction();
+
+            return Math.max(kind == SqlKind.IS_NULL ? nullFraction : 1.0 - nullFraction, MIN_STATISTIC_SELECTIVITY);
+        }
+
+        if (!predicate.isA(SqlKind.COMPARISON) || operands.size() != 2) {
+            return null;
+        }
+
+        ColumnStatistic columnStatistic = columnStatistic(operands.get(0), columnMapping, statistic);
+        RexNode other = operands.get(1);
+
+        if (columnStatistic == null) {
+            columnStatistic = columnStatistic(operands.get(1), columnMapping, statistic);
+            other = operands.get(0);
+            kind = kind.reverse();
+        }
+
+        if (columnStatistic == null) {
+            return null;
+        }
+
+        // Null means the value is not known at planning time, e.g. a dynamic parameter or a column of another table.
+        Object value = literalValue(other);
+        Double sel;
+
+        switch (kind) {
+            case EQUALS:
+                sel = columnStatistic.equalsSelectivity(value);
+                break;
+            case NOT_EQUALS:
+                sel = 1.0 - columnStatistic.nullFraction() - columnStatistic.equalsSelectivity(value);
+                break;
+            case LESS_THAN:
+            case LESS_THAN_OR_EQUAL:
+                sel = value == null ? null : columnStatistic.lessThanSelectivity(value, kind == SqlKind.LESS_THAN_OR_EQUAL);
+                break;
+            case GREATER_THAN:
+            case GREATER_THAN_OR_EQUAL:
+                sel = value == null ? null : columnStatistic.greaterThanSelectivity(value, kind == SqlKind.GREATER_THAN_OR_EQUAL);
+                break;
+            default:
+                sel = null;
+        }
+
+        return sel == null ? null : Math.max(sel, MIN_STATISTIC_SELECTIVITY);
+    }
+
+    private static @Nullable ColumnStatistic columnStatistic(RexNode node, Mapping columnMapping, IgniteStatistic statistic) {
+        RexNode operand = node;
+
+        while (operand.isA(SqlKind.CAST)) {
+            operand = ((RexCall) operand).getOperands().get(0);
+        }
+
+        if (!(operand instanceof RexLocalRef)) {
+            return null;
+        }
+
+        return statistic.columnStatistic(columnMapping.getSource(((RexLocalRef) operand).getIndex()));
+    }
+
+    private static @Nullable Object literalValue(RexNode node) {
+        RexNode operand = node;
+
+        while (operand.isA(SqlKind.CAST)) {
+            operand = ((RexCall) operand).getOperands().get(0);
+        }
+
+        if (!(operand instanceof RexLiteral)) {
+            return null;
+        }
+
+        RexLiteral literal = (RexLiteral) operand;
+
+        if (SqlTypeFamily.NUMERIC.contains(literal.getType())) {
+            return literal.getValueAs(BigDecimal.class);
+        } else if (SqlTypeFamily.CHARACTER.contains(literal.getType())) {
+            return literal.getValueAs(String.class);
+        }
+
+        return null;
+    }
+
     /** Implements selectivity prediction algorithm.
      *
      * @param rel Relational operator.
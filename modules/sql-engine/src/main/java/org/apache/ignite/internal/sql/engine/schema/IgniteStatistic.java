@@ -17,9 +17,12 @@
 
 package org.apache.ignite.internal.sql.engine.schema;
 
+import java.util.function.IntFunction;
 import java.util.function.LongSupplier;
 import org.apache.calcite.schema.Statistic;
+import org.apache.ignite.internal.sql.engine.statistic.ColumnStatistic;
 import org.apache.ignite.internal.sql.engine.trait.IgniteDistribution;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Supported table statistics.
@@ -27,12 +30,30 @@ import org.apache.ignite.internal.sql.engine.trait.IgniteDistribution;
 public class IgniteStatistic implements Statistic {
     private final LongSupplier rowCountSupplier;
 
+    private final IntFunction<ColumnStatistic> columnStatisticSupplier;
+
     private final IgniteDistribution distribution;
 
     /** Constructor. */
     public IgniteStatistic(LongSupplier rowCountSupplier, IgniteDistribution distribution) {
+        this(rowCountSupplier, idx -> null, distribution);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param rowCountSupplier Supplier of the approximate number of rows.
+     * @param columnStatisticSupplier Supplier of statistic of a column by its index, returns {@code null} if there is no statistic.
+     * @param distribution Table distribution.
+     */
+    public IgniteStatistic(
+            LongSupplier rowCountSupplier,
+            IntFunction<ColumnStatistic> columnStatisticSupplier,
+            IgniteDistribution distribution
+    ) {
         this.distribution = distribution;
         this.rowCountSupplier = rowCountSupplier;
+        this.columnStatisticSupplier = columnStatisticSupplier;
     }
 
     /** {@inheritDoc} */
@@ -43,6 +64,16 @@ public class IgniteStatistic implements Statistic {
         return (double) approximateRowCount;
     }
 
+    /**
+     * Returns statistic of the column.
+     *
+     * @param columnIndex Index of the column in the table row type.
+     * @return Column statistic or {@code null} if the column has not been analyzed.
+     */
+    public @Nullable ColumnStatistic columnStatistic(int columnIndex) {
+        return columnStatisticSupplier.apply(columnIndex);
+    }
+
     /** {@inheritDoc} */
     @Override
     public IgniteDistribution getDistribution() {
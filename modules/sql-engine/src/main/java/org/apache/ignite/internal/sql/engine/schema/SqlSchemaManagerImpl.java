@@ -520,7 +520,11 @@ public class SqlSchemaManagerImpl implements SqlSchemaManager {
         int tableId = catalogTableDescriptor.id();
         String tableName = catalogTableDescriptor.name();
 
-        IgniteStatistic statistic = new IgniteStatistic(() -> sqlStatisticManager.tableSize(tableId), tableDescriptor.distribution());
+        IgniteStatistic statistic = new IgniteStatistic(
+                () -> sqlStatisticManager.tableSize(tableId),
+                idx -> sqlStatisticManager.columnStatistic(tableId, tableDescriptor.columnDescriptor(idx).name()),
+                tableDescriptor.distribution()
+        );
 
         return new IgniteTableImpl(
                 tableName,
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import org.apache.ignite.internal.tostring.S;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Statistic of a single table column collected by {@link SqlStatisticUpdateManager#analyzeAsync(int)}.
+ */
+public class ColumnStatistic {
+    private final long distinctCount;
+
+    private final double nullFraction;
+
+    private final @Nullable Histogram histogram;
+
+    /**
+     * Constructor.
+     *
+     * @param distinctCount Estimated number of distinct non-null values.
+     * @param nullFraction Fraction of rows with {@code null} value.
+     * @param histogram Histogram of non-null values or {@code null} if the column type doesn't support histograms.
+     */
+    public ColumnStatistic(long distinctCount, double nullFraction, @Nullable Histogram histogram) {
+        this.distinctCount = distinctCount;
+        this.nullFraction = nullFraction;
+        this.histogram = histogram;
+    }
+
+    /** Returns estimated number of distinct non-null values. */
+    public long distinctCount() {
+        return distinctCount;
+    }
+
+    /** Returns fraction of rows with {@code null} value. */
+    public double nullFraction() {
+        return nullFraction;
+    }
+
+    /** Returns histogram of non-null values. */
+    public @Nullable Histogram histogram() {
+        return histogram;
+    }
+
+    /** Returns estimated fraction of rows where the column is equal to the given value, or to an unknown value if it's {@code null}. */
+    public double equalsSelectivity(@Nullable Object value) {
+        return (1.0 - nullFraction) * equalsFraction(value);
+    }
+
+    /**
+     * Returns estimated fraction of rows where the column is less than the given value.
+     *
+     * @param value Value to compare with.
+     * @param inclusive Whether the bound is inclusive.
+     * @return Estimated selectivity or {@code null} if there is no histogram suitable for the given value.
+     */
+    public @Nullable Double lessThanSelectivity(Object value, boolean inclusive) {
+        Double below = histogram == null ? null : histogram.fractionBelow(value);
+
+        if (below == null) {
+            return null;
+        }
+
+        double fraction = inclusive ? below + equalsFraction(value) : below;
+
+        return (1.0 - nullFraction) * Math.min(1.0, fraction);
+    }
+
+    /**
+     * Returns estimated fraction of rows where the column is greater than the given value.
+     *
+     * @param value Value to compare with.
+     * @param inclusive Whether the bound is inclusive.
+     * @return Estimated selectivity or {@code null} if there is no histogram suitable for the given value.
+     */
+    public @Nullable Double greaterThanSelectivity(Object value, boolean inclusive) {
+        Double below = histogram == null ? null : histogram.fractionBelow(value);
+
+        if (below == null) {
+            return null;
+        }
+
+        double fraction = inclusive ? 1.0 - below : 1.0 - below - equalsFraction(value);
+
+        return (1.0 - nullFraction) * Math.max(0.0, fraction);
+    }
+
+    /** Returns estimated fraction of non-null values equal to the given one. */
+    private double equalsFraction(@Nullable Object value) {
+        double fraction = 1.0 / Math.max(distinctCount, 1);
+
+        if (value != null && histogram != null) {
+            Double frequent = histogram.fractionEqual(value);
+
+            if (frequent != null) {
+                // Values spanning several buckets are much more frequent than the average one.
+                fraction = Math.max(fraction, frequent);
+            }
+        }
+
+        return fraction;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return S.toString(ColumnStatistic.class, this);
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Collects column statistics of a table over the cluster.
+ */
+@FunctionalInterface
+public interface ColumnStatisticAggregator {
+    /**
+     * Collects statistics of the given columns of all partitions of the table.
+     *
+     * @param tableId Table id.
+     * @param partitions Number of partitions of the table.
+     * @param columns Names of the columns.
+     * @return Future completed with collectors merged over all partitions, in the order of {@code columns}.
+     */
+    CompletableFuture<List<ColumnStatisticCollector>> collect(int tableId, int partitions, List<String> columns);
+}
@@ -0,0 +1,342 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import static java.util.concurrent.CompletableFuture.allOf;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.apache.ignite.internal.lang.IgniteStringFormatter.format;
+import static org.apache.ignite.internal.sql.engine.statistic.SqlStatisticManagerImpl.HISTOGRAM_SAMPLE_SIZE;
+import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
+import static org.apache.ignite.lang.ErrorGroups.Common.INTERNAL_ERR;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.apache.ignite.internal.cluster.management.topology.api.LogicalNode;
+import org.apache.ignite.internal.lang.IgniteInternalException;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.network.InternalClusterNode;
+import org.apache.ignite.internal.network.MessagingService;
+import org.apache.ignite.internal.network.NetworkMessage;
+import org.apache.ignite.internal.table.message.CollectColumnStatisticsRequest;
+import org.apache.ignite.internal.table.message.CollectColumnStatisticsResponse;
+import org.apache.ignite.internal.table.message.ColumnSketchMessage;
+import org.apache.ignite.internal.table.message.TableMessageGroup;
+import org.apache.ignite.internal.table.message.TableMessagesFactory;
+import org.apache.ignite.internal.util.CompletableFutures;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Column statistic aggregator.
+ *
+ * <p>Every node samples only the partitions, which primary replicas it hosts, so every partition is read once and by the node storing
+ * it. A node scans a limited number of its partitions at a time and merges them into a single mergeable sketch per column (see
+ * {@link ColumnStatisticCollector}), so its memory footprint does not depend on the number of partitions. Nodes reply with the merged
+ * sketches and the partitions they cover, the sketches of all nodes are merged by the requesting node. Concurrent requests for the same
+ * table share the same sampling of the local partitions.
+ */
+public class ColumnStatisticAggregatorImpl implements ColumnStatisticAggregator {
+    private static final IgniteLogger LOG = Loggers.forClass(ColumnStatisticAggregatorImpl.class);
+
+    private static final TableMessagesFactory TABLE_MESSAGES_FACTORY = new TableMessagesFactory();
+
+    /** Maximum time to wait for a remote node to sample its partitions. */
+    private static final long COLLECT_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+    /** Maximum number of local partitions scanned at the same time by a single collection. */
+    static final int MAX_CONCURRENT_PARTITION_SCANS = 4;
+
+    private final Supplier<Set<LogicalNode>> clusterNodes;
+
+    private final Supplier<InternalClusterNode> localNode;
+
+    private final MessagingService messagingService;
+
+    private final TableRowsScanner scanner;
+
+    /** Sampling of the local partitions in progress, by table id. */
+    private final ConcurrentMap<Integer, LocalCollection> localCollections = new ConcurrentHashMap<>();
+
+    /** Constructor. */
+    public ColumnStatisticAggregatorImpl(
+            Supplier<Set<LogicalNode>> clusterNodes,
+            Supplier<InternalClusterNode> localNode,
+            MessagingService messagingService,
+            TableRowsScanner scanner
+    ) {
+        this.clusterNodes = clusterNodes;
+        this.localNode = localNode;
+        this.messagingService = messagingService;
+        this.scanner = scanner;
+
+        messagingService.addMessageHandler(TableMessageGroup.class, this::handleMessage);
+    }
+
+    private void handleMessage(NetworkMessage message, InternalClusterNode sender, @Nullable Long correlationId) {
+        if (!(message instanceof CollectColumnStatisticsRequest)) {
+            return;
+        }
+
+        assert correlationId != null;
+
+        CollectColumnStatisticsRequest request = (CollectColumnStatisticsRequest) message;
+
+        collectLocal(request.tableId(), request.columns()).handle((statistics, err) -> {
+            CollectColumnStatisticsResponse response;
+
+            if (err == null) {
+                response = toMessage(statistics);
+            } else {
+                LOG.warn("Failed to collect column statistics of local partitions [tableId={}].", err, request.tableId());
+
+                response = TABLE_MESSAGES_FACTORY.collectColumnStatisticsResponse()
+                        .partitionIds(Set.of())
+                        .columns(List.of())
+                        .error(err)
+                        .build();
+            }
+
+            return messagingService.respond(sender, response, correlationId);
+        });
+    }
+
+    @Override
+    public CompletableFuture<List<ColumnStatisticCollector>> collect(int tableId, int partitions, List<String> columns) {
+        CollectColumnStatisticsRequest request = TABLE_MESSAGES_FACTORY.collectColumnStatisticsRequest()
+                .tableId(tableId)
+                .columns(columns)
+                .build();
+
+        List<CompletableFuture<SampledPartitions>> futures = new ArrayList<>();
+
+        String localNodeName = localNode.get().name();
+
+        for (LogicalNode node : clusterNodes.get()) {
+            if (node.name().equals(localNodeName)) {
+                futures.add(collectLocal(tableId, columns));
+            } else {
+                futures.add(messagingService.invoke(node, request, COLLECT_TIMEOUT_MILLIS)
+                        .thenApply(msg -> fromMessage(tableId, node, columns.size(), (CollectColumnStatisticsResponse) msg)));
+            }
+        }
+
+        return CompletableFutures.allOf(futures).thenApply(none -> {
+            SampledPartitions merged = new SampledPartitions(columns.size());
+
+            // A partition can be sampled twice if its primary replica has moved during the collection, its rows are then counted twice,
+            // which is acceptable for the statistics.
+            for (CompletableFuture<SampledPartitions> fut : futures) {
+                merged.merge(fut.join());
+            }
+
+            for (int partId = 0; partId < partitions; partId++) {
+                if (!merged.partitionIds.contains(partId)) {
+                    throw new IgniteInternalException(INTERNAL_ERR, format("Column statistics of a partition are not collected, "
+                            + "probably its primary replica is not available [tableId={}, partId={}].", tableId, partId));
+                }
+            }
+
+            return merged.columns;
+        });
+    }
+
+    /** Samples the table partitions, which primary replicas are hosted by the local node, or joins the sampling in progress. */
+    private CompletableFuture<SampledPartitions> collectLocal(int tableId, List<String> columns) {
+        LocalCollection created = new LocalCollection(columns);
+
+        LocalCollection collection = localCollections.merge(
+                tableId,
+                created,
+                (existing, newCollection) -> existing.columns.equals(columns) ? existing : newCollection
+        );
+
+        if (collection == created) {
+            CompletableFuture<SampledPartitions> sampling;
+
+            try {
+                sampling = sampleLocalPartitions(tableId, columns);
+            } catch (Throwable e) {
+                sampling = failedFuture(e);
+            }
+
+            sampling.whenComplete((statistics, err) -> {
+                localCollections.remove(tableId, created);
+
+                if (err == null) {
+                    created.future.complete(statistics);
+                } else {
+                    created.future.completeExceptionally(err);
+                }
+            });
+        }
+
+        return collection.future;
+    }
+
+    private CompletableFuture<SampledPartitions> sampleLocalPartitions(int tableId, List<String> columns) {
+        List<Integer> partitions = scanner.localPrimaryPartitions(tableId);
+
+        SampledPartitions result = new SampledPartitions(columns.size());
+        AtomicInteger nextPartition = new AtomicInteger();
+
+        CompletableFuture<?>[] workers = new CompletableFuture[Math.min(MAX_CONCURRENT_PARTITION_SCANS, partitions.size())];
+
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = sampleRemainingPartitions(tableId, columns, partitions, nextPartition, result);
+        }
+
+        return allOf(workers).thenApply(none -> result);
+    }
+
+    /** Samples the partitions one after another, until there are no partitions left, and merges them into the result. */
+    private CompletableFuture<Void> sampleRemainingPartitions(
+            int tableId,
+            List<String> columns,
+            List<Integer> partitions,
+            AtomicInteger nextPartition,
+            SampledPartitions result
+    ) {
+        int idx = nextPartition.getAndIncrement();
+
+        if (idx >= partitions.size()) {
+            return nullCompletedFuture();
+        }
+
+        int partId = partitions.get(idx);
+
+        SampledPartitions partition = new SampledPartitions(columns.size());
+
+        partition.partitionIds.add(partId);
+
+        return scanner.scan(tableId, partId, columns, row -> {
+            for (int j = 0; j < partition.columns.size(); j++) {
+                partition.columns.get(j).add(row.get(j));
+            }
+        }).thenCompose(none -> {
+            synchronized (result) {
+                result.merge(partition);
+            }
+
+            return sampleRemainingPartitions(tableId, columns, partitions, nextPartition, result);
+        });
+    }
+
+    private static CollectColumnStatisticsResponse toMessage(SampledPartitions statistics) {
+        List<ColumnSketchMessage> columns = new ArrayList<>(statistics.columns.size());
+
+        for (ColumnStatisticCollector collector : statistics.columns) {
+            List<Object> sample = collector.sample();
+
+            columns.add(TABLE_MESSAGES_FACTORY.columnSketchMessage()
+                    .rows(collector.rows())
+                    .nulls(collector.nulls())
+                    .distinctValues(collector.distinctValues().registers())
+                    .sample(sample == null ? null : new ArrayList<>(sample))
+                    .build());
+        }
+
+        return TABLE_MESSAGES_FACTORY.collectColumnStatisticsResponse()
+                .partitionIds(statistics.partitionIds)
+                .columns(columns)
+                .build();
+    }
+
+    private static SampledPartitions fromMessage(
+            int tableId,
+            LogicalNode node,
+            int columnCount,
+            CollectColumnStatisticsResponse response
+    ) {
+        Throwable err = response.error();
+
+        if (err != null) {
+            throw new IgniteInternalException(INTERNAL_ERR, format("Failed to collect column statistics on the remote node "
+                    + "[tableId={}, node={}].", tableId, node.name()), err);
+        }
+
+        assert response.columns().size() == columnCount : "sketches=" + response.columns().size() + ", columns=" + columnCount;
+
+        List<ColumnStatisticCollector> collectors = new ArrayList<>(columnCount);
+        Random random = new Random();
+
+        for (ColumnSketchMessage sketch : response.columns()) {
+            collectors.add(new ColumnStatisticCollector(
+                    HISTOGRAM_SAMPLE_SIZE,
+                    random,
+                    sketch.rows(),
+                    sketch.nulls(),
+                    HyperLogLog.fromRegisters(sketch.distinctValues()),
+                    sketch.sample()
+            ));
+        }
+
+        return new SampledPartitions(new HashSet<>(response.partitionIds()), collectors);
+    }
+
+    /** Sketches of the columns merged over the sampled partitions. */
+    private static class SampledPartitions {
+        final Set<Integer> partitionIds;
+
+        final List<ColumnStatisticCollector> columns;
+
+        SampledPartitions(int columnCount) {
+            partitionIds = new HashSet<>();
+            columns = new ArrayList<>(columnCount);
+
+            Random random = new Random();
+
+            for (int i = 0; i < columnCount; i++) {
+                columns.add(new ColumnStatisticCollector(HISTOGRAM_SAMPLE_SIZE, random));
+            }
+        }
+
+        SampledPartitions(Set<Integer> partitionIds, List<ColumnStatisticCollector> columns) {
+            this.partitionIds = partitionIds;
+            this.columns = columns;
+        }
+
+        /** Merges the sketches of other partitions into this one. */
+        void merge(SampledPartitions other) {
+            partitionIds.addAll(other.partitionIds);
+
+            for (int i = 0; i < columns.size(); i++) {
+                columns.get(i).merge(other.columns.get(i));
+            }
+        }
+    }
+
+    /** Sampling of the local partitions. */
+    private static class LocalCollection {
+        final List<String> columns;
+
+        final CompletableFuture<SampledPartitions> future = new CompletableFuture<>();
+
+        LocalCollection(List<String> columns) {
+            this.columns = columns;
+        }
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Accumulates values of a single column and builds {@link ColumnStatistic}.
+ *
+ * <p>Every value is accounted in the {@link HyperLogLog} sketch and the null counter, while the histogram is built from a uniform
+ * reservoir sample of bounded size, so memory consumption doesn't depend on the size of the table.
+ *
+ * <p>Collectors of different partitions of a table are combined with {@link #merge(ColumnStatisticCollector)}.
+ */
+public class ColumnStatisticCollector {
+    private final HyperLogLog distinctValues;
+
+    private final int sampleSize;
+
+    private final Random random;
+
+    private @Nullable List<Object> sample;
+
+    private long rows;
+
+    private long nulls;
+
+    private long nonNulls;
+
+    /**
+     * Constructor.
+     *
+     * @param sampleSize Maximal number of values to build histogram from.
+     * @param random Random used to choose values for the sample.
+     */
+    public ColumnStatisticCollector(int sampleSize, Random random) {
+        this(sampleSize, random, 0, 0, new HyperLogLog(), new ArrayList<>());
+    }
+
+    /**
+     * Restores a collector from its state, for example, received from another node.
+     *
+     * @param sampleSize Maximal number of values to build histogram from.
+     * @param random Random used to choose values for the sample.
+     * @param rows Number of values seen by the collector.
+     * @param nulls Number of {@code null} values seen by the collector.
+     * @param distinctValues Sketch of distinct values.
+     * @param sample Sample of non-null values, {@code null} if histograms are not supported for the column type.
+     */
+    public ColumnStatisticCollector(
+            int sampleSize,
+            Random random,
+            long rows,
+            long nulls,
+            HyperLogLog distinctValues,
+            @Nullable List<Object> sample
+    ) {
+        assert sampleSize > 0 : sampleSize;
+        assert nulls <= rows : "nulls=" + nulls + ", rows=" + rows;
+
+        this.sampleSize = sampleSize;
+        this.random = random;
+        this.rows = rows;
+        this.nulls = nulls;
+        this.nonNulls = rows - nulls;
+        this.distinctValues = distinctValues;
+        this.sample = sample == null ? null : new ArrayList<>(sample);
+    }
+
+    /** Accounts a value of the column. */
+    public void add(@Nullable Object value) {
+        rows++;
+
+        if (value == null) {
+            nulls++;
+
+            return;
+        }
+
+        nonNulls++;
+
+        distinctValues.add(value);
+
+        List<Object> sample0 = sample;
+
+        if (sample0 == null) {
+            return;
+        }
+
+        if (!Histogram.supported(value)) {
+            // Histograms are not supported for the column type.
+            sample = null;
+
+            return;
+        }
+
+        if (sample0.size() < sampleSize) {
+            sample0.add(value);
+        } else {
+            long pos = (long) (random.nextDouble() * nonNulls);
+
+            if (pos < sampleSize) {
+                sample0.set((int) pos, value);
+            }
+        }
+    }
+
+    /**
+     * Merges the given collector, which has seen a disjoint set of rows (for example, rows of another partition), into this one.
+     *
+     * <p>Samples are merged with respect to the number of values they represent, so the merged sample remains a uniform sample of the
+     * union of the rows.
+     */
+    public void merge(ColumnStatisticCollector other) {
+        distinctValues.merge(other.distinctValues);
+
+        List<Object> left = sample;
+        List<Object> right = other.sample == null ? null : new ArrayList<>(other.sample);
+
+        if (left == null || right == null) {
+            sample = null;
+        } else {
+            sample = mergeSamples(new ArrayList<>(left), nonNulls, right, other.nonNulls);
+        }
+
+        rows += other.rows;
+        nulls += other.nulls;
+        nonNulls += other.nonNulls;
+    }
+
+    private List<Object> mergeSamples(List<Object> left, double leftWeight, List<Object> right, double rightWeight) {
+        List<Object> merged = new ArrayList<>(Math.min(sampleSize, left.size() + right.size()));
+
+        // Every value of a sample stands for the same number of rows of its source, and a value is taken from a source with the
+        // probability proportional to the number of rows the rest of the source sample stands for.
+        while (merged.size() < sampleSize && !(left.isEmpty() && right.isEmpty())) {
+            boolean fromLeft = right.isEmpty() || (!left.isEmpty() && random.nextDouble() * (leftWeight + rightWeight) < leftWeight);
+
+            if (fromLeft) {
+                leftWeight -= leftWeight / left.size();
+
+                merged.add(removeRandom(left));
+            } else {
+                rightWeight -= rightWeight / right.size();
+
+                merged.add(removeRandom(right));
+            }
+        }
+
+        return merged;
+    }
+
+    private Object removeRandom(List<Object> values) {
+        int idx = random.nextInt(values.size());
+        int last = values.size() - 1;
+
+        Object value = values.get(idx);
+
+        values.set(idx, values.get(last));
+        values.remove(last);
+
+        return value;
+    }
+
+    /** Returns the number of values seen by the collector. */
+    public long rows() {
+        return rows;
+    }
+
+    /** Returns the number of {@code null} values seen by the collector. */
+    public long nulls() {
+        return nulls;
+    }
+
+    /** Returns the sketch of distinct values seen by the collector. */
+    public HyperLogLog distinctValues() {
+        return distinctValues;
+    }
+
+    /** Returns the sample of non-null values, {@code null} if histograms are not supported for the column type. */
+    public @Nullable List<Object> sample() {
+        return sample == null ? null : Collections.unmodifiableList(sample);
+    }
+
+    /**
+     * Builds statistic for the values seen by the collector.
+     *
+     * @param buckets Maximal number of histogram buckets.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ColumnStatistic build(int buckets) {
+        long distinctCount = Math.min(distinctValues.estimate(), nonNulls);
+
+        if (nonNulls > 0) {
+            distinctCount = Math.max(distinctCount, 1);
+        }
+
+        double nullFraction = rows == 0 ? 0.0 : (double) nulls / rows;
+
+        Histogram histogram = null;
+
+        if (sample != null && !sample.isEmpty()) {
+            List<Object> sorted = new ArrayList<>(sample);
+
+            sorted.sort((l, r) -> ((Comparable) l).compareTo(r));
+
+            histogram = Histogram.build(sorted, buckets);
+        }
+
+        return new ColumnStatistic(distinctCount, nullFraction, histogram);
+    }
+}
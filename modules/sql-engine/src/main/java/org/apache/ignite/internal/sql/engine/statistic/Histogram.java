@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Equi-depth histogram of non-null column values.
+ *
+ * <p>The histogram is described by {@code N + 1} bounds splitting the ordered values into {@code N} buckets with the same number of
+ * values each. Frequent values span several buckets, so skewed distributions are reflected by the histogram as well.
+ *
+ * <p>Only numeric and string values are supported.
+ */
+public class Histogram {
+    private final Object[] bounds;
+
+    private Histogram(Object[] bounds) {
+        this.bounds = bounds;
+    }
+
+    /**
+     * Builds histogram from the sorted sample of non-null values.
+     *
+     * @param sortedValues Sorted sample of values.
+     * @param buckets Maximal number of buckets.
+     * @return Histogram or {@code null} if the sample is empty.
+     */
+    public static @Nullable Histogram build(List<?> sortedValues, int buckets) {
+        assert buckets > 0 : buckets;
+
+        int size = sortedValues.size();
+
+        if (size == 0) {
+            return null;
+        }
+
+        int bucketsCount = Math.min(buckets, size);
+        Object[] bounds = new Object[bucketsCount + 1];
+
+        for (int i = 0; i <= bucketsCount; i++) {
+            int pos = (int) Math.min((long) i * size / bucketsCount, size - 1);
+
+            bounds[i] = sortedValues.get(pos);
+        }
+
+        return new Histogram(bounds);
+    }
+
+    /** Returns {@code true} if values of the given class can be placed into a histogram. */
+    public static boolean supported(Object value) {
+        return value instanceof Number || value instanceof String;
+    }
+
+    /** Returns the number of buckets. */
+    public int buckets() {
+        return bounds.length - 1;
+    }
+
+    /** Returns the smallest value of the histogram. */
+    public Object min() {
+        return bounds[0];
+    }
+
+    /** Returns the largest value of the histogram. */
+    public Object max() {
+        return bounds[bounds.length - 1];
+    }
+
+    /**
+     * Estimates the fraction of values which are strictly less than the given one.
+     *
+     * @return Fraction in range {@code [0, 1]} or {@code null} if the value is not comparable with values of the histogram.
+     */
+    public @Nullable Double fractionBelow(Object value) {
+        if (!comparable(value)) {
+            return null;
+        }
+
+        if (compare(value, bounds[0]) <= 0) {
+            return 0.0;
+        }
+
+        int last = bounds.length - 1;
+
+        if (compare(value, bounds[last]) > 0) {
+            return 1.0;
+        }
+
+        // Find the first bucket whose upper bound is not less than the value.
+        int bucket = 0;
+
+        while (compare(bounds[bucket + 1], value) < 0) {
+            bucket++;
+        }
+
+        double inBucket = interpolate(bounds[bucket], bounds[bucket + 1], value);
+
+        return (bucket + inBucket) / buckets();
+    }
+
+    /**
+     * Estimates the fraction of values which are equal to the given one based on the number of buckets entirely filled with the value.
+     *
+     * @return Fraction in range {@code [0, 1]} or {@code null} if the value is not comparable with values of the histogram.
+     */
+    public @Nullable Double fractionEqual(Object value) {
+        if (!comparable(value)) {
+            return null;
+        }
+
+        int fullBuckets = 0;
+
+        for (int i = 0; i < bounds.length - 1; i++) {
+            if (compare(bounds[i], value) == 0 && compare(bounds[i + 1], value) == 0) {
+                fullBuckets++;
+            }
+        }
+
+        return (double) fullBuckets / buckets();
+    }
+
+    private boolean comparable(Object value) {
+        Object bound = bounds[0];
+
+        return (value instanceof Number && bound instanceof Number) || (value instanceof String && bound instanceof String);
+    }
+
+    private static double interpolate(Object lower, Object upper, Object value) {
+        if (lower instanceof Number) {
+            double lo = ((Number) lower).doubleValue();
+            double hi = ((Number) upper).doubleValue();
+
+            if (hi <= lo) {
+                return 1.0;
+            }
+
+            return Math.min(1.0, Math.max(0.0, (((Number) value).doubleValue() - lo) / (hi - lo)));
+        }
+
+        // There is no meaningful distance between strings, assume the value is in the middle of the bucket.
+        return compare(lower, value) == 0 ? 0.0 : 0.5;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(Object left, Object right) {
+        if (left instanceof Number) {
+            if ((left instanceof BigDecimal || right instanceof BigDecimal) && !floating(left) && !floating(right)) {
+                return toBigDecimal((Number) left).compareTo(toBigDecimal((Number) right));
+            }
+
+            return Double.compare(((Number) left).doubleValue(), ((Number) right).doubleValue());
+        }
+
+        return ((Comparable) left).compareTo(right);
+    }
+
+    private static boolean floating(Object number) {
+        return number instanceof Double || number instanceof Float;
+    }
+
+    private static BigDecimal toBigDecimal(Number number) {
+        return number instanceof BigDecimal ? (BigDecimal) number : new BigDecimal(number.toString());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return Arrays.toString(bounds);
+    }
+}
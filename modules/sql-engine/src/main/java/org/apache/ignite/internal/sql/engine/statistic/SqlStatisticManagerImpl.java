@@ -21,11 +21,14 @@ import static java.util.concurrent.CompletableFuture.failedFuture;
 import static org.apache.ignite.internal.event.EventListener.fromConsumer;
 import static org.apache.ignite.internal.sql.engine.statistic.event.StatisticChangedEvent.STATISTIC_CHANGED;
 import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
+import static org.apache.ignite.lang.ErrorGroups.Sql.STMT_VALIDATION_ERR;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -40,8 +43,12 @@ import java.util.concurrent.atomic.AtomicReference;
 import org.apache.ignite.configuration.ConfigurationValue;
 import org.apache.ignite.configuration.notifications.ConfigurationListener;
 import org.apache.ignite.configuration.notifications.ConfigurationNotificationEvent;
+import org.apache.ignite.internal.catalog.Catalog;
 import org.apache.ignite.internal.catalog.CatalogService;
+import org.apache.ignite.internal.catalog.descriptors.CatalogSchemaDescriptor;
+import org.apache.ignite.internal.catalog.descriptors.CatalogTableColumnDescriptor;
 import org.apache.ignite.internal.catalog.descriptors.CatalogTableDescriptor;
+import org.apache.ignite.internal.catalog.descriptors.CatalogTableProperties;
 import org.apache.ignite.internal.catalog.events.CatalogEvent;
 import org.apache.ignite.internal.catalog.events.CreateTableEventParameters;
 import org.apache.ignite.internal.catalog.events.DropTableEventParameters;
@@ -58,6 +65,8 @@ import org.apache.ignite.internal.table.InternalTable;
 import org.apache.ignite.internal.table.TableViewInternal;
 import org.apache.ignite.internal.table.distributed.TableManager;
 import org.apache.ignite.internal.util.LongPriorityQueue;
+import org.apache.ignite.sql.SqlException;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 
 /**
@@ -69,6 +78,12 @@ public class SqlStatisticManagerImpl extends AbstractEventProducer<StatisticChan
     static final long DEFAULT_TABLE_SIZE = 1L;
     private static final ActualSize DEFAULT_VALUE = new ActualSize(DEFAULT_TABLE_SIZE, Long.MIN_VALUE);
 
+    /** Maximal number of column values a histogram is built from. */
+    static final int HISTOGRAM_SAMPLE_SIZE = 10_000;
+
+    /** Maximal number of histogram buckets. */
+    static final int HISTOGRAM_BUCKETS = 64;
+
     private final EventListener<ChangeLowWatermarkEventParameters> lwmListener = fromConsumer(this::onLwmChanged);
     private final EventListener<DropTableEventParameters> dropTableEventListener = fromConsumer(this::onTableDrop);
     private final EventListener<CreateTableEventParameters> createTableEventListener = fromConsumer(this::onTableCreate);
@@ -85,6 +100,12 @@ public class SqlStatisticManagerImpl extends AbstractEventProducer<StatisticChan
     /* Contains all known table id's with statistics. */
     final ConcurrentMap<Integer, ActualSize> tableSizeMap = new ConcurrentHashMap<>();
 
+    /* Contains column statistics of analyzed tables. */
+    final ConcurrentMap<Integer, TableStatistic> columnStatisticsMap = new ConcurrentHashMap<>();
+
+    /* Contains tables being analyzed automatically. */
+    private final Set<Integer> autoAnalyzedTables = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
     /* Contain dropped tables, can`t update statistic for such a case. */
     final Set<Integer> droppedTables = Collections.newSetFromMap(new ConcurrentHashMap<>());
 
@@ -93,6 +114,10 @@ public class SqlStatisticManagerImpl extends AbstractEventProducer<StatisticChan
 
     private final ConfigurationValue<Integer> staleRowsCheckIntervalSeconds;
 
+    private final @Nullable ColumnStatisticAggregator columnStatAggregator;
+
+    private final @Nullable ConfigurationValue<Boolean> autoAnalyzeEnabled;
+
     private final ConfigurationListener<Integer> updateRefreshIntervalListener = this::updateConfig;
 
     private volatile ScheduledFuture<?> scheduledFuture;
@@ -105,6 +130,25 @@ public class SqlStatisticManagerImpl extends AbstractEventProducer<StatisticChan
             ScheduledExecutorService scheduler,
             StatisticAggregator<Collection<InternalTable>, CompletableFuture<Int2ObjectMap<PartitionModificationInfo>>> statSupplier,
             ConfigurationValue<Integer> staleRowsCheckIntervalSeconds
+    ) {
+        this(tableManager, catalogService, lowWatermark, scheduler, statSupplier, staleRowsCheckIntervalSeconds, null, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param columnStatAggregator Aggregator of column statistics, {@code null} if collection is not supported.
+     * @param autoAnalyzeEnabled Whether column statistics of stale tables are recollected automatically.
+     */
+    public SqlStatisticManagerImpl(
+            TableManager tableManager,
+            CatalogService catalogService,
+            LowWatermark lowWatermark,
+            ScheduledExecutorService scheduler,
+            StatisticAggregator<Collection<InternalTable>, CompletableFuture<Int2ObjectMap<PartitionModificationInfo>>> statSupplier,
+            ConfigurationValue<Integer> staleRowsCheckIntervalSeconds,
+            @Nullable ColumnStatisticAggregator columnStatAggregator,
+            @Nullable ConfigurationValue<Boolean> autoAnalyzeEnabled
     ) {
         this.tableManager = tableManager;
         this.catalogService = catalogService;
@@ -112,6 +156,8 @@ public class SqlStatisticManagerImpl extends AbstractEventProducer<StatisticChan
         this.scheduler = scheduler;
         this.statSupplier = statSupplier;
         this.staleRowsCheckIntervalSeconds = staleRowsCheckIntervalSeconds;
+        this.columnStatAggregator = columnStatAggregator;
+        this.autoAnalyzeEnabled = autoAnalyzeEnabled;
     }
 
     /**
@@ -127,6 +173,74 @@ public class SqlStatisticManagerImpl extends AbstractEventProducer<StatisticChan
         return tableSizeMap.getOrDefault(tableId, DEFAULT_VALUE).getSize();
     }
 
+    @Override
+    public @Nullable ColumnStatistic columnStatistic(int tableId, String columnName) {
+        TableStatistic statistic = columnStatisticsMap.get(tableId);
+
+        return statistic == null ? null : statistic.column(columnName);
+    }
+
+    @Override
+    public Collection<TableStatistic> tableStatistics() {
+        return Collections.unmodifiableCollection(columnStatisticsMap.values());
+    }
+
+    /**
+     * Collects column statistics of the given table.
+     *
+     * <p>Every partition is read by the node hosting its primary replica: distinct values are estimated with {@link HyperLogLog} sketches
+     * fed with every value, while histograms are built from a reservoir sample of at most {@value #HISTOGRAM_SAMPLE_SIZE} values per
+     * column. Sketches of all partitions are merged (see {@link ColumnStatisticAggregator}). Collected statistics replace the previous
+     * ones, and {@link StatisticChangedEvent#STATISTIC_CHANGED} is fired to let cached plans be re-optimized.
+     */
+    @Override
+    public CompletableFuture<Void> analyzeAsync(int tableId) {
+        ColumnStatisticAggregator aggregator = columnStatAggregator;
+
+        if (aggregator == null) {
+            return failedFuture(new UnsupportedOperationException("Column statistics collection is not supported."));
+        }
+
+        Catalog catalog = catalogService.catalog(catalogService.latestCatalogVersion());
+        CatalogTableDescriptor table = catalog.table(tableId);
+        TableViewInternal tableView = tableManager.cachedTable(tableId);
+
+        if (table == null || tableView == null || droppedTables.contains(tableId)) {
+            return failedFuture(new SqlException(STMT_VALIDATION_ERR, "Table not found [id=" + tableId + "]."));
+        }
+
+        CatalogSchemaDescriptor schema = catalog.schema(table.schemaId());
+
+        assert schema != null : "schemaId=" + table.schemaId();
+
+        List<String> columns = new ArrayList<>(table.columns().size());
+
+        for (CatalogTableColumnDescriptor column : table.columns()) {
+            columns.add(column.name());
+        }
+
+        return aggregator.collect(tableId, tableView.internalTable().partitions(), columns).thenAccept(collectors -> {
+            Map<String, ColumnStatistic> statistics = new HashMap<>();
+
+            for (int i = 0; i < columns.size(); i++) {
+                statistics.put(columns.get(i), collectors.get(i).build(HISTOGRAM_BUCKETS));
+            }
+
+            long rowCount = collectors.isEmpty() ? 0 : collectors.get(0).rows();
+
+            // The table can be concurrently dropped and we shouldn't put new value in this case.
+            if (droppedTables.contains(tableId)) {
+                return;
+            }
+
+            columnStatisticsMap.put(tableId, new TableStatistic(
+                    tableId, schema.name(), table.name(), rowCount, Instant.now(), Map.copyOf(statistics)
+            ));
+
+            fireEvent(STATISTIC_CHANGED, new StatisticEventParameters(tableId));
+        });
+    }
+
     @Override
     public void start() {
         catalogService.listen(CatalogEvent.TABLE_CREATE, createTableEventListener);
@@ -225,11 +339,47 @@ public class SqlStatisticManagerImpl extends AbstractEventProducer<StatisticChan
                 if (updatedSize.modificationCounter() >= currentSize.modificationCounter()) {
                     fireEvent(STATISTIC_CHANGED, new StatisticEventParameters(tableId));
                 }
+
+                analyzeIfStale(tableId, updatedSize.getSize());
             }
             return null;
         });
     }
 
+    /**
+     * Starts collection of column statistics of the table if it has never been analyzed or its size has changed significantly since the
+     * last analysis. Staleness thresholds are taken from the table properties.
+     */
+    private void analyzeIfStale(int tableId, long tableSize) {
+        if (columnStatAggregator == null || autoAnalyzeEnabled == null || !autoAnalyzeEnabled.value()) {
+            return;
+        }
+
+        CatalogTableDescriptor table = catalogService.catalog(catalogService.latestCatalogVersion()).table(tableId);
+
+        if (table == null) {
+            return;
+        }
+
+        CatalogTableProperties properties = table.properties();
+        TableStatistic statistic = columnStatisticsMap.get(tableId);
+
+        long analyzedRows = statistic == null ? 0 : statistic.rowCount();
+        double staleRowsThreshold = Math.max(properties.minStaleRowsCount(), properties.staleRowsFraction() * analyzedRows);
+
+        if (Math.abs(tableSize - analyzedRows) < staleRowsThreshold || !autoAnalyzedTables.add(tableId)) {
+            return;
+        }
+
+        analyzeAsync(tableId).whenComplete((r, t) -> {
+            autoAnalyzedTables.remove(tableId);
+
+            if (t != null) {
+                LOG.warn("Failed to collect column statistics [tableId={}].", t, tableId);
+            }
+        });
+    }
+
     @Override
     public void stop() {
         lowWatermark.removeListener(LowWatermarkEvent.LOW_WATERMARK_CHANGED, lwmListener);
@@ -259,6 +409,7 @@ public class SqlStatisticManagerImpl extends AbstractEventProducer<StatisticChan
         List<DestroyTableEvent> events = destructionEventsQueue.drainUpTo(earliestVersion);
 
         events.forEach(event -> tableSizeMap.remove(event.tableId()));
+        events.forEach(event -> columnStatisticsMap.remove(event.tableId()));
         events.forEach(event -> droppedTables.remove(event.tableId()));
     }
 
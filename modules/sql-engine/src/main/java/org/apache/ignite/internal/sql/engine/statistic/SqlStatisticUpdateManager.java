@@ -17,10 +17,22 @@
 
 package org.apache.ignite.internal.sql.engine.statistic;
 
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.internal.event.EventProducer;
 import org.apache.ignite.internal.sql.engine.statistic.event.StatisticChangedEvent;
 import org.apache.ignite.internal.sql.engine.statistic.event.StatisticEventParameters;
 
 /** Statistic manager with reaction on statistic changes. */
 public interface SqlStatisticUpdateManager extends SqlStatisticManager, EventProducer<StatisticChangedEvent, StatisticEventParameters> {
+    /**
+     * Collects column statistics of the given table: number of distinct values, fraction of nulls and histograms.
+     *
+     * @param tableId Table id.
+     * @return Future completed when the collected statistics become available to the planner.
+     */
+    CompletableFuture<Void> analyzeAsync(int tableId);
+
+    /** Returns column statistics of all analyzed tables. */
+    Collection<TableStatistic> tableStatistics();
 }
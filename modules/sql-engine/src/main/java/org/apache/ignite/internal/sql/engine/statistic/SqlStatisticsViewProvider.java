@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import static org.apache.ignite.internal.type.NativeTypes.DOUBLE;
+import static org.apache.ignite.internal.type.NativeTypes.INT32;
+import static org.apache.ignite.internal.type.NativeTypes.INT64;
+import static org.apache.ignite.internal.type.NativeTypes.STRING;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Flow.Publisher;
+import org.apache.ignite.internal.systemview.api.SystemView;
+import org.apache.ignite.internal.systemview.api.SystemViews;
+import org.apache.ignite.internal.type.NativeType;
+import org.apache.ignite.internal.type.NativeTypes;
+import org.apache.ignite.internal.util.SubscriptionUtils;
+import org.jetbrains.annotations.Nullable;
+
+/** Provider that creates system view exposing column statistics collected on a node. */
+public class SqlStatisticsViewProvider {
+    private static final NativeType TIMESTAMP_TYPE = NativeTypes.timestamp(NativeTypes.MAX_TIME_PRECISION);
+
+    private final SqlStatisticUpdateManager statisticManager;
+
+    /** Constructor. */
+    public SqlStatisticsViewProvider(SqlStatisticUpdateManager statisticManager) {
+        this.statisticManager = statisticManager;
+    }
+
+    /** Returns system views. */
+    public List<SystemView<?>> getViews() {
+        return List.of(columnStatistics());
+    }
+
+    private SystemView<?> columnStatistics() {
+        Iterable<ColumnStatisticEntry> viewData = () -> statisticManager.tableStatistics().stream()
+                .flatMap(table -> table.columns().entrySet().stream().map(column -> new ColumnStatisticEntry(table, column)))
+                .iterator();
+
+        Publisher<ColumnStatisticEntry> viewDataPublisher = SubscriptionUtils.fromIterable(viewData);
+
+        return SystemViews.<ColumnStatisticEntry>nodeViewBuilder()
+                .name("SQL_COLUMN_STATISTICS")
+                .nodeNameColumnAlias("NODE_NAME")
+                .addColumn("SCHEMA_NAME", STRING, entry -> entry.table.schemaName())
+                .addColumn("TABLE_NAME", STRING, entry -> entry.table.tableName())
+                .addColumn("TABLE_ID", INT32, entry -> entry.table.tableId())
+                .addColumn("COLUMN_NAME", STRING, entry -> entry.columnName)
+                .addColumn("ROW_COUNT", INT64, entry -> entry.table.rowCount())
+                .addColumn("DISTINCT_COUNT", INT64, entry -> entry.statistic.distinctCount())
+                .addColumn("NULL_FRACTION", DOUBLE, entry -> entry.statistic.nullFraction())
+                .addColumn("HISTOGRAM_BUCKETS", INT32, ColumnStatisticEntry::histogramBuckets)
+                .addColumn("HISTOGRAM_BOUNDS", STRING, ColumnStatisticEntry::histogramBounds)
+                .<Instant>addColumn("LAST_ANALYZE_TIME", TIMESTAMP_TYPE, entry -> entry.table.analyzeTime())
+                .dataProvider(viewDataPublisher)
+                .build();
+    }
+
+    private static class ColumnStatisticEntry {
+        private final TableStatistic table;
+        private final String columnName;
+        private final ColumnStatistic statistic;
+
+        private ColumnStatisticEntry(TableStatistic table, Map.Entry<String, ColumnStatistic> column) {
+            this.table = table;
+            this.columnName = column.getKey();
+            this.statistic = column.getValue();
+        }
+
+        @Nullable Integer histogramBuckets() {
+            Histogram histogram = statistic.histogram();
+
+            return histogram == null ? null : histogram.buckets();
+        }
+
+        @Nullable String histogramBounds() {
+            Histogram histogram = statistic.histogram();
+
+            return histogram == null ? null : histogram.toString();
+        }
+    }
+}
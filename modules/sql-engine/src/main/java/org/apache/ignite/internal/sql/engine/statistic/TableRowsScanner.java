@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Reads rows of table partitions stored on the local node for the statistics collection.
+ */
+public interface TableRowsScanner {
+    /**
+     * Returns partitions of the table, which primary replicas are hosted by the local node.
+     *
+     * @param tableId Table id.
+     * @return Ids of the partitions.
+     */
+    List<Integer> localPrimaryPartitions(int tableId);
+
+    /**
+     * Reads values of the given columns of all rows of the table partition from the local node.
+     *
+     * @param tableId Table id.
+     * @param partitionId Partition id.
+     * @param columns Names of the columns to read.
+     * @param consumer Consumer of rows, values of a row are passed in the order of {@code columns}.
+     * @return Future completed when all rows are passed to the consumer.
+     */
+    CompletableFuture<Void> scan(int tableId, int partitionId, List<String> columns, Consumer<List<Object>> consumer);
+}
@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.apache.ignite.lang.ErrorGroups.Sql.STMT_VALIDATION_ERR;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.apache.ignite.internal.hlc.ClockService;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.hlc.HybridTimestampTracker;
+import org.apache.ignite.internal.network.InternalClusterNode;
+import org.apache.ignite.internal.placementdriver.PlacementDriver;
+import org.apache.ignite.internal.placementdriver.ReplicaMeta;
+import org.apache.ignite.internal.replicator.ZonePartitionId;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.schema.Column;
+import org.apache.ignite.internal.schema.SchemaDescriptor;
+import org.apache.ignite.internal.schema.SchemaRegistry;
+import org.apache.ignite.internal.schema.row.Row;
+import org.apache.ignite.internal.table.InternalTable;
+import org.apache.ignite.internal.table.OperationContext;
+import org.apache.ignite.internal.table.TableViewInternal;
+import org.apache.ignite.internal.table.TxContext;
+import org.apache.ignite.internal.table.distributed.TableManager;
+import org.apache.ignite.internal.tx.InternalTransaction;
+import org.apache.ignite.internal.tx.TxManager;
+import org.apache.ignite.sql.SqlException;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Scanner reading partitions with read-only transactions, so the statistics collection neither takes locks nor blocks concurrent
+ * updates. Partitions are read from the local replicas, so no rows are transferred over the network.
+ */
+public class TableRowsScannerImpl implements TableRowsScanner {
+    private final TableManager tableManager;
+
+    private final PlacementDriver placementDriver;
+
+    private final ClockService clockService;
+
+    private final TxManager txManager;
+
+    private final Supplier<InternalClusterNode> localNode;
+
+    /** Constructor. */
+    public TableRowsScannerImpl(
+            TableManager tableManager,
+            PlacementDriver placementDriver,
+            ClockService clockService,
+            TxManager txManager,
+            Supplier<InternalClusterNode> localNode
+    ) {
+        this.tableManager = tableManager;
+        this.placementDriver = placementDriver;
+        this.clockService = clockService;
+        this.txManager = txManager;
+        this.localNode = localNode;
+    }
+
+    @Override
+    public List<Integer> localPrimaryPartitions(int tableId) {
+        TableViewInternal table = tableManager.cachedTable(tableId);
+
+        if (table == null) {
+            return List.of();
+        }
+
+        InternalTable internalTable = table.internalTable();
+        UUID localNodeId = localNode.get().id();
+        HybridTimestamp now = clockService.current();
+
+        List<Integer> partitions = new ArrayList<>();
+
+        for (int partId = 0; partId < internalTable.partitions(); partId++) {
+            ReplicaMeta primaryReplica = placementDriver.getCurrentPrimaryReplica(new ZonePartitionId(internalTable.zoneId(), partId), now);
+
+            if (primaryReplica != null && localNodeId.equals(primaryReplica.getLeaseholderId())) {
+                partitions.add(partId);
+            }
+        }
+
+        return partitions;
+    }
+
+    @Override
+    public CompletableFuture<Void> scan(int tableId, int partitionId, List<String> columns, Consumer<List<Object>> consumer) {
+        TableViewInternal table = tableManager.cachedTable(tableId);
+
+        if (table == null) {
+            return failedFuture(new SqlException(STMT_VALIDATION_ERR, "Table not found [id=" + tableId + "]."));
+        }
+
+        SchemaRegistry schemaRegistry = table.schemaView();
+        SchemaDescriptor schema = schemaRegistry.lastKnownSchema();
+
+        // Positions of the columns in the row, -1 for the columns unknown to the schema.
+        int[] positions = new int[columns.size()];
+
+        for (int i = 0; i < columns.size(); i++) {
+            Column column = schema.column(columns.get(i));
+
+            positions[i] = column == null ? -1 : column.positionInRow();
+        }
+
+        InternalTransaction tx = txManager.beginImplicitRo(HybridTimestampTracker.atomicTracker(null));
+
+        CompletableFuture<Void> result = new CompletableFuture<>();
+
+        table.internalTable()
+                .scan(partitionId, localNode.get(), OperationContext.create(TxContext.readOnly(tx)))
+                .subscribe(new Subscriber<>() {
+                    private @Nullable Subscription subscription;
+
+                    @Override
+                    public void onSubscribe(Subscription subscription) {
+                        this.subscription = subscription;
+
+                        subscription.request(Long.MAX_VALUE);
+                    }
+
+                    @Override
+                    public void onNext(BinaryRow binaryRow) {
+                        try {
+                            Row row = schemaRegistry.resolve(binaryRow, schema);
+
+                            Object[] values = new Object[positions.length];
+
+                            for (int i = 0; i < positions.length; i++) {
+                                values[i] = positions[i] < 0 ? null : row.value(positions[i]);
+                            }
+
+                            consumer.accept(Arrays.asList(values));
+                        } catch (Throwable e) {
+                            assert subscription != null;
+
+                            subscription.cancel();
+
+                            result.completeExceptionally(e);
+                        }
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                        result.completeExceptionally(throwable);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        result.complete(null);
+                    }
+                });
+
+        return result.whenComplete((none, err) -> tx.commitAsync());
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import java.time.Instant;
+import java.util.Map;
+import org.apache.ignite.internal.tostring.S;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Column statistics of a table collected by a single {@link SqlStatisticUpdateManager#analyzeAsync(int) analyze} run.
+ */
+public class TableStatistic {
+    private final int tableId;
+
+    private final String schemaName;
+
+    private final String tableName;
+
+    private final long rowCount;
+
+    private final Instant analyzeTime;
+
+    private final Map<String, ColumnStatistic> columns;
+
+    /** Constructor. */
+    public TableStatistic(
+            int tableId,
+            String schemaName,
+            String tableName,
+            long rowCount,
+            Instant analyzeTime,
+            Map<String, ColumnStatistic> columns
+    ) {
+        this.tableId = tableId;
+        this.schemaName = schemaName;
+        this.tableName = tableName;
+        this.rowCount = rowCount;
+        this.analyzeTime = analyzeTime;
+        this.columns = columns;
+    }
+
+    /** Returns table id. */
+    public int tableId() {
+        return tableId;
+    }
+
+    /** Returns name of the schema the table belonged to at the moment of analysis. */
+    public String schemaName() {
+        return schemaName;
+    }
+
+    /** Returns name of the table at the moment of analysis. */
+    public String tableName() {
+        return tableName;
+    }
+
+    /** Returns the number of rows seen by the analysis. */
+    public long rowCount() {
+        return rowCount;
+    }
+
+    /** Returns time the analysis was completed at. */
+    public Instant analyzeTime() {
+        return analyzeTime;
+    }
+
+    /** Returns statistics of all analyzed columns by column names. */
+    public Map<String, ColumnStatistic> columns() {
+        return columns;
+    }
+
+    /** Returns statistic of the given column. */
+    public @Nullable ColumnStatistic column(String columnName) {
+        return columns.get(columnName);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return S.toString(TableStatistic.class, this);
+    }
+}
@@ -145,6 +145,22 @@ public final class Commons {
      */
     public static final int SORTED_IDX_PART_PREFETCH_SIZE = 100;
 
+    /**
+     * The maximal number of partitions to be scanned concurrently by a single table or index scan, when the order of the
+     * result is not required. The value of 1 makes partitions to be scanned one by one.
+     */
+    public static final int SCAN_PARTITIONS_PARALLELISM = Math.max(1, IgniteSystemProperties.getInteger(
+            "IGNITE_SQL_SCAN_PARTITIONS_PARALLELISM", Math.min(8, Runtime.getRuntime().availableProcessors())));
+
+    /** The number of elements to be prefetched from each partition when partitions are scanned concurrently. */
+    public static final int PARALLEL_SCAN_PART_PREFETCH_SIZE = 256;
+
+    /**
+     * The maximal number of distinct keys of the build side of a hash join, for which a runtime filter is sent to the fragments producing
+     * the probe side. The value of 0 disables runtime filters.
+     */
+    public static final int RUNTIME_FILTER_MAX_KEYS = IgniteSystemProperties.getInteger("IGNITE_SQL_RUNTIME_FILTER_MAX_KEYS", 1 << 20);
+
     @SuppressWarnings("rawtypes")
     public static final List<RelTraitDef> DISTRIBUTED_TRAITS_SET = List.of(
             ConventionTraitDef.INSTANCE,
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.apache.calcite.avatica.util.ByteString;
+import org.apache.ignite.internal.sql.engine.framework.ArrayRowHandler;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for class {@link RuntimeFilter}.
+ */
+public class RuntimeFilterTest extends BaseIgniteAbstractTest {
+    private static final RowHandler<Object[]> HANDLER = ArrayRowHandler.INSTANCE;
+
+    @Test
+    void addedKeysPassFilter() {
+        int keysCount = 10_000;
+
+        // Build side rows have the key at position 0, probe side rows have the key at position 1.
+        RuntimeFilter filter = RuntimeFilter.create(new int[]{1}, keysCount);
+
+        for (int i = 0; i < keysCount; i++) {
+            assertTrue(filter.add(HANDLER, new Object[]{i * 2, "build"}, new int[]{0}));
+        }
+
+        for (int i = 0; i < keysCount; i++) {
+            assertTrue(filter.test(HANDLER, new Object[]{"probe", i * 2}));
+        }
+
+        long falsePositives = IntStream.range(0, keysCount)
+                .filter(i -> filter.test(HANDLER, new Object[]{"probe", i * 2 + 1}))
+                .count();
+
+        assertTrue(falsePositives < keysCount / 20, "falsePositives=" + falsePositives);
+    }
+
+    @Test
+    void compositeKey() {
+        RuntimeFilter filter = RuntimeFilter.create(new int[]{0, 1}, 2);
+
+        assertTrue(filter.add(HANDLER, new Object[]{1, "a"}, new int[]{0, 1}));
+        assertTrue(filter.add(HANDLER, new Object[]{2, "b"}, new int[]{0, 1}));
+
+        assertTrue(filter.test(HANDLER, new Object[]{1, "a"}));
+        assertTrue(filter.test(HANDLER, new Object[]{2, "b"}));
+        assertFalse(filter.test(HANDLER, new Object[]{3, "c"}));
+    }
+
+    @Test
+    void emptyFilterRejectsEverything() {
+        RuntimeFilter filter = RuntimeFilter.create(new int[]{0}, 0);
+
+        for (int i = 0; i < 100; i++) {
+            assertFalse(filter.test(HANDLER, new Object[]{i}));
+        }
+    }
+
+    @Test
+    void nullKeyNeverPasses() {
+        RuntimeFilter filter = RuntimeFilter.create(new int[]{0}, 1);
+
+        // Keys with nulls are ignored on the build side.
+        assertTrue(filter.add(HANDLER, new Object[]{null}, new int[]{0}));
+
+        assertFalse(filter.test(HANDLER, new Object[]{null}));
+    }
+
+    @Test
+    void unsupportedTypes() {
+        RuntimeFilter filter = RuntimeFilter.create(new int[]{0}, 1);
+
+        assertFalse(filter.add(HANDLER, new Object[]{new Object()}, new int[]{0}));
+
+        assertTrue(filter.test(HANDLER, new Object[]{new Object()}));
+    }
+
+    @Test
+    void valuesEqualAfterSerializationHaveSameHash() {
+        RuntimeFilter filter = RuntimeFilter.create(new int[]{0}, 4);
+
+        assertTrue(filter.add(HANDLER, new Object[]{new BigDecimal("1.5")}, new int[]{0}));
+        assertTrue(filter.add(HANDLER, new Object[]{-0.0d}, new int[]{0}));
+        assertTrue(filter.add(HANDLER, new Object[]{new byte[]{1, 2, 3}}, new int[]{0}));
+        assertTrue(filter.add(HANDLER, new Object[]{new UUID(1, 2)}, new int[]{0}));
+
+        assertTrue(filter.test(HANDLER, new Object[]{new BigDecimal("1.500")}));
+        assertTrue(filter.test(HANDLER, new Object[]{0.0d}));
+        assertTrue(filter.test(HANDLER, new Object[]{new ByteString(new byte[]{1, 2, 3})}));
+        assertTrue(filter.test(HANDLER, new Object[]{new UUID(1, 2)}));
+    }
+}
@@ -131,6 +131,7 @@ public class RuntimeSortedIndexTest extends IgniteAbstractTest {
                         null,
                         SqlCommon.DEFAULT_TIME_ZONE_ID,
                         -1,
+                        0,
                         Clock.systemUTC(),
                         null,
                         1L
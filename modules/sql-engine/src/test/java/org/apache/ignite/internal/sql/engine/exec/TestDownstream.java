@@ -31,6 +31,7 @@ import org.apache.ignite.internal.sql.engine.exec.rel.Downstream;
  */
 public class TestDownstream<T> implements Downstream<T> {
     private final List<T> rows = new ArrayList<>();
+    private final List<Integer> batchSizes = new ArrayList<>();
     private final CompletableFuture<List<T>> completion = new CompletableFuture<>();
 
     @Override
@@ -38,6 +39,12 @@ public class TestDownstream<T> implements Downstream<T> {
         rows.add(row);
     }
 
+    @Override
+    public void pushBatch(List<T> batch) {
+        batchSizes.add(batch.size());
+        rows.addAll(batch);
+    }
+
     @Override
     public void end() throws Exception {
         completion.complete(rows);
@@ -51,4 +58,9 @@ public class TestDownstream<T> implements Downstream<T> {
     public CompletableFuture<List<T>> result() {
         return completion;
     }
+
+    /** Returns sizes of the batches pushed via {@link #pushBatch(List)}. */
+    public List<Integer> batchSizes() {
+        return batchSizes;
+    }
 }
@@ -123,6 +123,10 @@ public abstract class AbstractExecutionTest<T> extends IgniteAbstractTest {
     }
 
     protected ExecutionContext<T> executionContext(int bufferSize, boolean withDelays) {
+        return executionContext(bufferSize, withDelays, 0);
+    }
+
+    protected ExecutionContext<T> executionContext(int bufferSize, boolean withDelays, long memoryQuota) {
         if (withDelays) {
             StripedThreadPoolExecutor testExecutor = new IgniteTestStripedThreadPoolExecutor(8,
                     IgniteThreadFactory.create("fake-test-node", "sqlTestExec", log),
@@ -162,6 +166,7 @@ public abstract class AbstractExecutionTest<T> extends IgniteAbstractTest {
                 TxAttributes.fromTx(new NoOpTransaction("fake-test-node", false)),
                 SqlCommon.DEFAULT_TIME_ZONE_ID,
                 bufferSize,
+                memoryQuota,
                 Clock.systemUTC(),
                 null,
                 1L
@@ -662,7 +662,7 @@ public abstract class BaseAggregateTest extends AbstractExecutionTest<Object[]>
         }
     }
 
-    private static AggregateCall createAggregateCall(
+    protected static AggregateCall createAggregateCall(
             SqlAggFunction func,
             List<Integer> args,
             RelDataType resultType
@@ -38,9 +38,12 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.apache.ignite.internal.failure.FailureManager;
 import org.apache.ignite.internal.failure.handlers.NoOpFailureHandler;
@@ -61,6 +64,7 @@ import org.apache.ignite.internal.sql.engine.exec.MailboxRegistryImpl;
 import org.apache.ignite.internal.sql.engine.exec.QueryTaskExecutor;
 import org.apache.ignite.internal.sql.engine.exec.QueryTaskExecutorImpl;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.RuntimeFilter;
 import org.apache.ignite.internal.sql.engine.exec.mapping.FragmentDescription;
 import org.apache.ignite.internal.sql.engine.framework.ArrayRowHandler;
 import org.apache.ignite.internal.sql.engine.framework.ClusterServiceFactory;
@@ -82,11 +86,13 @@ import org.apache.ignite.internal.util.IgniteSpinBusyLock;
 import org.apache.ignite.network.NetworkAddress;
 import org.apache.ignite.raft.jraft.util.NonReentrantLock;
 import org.hamcrest.CustomMatcher;
+import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 /**
  * Tests to verify Outbox to Inbox interoperation.
@@ -184,6 +190,61 @@ public class ExchangeExecutionTest extends AbstractExecutionTest<Object[]> {
         }
     }
 
+    @ParameterizedTest(name = "prefetch={0}")
+    @ValueSource(booleans = {true, false})
+    public void runtimeFilterIsAppliedBySource(boolean prefetch) {
+        UUID queryId = randomUUID();
+
+        int rowCount = 2 * Commons.IO_BATCH_SIZE * Commons.IO_BATCH_COUNT;
+
+        List<Object[]> rows = IntStream.range(0, rowCount)
+                .mapToObj(i -> new Object[]{i, i})
+                .collect(Collectors.toList());
+
+        Outbox<?> outbox = createSourceFragment(queryId, ANOTHER_NODE, serviceFactory, DataProvider.fromCollection(rows));
+
+        if (prefetch) {
+            await(outbox.context().submit(outbox::prefetch, outbox::onError));
+        }
+
+        RuntimeFilter filter = RuntimeFilter.create(new int[]{0}, rowCount / 10);
+
+        for (int i = 0; i < rowCount; i += 10) {
+            filter.add(ArrayRowHandler.INSTANCE, new Object[]{i}, new int[]{0});
+        }
+
+        AsyncRootNode<Object[], Object[]> root = createRootFragment(
+                queryId,
+                -1,
+                ROOT_NODE,
+                List.of(ANOTHER_NODE_NAME),
+                false,
+                serviceFactory,
+                filter
+        );
+
+        BatchedResult<Object[]> res = await(root.requestNextAsync(rowCount));
+
+        assertFalse(res.hasMore());
+
+        List<Object[]> expected = rows.stream()
+                .filter(row -> filter.test(ArrayRowHandler.INSTANCE, row))
+                .collect(Collectors.toList());
+
+        // Rows prefetched before the filter arrives have already been sent, so they pass through unfiltered.
+        if (prefetch) {
+            assertTrue(res.items().size() >= expected.size());
+        } else {
+            assertEquals(expected.size(), res.items().size());
+        }
+
+        Set<Integer> received = res.items().stream().map(row -> (Integer) row[0]).collect(Collectors.toSet());
+
+        for (Object[] row : expected) {
+            assertTrue(received.contains((Integer) row[0]), "Missing row: " + row[0]);
+        }
+    }
+
     private static Stream<Arguments> testArgs() {
         List<Integer> sizes = List.of(
                 // half of the batch size
@@ -500,6 +561,18 @@ public class ExchangeExecutionTest extends AbstractExecutionTest<Object[]> {
             List<String> sourceNodeNames,
             boolean ordered,
             ClusterServiceFactory serviceFactory
+    ) {
+        return createRootFragment(queryId, limit, localNode, sourceNodeNames, ordered, serviceFactory, null);
+    }
+
+    private RewindableAsyncRoot<Object[], Object[]> createRootFragment(
+            UUID queryId,
+            int limit,
+            InternalClusterNode localNode,
+            List<String> sourceNodeNames,
+            boolean ordered,
+            ClusterServiceFactory serviceFactory,
+            @Nullable RuntimeFilter runtimeFilter
     ) {
         QueryTaskExecutor taskExecutor = getOrCreateTaskExecutor(localNode.name());
 
@@ -523,6 +596,10 @@ public class ExchangeExecutionTest extends AbstractExecutionTest<Object[]> {
 
         mailboxRegistry.register(inbox);
 
+        if (runtimeFilter != null) {
+            inbox.runtimeFilter(runtimeFilter);
+        }
+
         AbstractNode<Object[]> node = inbox;
 
         if (limit > 0) {
@@ -18,9 +18,11 @@
 package org.apache.ignite.internal.sql.engine.exec.rel;
 
 import static org.apache.ignite.internal.sql.engine.util.Commons.IN_BUFFER_SIZE;
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.await;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.List;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.function.Predicate;
@@ -30,6 +32,7 @@ import java.util.stream.StreamSupport;
 import org.apache.ignite.internal.sql.engine.api.expressions.RowFactoryFactory;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.TestDownstream;
 import org.apache.ignite.internal.sql.engine.framework.ArrayRowHandler;
 import org.junit.jupiter.api.Test;
 
@@ -59,6 +62,31 @@ public class FilterExecutionTest extends AbstractExecutionTest<Object[]> {
         validateFilter(bufSize, 2 * bufSize);
     }
 
+    @Test
+    public void testRowsArePushedInBatches() {
+        ExecutionContext<Object[]> ctx = executionContext();
+
+        ScanNode<Object[]> srcNode = new ScanNode<>(ctx, () -> IntStream.range(0, 100).mapToObj(i -> new Object[]{i}).iterator());
+        FilterNode<Object[]> filterNode = new FilterNode<>(ctx, r -> (int) r[0] % 2 == 0);
+        ProjectNode<Object[]> projectNode = new ProjectNode<>(ctx, r -> new Object[]{(int) r[0] * 10});
+
+        filterNode.register(srcNode);
+        projectNode.register(filterNode);
+
+        TestDownstream<Object[]> downstream = new TestDownstream<>();
+        projectNode.onRegister(downstream);
+
+        projectNode.execute(() -> projectNode.request(IN_BUFFER_SIZE));
+
+        int[] actual = await(downstream.result()).stream().mapToInt(r -> (int) r[0]).toArray();
+        int[] expected = IntStream.range(0, 100).filter(i -> i % 2 == 0).map(i -> i * 10).toArray();
+
+        assertArrayEquals(expected, actual);
+
+        // Both filtered and projected rows are passed down as a single batch.
+        assertEquals(List.of(50), downstream.batchSizes());
+    }
+
     private void validateFilter(int bufSize, int dataSize) {
         Stream<Object[]> stream = executeFilter(bufSize, dataSize, row -> true);
 
@@ -17,18 +17,31 @@
 
 package org.apache.ignite.internal.sql.engine.exec.rel;
 
+import static org.apache.calcite.rel.core.JoinRelType.INNER;
 import static org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateType.MAP;
 import static org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateType.REDUCE;
 import static org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateType.SINGLE;
+import static org.apache.ignite.internal.sql.engine.util.SqlTestUtils.assertThrowsSqlException;
 import static org.apache.ignite.internal.util.CollectionUtils.first;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.IntStream;
 import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rel.RelCollations;
 import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.rel.core.JoinInfo;
 import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeName;
 import org.apache.calcite.util.ImmutableBitSet;
 import org.apache.calcite.util.ImmutableIntList;
 import org.apache.calcite.util.mapping.Mapping;
@@ -37,16 +50,160 @@ import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.exp.SqlComparator;
 import org.apache.ignite.internal.sql.engine.rel.agg.MapReduceAggregates;
 import org.apache.ignite.internal.sql.engine.rel.agg.MapReduceAggregates.MapReduceAgg;
+import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
 import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.sql.engine.util.PlanUtils;
 import org.apache.ignite.internal.sql.engine.util.TypeUtils;
+import org.apache.ignite.internal.type.NativeTypes;
 import org.apache.ignite.internal.type.StructNativeType;
+import org.apache.ignite.lang.ErrorGroups.Sql;
+import org.junit.jupiter.api.Test;
 
 /**
  * HashAggregateExecutionTest.
  * TODO Documentation https://issues.apache.org/jira/browse/IGNITE-15859
  */
 public class HashAggregateExecutionTest extends BaseAggregateTest {
+    @Test
+    public void spillsGroupsToDiskWhenMemoryQuotaExceeded() {
+        int groupsCount = 10_000;
+
+        ExecutionContext<Object[]> ctx = executionContext(-1, false, 64 * 1024);
+
+        RootNode<Object[]> root = new RootNode<>(ctx);
+        root.register(createSpillingCountAggregate(ctx, groupsCount));
+
+        assertGroupCounts(root, groupsCount);
+
+        assertEquals(0, ctx.memoryTracker().reserved());
+    }
+
+    @Test
+    public void spillsNewGroupsWhenMemoryIsFreedWhileSpilling() {
+        int groupsCount = 10_000;
+        long otherNodeMemory = 32 * 1024;
+
+        ExecutionContext<Object[]> ctx = executionContext(-1, false, 64 * 1024);
+
+        // Memory held by another node of the fragment, it is freed in the middle of the input, when the groups are already spilled.
+        ctx.memoryTracker().reserve(otherNodeMemory);
+
+        Iterable<Object[]> rows = () -> IntStream.range(0, 3 * groupsCount)
+                .peek(i -> {
+                    if (i == groupsCount) {
+                        ctx.memoryTracker().release(otherNodeMemory);
+                    }
+                })
+                .mapToObj(i -> row(i % groupsCount, i))
+                .iterator();
+
+        RootNode<Object[]> root = new RootNode<>(ctx);
+        root.register(createSpillingCountAggregate(ctx, rows));
+
+        assertGroupCounts(root, groupsCount);
+
+        assertEquals(0, ctx.memoryTracker().reserved());
+    }
+
+    @Test
+    public void releasesMemoryOfEmittedGroups() {
+        int groupsCount = 400;
+
+        // The groups fit into the quota, and so does the build side of the join, but not both at once.
+        ExecutionContext<Object[]> ctx = executionContext(64, false, 80 * 1024);
+
+        IgniteTypeFactory tf = ctx.getTypeFactory();
+
+        ScanNode<Object[]> persons = new ScanNode<>(ctx, List.of(row(0, "Igor", 1)));
+
+        HashJoinNode<Object[]> join = HashJoinNode.create(
+                ctx,
+                createIdentityProjectionIfNeeded(INNER),
+                TypeUtils.createRowType(tf, TypeUtils.native2relationalTypes(tf, NativeTypes.INT32, NativeTypes.STRING, NativeTypes.INT32)),
+                TypeUtils.createRowType(tf, TypeUtils.native2relationalTypes(tf, NativeTypes.INT32, NativeTypes.INT32)),
+                INNER,
+                JoinInfo.of(ImmutableIntList.of(2), ImmutableIntList.of(0)),
+                null
+        );
+
+        join.register(List.of(persons, createSpillingCountAggregate(ctx, groupsCount)));
+
+        RootNode<Object[]> root = new RootNode<>(ctx);
+        root.register(join);
+
+        assertTrue(root.hasNext());
+
+        Object[] row = root.next();
+
+        assertArrayEquals(row(0, "Igor", 1, 1), Arrays.copyOf(row, 4));
+        assertEquals(3L, ((Number) row[4]).longValue());
+
+        assertFalse(root.hasNext());
+
+        assertEquals(0, ctx.memoryTracker().reserved());
+    }
+
+    @Test
+    public void failsWhenGroupsDoNotFitIntoMemoryQuota() {
+        ExecutionContext<Object[]> ctx = executionContext(-1, false, 16);
+
+        RootNode<Object[]> root = new RootNode<>(ctx);
+        root.register(createSpillingCountAggregate(ctx, 10));
+
+        assertThrowsSqlException(Sql.RUNTIME_ERR, "Query fragment memory quota exceeded", root::hasNext);
+    }
+
+    /** Checks that every group is emitted once and has 3 rows. */
+    private static void assertGroupCounts(RootNode<Object[]> root, int groupsCount) {
+        Map<Object, Object> counts = new HashMap<>();
+
+        while (root.hasNext()) {
+            Object[] row = root.next();
+
+            assertNull(counts.put(row[0], row[1]), "Duplicate group: " + row[0]);
+        }
+
+        assertEquals(groupsCount, counts.size());
+
+        for (Object count : counts.values()) {
+            assertEquals(3L, ((Number) count).longValue());
+        }
+    }
+
+    /** Creates {@code SELECT a, COUNT(*) ... GROUP BY a} over a table having 3 rows per each of the given number of groups. */
+    private HashAggregateNode<Object[]> createSpillingCountAggregate(ExecutionContext<Object[]> ctx, int groupsCount) {
+        return createSpillingCountAggregate(ctx, () -> IntStream.range(0, 3 * groupsCount)
+                .mapToObj(i -> row(i % groupsCount, i)).iterator());
+    }
+
+    /** Creates {@code SELECT a, COUNT(*) ... GROUP BY a} over the given rows of {@code (a, b)}. */
+    private HashAggregateNode<Object[]> createSpillingCountAggregate(ExecutionContext<Object[]> ctx, Iterable<Object[]> rows) {
+        IgniteTypeFactory tf = ctx.getTypeFactory();
+        RelDataType rowType = TypeUtils.createRowType(tf, TypeUtils.native2relationalTypes(tf, NativeTypes.INT32, NativeTypes.INT32));
+        ScanNode<Object[]> scan = new ScanNode<>(ctx, rows);
+
+        AggregateCall call = createAggregateCall(
+                SqlStdOperatorTable.COUNT,
+                List.of(),
+                tf.createSqlType(SqlTypeName.INTEGER)
+        );
+
+        List<ImmutableBitSet> grpSets = List.of(ImmutableBitSet.of(0));
+
+        HashAggregateNode<Object[]> agg = new HashAggregateNode<>(
+                ctx,
+                SINGLE,
+                grpSets,
+                accFactory(ctx, call, SINGLE, rowType),
+                ctx.rowFactoryFactory().create(createOutputSchema(call, rowType, grpSets.get(0))),
+                ctx.rowFactoryFactory().create(TypeUtils.convertStructuredType(rowType))
+        );
+
+        agg.register(scan);
+
+        return agg;
+    }
+
     /** {@inheritDoc} */
     @Override
     protected SingleNode<Object[]> createColocatedAggregateNodesChain(
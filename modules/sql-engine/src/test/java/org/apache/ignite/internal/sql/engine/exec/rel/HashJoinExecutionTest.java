@@ -20,20 +20,35 @@ package org.apache.ignite.internal.sql.engine.exec.rel;
 import static org.apache.calcite.rel.core.JoinRelType.INNER;
 import static org.apache.calcite.rel.core.JoinRelType.LEFT;
 import static org.apache.calcite.rel.core.JoinRelType.SEMI;
+import static org.apache.ignite.internal.sql.engine.util.SqlTestUtils.assertThrowsSqlException;
 import static org.apache.ignite.internal.util.ArrayUtils.asList;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiPredicate;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import org.apache.calcite.rel.core.JoinRelType;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.RuntimeFilter;
+import org.apache.ignite.lang.ErrorGroups.Sql;
 import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 
@@ -98,6 +113,24 @@ public class HashJoinExecutionTest extends AbstractJoinExecutionTest {
         assert2DimArrayEquals(expectedAfterRewind, rowsAfterRewind);
     }
 
+    @Test
+    public void failsWhenBuildSideExceedsMemoryQuota() {
+        ExecutionContext<Object[]> ctx = executionContext(-1, false, 1024);
+
+        ScanNode<Object[]> persons = new ScanNode<>(ctx, Collections.singleton(new Object[]{0, "Igor", 1}));
+
+        ScanNode<Object[]> deps = new ScanNode<>(ctx, () -> IntStream.range(0, 1_000)
+                .mapToObj(i -> new Object[]{i, "Department " + i}).iterator());
+
+        HashJoinNode<Object[]> join = createJoinNode(ctx, INNER, null);
+        join.register(asList(persons, deps));
+
+        RootNode<Object[]> root = new RootNode<>(ctx);
+        root.register(join);
+
+        assertThrowsSqlException(Sql.RUNTIME_ERR, "Query fragment memory quota exceeded", root::hasNext);
+    }
+
     @Test
     void innerHashJoinWithPostFiltration() {
         Object[][] persons = {
@@ -175,6 +208,133 @@ public class HashJoinExecutionTest extends AbstractJoinExecutionTest {
         validate(SEMI, condition, Stream.of(persons)::iterator, Stream.of(deps)::iterator, expected);
     }
 
+    @Test
+    void runtimeFilterIsSentBeforeLeftSideIsRequested() {
+        ExecutionContext<Object[]> ctx = executionContext();
+
+        AtomicReference<RuntimeFilter> filterRef = new AtomicReference<>();
+
+        Inbox<Object[]> inbox = mock(Inbox.class);
+        doAnswer(invocation -> {
+            filterRef.set(invocation.getArgument(0));
+
+            return null;
+        }).when(inbox).runtimeFilter(any());
+
+        ScanNode<Object[]> persons = new ScanNode<>(ctx, Arrays.asList(
+                new Object[]{0, "Igor", 1},
+                new Object[]{1, "Roman", 2},
+                new Object[]{2, "Ivan", 5},
+                new Object[]{3, "Alexey", 1}
+        )) {
+            @Override
+            public void request(int rowsCnt) throws Exception {
+                assertNotNull(filterRef.get(), "Left side must be requested after the runtime filter is sent");
+
+                super.request(rowsCnt);
+            }
+        };
+
+        ScanNode<Object[]> deps = new ScanNode<>(ctx, Arrays.asList(
+                new Object[]{1, "Core"},
+                new Object[]{2, "SQL"},
+                new Object[]{3, "QA"}
+        ));
+
+        HashJoinNode<Object[]> join = createJoinNode(ctx, INNER, null);
+        join.register(asList(persons, deps));
+        join.runtimeFilterTarget(inbox);
+
+        RootNode<Object[]> node = new RootNode<>(ctx);
+        node.register(join);
+
+        Object[][] expected = {
+                {0, "Igor", 1, 1, "Core"},
+                {1, "Roman", 2, 2, "SQL"},
+                {3, "Alexey", 1, 1, "Core"}
+        };
+
+        assert2DimArrayEquals(expected, fetchRows(node));
+
+        RuntimeFilter filter = filterRef.get();
+        RowHandler<Object[]> handler = ctx.rowAccessor();
+
+        assertTrue(filter.test(handler, new Object[]{0, "Igor", 1}));
+        assertTrue(filter.test(handler, new Object[]{1, "Roman", 2}));
+        assertFalse(filter.test(handler, new Object[]{2, "Ivan", 5}));
+        assertFalse(filter.test(handler, new Object[]{4, "Anonymous", null}));
+    }
+
+    @Test
+    void leftSideIsRequestedOnceRuntimeFilterIsGivenUp() {
+        ExecutionContext<Object[]> ctx = executionContext();
+
+        Inbox<Object[]> inbox = mock(Inbox.class);
+
+        int depsCount = 3 * ctx.bufferSize();
+
+        AtomicInteger depsRead = new AtomicInteger();
+        AtomicInteger depsReadBeforeLeftRequest = new AtomicInteger(-1);
+
+        ScanNode<Object[]> persons = new ScanNode<>(ctx, Arrays.asList(
+                new Object[]{0, "Igor", 1},
+                new Object[]{1, "Roman", depsCount - 1}
+        )) {
+            @Override
+            public void request(int rowsCnt) throws Exception {
+                depsReadBeforeLeftRequest.compareAndSet(-1, depsRead.get());
+
+                super.request(rowsCnt);
+            }
+        };
+
+        ScanNode<Object[]> deps = new ScanNode<>(ctx, () -> IntStream.range(0, depsCount)
+                .peek(i -> depsRead.incrementAndGet())
+                .mapToObj(i -> new Object[]{i, "Dep" + i})
+                .iterator());
+
+        HashJoinNode<Object[]> join = createJoinNode(ctx, INNER, null);
+        join.register(asList(persons, deps));
+        join.runtimeFilterTarget(inbox);
+        join.runtimeFilterMaxKeys(1);
+
+        RootNode<Object[]> node = new RootNode<>(ctx);
+        node.register(join);
+
+        Object[][] expected = {
+                {0, "Igor", 1, 1, "Dep1"},
+                {1, "Roman", depsCount - 1, depsCount - 1, "Dep" + (depsCount - 1)}
+        };
+
+        assert2DimArrayEquals(expected, fetchRows(node));
+
+        // The left side is requested as soon as the right side has more keys than the filter can hold.
+        assertTrue(depsReadBeforeLeftRequest.get() < depsCount, "Left side must not wait for the whole right side");
+
+        verify(inbox, never()).runtimeFilter(any());
+    }
+
+    @Test
+    void runtimeFilterIsNotSentByLeftJoin() {
+        ExecutionContext<Object[]> ctx = executionContext();
+
+        Inbox<Object[]> inbox = mock(Inbox.class);
+
+        ScanNode<Object[]> persons = new ScanNode<>(ctx, Collections.singleton(new Object[]{0, "Igor", 1}));
+        ScanNode<Object[]> deps = new ScanNode<>(ctx, Collections.singleton(new Object[]{2, "SQL"}));
+
+        HashJoinNode<Object[]> join = createJoinNode(ctx, LEFT, null);
+        join.register(asList(persons, deps));
+        join.runtimeFilterTarget(inbox);
+
+        RootNode<Object[]> node = new RootNode<>(ctx);
+        node.register(join);
+
+        assert2DimArrayEquals(new Object[][]{{0, "Igor", 1, null, null}}, fetchRows(node));
+
+        verify(inbox, never()).runtimeFilter(any());
+    }
+
     private void validate(
             JoinRelType joinType,
             @Nullable BiPredicate<Object[], Object[]> condition,
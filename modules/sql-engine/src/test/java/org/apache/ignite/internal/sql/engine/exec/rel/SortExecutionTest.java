@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.rel;
+
+import static org.apache.calcite.rel.core.JoinRelType.INNER;
+import static org.apache.ignite.internal.sql.engine.util.SqlTestUtils.assertThrowsSqlException;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory;
+import org.apache.ignite.internal.sql.engine.api.expressions.RowFactoryFactory;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.framework.ArrayRowHandler;
+import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
+import org.apache.ignite.internal.sql.engine.util.TypeUtils;
+import org.apache.ignite.internal.type.NativeTypes;
+import org.apache.ignite.lang.ErrorGroups.Sql;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test SortNode execution.
+ */
+public class SortExecutionTest extends AbstractExecutionTest<Object[]> {
+    private static final Comparator<Object[]> COMPARATOR = Comparator.comparing((Object[] r) -> (Integer) r[0])
+            .thenComparing(r -> (String) r[1]);
+
+    @Test
+    public void spillsSortedRunsToDiskWhenMemoryQuotaExceeded() {
+        int rowsCount = 20_000;
+
+        ExecutionContext<Object[]> ctx = executionContext(-1, false, 64 * 1024);
+
+        List<Object[]> data = IntStream.range(0, rowsCount).boxed()
+                .map(i -> row(i / 2, "val_" + i)).collect(Collectors.toList());
+
+        List<Object[]> expected = new ArrayList<>(data);
+        expected.sort(COMPARATOR);
+
+        Collections.shuffle(data);
+
+        RootNode<Object[]> root = new RootNode<>(ctx);
+        SortNode<Object[]> sort = new SortNode<>(ctx, COMPARATOR, 0, -1, rowFactory(ctx));
+
+        root.register(sort);
+        sort.register(new ScanNode<>(ctx, data));
+
+        for (Object[] row : expected) {
+            assertTrue(root.hasNext());
+            assertArrayEquals(row, root.next());
+        }
+
+        assertFalse(root.hasNext());
+
+        assertEquals(0, ctx.memoryTracker().reserved());
+    }
+
+    @Test
+    public void releasesMemoryOfEmittedRows() {
+        int rowsCount = 1_000;
+
+        // The sorted rows fit into the quota, and so does the build side of the join, but not both at once.
+        ExecutionContext<Object[]> ctx = executionContext(64, false, 90_000);
+
+        List<Object[]> data = IntStream.range(0, rowsCount).boxed()
+                .map(i -> row(i, String.format("%04d", i))).collect(Collectors.toList());
+
+        Collections.shuffle(data);
+
+        SortNode<Object[]> sort = new SortNode<>(ctx, COMPARATOR, 0, -1, rowFactory(ctx));
+        sort.register(new ScanNode<>(ctx, data));
+
+        IgniteTypeFactory tf = ctx.getTypeFactory();
+
+        HashJoinNode<Object[]> join = HashJoinNode.create(
+                ctx,
+                createIdentityProjectionIfNeeded(INNER),
+                TypeUtils.createRowType(tf, TypeUtils.native2relationalTypes(tf, NativeTypes.INT32, NativeTypes.STRING, NativeTypes.INT32)),
+                TypeUtils.createRowType(tf, TypeUtils.native2relationalTypes(tf, NativeTypes.INT32, NativeTypes.STRING)),
+                INNER,
+                JoinInfo.of(ImmutableIntList.of(2), ImmutableIntList.of(0)),
+                null
+        );
+
+        join.register(List.of(new ScanNode<>(ctx, List.of(row(0, "Igor", 1))), sort));
+
+        RootNode<Object[]> root = new RootNode<>(ctx);
+        root.register(join);
+
+        assertTrue(root.hasNext());
+        assertArrayEquals(row(0, "Igor", 1, 1, "0001"), root.next());
+        assertFalse(root.hasNext());
+
+        assertEquals(0, ctx.memoryTracker().reserved());
+    }
+
+    @Test
+    public void failsWhenRowDoesNotFitIntoMemoryQuota() {
+        ExecutionContext<Object[]> ctx = executionContext(-1, false, 16);
+
+        RootNode<Object[]> root = new RootNode<>(ctx);
+        SortNode<Object[]> sort = new SortNode<>(ctx, COMPARATOR, 0, -1, rowFactory(ctx));
+
+        root.register(sort);
+        sort.register(new ScanNode<>(ctx, List.of(row(1, "a"), row(0, "b"))));
+
+        assertThrowsSqlException(Sql.RUNTIME_ERR, "Query fragment memory quota exceeded", root::hasNext);
+    }
+
+    private static RowFactory<Object[]> rowFactory(ExecutionContext<Object[]> ctx) {
+        return ctx.rowFactoryFactory().create(NativeTypes.structBuilder()
+                .addField("ID", NativeTypes.INT32, false)
+                .addField("VAL", NativeTypes.STRING, false)
+                .build());
+    }
+
+    @Override
+    protected RowHandler<Object[]> rowHandler() {
+        return ArrayRowHandler.INSTANCE;
+    }
+
+    @Override
+    protected RowFactoryFactory<Object[]> rowFactoryFactory() {
+        return ArrayRowHandler.INSTANCE;
+    }
+}
@@ -595,6 +595,7 @@ public class TestBuilders {
                     TxAttributes.fromTx(new NoOpTransaction(node.name(), false)),
                     zoneId,
                     -1,
+                    0,
                     clock,
                     null,
                     1L
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import static java.util.UUID.randomUUID;
+import static java.util.stream.Collectors.toList;
+import static org.apache.ignite.internal.sql.engine.statistic.ColumnStatisticAggregatorImpl.MAX_CONCURRENT_PARTITION_SCANS;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureExceptionMatcher.willThrow;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import org.apache.ignite.internal.cluster.management.topology.api.LogicalNode;
+import org.apache.ignite.internal.lang.IgniteInternalException;
+import org.apache.ignite.internal.network.ClusterNodeImpl;
+import org.apache.ignite.internal.network.InternalClusterNode;
+import org.apache.ignite.internal.network.MessagingService;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.apache.ignite.network.NetworkAddress;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ColumnStatisticAggregatorImpl}.
+ */
+class ColumnStatisticAggregatorImplTest extends BaseIgniteAbstractTest {
+    private static final int TABLE_ID = 1;
+
+    private static final int PARTITIONS = 10;
+
+    private static final int ROWS_PER_PARTITION = 10;
+
+    private final InternalClusterNode localNode = new ClusterNodeImpl(randomUUID(), "node", NetworkAddress.from("127.0.0.1:1111"));
+
+    @Test
+    void testLocalPartitionsAreMergedWithLimitedConcurrency() {
+        TestScanner scanner = new TestScanner(IntStream.range(0, PARTITIONS).boxed().collect(toList()));
+
+        CompletableFuture<List<ColumnStatisticCollector>> fut = newAggregator(scanner).collect(TABLE_ID, PARTITIONS, List.of("val"));
+
+        assertEquals(MAX_CONCURRENT_PARTITION_SCANS, scanner.scans.size());
+
+        for (int partId = 0; partId < PARTITIONS; partId++) {
+            assertFalse(fut.isDone());
+            assertThat(scanner.scansInProgress(), lessThanOrEqualTo(MAX_CONCURRENT_PARTITION_SCANS));
+
+            scanner.scans.get(partId).complete(null);
+        }
+
+        assertThat(fut, willCompleteSuccessfully());
+
+        List<ColumnStatisticCollector> columns = fut.join();
+
+        assertEquals(1, columns.size());
+
+        ColumnStatisticCollector column = columns.get(0);
+
+        assertEquals(PARTITIONS * ROWS_PER_PARTITION, column.rows());
+        assertEquals(PARTITIONS, column.nulls());
+        assertEquals(PARTITIONS * (ROWS_PER_PARTITION - 1), column.sample().size());
+    }
+
+    @Test
+    void testMissingPartitionFailsCollection() {
+        TestScanner scanner = new TestScanner(IntStream.range(0, PARTITIONS - 1).boxed().collect(toList()));
+
+        CompletableFuture<List<ColumnStatisticCollector>> fut = newAggregator(scanner).collect(TABLE_ID, PARTITIONS, List.of("val"));
+
+        for (int partId = 0; partId < PARTITIONS - 1; partId++) {
+            scanner.scans.get(partId).complete(null);
+        }
+
+        assertThat(fut, willThrow(IgniteInternalException.class));
+    }
+
+    private ColumnStatisticAggregatorImpl newAggregator(TableRowsScanner scanner) {
+        return new ColumnStatisticAggregatorImpl(
+                () -> Set.of(new LogicalNode(localNode)),
+                () -> localNode,
+                mock(MessagingService.class),
+                scanner
+        );
+    }
+
+    /** Scanner, which scans complete only when completed by the test. */
+    private static class TestScanner implements TableRowsScanner {
+        private final List<Integer> localPartitions;
+
+        private final Map<Integer, CompletableFuture<Void>> scans = new ConcurrentHashMap<>();
+
+        TestScanner(List<Integer> localPartitions) {
+            this.localPartitions = localPartitions;
+        }
+
+        @Override
+        public List<Integer> localPrimaryPartitions(int tableId) {
+            return localPartitions;
+        }
+
+        @Override
+        public CompletableFuture<Void> scan(int tableId, int partitionId, List<String> columns, Consumer<List<Object>> consumer) {
+            // Every partition has a null value and distinct non-null values.
+            consumer.accept(Arrays.asList((Object) null));
+
+            for (int i = 1; i < ROWS_PER_PARTITION; i++) {
+                consumer.accept(List.of(partitionId * ROWS_PER_PARTITION + i));
+            }
+
+            CompletableFuture<Void> scan = new CompletableFuture<>();
+
+            scans.put(partitionId, scan);
+
+            return scan;
+        }
+
+        int scansInProgress() {
+            return (int) scans.values().stream().filter(scan -> !scan.isDone()).count();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Random;
+import java.util.UUID;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link ColumnStatisticCollector}.
+ */
+class ColumnStatisticCollectorTest extends BaseIgniteAbstractTest {
+    private static final int SAMPLE_SIZE = 1_000;
+
+    private final Random random = new Random();
+
+    @Test
+    void mergedCollectorsDescribeUnionOfRows() {
+        // Partitions of different sizes with disjoint ranges of values: [0, 1000) and [1000, 10000).
+        ColumnStatisticCollector small = new ColumnStatisticCollector(SAMPLE_SIZE, random);
+        ColumnStatisticCollector large = new ColumnStatisticCollector(SAMPLE_SIZE, random);
+
+        for (int i = 0; i < 10_000; i++) {
+            (i < 1_000 ? small : large).add(i);
+        }
+
+        small.add(null);
+
+        ColumnStatisticCollector merged = new ColumnStatisticCollector(SAMPLE_SIZE, random);
+
+        merged.merge(small);
+        merged.merge(large);
+
+        assertEquals(10_001, merged.rows());
+        assertEquals(1, merged.nulls());
+        assertNotNull(merged.sample());
+        assertEquals(SAMPLE_SIZE, merged.sample().size());
+
+        ColumnStatistic statistic = merged.build(SqlStatisticManagerImpl.HISTOGRAM_BUCKETS);
+
+        assertEquals(10_000, statistic.distinctCount(), 10_000 * 0.05);
+        assertEquals(1.0 / 10_001, statistic.nullFraction(), 1e-9);
+
+        // The sample is weighted by partition sizes, so a tenth of sampled values comes from the small partition.
+        assertEquals(0.1, statistic.lessThanSelectivity(1_000, false), 0.05);
+    }
+
+    @Test
+    void restoredCollectorEqualsOriginal() {
+        ColumnStatisticCollector collector = new ColumnStatisticCollector(SAMPLE_SIZE, random);
+
+        for (int i = 0; i < 5_000; i++) {
+            collector.add(i % 3 == 0 ? null : "value" + i);
+        }
+
+        ColumnStatisticCollector restored = new ColumnStatisticCollector(
+                SAMPLE_SIZE,
+                random,
+                collector.rows(),
+                collector.nulls(),
+                HyperLogLog.fromRegisters(collector.distinctValues().registers()),
+                collector.sample()
+        );
+
+        ColumnStatistic expected = collector.build(8);
+        ColumnStatistic actual = restored.build(8);
+
+        assertEquals(expected.distinctCount(), actual.distinctCount());
+        assertEquals(expected.nullFraction(), actual.nullFraction());
+        assertNotNull(actual.histogram());
+        assertEquals(expected.histogram().min(), actual.histogram().min());
+        assertEquals(expected.histogram().max(), actual.histogram().max());
+    }
+
+    @Test
+    void sampleIsDroppedForUnsupportedTypes() {
+        ColumnStatisticCollector supported = new ColumnStatisticCollector(SAMPLE_SIZE, random);
+        ColumnStatisticCollector unsupported = new ColumnStatisticCollector(SAMPLE_SIZE, random);
+
+        supported.add(1);
+        unsupported.add(UUID.randomUUID());
+
+        supported.merge(unsupported);
+
+        assertNull(supported.sample());
+        assertNull(supported.build(8).histogram());
+        assertEquals(2, supported.build(8).distinctCount());
+    }
+}
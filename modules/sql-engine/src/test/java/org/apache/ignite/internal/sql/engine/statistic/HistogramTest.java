@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link Histogram}, {@link ColumnStatisticCollector} and selectivity estimations of {@link ColumnStatistic}.
+ */
+class HistogramTest extends BaseIgniteAbstractTest {
+    private static final double DELTA = 0.02;
+
+    @Test
+    void uniformDistribution() {
+        List<Integer> values = IntStream.range(0, 1_000).boxed().collect(Collectors.toList());
+
+        Histogram histogram = Histogram.build(values, 10);
+
+        assertEquals(10, histogram.buckets());
+        assertEquals(0, histogram.min());
+        assertEquals(999, histogram.max());
+
+        assertEquals(0.0, histogram.fractionBelow(-1), DELTA);
+        assertEquals(0.0, histogram.fractionBelow(0), DELTA);
+        assertEquals(0.25, histogram.fractionBelow(250), DELTA);
+        assertEquals(0.5, histogram.fractionBelow(500L), DELTA);
+        assertEquals(0.75, histogram.fractionBelow(new BigDecimal("750.5")), DELTA);
+        assertEquals(1.0, histogram.fractionBelow(1_000), DELTA);
+
+        assertEquals(0.0, histogram.fractionEqual(500), DELTA);
+    }
+
+    @Test
+    void skewedDistribution() {
+        List<Integer> values = new ArrayList<>();
+
+        // Half of the values are equal to 42, others are unique.
+        for (int i = 0; i < 1_000; i++) {
+            values.add(i % 2 == 0 ? 42 : 1_000 + i);
+        }
+
+        Collections.sort(values);
+
+        Histogram histogram = Histogram.build(values, 20);
+
+        assertEquals(0.45, histogram.fractionEqual(42), 0.05);
+        assertEquals(0.0, histogram.fractionEqual(43), DELTA);
+        assertEquals(0.0, histogram.fractionBelow(42), DELTA);
+    }
+
+    @Test
+    void stringValues() {
+        List<String> values = IntStream.range(0, 26)
+                .mapToObj(i -> String.valueOf((char) ('a' + i)))
+                .collect(Collectors.toList());
+
+        Histogram histogram = Histogram.build(values, 26);
+
+        assertEquals(0.5, histogram.fractionBelow("n"), 0.05);
+        assertNull(histogram.fractionBelow(10));
+        assertNull(histogram.fractionEqual(10));
+    }
+
+    @Test
+    void emptySample() {
+        assertNull(Histogram.build(List.of(), 10));
+    }
+
+    @Test
+    void collectorBuildsStatistic() {
+        ColumnStatisticCollector collector = new ColumnStatisticCollector(1_000, new Random(0));
+
+        for (int i = 0; i < 100_000; i++) {
+            collector.add(i % 10 == 0 ? null : i % 1_000);
+        }
+
+        ColumnStatistic statistic = collector.build(50);
+
+        assertEquals(100_000, collector.rows());
+        assertEquals(0.1, statistic.nullFraction(), DELTA);
+        assertEquals(900, statistic.distinctCount(), 900 * 0.05);
+
+        // The histogram is built from the sample of 1000 values.
+        assertEquals(50, statistic.histogram().buckets());
+
+        assertEquals(0.9 / 900, statistic.equalsSelectivity(500), 0.0001);
+        assertEquals(0.45, statistic.lessThanSelectivity(500, false), 0.05);
+        assertEquals(0.45, statistic.greaterThanSelectivity(500, true), 0.05);
+        assertEquals(0.0, statistic.lessThanSelectivity(0, false), DELTA);
+        assertNull(statistic.lessThanSelectivity("500", false));
+    }
+
+    @Test
+    void collectorSkipsHistogramForUnsupportedTypes() {
+        ColumnStatisticCollector collector = new ColumnStatisticCollector(1_000, new Random(0));
+
+        for (int i = 0; i < 100; i++) {
+            collector.add(new byte[] {(byte) i});
+        }
+
+        ColumnStatistic statistic = collector.build(50);
+
+        assertEquals(100, statistic.distinctCount(), 5);
+        assertNull(statistic.histogram());
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.UUID;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests of {@link HyperLogLog}.
+ */
+class HyperLogLogTest extends BaseIgniteAbstractTest {
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 10, 1_000, 100_000, 1_000_000})
+    void estimatesNumberOfDistinctValues(int distinct) {
+        HyperLogLog sketch = new HyperLogLog();
+
+        for (int i = 0; i < distinct; i++) {
+            sketch.add((long) i);
+            // Duplicates must not affect the estimation.
+            sketch.add((long) i);
+        }
+
+        sketch.add(null);
+
+        assertEquals(distinct, sketch.estimate(), Math.max(1, distinct * 0.05));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1_000, 100_000})
+    void mergedSketchEstimatesUnion(int distinct) {
+        HyperLogLog left = new HyperLogLog();
+        HyperLogLog right = new HyperLogLog();
+
+        // The halves of values overlap.
+        for (int i = 0; i < distinct; i++) {
+            left.add("value" + i);
+            right.add("value" + (i + distinct / 2));
+        }
+
+        left.merge(right);
+
+        double expected = distinct * 1.5;
+
+        assertEquals(expected, left.estimate(), expected * 0.05);
+    }
+
+    @Test
+    void valuesWithCollidingHashCodesAreDistinguished() {
+        HyperLogLog sketch = new HyperLogLog();
+
+        int distinct = 100_000;
+
+        for (long i = 0; i < distinct; i++) {
+            // Halves of the values are equal, so all of them have the same Long#hashCode().
+            sketch.add((i << 32) | i);
+        }
+
+        assertEquals(distinct, sketch.estimate(), distinct * 0.05);
+    }
+
+    @Test
+    void restoredSketchHasSameEstimation() {
+        HyperLogLog sketch = new HyperLogLog();
+
+        for (int i = 0; i < 10_000; i++) {
+            sketch.add(UUID.randomUUID());
+        }
+
+        HyperLogLog restored = HyperLogLog.fromRegisters(sketch.registers());
+
+        assertEquals(sketch.estimate(), restored.estimate());
+        assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromRegisters(new byte[16]));
+    }
+}
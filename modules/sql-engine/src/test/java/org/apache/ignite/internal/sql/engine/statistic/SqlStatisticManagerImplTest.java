@@ -19,7 +19,15 @@ package org.apache.ignite.internal.sql.engine.statistic;
 
 import static it.unimi.dsi.fastutil.ints.Int2ObjectMap.entry;
 import static org.apache.ignite.internal.sql.engine.statistic.SqlStatisticManagerImpl.DEFAULT_TABLE_SIZE;
+import static org.apache.ignite.internal.sql.engine.statistic.SqlStatisticManagerImpl.HISTOGRAM_SAMPLE_SIZE;
+import static org.apache.ignite.internal.sql.engine.statistic.event.StatisticChangedEvent.STATISTIC_CHANGED;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureExceptionMatcher.willThrow;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -39,6 +47,7 @@ import it.unimi.dsi.fastutil.ints.IntList;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -48,6 +57,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.ignite.configuration.ConfigurationValue;
 import org.apache.ignite.internal.catalog.Catalog;
 import org.apache.ignite.internal.catalog.CatalogManager;
+import org.apache.ignite.internal.catalog.descriptors.CatalogSchemaDescriptor;
 import org.apache.ignite.internal.catalog.descriptors.CatalogTableColumnDescriptor;
 import org.apache.ignite.internal.catalog.descriptors.CatalogTableDescriptor;
 import org.apache.ignite.internal.catalog.events.CatalogEvent;
@@ -517,6 +527,90 @@ class SqlStatisticManagerImplTest extends BaseIgniteAbstractTest {
         assertEquals(tableSize, sqlStatisticManager.tableSize(tableId));
     }
 
+    @Test
+    public void analyzeCollectsColumnStatistics() {
+        int tableId = ThreadLocalRandom.current().nextInt();
+        int rows = 10_000;
+
+        CatalogTableColumnDescriptor valCol = new CatalogTableColumnDescriptor("valCol", ColumnType.INT32, true, 0, 0, 0, null);
+
+        prepareCatalogForAnalyze(tableId, valCol);
+
+        int partitions = 4;
+
+        when(tableManager.cachedTable(tableId)).thenReturn(tableViewInternal);
+        when(tableViewInternal.internalTable()).thenReturn(internalTable);
+        when(internalTable.partitions()).thenReturn(partitions);
+
+        // Every partition is sampled separately, and the sketches are merged.
+        ColumnStatisticAggregator aggregator = (id, partitionsCount, columns) -> {
+            assertEquals(tableId, id);
+            assertEquals(partitions, partitionsCount);
+            assertEquals(List.of("pkCol", "valCol"), columns);
+
+            Random random = new Random();
+            List<ColumnStatisticCollector> merged = List.of(
+                    new ColumnStatisticCollector(HISTOGRAM_SAMPLE_SIZE, random),
+                    new ColumnStatisticCollector(HISTOGRAM_SAMPLE_SIZE, random)
+            );
+
+            for (int partId = 0; partId < partitionsCount; partId++) {
+                ColumnStatisticCollector pkCollector = new ColumnStatisticCollector(HISTOGRAM_SAMPLE_SIZE, random);
+                ColumnStatisticCollector valCollector = new ColumnStatisticCollector(HISTOGRAM_SAMPLE_SIZE, random);
+
+                for (int i = partId; i < rows; i += partitionsCount) {
+                    pkCollector.add("key" + i);
+                    // Every 4th value is null, other values are in range [0, 100).
+                    valCollector.add(i % 4 == 0 ? null : i % 100);
+                }
+
+                merged.get(0).merge(pkCollector);
+                merged.get(1).merge(valCollector);
+            }
+
+            return CompletableFuture.completedFuture(merged);
+        };
+
+        SqlStatisticManagerImpl sqlStatisticManager = newSqlStatisticsManager(aggregator);
+
+        List<Integer> changedTables = new ArrayList<>();
+        sqlStatisticManager.listen(STATISTIC_CHANGED, EventListener.fromConsumer(p -> changedTables.add(p.tableId())));
+
+        assertNull(sqlStatisticManager.columnStatistic(tableId, "valCol"));
+
+        assertThat(sqlStatisticManager.analyzeAsync(tableId), willCompleteSuccessfully());
+
+        assertEquals(List.of(tableId), changedTables);
+
+        ColumnStatistic pkStatistic = sqlStatisticManager.columnStatistic(tableId, "pkCol");
+
+        assertNotNull(pkStatistic);
+        assertEquals(0.0, pkStatistic.nullFraction());
+        assertEquals(rows, pkStatistic.distinctCount(), rows * 0.05);
+
+        ColumnStatistic valStatistic = sqlStatisticManager.columnStatistic(tableId, "valCol");
+
+        assertNotNull(valStatistic);
+        assertEquals(0.25, valStatistic.nullFraction());
+        // Multiples of 4 are always null.
+        assertEquals(75, valStatistic.distinctCount(), 3);
+        assertNotNull(valStatistic.histogram());
+        assertEquals(0.375, valStatistic.lessThanSelectivity(50, false), 0.05);
+
+        TableStatistic tableStatistic = sqlStatisticManager.tableStatistics().iterator().next();
+
+        assertEquals(tableId, tableStatistic.tableId());
+        assertEquals(rows, tableStatistic.rowCount());
+    }
+
+    @Test
+    public void analyzeFailsWithoutAggregator() {
+        SqlStatisticManagerImpl sqlStatisticManager = newSqlStatisticsManager();
+
+        assertThat(sqlStatisticManager.analyzeAsync(1), willThrow(UnsupportedOperationException.class));
+        assertTrue(sqlStatisticManager.tableStatistics().isEmpty());
+    }
+
     private SqlStatisticManagerImpl newSqlStatisticsManager() {
         return newSqlStatisticsManager(UPDATE_INTERVAL_SECONDS);
     }
@@ -535,6 +629,39 @@ class SqlStatisticManagerImplTest extends BaseIgniteAbstractTest {
         );
     }
 
+    private SqlStatisticManagerImpl newSqlStatisticsManager(ColumnStatisticAggregator aggregator) {
+        return new SqlStatisticManagerImpl(
+                tableManager,
+                catalogManager,
+                lowWatermark,
+                scheduledExecutorService,
+                statAggregator,
+                statisticsConfiguration.autoRefresh().staleRowsCheckIntervalSeconds(),
+                aggregator,
+                statisticsConfiguration.autoRefresh().analyzeStaleTables()
+        );
+    }
+
+    private void prepareCatalogForAnalyze(int tableId, CatalogTableColumnDescriptor column) {
+        when(catalogManager.latestCatalogVersion()).thenReturn(1);
+        Catalog catalog = mock(Catalog.class);
+        when(catalogManager.catalog(1)).thenReturn(catalog);
+        CatalogTableDescriptor catalogDescriptor = CatalogTableDescriptor.builder()
+                .id(tableId)
+                .schemaId(1)
+                .primaryKeyIndexId(1)
+                .name("T")
+                .zoneId(1)
+                .newColumns(List.of(pkCol, column))
+                .primaryKeyColumns(IntList.of(0))
+                .storageProfile("")
+                .build();
+        when(catalog.table(tableId)).thenReturn(catalogDescriptor);
+        CatalogSchemaDescriptor schema = mock(CatalogSchemaDescriptor.class);
+        when(schema.name()).thenReturn("PUBLIC");
+        when(catalog.schema(1)).thenReturn(schema);
+    }
+
     private void prepareCatalogWithTable(int tableId) {
         when(catalogManager.earliestCatalogVersion()).thenReturn(1);
         when(catalogManager.latestCatalogVersion()).thenReturn(1);
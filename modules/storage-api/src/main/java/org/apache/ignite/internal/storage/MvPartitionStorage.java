@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.storage;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -187,6 +188,24 @@ public interface MvPartitionStorage extends ManuallyCloseable {
      */
     ReadResult read(RowId rowId, HybridTimestamp timestamp) throws StorageException;
 
+    /**
+     * Reads the values of multiple rows from the storage as they were at the given timestamp. Same as calling
+     * {@link #read(RowId, HybridTimestamp)} for every row ID, but allows the storage to look all the rows up in a single pass.
+     *
+     * @param rowIds Row IDs, may contain duplicates.
+     * @param timestamp Timestamp.
+     * @return Read results, in the order of the row IDs.
+     */
+    default List<ReadResult> readAll(List<RowId> rowIds, HybridTimestamp timestamp) throws StorageException {
+        var results = new ArrayList<ReadResult>(rowIds.size());
+
+        for (RowId rowId : rowIds) {
+            results.add(read(rowId, timestamp));
+        }
+
+        return results;
+    }
+
     /**
      * Creates (or replaces) an uncommitted (aka pending) version, assigned to the given transaction ID.
      *
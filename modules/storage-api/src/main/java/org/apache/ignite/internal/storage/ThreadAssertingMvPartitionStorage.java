@@ -92,6 +92,13 @@ public class ThreadAssertingMvPartitionStorage implements MvPartitionStorage, Wr
         return partitionStorage.read(rowId, timestamp);
     }
 
+    @Override
+    public List<ReadResult> readAll(List<RowId> rowIds, HybridTimestamp timestamp) throws StorageException {
+        assertThreadAllowsToRead();
+
+        return partitionStorage.readAll(rowIds, timestamp);
+    }
+
     @Override
     public AddWriteResult addWrite(
             RowId rowId,
@@ -18,9 +18,11 @@
 package org.apache.ignite.internal.storage.util;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 import org.apache.ignite.internal.catalog.descriptors.CatalogColumnCollation;
 import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
 import org.apache.ignite.internal.lang.IgniteStringFormatter;
@@ -266,6 +268,17 @@ public class StorageUtils {
         return RowId.lowestRowId(partitionId);
     }
 
+    /**
+     * Returns positions of the row IDs in the list, sorted by the row IDs. Lets batched reads visit the rows in the order of the storage.
+     */
+    public static int[] sortedRowIdPositions(List<RowId> rowIds) {
+        return IntStream.range(0, rowIds.size())
+                .boxed()
+                .sorted(Comparator.comparing(rowIds::get))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
     /**
      * Throws an {@link IndexNotBuiltException} if the index has not yet been built.
      *
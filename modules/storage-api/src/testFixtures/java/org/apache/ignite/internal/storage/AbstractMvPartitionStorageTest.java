@@ -798,6 +798,44 @@ public abstract class AbstractMvPartitionStorageTest extends BaseMvPartitionStor
         assertThat(foundResult.binaryRow(), isRow(binaryRow));
     }
 
+    @Test
+    void readAllReturnsResultsInRequestOrder() {
+        RowId rowId1 = insert(binaryRow, txId);
+        commitWrite(rowId1, clock.now(), txId);
+
+        HybridTimestamp betweenCommits = clock.now();
+
+        RowId rowId2 = insert(binaryRow2, txId);
+        commitWrite(rowId2, clock.now(), txId);
+
+        RowId rowId3 = insert(binaryRow3, txId);
+
+        RowId missingRowId = new RowId(PARTITION_ID);
+
+        List<RowId> rowIds = List.of(rowId3, rowId1, missingRowId, rowId2, rowId1);
+
+        for (HybridTimestamp timestamp : List.of(betweenCommits, clock.now(), HybridTimestamp.MAX_VALUE)) {
+            List<ReadResult> results = storage.readAll(rowIds, timestamp);
+
+            assertEquals(rowIds.size(), results.size());
+
+            for (int i = 0; i < rowIds.size(); i++) {
+                ReadResult expected = storage.read(rowIds.get(i), timestamp);
+                ReadResult actual = results.get(i);
+
+                assertThat(actual.rowId(), is(rowIds.get(i)));
+                assertEquals(expected.isWriteIntent(), actual.isWriteIntent());
+                assertEquals(expected.commitTimestamp(), actual.commitTimestamp());
+
+                if (expected.binaryRow() == null) {
+                    assertNull(actual.binaryRow());
+                } else {
+                    assertThat(actual.binaryRow(), isRow(expected.binaryRow()));
+                }
+            }
+        }
+    }
+
     @Test
     void readsUncommittedVersionEvenWhenThereIsCommittedVersionBeforeIt() {
         RowId rowId1 = insert(binaryRow, txId);
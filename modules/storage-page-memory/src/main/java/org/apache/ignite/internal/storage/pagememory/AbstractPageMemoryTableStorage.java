@@ -269,7 +269,8 @@ public abstract class AbstractPageMemoryTableStorage<T extends AbstractPageMemor
         return IgniteStringFormatter.format("tableId={}", getTableId());
     }
 
-    private <V> V busy(Supplier<V> supplier) {
+    /** Executes the supplier under the busy lock, throws an exception if the table storage is being closed or destroyed. */
+    <V> V busy(Supplier<V> supplier) {
         if (!busyLock.enterBusy()) {
             throwExceptionDependingOnStorageState(state.get(), createStorageInfo());
         }
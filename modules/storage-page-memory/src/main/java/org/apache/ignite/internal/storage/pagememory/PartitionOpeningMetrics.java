@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.metrics.DistributionMetric;
+import org.apache.ignite.internal.metrics.LongAdderMetric;
+import org.apache.ignite.internal.pagememory.metrics.CollectionMetricSource;
+
+/**
+ * Metrics of opening partitions that already exist on disk: opening of partition files and their delta files with validation of their
+ * headers and reading of partition meta.
+ */
+class PartitionOpeningMetrics {
+    /** Histogram bucket bounds for partition opening phases in nanoseconds. */
+    private static final long[] OPENING_DURATION_BOUNDS = {
+            TimeUnit.MICROSECONDS.toNanos(100),
+            TimeUnit.MILLISECONDS.toNanos(1),
+            TimeUnit.MILLISECONDS.toNanos(10),
+            TimeUnit.MILLISECONDS.toNanos(100),
+            TimeUnit.SECONDS.toNanos(1),
+            TimeUnit.SECONDS.toNanos(10),
+    };
+
+    private final DistributionMetric filesOpeningDuration;
+
+    private final DistributionMetric metaReadingDuration;
+
+    private final LongAdderMetric partitionsOpened;
+
+    /**
+     * Constructor.
+     *
+     * @param metricSource Metric source to register metrics with.
+     */
+    PartitionOpeningMetrics(CollectionMetricSource metricSource) {
+        filesOpeningDuration = metricSource.addMetric(new DistributionMetric(
+                "PartitionFilesOpeningDuration",
+                "Time spent opening a partition file with its delta files and validating their headers in nanoseconds.",
+                OPENING_DURATION_BOUNDS
+        ));
+
+        metaReadingDuration = metricSource.addMetric(new DistributionMetric(
+                "PartitionMetaReadingDuration",
+                "Time spent reading partition meta from a partition file in nanoseconds.",
+                OPENING_DURATION_BOUNDS
+        ));
+
+        partitionsOpened = metricSource.addMetric(new LongAdderMetric(
+                "PartitionsOpenedInAdvance",
+                "Total number of partitions found on disk that were opened in parallel on table storage creation."
+        ));
+    }
+
+    /** Records the duration of opening partition files in nanoseconds. */
+    void recordFilesOpeningDuration(long durationNanos) {
+        filesOpeningDuration.add(durationNanos);
+    }
+
+    /** Records the duration of reading partition meta in nanoseconds. */
+    void recordMetaReadingDuration(long durationNanos) {
+        metaReadingDuration.add(durationNanos);
+    }
+
+    /** Records that a partition has been opened in advance. */
+    void onPartitionOpened() {
+        partitionsOpened.increment();
+    }
+}
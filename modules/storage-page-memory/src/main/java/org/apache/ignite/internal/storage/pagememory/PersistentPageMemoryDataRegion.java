@@ -32,6 +32,7 @@ import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
@@ -45,6 +46,7 @@ import org.apache.ignite.internal.metrics.LongGauge;
 import org.apache.ignite.internal.metrics.MetricManager;
 import org.apache.ignite.internal.pagememory.DataRegion;
 import org.apache.ignite.internal.pagememory.FullPageId;
+import org.apache.ignite.internal.pagememory.configuration.PageCompression;
 import org.apache.ignite.internal.pagememory.configuration.PersistentDataRegionConfiguration;
 import org.apache.ignite.internal.pagememory.configuration.ReplacementMode;
 import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
@@ -67,6 +69,7 @@ import org.apache.ignite.internal.storage.metrics.StorageEngineTablesMetricSourc
 import org.apache.ignite.internal.storage.pagememory.configuration.schema.PersistentPageMemoryProfileConfiguration;
 import org.apache.ignite.internal.storage.pagememory.configuration.schema.PersistentPageMemoryProfileView;
 import org.apache.ignite.internal.util.OffheapReadWriteLock;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.VisibleForTesting;
 
 /**
@@ -109,6 +112,8 @@ public class PersistentPageMemoryDataRegion implements DataRegion<PersistentPage
 
     private final CheckpointManager checkpointManager;
 
+    private final @Nullable Executor readAheadExecutor;
+
     private volatile PersistentPageMemory pageMemory;
 
     private volatile AtomicLong pageListCacheLimit;
@@ -129,6 +134,7 @@ public class PersistentPageMemoryDataRegion implements DataRegion<PersistentPage
      * @param filePageStoreManager File page store manager.
      * @param partitionMetaManager Partition meta information manager.
      * @param checkpointManager Checkpoint manager.
+     * @param readAheadExecutor Executor that loads pages ahead of sequential scans, {@code null} to disable read-ahead.
      * @param pageSize Page size in bytes.
      */
     public PersistentPageMemoryDataRegion(
@@ -139,6 +145,7 @@ public class PersistentPageMemoryDataRegion implements DataRegion<PersistentPage
             FilePageStoreManager filePageStoreManager,
             PartitionMetaManager partitionMetaManager,
             CheckpointManager checkpointManager,
+            @Nullable Executor readAheadExecutor,
             int pageSize
     ) {
         this.metricManager = metricManager;
@@ -150,6 +157,7 @@ public class PersistentPageMemoryDataRegion implements DataRegion<PersistentPage
         this.filePageStoreManager = filePageStoreManager;
         this.partitionMetaManager = partitionMetaManager;
         this.checkpointManager = checkpointManager;
+        this.readAheadExecutor = readAheadExecutor;
 
         metricSource = new PersistentPageMemoryMetricSource("storage." + ENGINE_NAME + "." + cfg.value().name());
         metricsCalculator = new PersistentDataRegionMetricsCalculator(pageSize);
@@ -212,6 +220,9 @@ public class PersistentPageMemoryDataRegion implements DataRegion<PersistentPage
                 .size(sizeBytes)
                 .replacementMode(ReplacementMode.valueOf(cfg.replacementMode()))
                 .throttlingPolicyFactory(throttlingPolicyFactory())
+                .lockFreePageLookup(cfg.lockFreePageLookup())
+                .readAheadPages(cfg.readAheadPages())
+                .readAheadExecutor(readAheadExecutor)
                 .build();
     }
 
@@ -383,6 +394,13 @@ public class PersistentPageMemoryDataRegion implements DataRegion<PersistentPage
         return checkpointManager;
     }
 
+    /**
+     * Returns the compression of pages written to the file page stores of the data region.
+     */
+    public PageCompression pageCompression() {
+        return PageCompression.valueOf(((PersistentPageMemoryProfileView) cfg.value()).pageCompression());
+    }
+
     /**
      * Returns page list cache limit.
      */
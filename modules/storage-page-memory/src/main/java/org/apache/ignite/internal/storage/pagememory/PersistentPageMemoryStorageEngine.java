@@ -25,6 +25,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -35,6 +36,7 @@ import org.apache.ignite.internal.components.LogSyncer;
 import org.apache.ignite.internal.components.LongJvmPauseDetector;
 import org.apache.ignite.internal.configuration.SystemLocalConfiguration;
 import org.apache.ignite.internal.failure.FailureManager;
+import org.apache.ignite.internal.fileio.DirectFileIoFactory;
 import org.apache.ignite.internal.fileio.FileIoFactory;
 import org.apache.ignite.internal.fileio.MeteredFileIoFactory;
 import org.apache.ignite.internal.fileio.RandomAccessFileIoFactory;
@@ -44,6 +46,7 @@ import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.metrics.MetricManager;
 import org.apache.ignite.internal.pagememory.configuration.CheckpointConfiguration;
+import org.apache.ignite.internal.pagememory.configuration.CheckpointWriteStrategy;
 import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
 import org.apache.ignite.internal.pagememory.metrics.CollectionMetricSource;
 import org.apache.ignite.internal.pagememory.persistence.PageMemoryIoMetrics;
@@ -88,6 +91,12 @@ public class PersistentPageMemoryStorageEngine extends AbstractPageMemoryStorage
 
     public static final String THROTTLING_MIN_DIRTY_PAGES_SYSTEM_PROPERTY = "aipersistThrottlingMinDirtyPages";
 
+    /** Number of threads loading partition pages ahead of sequential scans. */
+    private static final int READ_AHEAD_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() / 4);
+
+    /** Maximum number of pending read-ahead requests. */
+    private static final int READ_AHEAD_QUEUE_SIZE = 1_024;
+
     private static final IgniteLogger LOG = Loggers.forClass(PersistentPageMemoryStorageEngine.class);
 
     private final String igniteInstanceName;
@@ -124,6 +133,12 @@ public class PersistentPageMemoryStorageEngine extends AbstractPageMemoryStorage
 
     private volatile ExecutorService destructionExecutor;
 
+    /** Executor for opening partitions found on disk in parallel. */
+    private volatile ExecutorService partitionOpeningExecutor;
+
+    /** Executor that loads partition pages ahead of sequential scans. */
+    private volatile ExecutorService readAheadExecutor;
+
     private final FailureManager failureManager;
 
     private final LogSyncer logSyncer;
@@ -133,6 +148,8 @@ public class PersistentPageMemoryStorageEngine extends AbstractPageMemoryStorage
 
     private RunConsistentlyMetrics runConsistentlyMetrics;
 
+    private PartitionOpeningMetrics partitionOpeningMetrics;
+
     /**
      * Constructor.
      *
@@ -196,7 +213,11 @@ public class PersistentPageMemoryStorageEngine extends AbstractPageMemoryStorage
         PageMemoryIoMetrics ioMetrics = new PageMemoryIoMetrics(ioMetricSource);
 
         try {
-            var fileIoFactory = new MeteredFileIoFactory(new RandomAccessFileIoFactory(), ioMetrics);
+            FileIoFactory delegateFileIoFactory = engineConfig.directIo().value()
+                    ? new DirectFileIoFactory()
+                    : new RandomAccessFileIoFactory();
+
+            var fileIoFactory = new MeteredFileIoFactory(delegateFileIoFactory, ioMetrics);
 
             filePageStoreManager = createFilePageStoreManager(igniteInstanceName, storagePath, fileIoFactory, pageSize, failureManager);
 
@@ -230,6 +251,19 @@ public class PersistentPageMemoryStorageEngine extends AbstractPageMemoryStorage
             throw new StorageException("Error starting checkpoint manager", e);
         }
 
+        // Read-ahead is best-effort, so the queue is bounded and overflowing requests are rejected instead of piling up.
+        ThreadPoolExecutor pageReadAheadExecutor = new ThreadPoolExecutor(
+                READ_AHEAD_THREADS,
+                READ_AHEAD_THREADS,
+                100,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(READ_AHEAD_QUEUE_SIZE),
+                IgniteThreadFactory.create(igniteInstanceName, "persistent-page-read-ahead", LOG)
+        );
+        pageReadAheadExecutor.allowCoreThreadTimeOut(true);
+
+        readAheadExecutor = pageReadAheadExecutor;
+
         // TODO: IGNITE-17066 Add handling deleting/updating data regions configuration
         for (StorageProfileView storageProfileView : storageConfig.profiles().value()) {
             if (storageProfileView instanceof PersistentPageMemoryProfileView) {
@@ -256,12 +290,26 @@ public class PersistentPageMemoryStorageEngine extends AbstractPageMemoryStorage
 
         destructionExecutor = executor;
 
+        ThreadPoolExecutor openingExecutor = new ThreadPoolExecutor(
+                Runtime.getRuntime().availableProcessors(),
+                Runtime.getRuntime().availableProcessors(),
+                100,
+                TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                IgniteThreadFactory.create(igniteInstanceName, "persistent-mv-partition-opening", LOG)
+        );
+        openingExecutor.allowCoreThreadTimeOut(true);
+
+        partitionOpeningExecutor = openingExecutor;
+
         storageMetricSource = new CollectionMetricSource("storage." + ENGINE_NAME, "storage", null);
 
         PersistentPageMemoryStorageMetrics.initMetrics(storageMetricSource, filePageStoreManager);
 
         runConsistentlyMetrics = new RunConsistentlyMetrics(storageMetricSource);
 
+        partitionOpeningMetrics = new PartitionOpeningMetrics(storageMetricSource);
+
         metricManager.registerSource(checkpointMetricSource);
         metricManager.registerSource(storageMetricSource);
         metricManager.registerSource(ioMetricSource);
@@ -280,6 +328,7 @@ public class PersistentPageMemoryStorageEngine extends AbstractPageMemoryStorage
                 .intervalDeviationPercent(checkpointCfg.intervalDeviationPercent()::value)
                 .readLockTimeoutMillis(checkpointCfg.readLockTimeoutMillis()::value)
                 .logReadLockThresholdTimeoutMillis(checkpointCfg.logReadLockThresholdTimeoutMillis()::value)
+                .writeStrategy(CheckpointWriteStrategy.valueOf(checkpointCfg.value().writeStrategy()))
                 .build();
     }
 
@@ -300,10 +349,18 @@ public class PersistentPageMemoryStorageEngine extends AbstractPageMemoryStorage
             Stream<AutoCloseable> closeRegions = regions.values().stream().map(region -> region::stop);
 
             ExecutorService destructionExecutor = this.destructionExecutor;
+            ExecutorService partitionOpeningExecutor = this.partitionOpeningExecutor;
+            ExecutorService readAheadExecutor = this.readAheadExecutor;
             CheckpointManager checkpointManager = this.checkpointManager;
             FilePageStoreManager filePageStoreManager = this.filePageStoreManager;
 
             Stream<AutoCloseable> resources = Stream.of(
+                    readAheadExecutor == null
+                            ? null
+                            : (AutoCloseable) () -> shutdownAndAwaitTermination(readAheadExecutor, 30, TimeUnit.SECONDS),
+                    partitionOpeningExecutor == null
+                            ? null
+                            : (AutoCloseable) () -> shutdownAndAwaitTermination(partitionOpeningExecutor, 30, TimeUnit.SECONDS),
                     destructionExecutor == null
                             ? null
                             : (AutoCloseable) () -> shutdownAndAwaitTermination(destructionExecutor, 30, TimeUnit.SECONDS),
@@ -343,6 +400,8 @@ public class PersistentPageMemoryStorageEngine extends AbstractPageMemoryStorage
 
         dataRegion.addTableStorage(tableStorage);
 
+        tableStorage.startOpeningPartitionsOnDisk(partitionOpeningExecutor, partitionOpeningMetrics);
+
         return tableStorage;
     }
 
@@ -410,6 +469,7 @@ public class PersistentPageMemoryStorageEngine extends AbstractPageMemoryStorage
                 filePageStoreManager,
                 partitionMetaManager,
                 checkpointManager,
+                readAheadExecutor,
                 pageSize
         );
 
@@ -17,6 +17,11 @@
 
 package org.apache.ignite.internal.storage.pagememory;
 
+import static java.util.concurrent.CompletableFuture.allOf;
+import static java.util.concurrent.CompletableFuture.delayedExecutor;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_AUX;
 import static org.apache.ignite.internal.util.GridUnsafe.allocateBuffer;
 import static org.apache.ignite.internal.util.GridUnsafe.freeBuffer;
@@ -24,15 +29,24 @@ import static org.apache.ignite.lang.ErrorGroups.Common.INTERNAL_ERR;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.function.Supplier;
 import org.apache.ignite.internal.failure.FailureProcessor;
 import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
 import org.apache.ignite.internal.lang.IgniteInternalException;
 import org.apache.ignite.internal.lang.IgniteStringFormatter;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.pagememory.PageMemory;
 import org.apache.ignite.internal.pagememory.freelist.FreeListImpl;
 import org.apache.ignite.internal.pagememory.persistence.GroupPartitionId;
@@ -51,11 +65,21 @@ import org.apache.ignite.internal.storage.pagememory.mv.RunConsistentlyMetrics;
 import org.apache.ignite.internal.storage.pagememory.mv.VersionChainTree;
 import org.apache.ignite.internal.storage.pagememory.mv.gc.GcQueue;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.TestOnly;
 
 /**
  * Implementation of {@link AbstractPageMemoryTableStorage} for persistent case.
  */
 public class PersistentPageMemoryTableStorage extends AbstractPageMemoryTableStorage<PersistentPageMemoryMvPartitionStorage> {
+    private static final IgniteLogger LOG = Loggers.forClass(PersistentPageMemoryTableStorage.class);
+
+    /**
+     * Time after the partitions found on disk have been opened in advance, after which the ones that have not been created by then are
+     * closed. Partitions of the local assignments are expected to be created on node recovery by then, the ones created later are
+     * opened anew.
+     */
+    static final long OPENED_IN_ADVANCE_PARTITIONS_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
     /** Storage engine instance. */
     private final PersistentPageMemoryStorageEngine engine;
 
@@ -68,6 +92,9 @@ public class PersistentPageMemoryTableStorage extends AbstractPageMemoryTableSto
 
     private final RunConsistentlyMetrics runConsistentlyMetrics;
 
+    /** Partitions that are being opened or have been opened in advance. Mapping: partition ID -> future with the partition. */
+    private final Map<Integer, CompletableFuture<OpenedPartition>> openedInAdvancePartitions = new ConcurrentHashMap<>();
+
     /**
      * Constructor.
      *
@@ -378,6 +405,9 @@ public class PersistentPageMemoryTableStorage extends AbstractPageMemoryTableSto
     }
 
     private CompletableFuture<Void> destroyPartitionPhysically(GroupPartitionId groupPartitionId) {
+        // The partition files must not stay open after they are deleted.
+        closeOpenedInAdvancePartition(openedInAdvancePartitions.remove(groupPartitionId.getPartitionId()));
+
         dataRegion.filePageStoreManager().getStore(groupPartitionId).markToDestroy();
 
         Lock partitionDestructionLock = dataRegion.checkpointManager().partitionDestructionLockManager().destructionLock(groupPartitionId)
@@ -427,6 +457,8 @@ public class PersistentPageMemoryTableStorage extends AbstractPageMemoryTableSto
 
             // TODO: IGNITE-20983 This shouldn't happen, we should read the page store and its meta again
             if (filePageStore != null) {
+                closeOpenedInAdvancePartition(openedInAdvancePartitions.remove(groupPartitionId.getPartitionId()));
+
                 StoragePartitionMeta partitionMeta = (StoragePartitionMeta) dataRegion.partitionMetaManager().getMeta(groupPartitionId);
 
                 assert partitionMeta != null : groupPartitionId;
@@ -434,9 +466,23 @@ public class PersistentPageMemoryTableStorage extends AbstractPageMemoryTableSto
                 return partitionMeta;
             }
 
-            filePageStore = readOrCreateAndInitFilePageStore(groupPartitionId, buffer);
+            OpenedPartition openedPartition = takeOpenedInAdvancePartition(groupPartitionId);
 
-            StoragePartitionMeta partitionMeta = readOrCreatePartitionMeta(groupPartitionId, filePageStore, buffer.rewind());
+            StoragePartitionMeta partitionMeta;
+
+            if (openedPartition != null) {
+                filePageStore = openedPartition.filePageStore;
+
+                try {
+                    partitionMeta = createPartitionMeta(groupPartitionId, openedPartition.metaPageBuffer);
+                } finally {
+                    openedPartition.freeMetaPageBuffer();
+                }
+            } else {
+                filePageStore = readOrCreateAndInitFilePageStore(groupPartitionId, buffer);
+
+                partitionMeta = readOrCreatePartitionMeta(groupPartitionId, filePageStore, buffer.rewind());
+            }
 
             filePageStore.pages(partitionMeta.pageCount());
 
@@ -472,6 +518,8 @@ public class PersistentPageMemoryTableStorage extends AbstractPageMemoryTableSto
                     groupPartitionId.getPartitionId()
             );
 
+            filePageStore.pageCompression(dataRegion.pageCompression());
+
             filePageStore.ensure();
 
             return filePageStore;
@@ -503,8 +551,211 @@ public class PersistentPageMemoryTableStorage extends AbstractPageMemoryTableSto
         }
     }
 
+    /**
+     * Creates partition meta from the meta page read in advance, with the current checkpoint ID and partition generation.
+     *
+     * @param groupPartitionId Partition of the group.
+     * @param metaPageBuffer Buffer with the meta page.
+     */
+    private StoragePartitionMeta createPartitionMeta(GroupPartitionId groupPartitionId, ByteBuffer metaPageBuffer) throws StorageException {
+        try {
+            int partGen = dataRegion.pageMemory().partGeneration(groupPartitionId.getGroupId(), groupPartitionId.getPartitionId());
+
+            return (StoragePartitionMeta) dataRegion.partitionMetaManager().createMeta(lastCheckpointId(), metaPageBuffer, partGen);
+        } catch (IgniteInternalCheckedException e) {
+            throw new StorageException(
+                    "Error creating partition meta information: [tableId={}, partitionId={}]",
+                    e,
+                    getTableId(), groupPartitionId.getPartitionId()
+            );
+        }
+    }
+
+    /**
+     * Starts opening partitions of the table that already exist on disk, so that on node start their files are opened, the file headers
+     * are validated and the partition meta page is read in parallel instead of one partition at a time in {@link #createMvPartition}.
+     *
+     * <p>Partitions opened in advance are picked up by {@link #createMvPartition}, the ones that are not are closed after
+     * {@link #OPENED_IN_ADVANCE_PARTITIONS_TIMEOUT_MILLIS} or along with the table storage, whichever comes first. Partitions are opened
+     * under the busy lock of the table storage, so none of them is being opened when the storage is closed or destroyed.</p>
+     *
+     * @param executor Executor to open the partitions in.
+     * @param metrics Partition opening metrics.
+     */
+    void startOpeningPartitionsOnDisk(Executor executor, PartitionOpeningMetrics metrics) {
+        Set<Integer> partitionIds = dataRegion.filePageStoreManager().partitionIdsOnFs(getTableId());
+
+        if (partitionIds.isEmpty()) {
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+
+        CompletableFuture<?>[] futures = partitionIds.stream()
+                .map(partitionId -> {
+                    CompletableFuture<OpenedPartition> future = supplyAsync(() -> openPartition(partitionId, metrics), executor);
+
+                    openedInAdvancePartitions.put(partitionId, future);
+
+                    return future;
+                })
+                .toArray(CompletableFuture[]::new);
+
+        allOf(futures).whenComplete((unused, throwable) -> {
+            if (throwable == null) {
+                LOG.info(
+                        "Partitions found on disk have been opened [tableId={}, partitions={}, duration={}ms]",
+                        getTableId(), futures.length, NANOSECONDS.toMillis(System.nanoTime() - startNanos)
+                );
+            } else {
+                LOG.warn("Failed to open some partitions found on disk in advance [tableId={}]", throwable, getTableId());
+            }
+
+            delayedExecutor(OPENED_IN_ADVANCE_PARTITIONS_TIMEOUT_MILLIS, MILLISECONDS, executor)
+                    .execute(this::closeOpenedInAdvancePartitions);
+        });
+    }
+
+    private OpenedPartition openPartition(int partitionId, PartitionOpeningMetrics metrics) {
+        return busy(() -> {
+            GroupPartitionId groupPartitionId = createGroupPartitionId(partitionId);
+
+            ByteBuffer buffer = allocateBuffer(dataRegion.pageMemory().pageSize());
+
+            // The meta itself is created when the partition is taken, so that it gets the actual checkpoint ID and partition generation.
+            ByteBuffer metaPageBuffer = allocateBuffer(dataRegion.pageMemory().pageSize());
+
+            FilePageStore filePageStore = null;
+
+            try {
+                long startNanos = System.nanoTime();
+
+                filePageStore = readOrCreateAndInitFilePageStore(groupPartitionId, buffer);
+
+                long filesOpenedNanos = System.nanoTime();
+
+                readOrCreateMetaPage(groupPartitionId, filePageStore, metaPageBuffer);
+
+                long metaReadNanos = System.nanoTime();
+
+                metrics.recordFilesOpeningDuration(filesOpenedNanos - startNanos);
+                metrics.recordMetaReadingDuration(metaReadNanos - filesOpenedNanos);
+                metrics.onPartitionOpened();
+
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug(
+                            "Partition opened [tableId={}, partitionId={}, deltaFiles={}, filesOpening={}us, metaReading={}us]",
+                            getTableId(), partitionId, filePageStore.deltaFileCount(),
+                            NANOSECONDS.toMicros(filesOpenedNanos - startNanos), NANOSECONDS.toMicros(metaReadNanos - filesOpenedNanos)
+                    );
+                }
+
+                return new OpenedPartition(filePageStore, metaPageBuffer);
+            } catch (Throwable t) {
+                freeBuffer(metaPageBuffer);
+
+                if (filePageStore != null) {
+                    try {
+                        filePageStore.close();
+                    } catch (IOException e) {
+                        t.addSuppressed(e);
+                    }
+                }
+
+                throw t;
+            } finally {
+                freeBuffer(buffer);
+            }
+        });
+    }
+
+    private void readOrCreateMetaPage(
+            GroupPartitionId groupPartitionId,
+            FilePageStore filePageStore,
+            ByteBuffer metaPageBuffer
+    ) throws StorageException {
+        try {
+            dataRegion.partitionMetaManager().readOrCreateMetaPage(groupPartitionId, filePageStore, metaPageBuffer);
+        } catch (IgniteInternalCheckedException e) {
+            throw new StorageException(
+                    "Error reading or creating partition meta page: [tableId={}, partitionId={}]",
+                    e,
+                    getTableId(), groupPartitionId.getPartitionId()
+            );
+        }
+    }
+
+    /** Takes the partition opened in advance, {@code null} if it has not been opened in advance or failed to open. */
+    private @Nullable OpenedPartition takeOpenedInAdvancePartition(GroupPartitionId groupPartitionId) {
+        CompletableFuture<OpenedPartition> future = openedInAdvancePartitions.remove(groupPartitionId.getPartitionId());
+
+        if (future == null) {
+            return null;
+        }
+
+        OpenedPartition openedPartition;
+
+        try {
+            openedPartition = future.join();
+        } catch (CompletionException | CancellationException e) {
+            // The partition will be opened once again, which will give the error to the caller if it is still there.
+            return null;
+        }
+
+        return openedPartition;
+    }
+
+    private void closeOpenedInAdvancePartition(@Nullable CompletableFuture<OpenedPartition> future) {
+        if (future == null) {
+            return;
+        }
+
+        future.thenAccept(openedPartition -> {
+            openedPartition.freeMetaPageBuffer();
+
+            try {
+                openedPartition.filePageStore.close();
+            } catch (IOException e) {
+                LOG.warn("Failed to close partition file opened in advance [file={}]", e, openedPartition.filePageStore.filePath());
+            }
+        });
+    }
+
     @Override
     protected void beforeCloseOrDestroy() {
         dataRegion.removeTableStorage(this);
+
+        // The busy lock is already blocked, so partitions are no longer being opened in advance and all the futures are completed.
+        closeOpenedInAdvancePartitions();
+    }
+
+    /** Closes the partitions opened in advance that have not been created yet. */
+    void closeOpenedInAdvancePartitions() {
+        for (Integer partitionId : openedInAdvancePartitions.keySet()) {
+            closeOpenedInAdvancePartition(openedInAdvancePartitions.remove(partitionId));
+        }
+    }
+
+    /** Returns the future of the partition being opened or opened in advance, {@code null} if there is none. */
+    @TestOnly
+    @Nullable CompletableFuture<?> openedInAdvancePartition(int partitionId) {
+        return openedInAdvancePartitions.get(partitionId);
+    }
+
+    /** Partition that has been opened in advance, but not yet added to the file page store and partition meta managers. */
+    private static class OpenedPartition {
+        final FilePageStore filePageStore;
+
+        /** Buffer with the partition meta page, owned by the opened partition until it is freed. */
+        final ByteBuffer metaPageBuffer;
+
+        OpenedPartition(FilePageStore filePageStore, ByteBuffer metaPageBuffer) {
+            this.filePageStore = filePageStore;
+            this.metaPageBuffer = metaPageBuffer;
+        }
+
+        void freeMetaPageBuffer() {
+            freeBuffer(metaPageBuffer);
+        }
     }
 }
@@ -200,4 +200,11 @@ public class VolatilePageMemoryDataRegion implements DataRegion<VolatilePageMemo
     public long regionSize() {
         return regionSize;
     }
+
+    /**
+     * Returns {@code true} if older committed row versions of the region's partitions should be stored as deltas.
+     */
+    public boolean deltaEncodedVersions() {
+        return ((VolatilePageMemoryProfileView) cfg.value()).deltaEncodedVersions();
+    }
 }
@@ -20,14 +20,30 @@ package org.apache.ignite.internal.storage.pagememory.configuration.schema;
 import org.apache.ignite.configuration.annotation.Config;
 import org.apache.ignite.configuration.annotation.PublicName;
 import org.apache.ignite.configuration.annotation.Value;
+import org.apache.ignite.configuration.validation.OneOf;
 import org.apache.ignite.configuration.validation.Range;
 import org.apache.ignite.internal.pagememory.configuration.CheckpointConfiguration;
+import org.apache.ignite.internal.pagememory.configuration.CheckpointWriteStrategy;
 
 /**
  * Checkpoint configuration schema for persistent page memory.
  */
 @Config
 public class PageMemoryCheckpointConfigurationSchema {
+    /**
+     * Dirty pages are written one by one.
+     *
+     * @see CheckpointWriteStrategy#PAGE_BY_PAGE
+     */
+    public static final String PAGE_BY_PAGE_WRITE_STRATEGY = "PAGE_BY_PAGE";
+
+    /**
+     * Dirty pages with consecutive page indexes are written with a single write.
+     *
+     * @see CheckpointWriteStrategy#COALESCED
+     */
+    public static final String COALESCED_WRITE_STRATEGY = "COALESCED";
+
     /** Interval between checkpoints in milliseconds. */
     @Range(min = 0)
     @Value(hasDefault = true)
@@ -69,4 +85,9 @@ public class PageMemoryCheckpointConfigurationSchema {
     @Value(hasDefault = true)
     @PublicName(legacyNames = "logReadLockThresholdTimeout")
     public long logReadLockThresholdTimeoutMillis = CheckpointConfiguration.DEFAULT_CHECKPOINT_LOG_READ_LOCK_THRESHOLD_TIMEOUT;
+
+    /** Strategy of writing dirty pages to the partition files. */
+    @OneOf({PAGE_BY_PAGE_WRITE_STRATEGY, COALESCED_WRITE_STRATEGY})
+    @Value(hasDefault = true)
+    public String writeStrategy = PAGE_BY_PAGE_WRITE_STRATEGY;
 }
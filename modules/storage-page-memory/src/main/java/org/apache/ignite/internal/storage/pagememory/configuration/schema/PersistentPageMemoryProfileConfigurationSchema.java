@@ -21,6 +21,8 @@ import org.apache.ignite.configuration.annotation.PolymorphicConfigInstance;
 import org.apache.ignite.configuration.annotation.PublicName;
 import org.apache.ignite.configuration.annotation.Value;
 import org.apache.ignite.configuration.validation.OneOf;
+import org.apache.ignite.configuration.validation.Range;
+import org.apache.ignite.internal.pagememory.configuration.PageCompression;
 import org.apache.ignite.internal.pagememory.configuration.ReplacementMode;
 import org.apache.ignite.internal.storage.configurations.StorageProfileConfigurationSchema;
 import org.apache.ignite.internal.storage.pagememory.PersistentPageMemoryStorageEngine;
@@ -51,6 +53,27 @@ public class PersistentPageMemoryProfileConfigurationSchema extends StorageProfi
      */
     public static final String CLOCK_REPLACEMENT_MODE = "CLOCK";
 
+    /**
+     * Scan-resistant 2Q page replacement algorithm.
+     *
+     * @see ReplacementMode#TWO_QUEUE
+     */
+    public static final String TWO_QUEUE_REPLACEMENT_MODE = "TWO_QUEUE";
+
+    /**
+     * Pages are written to disk as is.
+     *
+     * @see PageCompression#DISABLED
+     */
+    public static final String DISABLED_PAGE_COMPRESSION = "DISABLED";
+
+    /**
+     * Pages are compressed with Deflate before being written to disk.
+     *
+     * @see PageCompression#DEFLATE
+     */
+    public static final String DEFLATE_PAGE_COMPRESSION = "DEFLATE";
+
     /**
      * Memory region size in bytes.
      *
@@ -61,7 +84,21 @@ public class PersistentPageMemoryProfileConfigurationSchema extends StorageProfi
     public long sizeBytes = UNSPECIFIED_SIZE;
 
     /** Memory pages replacement mode. */
-    @OneOf({RANDOM_LRU_REPLACEMENT_MODE, SEGMENTED_LRU_REPLACEMENT_MODE, CLOCK_REPLACEMENT_MODE})
+    @OneOf({RANDOM_LRU_REPLACEMENT_MODE, SEGMENTED_LRU_REPLACEMENT_MODE, CLOCK_REPLACEMENT_MODE, TWO_QUEUE_REPLACEMENT_MODE})
     @Value(hasDefault = true)
     public String replacementMode = CLOCK_REPLACEMENT_MODE;
+
+    /** Compression of pages written to disk by checkpoints, page replacement and delta file compaction. */
+    @OneOf({DISABLED_PAGE_COMPRESSION, DEFLATE_PAGE_COMPRESSION})
+    @Value(hasDefault = true)
+    public String pageCompression = DISABLED_PAGE_COMPRESSION;
+
+    /** Whether pages already loaded into memory are looked up and acquired without taking the page memory segment lock. */
+    @Value(hasDefault = true)
+    public boolean lockFreePageLookup = false;
+
+    /** Number of partition pages loaded into memory in the background ahead of a sequential scan, {@code 0} to disable read-ahead. */
+    @Range(min = 0)
+    @Value(hasDefault = true)
+    public int readAheadPages = 0;
 }
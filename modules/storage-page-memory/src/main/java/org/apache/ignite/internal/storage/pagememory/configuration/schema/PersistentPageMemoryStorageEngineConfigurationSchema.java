@@ -41,6 +41,14 @@ public class PersistentPageMemoryStorageEngineConfigurationSchema {
     @PublicName(legacyNames = "pageSize")
     public int pageSizeBytes = DEFAULT_PAGE_SIZE;
 
+    /**
+     * Whether partition and delta files are accessed with direct I/O, bypassing the OS page cache. Requires a file system that supports
+     * {@code O_DIRECT}.
+     */
+    @Immutable
+    @Value(hasDefault = true)
+    public boolean directIo = false;
+
     /* Checkpoint configuration for persistent data regions. */
     @ConfigValue
     public PageMemoryCheckpointConfigurationSchema checkpoint;
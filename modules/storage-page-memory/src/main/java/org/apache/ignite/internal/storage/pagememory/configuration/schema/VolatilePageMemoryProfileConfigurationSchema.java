@@ -47,4 +47,13 @@ public class VolatilePageMemoryProfileConfigurationSchema extends StorageProfile
     @Value(hasDefault = true)
     @PublicName(legacyNames = "maxSize")
     public long maxSizeBytes = UNSPECIFIED_SIZE;
+
+    /**
+     * Whether older committed row versions are stored as deltas relative to the next newer committed version of the row.
+     *
+     * <p>Reduces memory consumed by the version chains of frequently updated rows at the cost of restoring the values of the old versions
+     * on read.
+     */
+    @Value(hasDefault = true)
+    public boolean deltaEncodedVersions = false;
 }
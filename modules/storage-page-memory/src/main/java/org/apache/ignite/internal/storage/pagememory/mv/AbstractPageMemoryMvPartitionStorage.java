@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.storage.pagememory.mv;
 
+import static org.apache.ignite.internal.storage.util.StorageUtils.sortedRowIdPositions;
 import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptionDependingOnStorageState;
 import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptionDependingOnStorageStateOnRebalance;
 import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptionIfStorageNotInRunnableOrRebalanceState;
@@ -25,6 +26,7 @@ import static org.apache.ignite.internal.storage.util.StorageUtils.transitionToC
 import static org.apache.ignite.internal.util.IgniteUtils.closeAll;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -246,6 +248,44 @@ public abstract class AbstractPageMemoryMvPartitionStorage implements MvPartitio
         });
     }
 
+    @Override
+    public List<ReadResult> readAll(List<RowId> rowIds, HybridTimestamp timestamp) throws StorageException {
+        return busy(() -> {
+            throwExceptionIfStorageNotInRunnableState();
+
+            for (RowId rowId : rowIds) {
+                if (rowId.partitionId() != partitionId) {
+                    throw new IllegalArgumentException(String.format(
+                            "RowId partition [%d] is not equal to storage partition [%d].",
+                            rowId.partitionId(),
+                            partitionId
+                    ));
+                }
+            }
+
+            var results = new ReadResult[rowIds.size()];
+
+            // Rows are looked up in the order of the version chain tree, so that consecutive lookups mostly hit the same tree pages.
+            for (int i : sortedRowIdPositions(rowIds)) {
+                RowId rowId = rowIds.get(i);
+
+                results[i] = findVersionChain(rowId, versionChain -> {
+                    if (versionChain == null) {
+                        return ReadResult.empty(rowId);
+                    }
+
+                    if (lookingForLatestVersion(timestamp)) {
+                        return findLatestRowVersion(versionChain);
+                    } else {
+                        return findRowVersionByTimestamp(versionChain, timestamp);
+                    }
+                });
+            }
+
+            return Arrays.asList(results);
+        });
+    }
+
     private static boolean lookingForLatestVersion(HybridTimestamp timestamp) {
         return HybridTimestamp.MAX_VALUE.equals(timestamp);
     }
@@ -373,6 +413,8 @@ public abstract class AbstractPageMemoryMvPartitionStorage implements MvPartitio
 
                 if (curCommit.isTombstone()) {
                     row = null;
+                } else if (curCommit instanceof DeltaRowVersion) {
+                    row = readRowVersionWithRestoredValue(chain, curCommit.link()).value();
                 } else {
                     row = curCommit.value();
                 }
@@ -537,6 +579,86 @@ public abstract class AbstractPageMemoryMvPartitionStorage implements MvPartitio
         }
     }
 
+    /**
+     * Returns {@code true} if older committed row versions are stored as deltas relative to the newer ones, see {@link DeltaRowVersion}.
+     */
+    boolean deltaEncodedVersions() {
+        return false;
+    }
+
+    /**
+     * Inserts a delta-encoded copy of the committed row version that is about to stop being the newest committed version in its chain.
+     *
+     * @param rowVersion Committed row version, its value will be loaded.
+     * @param newerValue Value of the version that becomes the closest newer committed version.
+     * @return Inserted delta-encoded copy of the row version or {@code null} if the row version should be kept as is.
+     */
+    @Nullable DeltaRowVersion insertDeltaEncodedRowVersion(RowVersion rowVersion, BinaryRow newerValue) {
+        assert deltaEncodedVersions() : createStorageInfo();
+
+        if (rowVersion.isTombstone()) {
+            return null;
+        }
+
+        DeltaRowVersion deltaRowVersion = DeltaRowVersion.encode(readRowVersion(rowVersion.link(), ALWAYS_LOAD_VALUE), newerValue);
+
+        if (deltaRowVersion != null) {
+            insertRowVersion(deltaRowVersion);
+        }
+
+        return deltaRowVersion;
+    }
+
+    /**
+     * Removes the row version replaced by its delta-encoded copy, moving its garbage collection queue entry to the copy.
+     *
+     * @param rowId Row ID.
+     * @param replaced Replaced row version.
+     * @param deltaRowVersion Delta-encoded copy that has already taken the place of the replaced version in the version chain.
+     */
+    void removeReplacedRowVersion(RowId rowId, RowVersion replaced, DeltaRowVersion deltaRowVersion) {
+        removeRowVersion(replaced);
+
+        GcQueue gcQueue = renewableState.gcQueue();
+
+        if (replaced.hasNextLink() && gcQueue.remove(rowId, replaced.timestamp(), replaced.link())) {
+            gcQueue.add(rowId, replaced.timestamp(), deltaRowVersion.link());
+        }
+    }
+
+    /**
+     * Reads the committed row version with its value, restoring the values of the {@link DeltaRowVersion delta-encoded} versions starting
+     * from the newest committed version of the chain.
+     *
+     * @param chain Version chain.
+     * @param rowVersionLink Link of a committed row version from the chain.
+     * @return Row version with the full value.
+     */
+    RowVersion readRowVersionWithRestoredValue(VersionChain chain, long rowVersionLink) {
+        assert chain.hasCommittedVersions() : chain;
+
+        RowVersion rowVersion = readRowVersion(chain.newestCommittedLink(), ALWAYS_LOAD_VALUE);
+
+        while (rowVersion.link() != rowVersionLink) {
+            if (!rowVersion.hasNextLink()) {
+                throw new StorageException(
+                        "Row version is not found in the version chain: [rowId={}, link={}, {}]",
+                        chain.rowId(), rowVersionLink, createStorageInfo()
+                );
+            }
+
+            BinaryRow newerValue = rowVersion.value();
+
+            rowVersion = readRowVersion(rowVersion.nextLink(), ALWAYS_LOAD_VALUE);
+
+            if (rowVersion instanceof DeltaRowVersion) {
+                rowVersion = ((DeltaRowVersion) rowVersion).restore(newerValue);
+            }
+        }
+
+        return rowVersion;
+    }
+
     @Override
     public AddWriteCommittedResult addWriteCommitted(
             RowId rowId,
@@ -22,6 +22,7 @@ import static org.apache.ignite.internal.storage.util.StorageUtils.throwStorageE
 import java.util.NoSuchElementException;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
+import org.apache.ignite.internal.pagememory.persistence.replacement.SequentialScanHint;
 import org.apache.ignite.internal.pagememory.tree.BplusTree.TreeRowMapClosure;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.storage.PartitionTimestampCursor;
@@ -62,29 +63,36 @@ abstract class AbstractPartitionTimestampCursor implements PartitionTimestampCur
                 return false;
             }
 
-            createVersionChainCursorIfMissing();
+            // Pages loaded by the full scan are unlikely to be needed again soon.
+            boolean prevScanHint = SequentialScanHint.start();
 
-            currentRowId = null;
+            try {
+                createVersionChainCursorIfMissing();
 
-            while (true) {
-                if (!cursor.hasNext()) {
-                    iterationExhausted = true;
+                currentRowId = null;
 
-                    return false;
-                }
+                while (true) {
+                    if (!cursor.hasNext()) {
+                        iterationExhausted = true;
 
-                ReadResult result = cursor.next();
+                        return false;
+                    }
 
-                RowId rowId = result.rowId();
+                    ReadResult result = cursor.next();
 
-                if (result.isEmpty() && !result.isWriteIntent()) {
-                    continue;
-                }
+                    RowId rowId = result.rowId();
 
-                nextRead = result;
-                currentRowId = rowId;
+                    if (result.isEmpty() && !result.isWriteIntent()) {
+                        continue;
+                    }
 
-                return true;
+                    nextRead = result;
+                    currentRowId = rowId;
+
+                    return true;
+                }
+            } finally {
+                SequentialScanHint.restore(prevScanHint);
             }
         });
     }
@@ -67,6 +67,10 @@ class AddWriteCommittedInvokeClosure implements InvokeClosure<VersionChain> {
     @Nullable
     private RowVersion prevRowVersion;
 
+    /** Delta-encoded copy of the previous row version that replaces it in the version chain, see {@link DeltaRowVersion}. */
+    @Nullable
+    private DeltaRowVersion prevDeltaRowVersion;
+
     private AddWriteCommittedResult addWriteCommittedResult;
 
     AddWriteCommittedInvokeClosure(
@@ -119,7 +123,17 @@ class AddWriteCommittedInvokeClosure implements InvokeClosure<VersionChain> {
             } else {
                 operationType = OperationType.PUT;
 
-                RowVersion newVersion = insertCommittedRowVersion(row, commitTimestamp, oldRow.headLink());
+                long nextLink = oldRow.headLink();
+
+                if (row != null && storage.deltaEncodedVersions()) {
+                    prevDeltaRowVersion = storage.insertDeltaEncodedRowVersion(prevRowVersion, row);
+
+                    if (prevDeltaRowVersion != null) {
+                        nextLink = prevDeltaRowVersion.link();
+                    }
+                }
+
+                RowVersion newVersion = insertCommittedRowVersion(row, commitTimestamp, nextLink);
 
                 newRow = VersionChain.createCommitted(rowId, newVersion.link(), newVersion.nextLink());
 
@@ -155,6 +169,12 @@ class AddWriteCommittedInvokeClosure implements InvokeClosure<VersionChain> {
      * Method to call after {@link BplusTree#invoke(Object, Object, InvokeClosure)} has completed.
      */
     void afterCompletion() {
+        if (prevDeltaRowVersion != null) {
+            assert prevRowVersion != null : addWriteCommittedInfo();
+
+            storage.removeReplacedRowVersion(rowId, prevRowVersion, prevDeltaRowVersion);
+        }
+
         if (rowLinkForAddToGcQueue != NULL_LINK) {
             gcQueue.add(rowId, commitTimestamp, rowLinkForAddToGcQueue);
         }
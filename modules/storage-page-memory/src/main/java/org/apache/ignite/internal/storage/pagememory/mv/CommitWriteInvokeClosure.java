@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.storage.pagememory.mv;
 
 import static org.apache.ignite.internal.pagememory.util.PageIdUtils.NULL_LINK;
+import static org.apache.ignite.internal.storage.pagememory.mv.AbstractPageMemoryMvPartitionStorage.ALWAYS_LOAD_VALUE;
 import static org.apache.ignite.internal.storage.pagememory.mv.AbstractPageMemoryMvPartitionStorage.DONT_LOAD_VALUE;
 
 import java.util.UUID;
@@ -29,6 +30,7 @@ import org.apache.ignite.internal.pagememory.tree.IgniteTree.InvokeClosure;
 import org.apache.ignite.internal.pagememory.tree.IgniteTree.OperationType;
 import org.apache.ignite.internal.pagememory.util.PageHandler;
 import org.apache.ignite.internal.pagememory.util.PageIdUtils;
+import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.storage.CommitResult;
 import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.storage.StorageException;
@@ -79,6 +81,10 @@ class CommitWriteInvokeClosure implements InvokeClosure<VersionChain> {
     @Nullable
     private RowVersion prevRowVersion;
 
+    /** Delta-encoded copy of the previous row version that replaces it in the version chain, see {@link DeltaRowVersion}. */
+    @Nullable
+    private DeltaRowVersion prevDeltaRowVersion;
+
     CommitWriteInvokeClosure(RowId rowId, HybridTimestamp timestamp, UUID txId, AbstractPageMemoryMvPartitionStorage storage) {
         this.rowId = rowId;
         this.timestamp = timestamp;
@@ -135,7 +141,21 @@ class CommitWriteInvokeClosure implements InvokeClosure<VersionChain> {
         } else {
             linkToWriteIntentToCommit = currentRowVersion.link();
 
-            newRow = VersionChain.createCommitted(rowId, currentRowVersion.link(), currentRowVersion.nextLink());
+            long nextLink = currentRowVersion.nextLink();
+
+            if (prevRowVersion != null && !currentRowVersion.isTombstone() && storage.deltaEncodedVersions()) {
+                BinaryRow value = storage.readRowVersion(currentRowVersion.link(), ALWAYS_LOAD_VALUE).value();
+
+                assert value != null : commitWriteInfo() + ", currentRowVersion=" + currentRowVersion;
+
+                prevDeltaRowVersion = storage.insertDeltaEncodedRowVersion(prevRowVersion, value);
+
+                if (prevDeltaRowVersion != null) {
+                    nextLink = prevDeltaRowVersion.link();
+                }
+            }
+
+            newRow = VersionChain.createCommitted(rowId, currentRowVersion.link(), nextLink);
 
             if (currentRowVersion.hasNextLink()) {
                 rowLinkForAddToGcQueue = currentRowVersion.link();
@@ -183,6 +203,20 @@ class CommitWriteInvokeClosure implements InvokeClosure<VersionChain> {
                         commitWriteInfo()
                 );
             }
+
+            if (prevDeltaRowVersion != null) {
+                try {
+                    freeList.updateDataRow(linkToWriteIntentToCommit, UpdateNextLinkHandler.INSTANCE, prevDeltaRowVersion.link());
+                } catch (IgniteInternalCheckedException e) {
+                    throw new StorageException(
+                            "Error updating the next link: [link={}, nextLink={}, {}]",
+                            e,
+                            linkToWriteIntentToCommit,
+                            prevDeltaRowVersion.link(),
+                            commitWriteInfo()
+                    );
+                }
+            }
         }
     }
 
@@ -203,6 +237,12 @@ class CommitWriteInvokeClosure implements InvokeClosure<VersionChain> {
             storage.removeRowVersion(toRemove);
         }
 
+        if (prevDeltaRowVersion != null) {
+            assert prevRowVersion != null : commitWriteInfo();
+
+            storage.removeReplacedRowVersion(rowId, prevRowVersion, prevDeltaRowVersion);
+        }
+
         if (rowLinkForAddToGcQueue != NULL_LINK) {
             gcQueue.add(rowId, timestamp, rowLinkForAddToGcQueue);
         }
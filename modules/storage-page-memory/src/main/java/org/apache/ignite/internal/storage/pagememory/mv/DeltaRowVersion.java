@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory.mv;
+
+import java.nio.ByteBuffer;
+import org.apache.ignite.internal.binarytuple.BinaryTuple;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.schema.BinaryRowImpl;
+import org.apache.ignite.internal.tostring.S;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Committed row version which stores its value as a delta relative to the value of the closest newer committed version in the version
+ * chain (see {@link ValueDeltaCodec}).
+ *
+ * <p>Delta-encoded versions are never tombstones and their base is never a tombstone or a write intent. The newest committed version
+ * of a chain is always stored in full, and garbage collection removes versions starting from the oldest one, so the base of a
+ * delta-encoded version outlives it.
+ *
+ * <p>{@link #value()} of a delta-encoded version is always {@code null}, the value has to be restored using {@link #restore(BinaryRow)}.
+ */
+class DeltaRowVersion extends RowVersion {
+    public static final byte DELTA_DATA_TYPE = 4;
+
+    /**
+     * Constructor.
+     */
+    DeltaRowVersion(int partitionId, HybridTimestamp commitTimestamp, long nextLink, int schemaVersion, byte[] delta) {
+        super(partitionId, commitTimestamp, nextLink, new BinaryRowImpl(schemaVersion, ByteBuffer.wrap(delta).order(BinaryTuple.ORDER)));
+    }
+
+    /**
+     * Constructor.
+     */
+    DeltaRowVersion(int partitionId, long link, HybridTimestamp timestamp, long nextLink, int valueSize, @Nullable BinaryRow delta) {
+        super(partitionId, link, timestamp, nextLink, valueSize, delta);
+    }
+
+    /**
+     * Creates a delta-encoded copy of the committed row version if its value can be efficiently encoded relative to the newer value.
+     *
+     * @param rowVersion Committed row version with a loaded value.
+     * @param newerValue Value of the closest newer committed version.
+     * @return Delta-encoded copy of the row version, not yet inserted into the free list, or {@code null} if the row version should be
+     *      kept as is.
+     */
+    static @Nullable DeltaRowVersion encode(RowVersion rowVersion, BinaryRow newerValue) {
+        assert rowVersion.isCommitted() : rowVersion;
+        assert !(rowVersion instanceof DeltaRowVersion) : rowVersion;
+
+        BinaryRow value = rowVersion.value();
+
+        if (value == null || value.schemaVersion() != newerValue.schemaVersion()) {
+            return null;
+        }
+
+        byte[] delta = ValueDeltaCodec.encode(newerValue.tupleSlice(), value.tupleSlice());
+
+        if (delta == null) {
+            return null;
+        }
+
+        return new DeltaRowVersion(rowVersion.partition(), rowVersion.timestamp(), rowVersion.nextLink(), value.schemaVersion(), delta);
+    }
+
+    @Override
+    public @Nullable BinaryRow value() {
+        return null;
+    }
+
+    /**
+     * Returns the stored delta, {@code null} if it was not loaded.
+     */
+    @Nullable BinaryRow delta() {
+        return super.value();
+    }
+
+    /**
+     * Restores the full row version.
+     *
+     * @param newerValue Value of the closest newer committed version.
+     * @return Row version with the same link, timestamp and next link, and the restored value.
+     */
+    RowVersion restore(@Nullable BinaryRow newerValue) {
+        BinaryRow delta = delta();
+
+        assert delta != null : "Delta is not loaded: " + this;
+        assert newerValue != null : "Base of a delta-encoded version must not be a tombstone: " + this;
+
+        ByteBuffer value = ValueDeltaCodec.decode(newerValue.tupleSlice(), delta.tupleSlice());
+
+        return new RowVersion(
+                partition(),
+                link(),
+                timestamp(),
+                nextLink(),
+                value.remaining(),
+                new BinaryRowImpl(delta.schemaVersion(), value)
+        );
+    }
+
+    @Override
+    boolean isTombstone() {
+        return false;
+    }
+
+    @Override
+    protected byte dataType() {
+        return DELTA_DATA_TYPE;
+    }
+
+    @Override
+    public String toString() {
+        return S.toString(DeltaRowVersion.class, this, super.toString());
+    }
+}
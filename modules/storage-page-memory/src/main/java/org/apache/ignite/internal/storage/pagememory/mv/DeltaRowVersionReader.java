@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory.mv;
+
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Reader of {@link DeltaRowVersion}s, the layout is the same as the one of plain row versions with the delta stored instead of the value.
+ */
+class DeltaRowVersionReader extends PlainRowVersionReader {
+    DeltaRowVersionReader(long link, int partitionId) {
+        super(link, partitionId);
+    }
+
+    @Override
+    public RowVersion createRowVersion(int valueSize, @Nullable BinaryRow value) {
+        assert timestamp != null : "Delta-encoded version must be committed: [link=" + link + ", partitionId=" + partitionId + ']';
+
+        return new DeltaRowVersion(partitionId, link, timestamp, nextLink, valueSize, value);
+    }
+}
@@ -18,22 +18,17 @@
 package org.apache.ignite.internal.storage.pagememory.mv;
 
 import static org.apache.ignite.internal.pagememory.util.PageIdUtils.NULL_LINK;
-import static org.apache.ignite.internal.pagememory.util.PartitionlessLinks.writePartitionless;
 import static org.apache.ignite.internal.storage.pagememory.mv.AbstractPageMemoryMvPartitionStorage.ALWAYS_LOAD_VALUE;
 import static org.apache.ignite.internal.storage.pagememory.mv.AbstractPageMemoryMvPartitionStorage.DONT_LOAD_VALUE;
 import static org.apache.ignite.internal.storage.pagememory.mv.FindRowVersion.RowVersionFilter.equalsByNextLink;
-import static org.apache.ignite.internal.util.GridUnsafe.pageSize;
 
 import java.util.List;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
 import org.apache.ignite.internal.pagememory.freelist.FreeList;
-import org.apache.ignite.internal.pagememory.io.DataPageIo;
-import org.apache.ignite.internal.pagememory.io.PageIo;
 import org.apache.ignite.internal.pagememory.tree.BplusTree;
 import org.apache.ignite.internal.pagememory.tree.IgniteTree.InvokeClosure;
 import org.apache.ignite.internal.pagememory.tree.IgniteTree.OperationType;
-import org.apache.ignite.internal.pagememory.util.PageHandler;
 import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.gc.GcEntry;
@@ -90,29 +85,6 @@ public class RemoveWriteOnGcInvokeClosure implements InvokeClosure<VersionChain>
         this.gcQueue = localState.gcQueue();
     }
 
-    private static class UpdateNextLinkHandler implements PageHandler<Long, Object> {
-        private static final UpdateNextLinkHandler INSTANCE = new UpdateNextLinkHandler();
-
-        @Override
-        public Object run(
-                int groupId,
-                long pageId,
-                long page,
-                long pageAddr,
-                PageIo io,
-                Long nextLink,
-                int itemId
-        ) throws IgniteInternalCheckedException {
-            DataPageIo dataIo = (DataPageIo) io;
-
-            int payloadOffset = dataIo.getPayloadOffset(pageAddr, itemId, pageSize(), 0);
-
-            writePartitionless(pageAddr + payloadOffset + RowVersion.NEXT_LINK_OFFSET, nextLink);
-
-            return true;
-        }
-    }
-
     @Override
     public void call(@Nullable VersionChain oldRow) throws IgniteInternalCheckedException {
         assert oldRow != null : "rowId=" + rowId + ", storage=" + storage.createStorageInfo();
@@ -121,6 +93,11 @@ public class RemoveWriteOnGcInvokeClosure implements InvokeClosure<VersionChain>
         RowVersion rowVersion = readRowVersionWithChecks(oldRow);
         RowVersion nextRowVersion = storage.readRowVersion(rowVersion.nextLink(), ALWAYS_LOAD_VALUE);
 
+        if (nextRowVersion instanceof DeltaRowVersion) {
+            // Removed value is used to clean up the indexes, so it has to be restored.
+            nextRowVersion = storage.readRowVersionWithRestoredValue(oldRow, rowVersion.nextLink());
+        }
+
         result = nextRowVersion;
 
         assert result.nextLink() == NULL_LINK : "GC queue is broken, nextLink must be null [nextLink=" + rowVersion.nextLink()
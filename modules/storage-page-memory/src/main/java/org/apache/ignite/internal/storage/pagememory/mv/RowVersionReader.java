@@ -36,6 +36,8 @@ interface RowVersionReader {
                 return new WiLinkableWriteIntentReader(link, partitionId);
             case WiLinkableRowVersion.COMMITTED_DATA_TYPE:
                 return new WiLinkableCommittedVersionReader(link, partitionId);
+            case DeltaRowVersion.DELTA_DATA_TYPE:
+                return new DeltaRowVersionReader(link, partitionId);
             default:
                 throw new IllegalStateException("Unsupported data type: " + dataType);
         }
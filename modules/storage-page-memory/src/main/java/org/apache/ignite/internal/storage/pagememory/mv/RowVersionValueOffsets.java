@@ -26,6 +26,7 @@ interface RowVersionValueOffsets {
     static RowVersionValueOffsets offsetsFor(byte dataType) {
         switch (dataType) {
             case RowVersion.DATA_TYPE:
+            case DeltaRowVersion.DELTA_DATA_TYPE:
                 return PlainRowVersionValueOffsets.INSTANCE;
             case WiLinkableRowVersion.WRITE_INTENT_DATA_TYPE:
             case WiLinkableRowVersion.COMMITTED_DATA_TYPE:
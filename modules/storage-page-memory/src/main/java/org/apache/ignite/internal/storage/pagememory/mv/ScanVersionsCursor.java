@@ -21,6 +21,7 @@ import static org.apache.ignite.internal.pagememory.util.PageIdUtils.NULL_LINK;
 import static org.apache.ignite.internal.storage.pagememory.mv.AbstractPageMemoryMvPartitionStorage.ALWAYS_LOAD_VALUE;
 
 import java.util.NoSuchElementException;
+import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.storage.ReadResult;
 import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.storage.StorageException;
@@ -43,6 +44,9 @@ class ScanVersionsCursor implements Cursor<ReadResult> {
 
     private long nextLink;
 
+    /** Value of the last read committed version, the base for the next {@link DeltaRowVersion delta-encoded} version. */
+    private @Nullable BinaryRow lastCommittedValue;
+
     /**
      * Constructor.
      *
@@ -77,6 +81,14 @@ class ScanVersionsCursor implements Cursor<ReadResult> {
             if (hasNext) {
                 currentRowVersion = storage.readRowVersion(nextLink, ALWAYS_LOAD_VALUE);
 
+                if (currentRowVersion instanceof DeltaRowVersion) {
+                    currentRowVersion = ((DeltaRowVersion) currentRowVersion).restore(lastCommittedValue);
+                }
+
+                if (currentRowVersion.isCommitted()) {
+                    lastCommittedValue = currentRowVersion.value();
+                }
+
                 nextLink = currentRowVersion.nextLink();
             }
 
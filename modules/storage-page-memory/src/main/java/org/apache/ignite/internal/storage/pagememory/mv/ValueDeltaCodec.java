@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory.mv;
+
+import static org.apache.ignite.internal.util.VarIntUtils.putVarIntToBytes;
+import static org.apache.ignite.internal.util.VarIntUtils.readVarInt;
+import static org.apache.ignite.internal.util.VarIntUtils.varIntLength;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.apache.ignite.internal.binarytuple.BinaryTuple;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Encodes a row version value as a delta relative to the value of a newer row version and restores it back.
+ *
+ * <p>Storage doesn't know the schema of the rows, so the delta is computed over the bytes of the binary tuples. Rows of the same schema
+ * version share the header and the offset table layout, and an update usually touches a few columns, which makes the common prefix, the
+ * common suffix and long equal runs in the middle of the tuples a good approximation of a per-column delta.
+ *
+ * <p>Delta is a sequence of operations, each starting with a var int header {@code (length << 1) | type}:
+ * <ul>
+ *     <li>{@link #COPY} - followed by a var int offset, copies {@code length} bytes from the newer value starting at the offset;</li>
+ *     <li>{@link #LITERAL} - followed by {@code length} bytes that are copied as is.</li>
+ * </ul>
+ */
+class ValueDeltaCodec {
+    private static final int COPY = 0;
+
+    private static final int LITERAL = 1;
+
+    /** Minimal length of an equal run in the middle of the values that is encoded as a copy rather than merged into a literal. */
+    private static final int MIN_COPY_LENGTH = 8;
+
+    private ValueDeltaCodec() {
+    }
+
+    /**
+     * Encodes the value as a delta relative to the base value.
+     *
+     * @param base Value of the newer row version.
+     * @param value Value to encode.
+     * @return Delta or {@code null} if the delta is not at least twice smaller than the value itself, which makes restoring the value on
+     *      read not worth it.
+     */
+    static byte @Nullable [] encode(ByteBuffer base, ByteBuffer value) {
+        int baseLength = base.remaining();
+        int valueLength = value.remaining();
+
+        var writer = new DeltaWriter(value, valueLength / 2);
+
+        int prefix = 0;
+
+        while (prefix < baseLength && prefix < valueLength && byteAt(base, prefix) == byteAt(value, prefix)) {
+            prefix++;
+        }
+
+        int suffix = 0;
+
+        while (suffix < baseLength - prefix && suffix < valueLength - prefix
+                && byteAt(base, baseLength - suffix - 1) == byteAt(value, valueLength - suffix - 1)) {
+            suffix++;
+        }
+
+        if (!writer.copy(0, prefix)) {
+            return null;
+        }
+
+        int from = prefix;
+        int to = valueLength - suffix;
+
+        if (baseLength == valueLength) {
+            // Same layout, look for long equal runs to copy them from the base.
+            int literalFrom = from;
+
+            for (int i = from; i < to; ) {
+                if (byteAt(base, i) != byteAt(value, i)) {
+                    i++;
+
+                    continue;
+                }
+
+                int runEnd = i + 1;
+
+                while (runEnd < to && byteAt(base, runEnd) == byteAt(value, runEnd)) {
+                    runEnd++;
+                }
+
+                if (runEnd - i >= MIN_COPY_LENGTH) {
+                    if (!writer.literal(literalFrom, i) || !writer.copy(i, runEnd - i)) {
+                        return null;
+                    }
+
+                    literalFrom = runEnd;
+                }
+
+                i = runEnd;
+            }
+
+            from = literalFrom;
+        }
+
+        if (!writer.literal(from, to) || !writer.copy(baseLength - suffix, suffix)) {
+            return null;
+        }
+
+        return writer.toArray();
+    }
+
+    /**
+     * Restores the value from its delta.
+     *
+     * @param base Value of the newer row version the delta was computed against.
+     * @param delta Delta.
+     * @return Restored value.
+     */
+    static ByteBuffer decode(ByteBuffer base, ByteBuffer delta) {
+        int length = 0;
+
+        for (ByteBuffer buf = delta.duplicate(); buf.hasRemaining(); ) {
+            long header = readVarInt(buf);
+
+            int opLength = (int) (header >>> 1);
+
+            if ((header & 1) == COPY) {
+                readVarInt(buf);
+            } else {
+                buf.position(buf.position() + opLength);
+            }
+
+            length += opLength;
+        }
+
+        byte[] value = new byte[length];
+
+        int pos = 0;
+
+        for (ByteBuffer buf = delta.duplicate(); buf.hasRemaining(); ) {
+            long header = readVarInt(buf);
+
+            int opLength = (int) (header >>> 1);
+
+            if ((header & 1) == COPY) {
+                int offset = (int) readVarInt(buf);
+
+                base.duplicate().position(base.position() + offset).get(value, pos, opLength);
+            } else {
+                buf.get(value, pos, opLength);
+            }
+
+            pos += opLength;
+        }
+
+        return ByteBuffer.wrap(value).order(BinaryTuple.ORDER);
+    }
+
+    private static byte byteAt(ByteBuffer buf, int index) {
+        return buf.get(buf.position() + index);
+    }
+
+    /** Writes delta operations into a buffer of a limited size. */
+    private static class DeltaWriter {
+        private final ByteBuffer value;
+
+        private final byte[] bytes;
+
+        private int size;
+
+        DeltaWriter(ByteBuffer value, int maxSize) {
+            this.value = value;
+            this.bytes = new byte[maxSize];
+        }
+
+        /** Writes a copy operation, returns {@code false} if the delta exceeds the size limit. */
+        boolean copy(int offset, int length) {
+            if (length == 0) {
+                return true;
+            }
+
+            if (size + varIntLength(((long) length << 1) | COPY) + varIntLength(offset) > bytes.length) {
+                return false;
+            }
+
+            size += putVarIntToBytes(((long) length << 1) | COPY, bytes, size);
+            size += putVarIntToBytes(offset, bytes, size);
+
+            return true;
+        }
+
+        /** Writes a literal operation for the given range of the value, returns {@code false} if the delta exceeds the size limit. */
+        boolean literal(int from, int to) {
+            int length = to - from;
+
+            if (length == 0) {
+                return true;
+            }
+
+            if (size + varIntLength(((long) length << 1) | LITERAL) + length > bytes.length) {
+                return false;
+            }
+
+            size += putVarIntToBytes(((long) length << 1) | LITERAL, bytes, size);
+
+            value.duplicate().position(value.position() + from).get(bytes, size, length);
+
+            size += length;
+
+            return true;
+        }
+
+        byte[] toArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+    }
+}
@@ -77,6 +77,8 @@ public class VolatilePageMemoryMvPartitionStorage extends AbstractPageMemoryMvPa
 
     private volatile long estimatedSize;
 
+    private final boolean deltaEncodedVersions;
+
     /**
      * Constructor.
      *
@@ -111,6 +113,8 @@ public class VolatilePageMemoryMvPartitionStorage extends AbstractPageMemoryMvPa
                 destructionExecutor,
                 failureProcessor
         );
+
+        deltaEncodedVersions = tableStorage.dataRegion().deltaEncodedVersions();
     }
 
     @Override
@@ -118,6 +122,11 @@ public class VolatilePageMemoryMvPartitionStorage extends AbstractPageMemoryMvPa
         return new GradualTaskExecutor(threadPool);
     }
 
+    @Override
+    boolean deltaEncodedVersions() {
+        return deltaEncodedVersions;
+    }
+
     @Override
     public <V> V runConsistently(WriteClosure<V> closure) throws StorageException {
         LocalLocker locker = THREAD_LOCAL_LOCKER.get();
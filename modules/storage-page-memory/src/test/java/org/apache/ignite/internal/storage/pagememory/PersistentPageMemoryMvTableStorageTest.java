@@ -17,11 +17,15 @@
 
 package org.apache.ignite.internal.storage.pagememory;
 
+import static java.nio.file.StandardOpenOption.WRITE;
 import static java.util.stream.Collectors.toList;
 import static org.apache.ignite.internal.catalog.CatalogService.DEFAULT_STORAGE_PROFILE;
 import static org.apache.ignite.internal.catalog.commands.CatalogUtils.DEFAULT_PARTITION_COUNT;
 import static org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointState.FINISHED;
 import static org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointState.PAGES_SORTED;
+import static org.apache.ignite.internal.pagememory.persistence.store.FilePageStoreManager.GROUP_DIR_PREFIX;
+import static org.apache.ignite.internal.pagememory.persistence.store.FilePageStoreManager.PART_FILE_TEMPLATE;
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.getFieldValue;
 import static org.apache.ignite.internal.testframework.IgniteTestUtils.runAsync;
 import static org.apache.ignite.internal.testframework.IgniteTestUtils.runRace;
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
@@ -32,13 +36,18 @@ import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadLocalRandom;
@@ -53,6 +62,10 @@ import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.lang.RunnableX;
 import org.apache.ignite.internal.metrics.NoOpMetricManager;
 import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
+import org.apache.ignite.internal.pagememory.metrics.CollectionMetricSource;
+import org.apache.ignite.internal.pagememory.persistence.GroupPartitionId;
+import org.apache.ignite.internal.pagememory.persistence.PartitionMeta;
+import org.apache.ignite.internal.pagememory.persistence.PartitionMeta.PartitionMetaSnapshot;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointProgress;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointState;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointTimeoutLock;
@@ -542,6 +555,122 @@ public class PersistentPageMemoryMvTableStorageTest extends AbstractMvTableStora
         return sb.toString();
     }
 
+    @Test
+    void testPartitionOpenedInAdvanceIsTakenOnCreation() throws Exception {
+        RowId rowId = restartWithPartitionOpenedInAdvance();
+
+        // The meta must be created with the checkpoint ID actual at the time of the partition creation, not of its opening.
+        assertThat(forceCheckpointAsync(), willCompleteSuccessfully());
+
+        PersistentPageMemoryMvPartitionStorage partition = getOrCreateMvPartition(PARTITION_ID);
+
+        assertNull(persistentTableStorage().openedInAdvancePartition(PARTITION_ID));
+        assertNotNull(partition.read(rowId, HybridTimestamp.MAX_VALUE).binaryRow());
+
+        PartitionMeta meta = persistentTableStorage().dataRegion().partitionMetaManager()
+                .getMeta(new GroupPartitionId(TABLE_ID, PARTITION_ID));
+
+        PartitionMetaSnapshot metaSnapshot = getFieldValue(meta, PartitionMeta.class, "metaSnapshot");
+
+        assertNotNull(persistentTableStorage().lastCheckpointId());
+        assertEquals(persistentTableStorage().lastCheckpointId(), metaSnapshot.checkpointId());
+    }
+
+    @Test
+    void testPartitionIsOpenedAnewIfOpeningInAdvanceFailed() throws Exception {
+        RowId rowId = restartWithPartitionOpenedInAdvance();
+
+        PersistentPageMemoryTableStorage storage = persistentTableStorage();
+
+        storage.closeOpenedInAdvancePartitions();
+
+        // Opens the partition in advance once again, but with a corrupted file header.
+        Path partitionFilePath = partitionFilePath(PARTITION_ID);
+
+        byte[] partitionFile = Files.readAllBytes(partitionFilePath);
+
+        var tasks = new ConcurrentLinkedQueue<Runnable>();
+
+        storage.startOpeningPartitionsOnDisk(tasks::add, new PartitionOpeningMetrics(new CollectionMetricSource("test", "storage", null)));
+
+        Files.write(partitionFilePath, new byte[Long.BYTES], WRITE);
+
+        tasks.forEach(Runnable::run);
+
+        CompletableFuture<?> openedPartition = storage.openedInAdvancePartition(PARTITION_ID);
+
+        assertNotNull(openedPartition);
+        assertTrue(openedPartition.isCompletedExceptionally());
+
+        Files.write(partitionFilePath, partitionFile);
+
+        PersistentPageMemoryMvPartitionStorage partition = getOrCreateMvPartition(PARTITION_ID);
+
+        assertNull(storage.openedInAdvancePartition(PARTITION_ID));
+        assertNotNull(partition.read(rowId, HybridTimestamp.MAX_VALUE).binaryRow());
+    }
+
+    @Test
+    void testPartitionsOpenedInAdvanceAreClosedIfNotCreated() throws Exception {
+        RowId rowId = restartWithPartitionOpenedInAdvance();
+
+        // Emulates the timeout after which the partitions that have not been created are closed.
+        persistentTableStorage().closeOpenedInAdvancePartitions();
+
+        assertNull(persistentTableStorage().openedInAdvancePartition(PARTITION_ID));
+
+        // The partition is opened anew on creation.
+        PersistentPageMemoryMvPartitionStorage partition = getOrCreateMvPartition(PARTITION_ID);
+
+        assertNotNull(partition.read(rowId, HybridTimestamp.MAX_VALUE).binaryRow());
+    }
+
+    @Test
+    void testPartitionsOpenedInAdvanceAreClosedOnTableDestroy() throws Exception {
+        restartWithPartitionOpenedInAdvance();
+
+        PersistentPageMemoryTableStorage storage = persistentTableStorage();
+
+        assertThat(storage.destroy(), willCompleteSuccessfully());
+
+        assertNull(storage.openedInAdvancePartition(PARTITION_ID));
+        assertFalse(Files.exists(partitionFilePath(PARTITION_ID)));
+    }
+
+    /**
+     * Writes a row to the partition, restarts the table storage and waits for the partition to be opened in advance.
+     *
+     * @return ID of the written row.
+     */
+    private RowId restartWithPartitionOpenedInAdvance() throws Exception {
+        MvPartitionStorage partition = getOrCreateMvPartition(PARTITION_ID);
+
+        var rowId = new RowId(PARTITION_ID);
+
+        addWriteCommitted(partition, List.of(rowId), List.of(binaryRow(new TestKey(0, "0"), new TestValue(1, "1"))));
+
+        assertThat(partition.flush(), willCompleteSuccessfully());
+
+        tableStorage.close();
+
+        tableStorage = createMvTableStorage();
+
+        CompletableFuture<?> openedPartition = persistentTableStorage().openedInAdvancePartition(PARTITION_ID);
+
+        assertNotNull(openedPartition);
+        assertThat(openedPartition, willCompleteSuccessfully());
+
+        return rowId;
+    }
+
+    private Path partitionFilePath(int partitionId) {
+        return workDir.resolve("db").resolve(GROUP_DIR_PREFIX + TABLE_ID).resolve(String.format(PART_FILE_TEMPLATE, partitionId));
+    }
+
+    private PersistentPageMemoryTableStorage persistentTableStorage() {
+        return (PersistentPageMemoryTableStorage) tableStorage;
+    }
+
     private int partitionGeneration(int partId) {
         return ((PersistentPageMemoryTableStorage) tableStorage).dataRegion().pageMemory().partGeneration(TABLE_ID, partId);
     }
@@ -38,6 +38,7 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
@@ -52,6 +53,7 @@ import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
@@ -554,6 +556,101 @@ public class PersistentPageMemoryNoLoadTest extends AbstractPageMemoryNoLoadSelf
         }
     }
 
+    @Test
+    void testReadAhead(@WorkDirectory Path workDir) throws Exception {
+        FilePageStoreManager filePageStoreManager = createFilePageStoreManager(workDir);
+
+        PartitionMetaManager partitionMetaManager = new PartitionMetaManager(ioRegistry, PAGE_SIZE, StoragePartitionMeta.FACTORY);
+
+        Collection<DataRegion<PersistentPageMemory>> dataRegions = new ArrayList<>();
+
+        CheckpointManager checkpointManager = createCheckpointManager(
+                CheckpointConfiguration.builder().build(),
+                filePageStoreManager,
+                partitionMetaManager,
+                dataRegions
+        );
+
+        PersistentPageMemory pageMemory = createPageMemory(
+                defaultSegmentSizes(),
+                defaultCheckpointBufferSize(),
+                filePageStoreManager,
+                checkpointManager,
+                shouldNotHappenFlushDirtyPageForReplacement()
+        );
+
+        dataRegions.add(new TestDataRegion<>(pageMemory));
+
+        // Reads pages of the same partition files as if the node has been restarted, loading the pages in the calling thread.
+        PersistentPageMemory readAheadPageMemory = createPageMemory(
+                PersistentDataRegionConfiguration.builder()
+                        .pageSize(PAGE_SIZE)
+                        .size(dataRegionSize)
+                        .readAheadPages(4)
+                        .readAheadExecutor(Runnable::run)
+                        .build(),
+                defaultSegmentSizes(),
+                defaultCheckpointBufferSize(),
+                filePageStoreManager,
+                null,
+                shouldNotHappenFlushDirtyPageForReplacement()
+        );
+
+        filePageStoreManager.start();
+
+        checkpointManager.start();
+
+        try {
+            initGroupFilePageStores(filePageStoreManager, partitionMetaManager, checkpointManager, pageMemory);
+
+            List<FullPageId> pageIds = new ArrayList<>();
+
+            checkpointManager.checkpointTimeoutLock().checkpointReadLock();
+
+            try {
+                for (int i = 0; i < 10; i++) {
+                    pageIds.add(createDirtyPage(pageMemory).toFullPageId());
+                }
+            } finally {
+                checkpointManager.checkpointTimeoutLock().checkpointReadUnlock();
+            }
+
+            FullPageId first = pageIds.get(0);
+
+            assertEquals(0, pageMemory.readAhead(first.groupId(), first.pageId()));
+
+            // Pages that have not been checkpointed yet must not be read ahead.
+            assertEquals(4, readAheadPageMemory.readAhead(first.groupId(), first.pageId()));
+            assertEquals(0, readAheadPageMemory.loadedPages());
+
+            checkpointManager
+                    .forceCheckpoint("for_test_read_ahead")
+                    .futureFor(FINISHED)
+                    .get(1, SECONDS);
+
+            assertEquals(4, readAheadPageMemory.readAhead(first.groupId(), first.pageId()));
+
+            assertFalse(readAheadPageMemory.hasLoadedPage(first));
+
+            for (int i = 1; i < pageIds.size(); i++) {
+                assertEquals(i <= 4, readAheadPageMemory.hasLoadedPage(pageIds.get(i)), "i=" + i);
+            }
+
+            FullPageId last = pageIds.get(pageIds.size() - 1);
+
+            // Read-ahead stops at the end of the partition file.
+            assertEquals(4, readAheadPageMemory.readAhead(last.groupId(), last.pageId()));
+            assertEquals(4, readAheadPageMemory.loadedPages());
+        } finally {
+            closeAll(
+                    () -> readAheadPageMemory.stop(true),
+                    () -> pageMemory.stop(true),
+                    checkpointManager::stop,
+                    filePageStoreManager::stop
+            );
+        }
+    }
+
     private PersistentPageMemory createPageMemory(
             long[] segmentSizes,
             long checkpointBufferSize,
@@ -561,8 +658,26 @@ public class PersistentPageMemoryNoLoadTest extends AbstractPageMemoryNoLoadSelf
             @Nullable CheckpointManager checkpointManager,
             WriteDirtyPage flushDirtyPageForReplacement
     ) {
-        return new PersistentPageMemory(
+        return createPageMemory(
                 PersistentDataRegionConfiguration.builder().pageSize(PAGE_SIZE).size(dataRegionSize).build(),
+                segmentSizes,
+                checkpointBufferSize,
+                filePageStoreManager,
+                checkpointManager,
+                flushDirtyPageForReplacement
+        );
+    }
+
+    private PersistentPageMemory createPageMemory(
+            PersistentDataRegionConfiguration dataRegionConfiguration,
+            long[] segmentSizes,
+            long checkpointBufferSize,
+            @Nullable FilePageStoreManager filePageStoreManager,
+            @Nullable CheckpointManager checkpointManager,
+            WriteDirtyPage flushDirtyPageForReplacement
+    ) {
+        return new PersistentPageMemory(
+                dataRegionConfiguration,
                 new PersistentPageMemoryMetricSource("test"),
                 ioRegistry,
                 segmentSizes,
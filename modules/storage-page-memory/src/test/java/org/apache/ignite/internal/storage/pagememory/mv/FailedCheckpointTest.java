@@ -215,6 +215,7 @@ public class FailedCheckpointTest extends BaseMvStoragesTest {
                 filePageStoreManager,
                 partitionMetaManager,
                 checkpointManager,
+                null,
                 pageSize
         );
 
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory.mv;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class ValueDeltaCodecTest {
+    private final Random random = new Random(0);
+
+    @Test
+    void encodesEqualValues() {
+        byte[] base = randomBytes(100);
+
+        byte[] delta = assertRoundTrip(base, base.clone());
+
+        assertThat(delta.length, lessThanOrEqualTo(3));
+    }
+
+    @Test
+    void encodesChangedBytesInTheMiddle() {
+        byte[] base = randomBytes(200);
+
+        byte[] value = base.clone();
+        value[10]++;
+        value[100]++;
+        value[101]++;
+
+        assertRoundTrip(base, value);
+    }
+
+    @Test
+    void encodesValuesOfDifferentLength() {
+        byte[] base = randomBytes(200);
+
+        byte[] value = new byte[base.length + 3];
+        System.arraycopy(base, 0, value, 0, 50);
+        System.arraycopy(base, 50, value, 53, base.length - 50);
+
+        assertRoundTrip(base, value);
+        assertRoundTrip(value, base);
+    }
+
+    @Test
+    void encodesBaseWithNonZeroPosition() {
+        byte[] value = randomBytes(100);
+
+        ByteBuffer base = ByteBuffer.allocate(value.length + 10);
+        base.position(10);
+        base.put(value);
+        base.position(10);
+
+        value[50]++;
+
+        byte[] delta = ValueDeltaCodec.encode(base, ByteBuffer.wrap(value));
+
+        assertThat(delta, is(notNullValue()));
+        assertThat(toArray(ValueDeltaCodec.decode(base, ByteBuffer.wrap(delta))), equalTo(value));
+    }
+
+    @Test
+    void doesNotEncodeUnrelatedValues() {
+        assertThat(ValueDeltaCodec.encode(ByteBuffer.wrap(randomBytes(100)), ByteBuffer.wrap(randomBytes(100))), is(nullValue()));
+    }
+
+    @Test
+    void randomRoundTrips() {
+        for (int i = 0; i < 1_000; i++) {
+            byte[] base = randomBytes(1 + random.nextInt(300));
+
+            byte[] value = Arrays.copyOf(base, Math.max(1, base.length + random.nextInt(20) - 10));
+
+            for (int j = random.nextInt(5); j > 0; j--) {
+                value[random.nextInt(value.length)] ^= 1 + random.nextInt(255);
+            }
+
+            byte[] delta = ValueDeltaCodec.encode(ByteBuffer.wrap(base), ByteBuffer.wrap(value));
+
+            if (delta != null) {
+                assertThat(delta.length, lessThanOrEqualTo(value.length / 2));
+                assertThat(toArray(ValueDeltaCodec.decode(ByteBuffer.wrap(base), ByteBuffer.wrap(delta))), equalTo(value));
+            }
+        }
+    }
+
+    private static byte[] assertRoundTrip(byte[] base, byte[] value) {
+        byte[] delta = ValueDeltaCodec.encode(ByteBuffer.wrap(base), ByteBuffer.wrap(value));
+
+        assertThat(delta, is(notNullValue()));
+        assertThat(delta.length, lessThanOrEqualTo(value.length / 2));
+
+        assertThat(toArray(ValueDeltaCodec.decode(ByteBuffer.wrap(base), ByteBuffer.wrap(delta))), equalTo(value));
+
+        return delta;
+    }
+
+    private byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+
+        random.nextBytes(bytes);
+
+        return bytes;
+    }
+
+    private static byte[] toArray(ByteBuffer buf) {
+        byte[] bytes = new byte[buf.remaining()];
+
+        buf.get(bytes);
+
+        return bytes;
+    }
+}
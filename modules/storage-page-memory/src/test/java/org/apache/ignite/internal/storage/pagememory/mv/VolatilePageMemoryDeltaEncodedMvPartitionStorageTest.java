@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory.mv;
+
+import static org.apache.ignite.internal.catalog.CatalogService.DEFAULT_STORAGE_PROFILE;
+import static org.apache.ignite.internal.catalog.commands.CatalogUtils.DEFAULT_PARTITION_COUNT;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.NULL_LINK;
+import static org.apache.ignite.internal.schema.BinaryRowMatcher.isRow;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.ignite.internal.configuration.SystemLocalConfiguration;
+import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
+import org.apache.ignite.internal.failure.FailureProcessor;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.configurations.StorageConfiguration;
+import org.apache.ignite.internal.storage.engine.StorageTableDescriptor;
+import org.apache.ignite.internal.storage.gc.GcEntry;
+import org.apache.ignite.internal.storage.index.StorageIndexDescriptorSupplier;
+import org.apache.ignite.internal.storage.pagememory.VolatilePageMemoryStorageEngine;
+import org.apache.ignite.internal.storage.pagememory.VolatilePageMemoryTableStorage;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs the MV partition storage tests for the in-memory storage with delta-encoded row versions.
+ */
+class VolatilePageMemoryDeltaEncodedMvPartitionStorageTest extends AbstractPageMemoryMvPartitionStorageTest {
+    @InjectConfiguration("mock.profiles.default = {engine = aimem, deltaEncodedVersions = true}")
+    private StorageConfiguration storageConfig;
+
+    private VolatilePageMemoryStorageEngine engine;
+
+    private VolatilePageMemoryTableStorage table;
+
+    @BeforeEach
+    void setUp(@InjectConfiguration SystemLocalConfiguration systemConfig) {
+        engine = new VolatilePageMemoryStorageEngine("node", storageConfig, systemConfig, ioRegistry, mock(FailureProcessor.class), clock);
+
+        engine.start();
+
+        table = engine.createMvTable(
+                new StorageTableDescriptor(1, DEFAULT_PARTITION_COUNT, DEFAULT_STORAGE_PROFILE),
+                mock(StorageIndexDescriptorSupplier.class)
+        );
+
+        initialize(table);
+    }
+
+    @AfterEach
+    @Override
+    protected void tearDown() throws Exception {
+        super.tearDown();
+
+        IgniteUtils.closeAllManually(
+                table,
+                engine == null ? null : engine::stop
+        );
+    }
+
+    @Override
+    int pageSize() {
+        return engine.configuration().pageSizeBytes().value();
+    }
+
+    @Test
+    void olderCommittedVersionsAreDeltaEncoded() {
+        BinaryRow row1 = longRow(1);
+        BinaryRow row2 = longRow(2);
+        BinaryRow row3 = longRow(3);
+
+        HybridTimestamp ts1 = clock.now();
+        addWriteCommitted(ROW_ID, row1, ts1);
+
+        HybridTimestamp ts2 = clock.now();
+        addWriteCommitted(ROW_ID, row2, ts2);
+
+        addWrite(ROW_ID, row3, txId);
+        HybridTimestamp ts3 = clock.now();
+        commitWrite(ROW_ID, ts3, txId);
+
+        assertThat(versionClasses(ROW_ID), contains(RowVersion.class, DeltaRowVersion.class, DeltaRowVersion.class));
+
+        assertThat(read(ROW_ID, ts1), isRow(row1));
+        assertThat(read(ROW_ID, ts2), isRow(row2));
+        assertThat(read(ROW_ID, ts3), isRow(row3));
+        assertThat(read(ROW_ID, HybridTimestamp.MAX_VALUE), isRow(row3));
+
+        assertThat(drainToList(scan(ROW_ID)), contains(unwrap(row3), unwrap(row2), unwrap(row1)));
+    }
+
+    @Test
+    void garbageCollectionRestoresDeltaEncodedValues() {
+        BinaryRow row1 = longRow(1);
+        BinaryRow row2 = longRow(2);
+        BinaryRow row3 = longRow(3);
+
+        addWriteCommitted(ROW_ID, row1, clock.now());
+        addWriteCommitted(ROW_ID, row2, clock.now());
+        addWriteCommitted(ROW_ID, row3, clock.now());
+
+        assertThat(vacuum(), isRow(row1));
+        assertThat(vacuum(), isRow(row2));
+
+        assertThat(versionClasses(ROW_ID), contains(RowVersion.class));
+        assertThat(read(ROW_ID, HybridTimestamp.MAX_VALUE), isRow(row3));
+    }
+
+    private static BinaryRow longRow(int intVal) {
+        return binaryRow(KEY, new TestValue(intVal, "value".repeat(100)));
+    }
+
+    private BinaryRow vacuum() {
+        return storage.runConsistently(locker -> {
+            GcEntry gcEntry = storage.peek(HybridTimestamp.MAX_VALUE, 1).get(0);
+
+            locker.lock(gcEntry.getRowId());
+
+            return storage.vacuum(gcEntry);
+        });
+    }
+
+    private List<Class<?>> versionClasses(RowId rowId) {
+        AbstractPageMemoryMvPartitionStorage pageMemoryStorage = pageMemoryStorage();
+
+        return pageMemoryStorage.runConsistently(locker -> {
+            locker.lock(rowId);
+
+            return pageMemoryStorage.findVersionChain(rowId, chain -> {
+                var classes = new ArrayList<Class<?>>();
+
+                for (long link = chain.headLink(); link != NULL_LINK; ) {
+                    RowVersion rowVersion = pageMemoryStorage.readRowVersion(link, ts -> false);
+
+                    classes.add(rowVersion.getClass());
+
+                    link = rowVersion.nextLink();
+                }
+
+                return classes;
+            });
+        });
+    }
+}
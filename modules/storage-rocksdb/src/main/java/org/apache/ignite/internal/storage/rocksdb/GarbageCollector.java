@@ -23,6 +23,7 @@ import static org.apache.ignite.internal.hlc.HybridTimestamp.HYBRID_TIMESTAMP_SI
 import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.DATA_ID_SIZE;
 import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.MAX_KEY_SIZE;
 import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.ROW_ID_OFFSET;
+import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.THREAD_LOCAL_STATE;
 import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.deserializeRow;
 import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.getFromBatchAndDb;
 import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.isTombstone;
@@ -37,6 +38,7 @@ import static org.apache.ignite.internal.storage.rocksdb.RocksDbStorageUtils.TAB
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
@@ -48,6 +50,8 @@ import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
+import org.rocksdb.Slice;
+import org.rocksdb.Snapshot;
 import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteBatchWithIndex;
 
@@ -79,6 +83,9 @@ class GarbageCollector {
     /** Garbage collector's queue key's size. */
     private static final int GC_KEY_SIZE = GC_KEY_ROW_ID_OFFSET + ROW_ID_SIZE;
 
+    /** Size of the GC queue of a partition that has not been persisted (the partition was written by an older version) or counted yet. */
+    static final long UNKNOWN_QUEUE_SIZE = -1;
+
     /** Thread-local direct buffer able to incorporate keys that correspond to a Data ID. */
     private static final ThreadLocal<ByteBuffer> DIRECT_DATA_ID_KEY_BUFFER =
             withInitial(() -> allocateDirect(MAX_KEY_SIZE).order(KEY_BYTE_ORDER));
@@ -103,15 +110,52 @@ class GarbageCollector {
     /** Read options for regular reads. */
     private final ReadOptions readOpts;
 
+    /**
+     * Number of entries in the GC queue of the partition or {@link #UNKNOWN_QUEUE_SIZE}. Changed under the monitor of the partition
+     * storage, together with the persisted value.
+     */
+    private volatile long queueSize;
+
+    /**
+     * Snapshot the GC queue is being counted over while its size is unknown, {@code null} if it is not being counted. Guarded by the
+     * monitor of the partition storage.
+     */
+    private @Nullable Snapshot queueCountingSnapshot;
+
+    /** Change of the GC queue size since {@link #queueCountingSnapshot} was taken, guarded by the monitor of the partition storage. */
+    private long queueSizeDiffSinceCountingSnapshot;
+
+    /** Mutex for the cached oldest timestamp of the queue. */
+    private final Object oldestQueuedTimestampMux = new Object();
+
+    /** Whether {@link #oldestQueuedTimestamp} is up to date, guarded by {@link #oldestQueuedTimestampMux}. */
+    private boolean oldestQueuedTimestampValid;
+
+    /** Cached timestamp of the head of the queue, {@code null} if the queue is empty, guarded by {@link #oldestQueuedTimestampMux}. */
+    private @Nullable HybridTimestamp oldestQueuedTimestamp;
+
+    /** Number of row versions removed by the garbage collector since the partition storage has been created. */
+    private final LongAdder vacuumedCount = new LongAdder();
+
     enum AddResult {
         WAS_TOMBSTONE, WAS_VALUE, WAS_EMPTY
     }
 
-    GarbageCollector(PartitionDataHelper helper, RocksDB db, ReadOptions readOpts, ColumnFamilyHandle gcQueueCf) {
+    /**
+     * Constructor.
+     *
+     * @param helper Helper for the rocksdb partition.
+     * @param db RocksDB instance.
+     * @param readOpts Read options for regular reads.
+     * @param gcQueueCf GC queue column family.
+     * @param queueSize Persisted size of the GC queue or {@link #UNKNOWN_QUEUE_SIZE}, in which case it is counted on the first request.
+     */
+    GarbageCollector(PartitionDataHelper helper, RocksDB db, ReadOptions readOpts, ColumnFamilyHandle gcQueueCf, long queueSize) {
         this.helper = helper;
         this.db = db;
         this.gcQueueCf = gcQueueCf;
         this.readOpts = readOpts;
+        this.queueSize = queueSize;
     }
 
     /**
@@ -132,7 +176,11 @@ class GarbageCollector {
 
         helper.putCommittedDataIdKey(dataIdKeyBuffer, rowId, timestamp);
 
-        try (RocksIterator it = db.newIterator(helper.partCf, helper.upperBoundReadOpts)) {
+        // Previous version may still be in the write batch, if several versions of the row are written consistently.
+        try (
+                RocksIterator baseIterator = db.newIterator(helper.partCf, helper.upperBoundReadOpts);
+                RocksIterator it = wrapIterator(baseIterator, writeBatch, helper.partCf)
+        ) {
             it.seek(dataIdKeyBuffer);
 
             if (invalid(it)) {
@@ -171,6 +219,14 @@ class GarbageCollector {
 
             writeBatch.put(gcQueueCf, gcKeyBuffer, EMPTY_DIRECT_BUFFER);
 
+            ThreadLocalState state = THREAD_LOCAL_STATE.get();
+
+            state.pendingGcQueueSizeDiff += 1;
+
+            if (state.pendingGcOldestAddedTimestamp == null || timestamp.compareTo(state.pendingGcOldestAddedTimestamp) < 0) {
+                state.pendingGcOldestAddedTimestamp = timestamp;
+            }
+
             return result;
         }
     }
@@ -246,6 +302,11 @@ class GarbageCollector {
             // Delete element from the GC queue.
             batch.delete(gcQueueCf, gcKeyBuffer);
 
+            ThreadLocalState state = THREAD_LOCAL_STATE.get();
+
+            state.pendingGcQueueSizeDiff -= 1;
+            state.pendingGcQueueHeadRemoved = true;
+
             try (RocksIterator partIt = newWrappedIterator(batch, partCf, helper.upperBoundReadOpts)) {
                 // Process the element in data cf that triggered the addition to the GC queue.
                 boolean proceed = checkHasNewerRowAndRemoveTombstone(partIt, batch, gcRowVersion);
@@ -278,6 +339,8 @@ class GarbageCollector {
                 batch.delete(partCf, dataIdKey);
                 batch.delete(helper.dataCf, payloadKey);
 
+                state.pendingGcVacuumedCount += 1;
+
                 return deserializeRow(rowBytes);
             }
         }
@@ -373,6 +436,166 @@ class GarbageCollector {
      */
     void deleteQueue(WriteBatch writeBatch) throws RocksDBException {
         writeBatch.deleteRange(gcQueueCf, helper.partitionStartPrefix(), helper.partitionEndPrefix());
+
+        queueSize = 0;
+
+        synchronized (oldestQueuedTimestampMux) {
+            oldestQueuedTimestampValid = false;
+        }
+    }
+
+    /**
+     * Returns the size of the GC queue after the write batch is applied, {@link #UNKNOWN_QUEUE_SIZE} if the current size is unknown. Must
+     * be called under the monitor of the partition storage.
+     *
+     * @param state Thread-local state of the write batch.
+     */
+    long pendingQueueSize(ThreadLocalState state) {
+        long size = queueSize;
+
+        return size == UNKNOWN_QUEUE_SIZE ? UNKNOWN_QUEUE_SIZE : size + state.pendingGcQueueSizeDiff;
+    }
+
+    /**
+     * Accounts the GC queue changes of the write batch, must be called after the batch has been applied. If the batch has changed the
+     * size of the queue, must be called under the monitor of the partition storage.
+     *
+     * @param state Thread-local state of the applied write batch.
+     */
+    void onWriteBatchApplied(ThreadLocalState state) {
+        if (state.pendingGcQueueSizeDiff != 0) {
+            if (queueSize != UNKNOWN_QUEUE_SIZE) {
+                queueSize += state.pendingGcQueueSizeDiff;
+            } else if (queueCountingSnapshot != null) {
+                queueSizeDiffSinceCountingSnapshot += state.pendingGcQueueSizeDiff;
+            }
+        }
+
+        if (state.pendingGcVacuumedCount != 0) {
+            vacuumedCount.add(state.pendingGcVacuumedCount);
+        }
+
+        if (state.pendingGcQueueHeadRemoved) {
+            synchronized (oldestQueuedTimestampMux) {
+                oldestQueuedTimestampValid = false;
+            }
+        } else if (state.pendingGcOldestAddedTimestamp != null) {
+            synchronized (oldestQueuedTimestampMux) {
+                if (oldestQueuedTimestamp == null || state.pendingGcOldestAddedTimestamp.compareTo(oldestQueuedTimestamp) < 0) {
+                    oldestQueuedTimestamp = state.pendingGcOldestAddedTimestamp;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of row versions waiting in the GC queue of the partition, some of which may still be above the low watermark,
+     * or {@link #UNKNOWN_QUEUE_SIZE} if it has not been counted yet.
+     *
+     * @see #startQueueCounting()
+     */
+    long queueSize() {
+        return queueSize;
+    }
+
+    /**
+     * Starts counting the GC queue if its size has not been persisted, which is only the case for partitions written by an older version
+     * before their first GC queue change. Must be called under the monitor of the partition storage.
+     *
+     * @return Snapshot to count the queue over with {@link #countQueueEntries(Snapshot)}, {@code null} if the size is known or the queue is
+     *      already being counted.
+     * @see #finishQueueCounting(Snapshot, long)
+     */
+    @Nullable Snapshot startQueueCounting() {
+        if (queueSize != UNKNOWN_QUEUE_SIZE || queueCountingSnapshot != null) {
+            return null;
+        }
+
+        // Changes of the queue that change its size are applied under the monitor, so they are either visible in the snapshot or
+        // accounted in the diff.
+        queueCountingSnapshot = db.getSnapshot();
+        queueSizeDiffSinceCountingSnapshot = 0;
+
+        return queueCountingSnapshot;
+    }
+
+    /**
+     * Finishes counting the GC queue, releasing the snapshot. Must be called under the monitor of the partition storage.
+     *
+     * @param snapshot Snapshot returned by {@link #startQueueCounting()}.
+     * @param count Number of entries in the snapshot or {@link #UNKNOWN_QUEUE_SIZE} if they have failed to be counted.
+     * @return Size of the queue if it has been counted by this call and has to be persisted, {@link #UNKNOWN_QUEUE_SIZE} otherwise.
+     */
+    long finishQueueCounting(Snapshot snapshot, long count) {
+        assert queueCountingSnapshot == snapshot;
+
+        queueCountingSnapshot = null;
+
+        db.releaseSnapshot(snapshot);
+
+        // The queue may have been deleted in the meantime, in which case its size is already known.
+        if (count == UNKNOWN_QUEUE_SIZE || queueSize != UNKNOWN_QUEUE_SIZE) {
+            return UNKNOWN_QUEUE_SIZE;
+        }
+
+        queueSize = count + queueSizeDiffSinceCountingSnapshot;
+
+        return queueSize;
+    }
+
+    /**
+     * Returns the number of row versions removed by the garbage collector since the partition storage has been created.
+     */
+    long vacuumedCount() {
+        return vacuumedCount.sum();
+    }
+
+    /**
+     * Returns the timestamp of the oldest row version waiting in the GC queue, {@code null} if the queue is empty. The timestamp is cached:
+     * additions only lower it, and the head of the queue is read again only after it has been removed.
+     */
+    @Nullable HybridTimestamp oldestQueuedTimestamp() {
+        synchronized (oldestQueuedTimestampMux) {
+            if (!oldestQueuedTimestampValid) {
+                oldestQueuedTimestamp = readOldestQueuedTimestamp();
+                oldestQueuedTimestampValid = true;
+            }
+
+            return oldestQueuedTimestamp;
+        }
+    }
+
+    private @Nullable HybridTimestamp readOldestQueuedTimestamp() {
+        try (RocksIterator gcIt = db.newIterator(gcQueueCf, helper.upperBoundReadOpts)) {
+            gcIt.seek(helper.partitionStartPrefix());
+
+            if (invalid(gcIt)) {
+                return null;
+            }
+
+            return readTimestampNatural(readGcKey(gcIt), GC_KEY_TS_OFFSET);
+        }
+    }
+
+    /**
+     * Counts the entries of the GC queue in the snapshot by a key-only scan. Does not require the monitor of the partition storage.
+     *
+     * @param snapshot Snapshot returned by {@link #startQueueCounting()}.
+     */
+    long countQueueEntries(Snapshot snapshot) {
+        long count = 0;
+
+        try (
+                var upperBound = new Slice(helper.partitionEndPrefix());
+                var readOpts = new ReadOptions().setIterateUpperBound(upperBound).setSnapshot(snapshot);
+                RocksIterator gcIt = db.newIterator(gcQueueCf, readOpts)
+        ) {
+            for (gcIt.seek(helper.partitionStartPrefix()); !invalid(gcIt); gcIt.next()) {
+                count++;
+            }
+        }
+
+        return count;
     }
 
     private static ByteBuffer readGcKey(RocksIterator gcIt) {
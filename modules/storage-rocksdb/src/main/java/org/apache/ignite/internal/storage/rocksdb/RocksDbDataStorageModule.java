@@ -59,6 +59,14 @@ public class RocksDbDataStorageModule implements DataStorageModule {
     ) throws StorageException {
         StorageConfiguration storageConfig = configRegistry.getConfiguration(StorageExtensionConfiguration.KEY).storage();
 
-        return new RocksDbStorageEngine(igniteInstanceName, storageConfig, storagePath, logSyncer, commonScheduler, failureManager);
+        return new RocksDbStorageEngine(
+                igniteInstanceName,
+                metricManager,
+                storageConfig,
+                storagePath,
+                logSyncer,
+                commonScheduler,
+                failureManager
+        );
     }
 }
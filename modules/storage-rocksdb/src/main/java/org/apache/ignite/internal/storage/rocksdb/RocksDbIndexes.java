@@ -61,16 +61,22 @@ class RocksDbIndexes {
 
     void recoverIndexes(StorageIndexDescriptorSupplier indexDescriptorSupplier) throws RocksDBException {
         try (WriteBatch writeBatch = new WriteBatch()) {
+            var destroyedHashIndexIds = new ArrayList<Integer>();
+
             for (int indexId : rocksDb.hashIndexIds(tableId)) {
                 var descriptor = (StorageHashIndexDescriptor) indexDescriptorSupplier.get(indexId);
 
                 if (descriptor == null) {
                     deleteByPrefix(writeBatch, rocksDb.hashIndexCf(), indexPrefix(tableId, indexId));
+
+                    destroyedHashIndexIds.add(indexId);
                 } else {
                     hashIndices.put(indexId, new HashIndex(tableId, rocksDb.hashIndexCf(), descriptor, rocksDb.meta));
                 }
             }
 
+            var destroyedSortedIndexes = new ArrayList<IndexColumnFamily>();
+
             var indexCfsToDestroy = new ArrayList<ColumnFamily>();
 
             for (IndexColumnFamily indexColumnFamily : rocksDb.sortedIndexes(tableId)) {
@@ -85,6 +91,8 @@ class RocksDbIndexes {
 
                     deleteByPrefix(writeBatch, cf, indexPrefix(tableId, indexId));
 
+                    destroyedSortedIndexes.add(indexColumnFamily);
+
                     indexCfsToDestroy.add(cf);
                 } else {
                     sortedIndices.put(indexId, SortedIndex.restoreExisting(tableId, cf, descriptor, rocksDb.meta));
@@ -93,6 +101,15 @@ class RocksDbIndexes {
 
             rocksDb.db.write(DFLT_WRITE_OPTS, writeBatch);
 
+            for (int indexId : destroyedHashIndexIds) {
+                rocksDb.scheduleDestroyedIndexCompaction(rocksDb.hashIndexCf(), indexPrefix(tableId, indexId));
+            }
+
+            // Must be scheduled before the Column Families are dropped, the drop removes the ranges from the compaction queue.
+            for (IndexColumnFamily index : destroyedSortedIndexes) {
+                rocksDb.scheduleDestroyedIndexCompaction(index.columnFamily(), indexPrefix(tableId, index.indexId()));
+            }
+
             if (!indexCfsToDestroy.isEmpty()) {
                 rocksDb.scheduleIndexCfsDestroyIfNeeded(indexCfsToDestroy);
             }
@@ -182,7 +199,16 @@ class RocksDbIndexes {
             rocksDb.db.write(DFLT_WRITE_OPTS, writeBatch);
         }
 
+        byte[] indexPrefix = indexPrefix(tableId, indexId);
+
+        if (hashIdx != null) {
+            rocksDb.scheduleDestroyedIndexCompaction(rocksDb.hashIndexCf(), indexPrefix);
+        }
+
         if (sortedIdx != null) {
+            // Must be scheduled before the Column Family is dropped, the drop removes the range from the compaction queue.
+            rocksDb.scheduleDestroyedIndexCompaction(sortedIdx.columnFamily(), indexPrefix);
+
             rocksDb.scheduleIndexCfsDestroyIfNeeded(List.of(sortedIdx.columnFamily()));
         }
     }
@@ -64,6 +64,11 @@ public class RocksDbMetaStorage {
      */
     public static final byte[] ESTIMATED_SIZE_PREFIX = {4};
 
+    /**
+     * Prefix to store the number of entries in the GC queue of a partition. Key format is {@code [prefix, tableId, partitionId]} in BE.
+     */
+    public static final byte[] GC_QUEUE_SIZE_PREFIX = {5};
+
     private final ColumnFamily metaColumnFamily;
 
     public RocksDbMetaStorage(ColumnFamily metaColumnFamily) {
@@ -38,6 +38,7 @@ import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.req
 import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.setFirstBit;
 import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.wrapIterator;
 import static org.apache.ignite.internal.storage.rocksdb.RocksDbMetaStorage.ESTIMATED_SIZE_PREFIX;
+import static org.apache.ignite.internal.storage.rocksdb.RocksDbMetaStorage.GC_QUEUE_SIZE_PREFIX;
 import static org.apache.ignite.internal.storage.rocksdb.RocksDbMetaStorage.LEASE_PREFIX;
 import static org.apache.ignite.internal.storage.rocksdb.RocksDbMetaStorage.PARTITION_CONF_PREFIX;
 import static org.apache.ignite.internal.storage.rocksdb.RocksDbMetaStorage.PARTITION_META_PREFIX;
@@ -45,6 +46,7 @@ import static org.apache.ignite.internal.storage.rocksdb.RocksDbStorageUtils.KEY
 import static org.apache.ignite.internal.storage.rocksdb.RocksDbStorageUtils.createKey;
 import static org.apache.ignite.internal.storage.rocksdb.RocksDbStorageUtils.normalize;
 import static org.apache.ignite.internal.storage.rocksdb.instance.SharedRocksDbInstance.DFLT_WRITE_OPTS;
+import static org.apache.ignite.internal.storage.util.StorageUtils.sortedRowIdPositions;
 import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptionDependingOnStorageState;
 import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptionDependingOnStorageStateOnRebalance;
 import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptionIfStorageInProgressOfRebalance;
@@ -55,6 +57,7 @@ import static org.apache.ignite.internal.util.ByteUtils.longToBytes;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
@@ -98,6 +101,7 @@ import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
 import org.rocksdb.Slice;
+import org.rocksdb.Snapshot;
 import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteBatchWithIndex;
 
@@ -202,6 +206,9 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
 
     private final byte[] estimatedSizeKey;
 
+    /** Key to store the number of entries in the GC queue. */
+    private final byte[] gcQueueSizeKey;
+
     /** On-heap-cached last applied index value. */
     private volatile long lastAppliedIndex;
 
@@ -217,6 +224,9 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
 
     private volatile long estimatedSize;
 
+    /** Buffer of the rebalance data that is ingested as SST files, {@code null} if there's no rebalance or ingestion is disabled. */
+    private volatile @Nullable SstIngestionBuffer ingestionBuffer;
+
     /** Busy lock. */
     private final IgniteSpinBusyLock busyLock = new IgniteSpinBusyLock();
 
@@ -239,12 +249,12 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
 
         int tableId = tableStorage.getTableId();
         helper = new PartitionDataHelper(tableId, partitionId, tableStorage.partitionCfHandle(), tableStorage.dataCfHandle());
-        gc = new GarbageCollector(helper, db, readOpts, tableStorage.gcQueueHandle());
 
         lastAppliedIndexAndTermKey = createKey(PARTITION_META_PREFIX, tableId, partitionId);
         lastGroupConfigKey = createKey(PARTITION_CONF_PREFIX, tableId, partitionId);
         leaseKey = createKey(LEASE_PREFIX, tableId, partitionId);
         estimatedSizeKey = createKey(ESTIMATED_SIZE_PREFIX, tableId, partitionId);
+        gcQueueSizeKey = createKey(GC_QUEUE_SIZE_PREFIX, tableId, partitionId);
 
         try {
             byte[] indexAndTerm = db.get(meta, readOpts, lastAppliedIndexAndTermKey);
@@ -264,6 +274,12 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
             byte[] estimatedSizeBytes = db.get(meta, readOpts, estimatedSizeKey);
 
             estimatedSize = estimatedSizeBytes == null ? 0 : bytesToLong(estimatedSizeBytes);
+
+            byte[] gcQueueSizeBytes = db.get(meta, readOpts, gcQueueSizeKey);
+
+            long gcQueueSize = gcQueueSizeBytes == null ? GarbageCollector.UNKNOWN_QUEUE_SIZE : bytesToLong(gcQueueSizeBytes);
+
+            gc = new GarbageCollector(helper, db, readOpts, tableStorage.gcQueueHandle(), gcQueueSize);
         } catch (RocksDBException e) {
             throw new IgniteRocksDbException(e);
         }
@@ -298,20 +314,32 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
                         V res = closure.execute(locker);
 
                         if (writeBatch.count() > 0) {
-                            // Check if the current thread's modifications have affected the estimated size. If they have,
-                            // we need to use synchronization in order to atomically update and persist the new estimated size.
-                            if (state.pendingEstimatedSizeDiff != 0) {
+                            // Check if the current thread's modifications have affected the estimated size or the GC queue size. If
+                            // they have, we need to use synchronization in order to atomically update and persist the new sizes.
+                            if (state.pendingEstimatedSizeDiff != 0 || state.pendingGcQueueSizeDiff != 0) {
                                 synchronized (this) {
                                     long newEstimatedSize = estimatedSize + state.pendingEstimatedSizeDiff;
 
-                                    writeBatch.put(meta, estimatedSizeKey, longToBytes(newEstimatedSize));
+                                    if (state.pendingEstimatedSizeDiff != 0) {
+                                        writeBatch.put(meta, estimatedSizeKey, longToBytes(newEstimatedSize));
+                                    }
+
+                                    long newGcQueueSize = gc.pendingQueueSize(state);
 
-                                    db.write(DFLT_WRITE_OPTS, writeBatch);
+                                    if (state.pendingGcQueueSizeDiff != 0 && newGcQueueSize != GarbageCollector.UNKNOWN_QUEUE_SIZE) {
+                                        writeBatch.put(meta, gcQueueSizeKey, longToBytes(newGcQueueSize));
+                                    }
+
+                                    applyWriteBatch(writeBatch);
 
                                     estimatedSize = newEstimatedSize;
+
+                                    gc.onWriteBatchApplied(state);
                                 }
                             } else {
-                                db.write(DFLT_WRITE_OPTS, writeBatch);
+                                applyWriteBatch(writeBatch);
+
+                                gc.onWriteBatchApplied(state);
                             }
 
                             // Here we assume that no two threads would try to update these values concurrently.
@@ -338,6 +366,16 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         }
     }
 
+    private void applyWriteBatch(WriteBatchWithIndex writeBatch) throws RocksDBException {
+        SstIngestionBuffer ingestionBuffer = this.ingestionBuffer;
+
+        if (ingestionBuffer == null) {
+            db.write(DFLT_WRITE_OPTS, writeBatch);
+        } else {
+            ingestionBuffer.add(writeBatch);
+        }
+    }
+
     @Override
     public CompletableFuture<Void> flush(boolean trigger) {
         return busy(() -> tableStorage.awaitFlush(trigger));
@@ -795,6 +833,44 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         });
     }
 
+    @Override
+    public List<ReadResult> readAll(List<RowId> rowIds, HybridTimestamp timestamp) throws StorageException {
+        return busy(() -> {
+            throwExceptionIfStorageInProgressOfRebalance(state.get(), this::createStorageInfo);
+
+            for (RowId rowId : rowIds) {
+                if (rowId.partitionId() != partitionId) {
+                    throw new IllegalArgumentException(String.format(
+                            "RowId partition [%d] is not equal to storage partition [%d].",
+                            rowId.partitionId(),
+                            partitionId
+                    ));
+                }
+            }
+
+            var results = new ReadResult[rowIds.size()];
+
+            // A single iterator is shared by all rows. Rows are visited in the key order, so that the iterator only moves forward and
+            // keeps reusing the data blocks it has already loaded.
+            try (
+                    RocksIterator baseIterator = db.newIterator(helper.partCf, helper.upperBoundReadOpts);
+                    RocksIterator seekIterator = wrapIterator(baseIterator, helper.partCf)
+            ) {
+                for (int i : sortedRowIdPositions(rowIds)) {
+                    RowId rowId = rowIds.get(i);
+
+                    if (lookingForLatestVersions(timestamp)) {
+                        results[i] = readLatestVersion(rowId, seekIterator);
+                    } else {
+                        results[i] = readByTimestamp(seekIterator, rowId, timestamp);
+                    }
+                }
+            }
+
+            return Arrays.asList(results);
+        });
+    }
+
     private static boolean lookingForLatestVersions(HybridTimestamp timestamp) {
         return timestamp == HybridTimestamp.MAX_VALUE;
     }
@@ -1283,6 +1359,7 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         writeBatch.delete(meta, lastGroupConfigKey);
         writeBatch.delete(meta, leaseKey);
         writeBatch.delete(meta, estimatedSizeKey);
+        writeBatch.delete(meta, gcQueueSizeKey);
 
         writeBatch.deleteRange(helper.partCf, helper.partitionStartPrefix(), helper.partitionEndPrefix());
         writeBatch.deleteRange(helper.dataCf, helper.partitionStartPrefix(), helper.partitionEndPrefix());
@@ -1318,6 +1395,90 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         return estimatedSize;
     }
 
+    /**
+     * Returns the number of row versions waiting in the GC queue of the partition, {@code 0} if it is not known and the storage is not
+     * available at the moment or the queue is being counted by another thread. The size is persisted along with the queue, the queue of a
+     * partition written by an older version is counted once over a snapshot, without blocking the writers, and its size is persisted.
+     */
+    public long gcQueueSize() {
+        long size = gc.queueSize();
+
+        if (size != GarbageCollector.UNKNOWN_QUEUE_SIZE) {
+            return size;
+        }
+
+        if (!busyLock.enterBusy()) {
+            return 0;
+        }
+
+        try {
+            Snapshot snapshot;
+
+            synchronized (this) {
+                snapshot = gc.startQueueCounting();
+            }
+
+            if (snapshot == null) {
+                size = gc.queueSize();
+
+                return size == GarbageCollector.UNKNOWN_QUEUE_SIZE ? 0 : size;
+            }
+
+            long count = GarbageCollector.UNKNOWN_QUEUE_SIZE;
+
+            try {
+                count = gc.countQueueEntries(snapshot);
+            } finally {
+                synchronized (this) {
+                    long countedSize = gc.finishQueueCounting(snapshot, count);
+
+                    if (countedSize != GarbageCollector.UNKNOWN_QUEUE_SIZE) {
+                        // Persisted under the monitor, so that it is not overwritten by an outdated size.
+                        persistGcQueueSize(countedSize);
+                    }
+                }
+            }
+
+            size = gc.queueSize();
+
+            return size == GarbageCollector.UNKNOWN_QUEUE_SIZE ? 0 : size;
+        } finally {
+            busyLock.leaveBusy();
+        }
+    }
+
+    private void persistGcQueueSize(long size) {
+        try {
+            db.put(meta, DFLT_WRITE_OPTS, gcQueueSizeKey, longToBytes(size));
+        } catch (RocksDBException e) {
+            throw new IgniteRocksDbException("Failed to persist the GC queue size: " + createStorageInfo(), e);
+        }
+    }
+
+    /**
+     * Returns the number of row versions removed by the garbage collector since the partition storage has been created.
+     */
+    public long gcVacuumedCount() {
+        return gc.vacuumedCount();
+    }
+
+    /**
+     * Returns the timestamp of the oldest row version waiting in the GC queue of the partition, {@code null} if the queue is empty or
+     * the storage is not available at the moment. Unlike other methods, doesn't throw if the storage is closed, because it is meant to
+     * be polled by metrics.
+     */
+    public @Nullable HybridTimestamp oldestGcQueueTimestamp() {
+        if (!busyLock.enterBusy()) {
+            return null;
+        }
+
+        try {
+            return state.get() == StorageState.RUNNABLE ? gc.oldestQueuedTimestamp() : null;
+        } finally {
+            busyLock.leaveBusy();
+        }
+    }
+
     @Override
     public Cursor<RowId> scanWriteIntents() {
         return Cursor.fromBareIterator(emptyIterator());
@@ -1335,10 +1496,22 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
     private void closeResources() {
         busyLock.block();
 
+        closeIngestionBuffer();
+
         readOpts.close();
         helper.close();
     }
 
+    private void closeIngestionBuffer() {
+        SstIngestionBuffer ingestionBuffer = this.ingestionBuffer;
+
+        if (ingestionBuffer != null) {
+            this.ingestionBuffer = null;
+
+            ingestionBuffer.close();
+        }
+    }
+
     /**
      * Transitions this storage to the {@link StorageState#DESTROYED} state.
      */
@@ -1782,6 +1955,8 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
 
         try {
             clearStorage(writeBatch, REBALANCE_IN_PROGRESS, REBALANCE_IN_PROGRESS);
+
+            ingestionBuffer = tableStorage.createIngestionBuffer(partitionId);
         } catch (RocksDBException e) {
             throw new StorageRebalanceException("Error when trying to start rebalancing storage: " + createStorageInfo(), e);
         } finally {
@@ -1799,6 +1974,9 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
             throwExceptionDependingOnStorageStateOnRebalance(state.get(), createStorageInfo());
         }
 
+        // Already ingested data is removed by the range deletions of the storage clearing.
+        closeIngestionBuffer();
+
         try {
             clearStorage(writeBatch, 0, 0);
         } catch (RocksDBException e) {
@@ -1817,6 +1995,15 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         }
 
         try {
+            SstIngestionBuffer ingestionBuffer = this.ingestionBuffer;
+
+            if (ingestionBuffer != null) {
+                // Data must be in place before the rebalance is marked as finished.
+                ingestionBuffer.ingest();
+
+                closeIngestionBuffer();
+            }
+
             saveLastApplied(writeBatch, partitionMeta.lastAppliedIndex(), partitionMeta.lastAppliedTerm());
 
             saveGroupConfigurationOnRebalance(writeBatch, partitionMeta.groupConfig());
@@ -1840,6 +2027,7 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         writeBatch.delete(meta, lastGroupConfigKey);
         writeBatch.delete(meta, leaseKey);
         writeBatch.delete(meta, estimatedSizeKey);
+        writeBatch.put(meta, gcQueueSizeKey, longToBytes(0));
 
         writeBatch.deleteRange(helper.partCf, helper.partitionStartPrefix(), helper.partitionEndPrefix());
         writeBatch.deleteRange(helper.dataCf, helper.partitionStartPrefix(), helper.partitionEndPrefix());
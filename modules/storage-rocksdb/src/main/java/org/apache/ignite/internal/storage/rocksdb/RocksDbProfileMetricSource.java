@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.rocksdb;
+
+import java.util.List;
+import org.apache.ignite.internal.metrics.AbstractMetricSource;
+import org.apache.ignite.internal.metrics.LongGauge;
+import org.apache.ignite.internal.metrics.Metric;
+import org.apache.ignite.internal.storage.rocksdb.RocksDbProfileMetricSource.Holder;
+import org.rocksdb.TickerType;
+
+/**
+ * Metric source which provides block cache metrics of a {@link RocksDbStorageProfile}.
+ */
+class RocksDbProfileMetricSource extends AbstractMetricSource<Holder> {
+    private final RocksDbStorageProfile profile;
+
+    /**
+     * Constructor.
+     *
+     * @param profile Started storage profile.
+     */
+    RocksDbProfileMetricSource(RocksDbStorageProfile profile) {
+        super("storage." + RocksDbStorageEngine.ENGINE_NAME + "." + profile.name(), "RocksDB storage profile metrics", "storage");
+
+        this.profile = profile;
+    }
+
+    @Override
+    protected Holder createHolder() {
+        return new Holder();
+    }
+
+    private LongGauge tickerGauge(String name, String description, TickerType tickerType) {
+        return new LongGauge(name, description, () -> profile.statistics().getTickerCount(tickerType));
+    }
+
+    /** Holder. */
+    protected class Holder implements AbstractMetricSource.Holder<Holder> {
+        private final List<Metric> metrics = List.of(
+                new LongGauge("BlockCacheUsage", "Size of the entries in the block cache in bytes.", () -> profile.cache().getUsage()),
+                new LongGauge(
+                        "BlockCachePinnedUsage",
+                        "Size of the entries pinned in the block cache in bytes.",
+                        () -> profile.cache().getPinnedUsage()
+                ),
+                tickerGauge("BlockCacheHits", "Total number of block cache hits.", TickerType.BLOCK_CACHE_HIT),
+                tickerGauge("BlockCacheMisses", "Total number of block cache misses.", TickerType.BLOCK_CACHE_MISS),
+                tickerGauge("BlockCacheIndexHits", "Number of block cache hits of index blocks.", TickerType.BLOCK_CACHE_INDEX_HIT),
+                tickerGauge("BlockCacheIndexMisses", "Number of block cache misses of index blocks.", TickerType.BLOCK_CACHE_INDEX_MISS),
+                tickerGauge("BlockCacheFilterHits", "Number of block cache hits of filter blocks.", TickerType.BLOCK_CACHE_FILTER_HIT),
+                tickerGauge("BlockCacheFilterMisses", "Number of block cache misses of filter blocks.", TickerType.BLOCK_CACHE_FILTER_MISS),
+                tickerGauge("BlockCacheDataHits", "Number of block cache hits of data blocks.", TickerType.BLOCK_CACHE_DATA_HIT),
+                tickerGauge("BlockCacheDataMisses", "Number of block cache misses of data blocks.", TickerType.BLOCK_CACHE_DATA_MISS),
+                tickerGauge(
+                        "BloomFilterUseful",
+                        "Number of point lookups that were answered by bloom filters without reading data blocks.",
+                        TickerType.BLOOM_FILTER_USEFUL
+                )
+        );
+
+        @Override
+        public Iterable<Metric> metrics() {
+            return metrics;
+        }
+    }
+}
@@ -35,14 +35,18 @@ import java.util.concurrent.TimeUnit;
 import org.apache.ignite.internal.close.ManuallyCloseable;
 import org.apache.ignite.internal.components.LogSyncer;
 import org.apache.ignite.internal.failure.FailureProcessor;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.metrics.LongGauge;
+import org.apache.ignite.internal.metrics.MetricManager;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.configurations.StorageConfiguration;
 import org.apache.ignite.internal.storage.configurations.StorageProfileView;
 import org.apache.ignite.internal.storage.engine.StorageEngine;
 import org.apache.ignite.internal.storage.engine.StorageTableDescriptor;
 import org.apache.ignite.internal.storage.index.StorageIndexDescriptorSupplier;
+import org.apache.ignite.internal.storage.metrics.StorageEngineTablesMetricSource;
 import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbProfileConfiguration;
 import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbProfileView;
 import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbStorageEngineConfiguration;
@@ -66,9 +70,12 @@ public class RocksDbStorageEngine implements StorageEngine {
 
         final SharedRocksDbInstance rocksDbInstance;
 
-        RocksDbStorage(RocksDbStorageProfile profile, SharedRocksDbInstance rocksDbInstance) {
+        final RocksDbProfileMetricSource metricSource;
+
+        RocksDbStorage(RocksDbStorageProfile profile, SharedRocksDbInstance rocksDbInstance, RocksDbProfileMetricSource metricSource) {
             this.profile = profile;
             this.rocksDbInstance = rocksDbInstance;
+            this.metricSource = metricSource;
         }
 
         @Override
@@ -81,6 +88,8 @@ public class RocksDbStorageEngine implements StorageEngine {
         RocksDB.loadLibrary();
     }
 
+    private final MetricManager metricManager;
+
     private final RocksDbStorageEngineConfiguration engineConfig;
 
     private final StorageConfiguration storageConfiguration;
@@ -100,12 +109,16 @@ public class RocksDbStorageEngine implements StorageEngine {
      */
     private final Map<String, RocksDbStorage> storageByProfileName = new ConcurrentHashMap<>();
 
+    /** Mapping from the table ID to the started table storage. */
+    private final Map<Integer, RocksDbTableStorage> tableStorages = new ConcurrentHashMap<>();
+
     private final LogSyncer logSyncer;
 
     /**
      * Constructor.
      *
      * @param nodeName Node name.
+     * @param metricManager Metric manager.
      * @param storageConfiguration Storage configuration.
      * @param storagePath Storage path.
      * @param logSyncer Write-ahead log synchronizer.
@@ -114,12 +127,14 @@ public class RocksDbStorageEngine implements StorageEngine {
      */
     public RocksDbStorageEngine(
             String nodeName,
+            MetricManager metricManager,
             StorageConfiguration storageConfiguration,
             Path storagePath,
             LogSyncer logSyncer,
             ScheduledExecutorService scheduledPool,
             FailureProcessor failureProcessor
     ) {
+        this.metricManager = metricManager;
         this.storageConfiguration = storageConfiguration;
         this.engineConfig = ((RocksDbStorageEngineExtensionConfiguration) storageConfiguration.engines()).rocksdb();
         this.storagePath = storagePath;
@@ -190,7 +205,12 @@ public class RocksDbStorageEngine implements StorageEngine {
 
         SharedRocksDbInstance rocksDbInstance = newRocksDbInstance(profileName, profile);
 
-        RocksDbStorage previousStorage = storageByProfileName.put(profileName, new RocksDbStorage(profile, rocksDbInstance));
+        var metricSource = new RocksDbProfileMetricSource(profile);
+
+        metricManager.registerSource(metricSource);
+        metricManager.enable(metricSource);
+
+        RocksDbStorage previousStorage = storageByProfileName.put(profileName, new RocksDbStorage(profile, rocksDbInstance, metricSource));
 
         assert previousStorage == null : "Storage already exists for profile: " + profileName;
     }
@@ -209,6 +229,7 @@ public class RocksDbStorageEngine implements StorageEngine {
     public void stop() throws StorageException {
         try {
             closeAll(
+                    () -> storageByProfileName.values().forEach(storage -> metricManager.unregisterSource(storage.metricSource)),
                     () -> closeAllManually(storageByProfileName.values()),
                     () -> shutdownAndAwaitTermination(threadPool, 10, TimeUnit.SECONDS)
             );
@@ -240,9 +261,52 @@ public class RocksDbStorageEngine implements StorageEngine {
 
         tableStorage.start();
 
+        tableStorages.put(tableDescriptor.getId(), tableStorage);
+
         return tableStorage;
     }
 
+    /** Removes a closed or destroyed table storage from the engine. */
+    void removeTableStorage(RocksDbTableStorage tableStorage) {
+        tableStorages.remove(tableStorage.getTableId(), tableStorage);
+    }
+
+    @Override
+    public void addTableMetrics(StorageTableDescriptor tableDescriptor, StorageEngineTablesMetricSource metricSource) {
+        RocksDbTableStorage tableStorage = tableStorages.get(tableDescriptor.getId());
+
+        assert tableStorage != null : "Adding metrics for a non-existent table: " + tableDescriptor;
+
+        metricSource.addMetric(new LongGauge(
+                "GcQueueSize",
+                "Number of stale row versions of the table waiting to be garbage collected.",
+                tableStorage::gcQueueSize
+        ));
+
+        metricSource.addMetric(new LongGauge(
+                "GcMaxPartitionQueueSize",
+                "Largest number of stale row versions waiting to be garbage collected in a single partition of the table.",
+                tableStorage::maxPartitionGcQueueSize
+        ));
+
+        metricSource.addMetric(new LongGauge(
+                "GcOldestQueuedTimestamp",
+                "Physical time in milliseconds of the oldest stale row version of the table waiting to be garbage collected, "
+                        + "0 if there's none.",
+                () -> {
+                    HybridTimestamp timestamp = tableStorage.oldestGcQueueTimestamp();
+
+                    return timestamp == null ? 0 : timestamp.getPhysical();
+                }
+        ));
+
+        metricSource.addMetric(new LongGauge(
+                "GcVacuumedVersions",
+                "Number of stale row versions of the table removed by the garbage collector since the node start.",
+                tableStorage::gcVacuumedCount
+        ));
+    }
+
     @Override
     public void destroyMvTable(int tableId) {
         for (RocksDbStorage rocksDbStorage : storageByProfileName.values()) {
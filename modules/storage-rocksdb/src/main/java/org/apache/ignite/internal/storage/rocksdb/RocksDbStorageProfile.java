@@ -18,15 +18,32 @@
 package org.apache.ignite.internal.storage.rocksdb;
 
 import static org.apache.ignite.internal.storage.configurations.StorageProfileConfigurationSchema.UNSPECIFIED_SIZE;
-
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbProfileConfigurationSchema.HYPER_CLOCK_BLOCK_CACHE;
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbProfileConfigurationSchema.LZ4_COMPRESSION;
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbProfileConfigurationSchema.NO_COMPRESSION;
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbProfileConfigurationSchema.SNAPPY_COMPRESSION;
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbProfileConfigurationSchema.ZSTD_COMPRESSION;
+
+import java.util.ArrayList;
+import java.util.List;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.storage.engine.StorageEngine;
 import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbProfileConfiguration;
 import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbProfileView;
 import org.apache.ignite.internal.util.IgniteUtils;
+import org.jetbrains.annotations.Nullable;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
 import org.rocksdb.Cache;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.CompressionType;
+import org.rocksdb.Filter;
+import org.rocksdb.HyperClockCache;
+import org.rocksdb.IndexType;
 import org.rocksdb.LRUCache;
+import org.rocksdb.Statistics;
+import org.rocksdb.TablePropertiesCollectorFactory;
 import org.rocksdb.WriteBufferManager;
 
 /**
@@ -36,6 +53,9 @@ public class RocksDbStorageProfile {
     /** Logger. */
     private static final IgniteLogger LOG = Loggers.forClass(RocksDbStorageProfile.class);
 
+    /** Ratio of the LRU cache reserved for index and filter blocks, so that they are not evicted by data blocks. */
+    private static final double HIGH_PRIORITY_POOL_RATIO = 0.1;
+
     /** Profile configuration view. */
     private final RocksDbProfileConfiguration storageProfileConfig;
 
@@ -45,6 +65,18 @@ public class RocksDbStorageProfile {
     /** Write buffer manager instance. */
     private WriteBufferManager writeBufferManager;
 
+    /** Bloom filter policy shared by column families used for point lookups, {@code null} if filters are disabled. */
+    private @Nullable Filter filter;
+
+    /** Statistics of the RocksDB instance of the profile. */
+    private Statistics statistics;
+
+    /** Marks SST files with dense tombstones for compaction, {@code null} if the trigger is disabled. */
+    private @Nullable TablePropertiesCollectorFactory deletionCollectorFactory;
+
+    /** Profile configuration at the moment of the start. */
+    private RocksDbProfileView profileView;
+
     private volatile long regionSize;
 
     /**
@@ -60,15 +92,102 @@ public class RocksDbStorageProfile {
      * Start the profile.
      */
     public void start() {
-        long writeBufferSize = storageProfileConfig.writeBufferSizeBytes().value();
+        profileView = (RocksDbProfileView) storageProfileConfig.value();
+
+        long writeBufferSize = profileView.writeBufferSizeBytes();
 
         regionSize = sizeBytes();
 
-        long totalCacheSize = sizeBytes() + writeBufferSize;
+        long totalCacheSize = regionSize + writeBufferSize;
 
-        cache = new LRUCache(totalCacheSize, -1, false);
+        if (HYPER_CLOCK_BLOCK_CACHE.equals(profileView.blockCacheType())) {
+            // Zero estimated entry charge lets the cache size its table dynamically.
+            cache = new HyperClockCache(totalCacheSize, 0, -1, false);
+        } else {
+            cache = new LRUCache(totalCacheSize, -1, false, profileView.cacheIndexAndFilterBlocks() ? HIGH_PRIORITY_POOL_RATIO : 0.0);
+        }
 
         writeBufferManager = new WriteBufferManager(writeBufferSize, cache);
+
+        if (profileView.bloomFilterBitsPerKey() > 0) {
+            filter = new BloomFilter(profileView.bloomFilterBitsPerKey());
+        }
+
+        statistics = new Statistics();
+
+        if (profileView.deletionCompactionWindow() > 0) {
+            deletionCollectorFactory = TablePropertiesCollectorFactory.NewCompactOnDeletionCollectorFactory(
+                    profileView.deletionCompactionWindow(),
+                    profileView.deletionCompactionTrigger(),
+                    0.0 // Ratio of tombstones in the whole file is not checked.
+            );
+        }
+    }
+
+    /**
+     * Creates column family options that use the block cache of the profile and its table format and compression settings.
+     *
+     * @param pointLookups Whether the column family is used for point lookups and needs bloom filters.
+     */
+    @SuppressWarnings("resource")
+    public ColumnFamilyOptions createColumnFamilyOptions(boolean pointLookups) {
+        ColumnFamilyOptions options = new ColumnFamilyOptions()
+                .setTableFormatConfig(tableFormatConfig(pointLookups))
+                .setBottommostCompressionType(compressionType(profileView.bottommostCompression()));
+
+        CompressionType compressionType = compressionType(profileView.compression());
+
+        List<CompressionType> compressionPerLevel = new ArrayList<>(options.numLevels());
+
+        for (int level = 0; level < options.numLevels(); level++) {
+            compressionPerLevel.add(level < profileView.uncompressedLevels() ? CompressionType.NO_COMPRESSION : compressionType);
+        }
+
+        options.setCompressionPerLevel(compressionPerLevel);
+
+        if (deletionCollectorFactory != null) {
+            options.setTablePropertiesCollectorFactory(List.of(deletionCollectorFactory));
+        }
+
+        return options;
+    }
+
+    private BlockBasedTableConfig tableFormatConfig(boolean pointLookups) {
+        var tableConfig = new BlockBasedTableConfig()
+                .setBlockCache(cache)
+                .setCacheIndexAndFilterBlocks(profileView.cacheIndexAndFilterBlocks())
+                .setCacheIndexAndFilterBlocksWithHighPriority(true)
+                .setPinL0FilterAndIndexBlocksInCache(profileView.pinL0FilterAndIndexBlocks());
+
+        if (profileView.partitionedFilters()) {
+            // See https://github.com/facebook/rocksdb/wiki/Partitioned-Index-Filters.
+            tableConfig
+                    .setIndexType(IndexType.kTwoLevelIndexSearch)
+                    .setPinTopLevelIndexAndFilter(true);
+        }
+
+        if (pointLookups && filter != null) {
+            tableConfig
+                    .setFilterPolicy(filter)
+                    .setPartitionFilters(profileView.partitionedFilters());
+        }
+
+        return tableConfig;
+    }
+
+    private static CompressionType compressionType(String compression) {
+        switch (compression) {
+            case NO_COMPRESSION:
+                return CompressionType.NO_COMPRESSION;
+            case SNAPPY_COMPRESSION:
+                return CompressionType.SNAPPY_COMPRESSION;
+            case LZ4_COMPRESSION:
+                return CompressionType.LZ4_COMPRESSION;
+            case ZSTD_COMPRESSION:
+                return CompressionType.ZSTD_COMPRESSION;
+            default:
+                throw new IllegalArgumentException("Unknown compression: " + compression);
+        }
     }
 
     private long sizeBytes() {
@@ -102,7 +221,21 @@ public class RocksDbStorageProfile {
      * Closes and frees resources associated with this profile.
      */
     public void stop() throws Exception {
-        IgniteUtils.closeAll(writeBufferManager, cache);
+        IgniteUtils.closeAll(deletionCollectorFactory, statistics, filter, writeBufferManager, cache);
+    }
+
+    /**
+     * Returns statistics of the RocksDB instance of the profile.
+     */
+    public Statistics statistics() {
+        return statistics;
+    }
+
+    /**
+     * Returns the block cache of the profile.
+     */
+    Cache cache() {
+        return cache;
     }
 
     /**
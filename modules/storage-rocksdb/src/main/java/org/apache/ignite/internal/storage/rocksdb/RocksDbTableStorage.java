@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.storage.rocksdb;
 
+import static java.util.Comparator.naturalOrder;
 import static java.util.stream.Collectors.toList;
 import static org.apache.ignite.internal.storage.rocksdb.instance.SharedRocksDbInstance.DFLT_WRITE_OPTS;
 import static org.apache.ignite.internal.storage.util.StorageUtils.createMissingMvPartitionErrorMessage;
@@ -28,12 +29,14 @@ import static org.apache.ignite.internal.util.IgniteUtils.closeAll;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.lang.IgniteStringFormatter;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
@@ -150,6 +153,47 @@ public class RocksDbTableStorage implements MvTableStorage {
         return rocksDb.dataCf.handle();
     }
 
+    /**
+     * Creates a buffer that ingests the rebalance data of the partition as SST files, {@code null} if the ingestion is disabled.
+     */
+    @Nullable SstIngestionBuffer createIngestionBuffer(int partitionId) {
+        long maxSizeBytes = rocksDb.engine.configuration().rebalanceIngestionBufferSizeBytes().value();
+
+        return maxSizeBytes == 0 ? null : new SstIngestionBuffer(rocksDb, maxSizeBytes, getTableId(), partitionId);
+    }
+
+    /**
+     * Returns the total number of row versions waiting in the GC queues of the table partitions.
+     */
+    long gcQueueSize() {
+        return mvPartitionStorages.stream().mapToLong(RocksDbMvPartitionStorage::gcQueueSize).sum();
+    }
+
+    /**
+     * Returns the largest number of row versions waiting in the GC queue of a single table partition.
+     */
+    long maxPartitionGcQueueSize() {
+        return mvPartitionStorages.stream().mapToLong(RocksDbMvPartitionStorage::gcQueueSize).max().orElse(0);
+    }
+
+    /**
+     * Returns the total number of row versions removed by the garbage collector from the table partitions.
+     */
+    long gcVacuumedCount() {
+        return mvPartitionStorages.stream().mapToLong(RocksDbMvPartitionStorage::gcVacuumedCount).sum();
+    }
+
+    /**
+     * Returns the timestamp of the oldest row version waiting in the GC queues of the table partitions, {@code null} if there's none.
+     */
+    @Nullable HybridTimestamp oldestGcQueueTimestamp() {
+        return mvPartitionStorages.stream()
+                .map(RocksDbMvPartitionStorage::oldestGcQueueTimestamp)
+                .filter(Objects::nonNull)
+                .min(naturalOrder())
+                .orElse(null);
+    }
+
     /**
      * Returns a future to wait next flush operation from the current point in time. Uses {@link RocksDB#getLatestSequenceNumber()} to
      * achieve this.
@@ -169,6 +213,8 @@ public class RocksDbTableStorage implements MvTableStorage {
             return nullCompletedFuture();
         }
 
+        rocksDb.engine.removeTableStorage(this);
+
         busyLock.block();
 
         return mvPartitionStorages.getAllForCloseOrDestroy()
@@ -254,6 +300,10 @@ public class RocksDbTableStorage implements MvTableStorage {
 
                     rocksDb.db.write(DFLT_WRITE_OPTS, writeBatch);
 
+                    PartitionDataHelper helper = mvPartitionStorage.helper();
+
+                    rocksDb.scheduleDestroyedPartitionCompaction(helper.partitionStartPrefix(), helper.partitionEndPrefix());
+
                     return nullCompletedFuture();
                 } catch (RocksDBException e) {
                     throw new IgniteRocksDbException(
@@ -0,0 +1,406 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.rocksdb;
+
+import static org.apache.ignite.internal.storage.rocksdb.instance.SharedRocksDbInstance.DFLT_WRITE_OPTS;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.apache.ignite.internal.rocksdb.ColumnFamily;
+import org.apache.ignite.internal.storage.StorageException;
+import org.apache.ignite.internal.storage.rocksdb.ColumnFamilyUtils.ColumnFamilyType;
+import org.apache.ignite.internal.storage.rocksdb.index.RocksDbBinaryTupleComparator;
+import org.apache.ignite.internal.storage.rocksdb.instance.SharedRocksDbInstance;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.jetbrains.annotations.Nullable;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.DBOptions;
+import org.rocksdb.EnvOptions;
+import org.rocksdb.IngestExternalFileOptions;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.SstFileWriter;
+import org.rocksdb.WriteBatch;
+import org.rocksdb.WriteBatchWithIndex;
+
+/**
+ * Accumulates the data that is written into a partition during its rebalance and ingests it into RocksDB as SST files, bypassing
+ * memtables and the compaction of freshly flushed files.
+ *
+ * <p>Write batches passed to {@link #add} are split by Column Family. Updates of partition and index Column Families are kept in
+ * memory, sorted with the Column Family comparator, until their total size exceeds the limit. After that every Column Family gets its
+ * own SST file, which is ingested right away, so that later ingestions override the earlier ones. Meta Column Family is updated with
+ * regular writes, because its keys are shared by all partitions of the instance.
+ *
+ * <p>Buffered data is not visible to readers until it is ingested. This is fine, because partition data is not read during the
+ * rebalance, except for the previous versions of the row that is being written. All versions of a row must therefore be written
+ * in a single write batch.
+ */
+class SstIngestionBuffer implements AutoCloseable {
+    /** Marker value of a deleted key. Compared by identity. */
+    private static final byte[] DELETED = new byte[0];
+
+    /** Approximate heap overhead of a buffered entry, in bytes. */
+    private static final int ENTRY_OVERHEAD = 64;
+
+    private final SharedRocksDbInstance rocksDb;
+
+    private final ColumnFamilyHandle metaCfHandle;
+
+    /** Limit of buffered data size, in bytes. */
+    private final long maxSizeBytes;
+
+    /** Prefix of the SST file names, unique for the partition. */
+    private final String filePrefix;
+
+    /** Buffered updates by the Column Family ID. */
+    private final Map<Integer, ColumnFamilyBuffer> buffers = new HashMap<>();
+
+    private long sizeBytes;
+
+    private int fileCounter;
+
+    private boolean closed;
+
+    /**
+     * Constructor.
+     *
+     * @param rocksDb Shared RocksDB instance.
+     * @param maxSizeBytes Limit of buffered data size, in bytes.
+     * @param tableId Table ID.
+     * @param partitionId Partition ID.
+     */
+    SstIngestionBuffer(SharedRocksDbInstance rocksDb, long maxSizeBytes, int tableId, int partitionId) {
+        this.rocksDb = rocksDb;
+        this.metaCfHandle = rocksDb.meta.columnFamily().handle();
+        this.maxSizeBytes = maxSizeBytes;
+        this.filePrefix = "table-" + tableId + "-part-" + partitionId + "-";
+    }
+
+    /**
+     * Adds the contents of the write batch to the buffer, ingesting the buffer if it has grown over the limit.
+     *
+     * @param writeBatch Write batch of {@link RocksDbMvPartitionStorage#runConsistently}.
+     * @throws RocksDBException If failed to write the meta updates or to ingest the buffer.
+     */
+    synchronized void add(WriteBatchWithIndex writeBatch) throws RocksDBException {
+        assert !closed : filePrefix;
+
+        try (
+                WriteBatch batch = writeBatch.getWriteBatch();
+                WriteBatch metaBatch = new WriteBatch();
+                var handler = new BufferingHandler(metaBatch)
+        ) {
+            batch.iterate(handler);
+
+            if (metaBatch.count() > 0) {
+                rocksDb.db.write(DFLT_WRITE_OPTS, metaBatch);
+            }
+        }
+
+        if (sizeBytes >= maxSizeBytes) {
+            ingest();
+        }
+    }
+
+    /**
+     * Writes all buffered updates into SST files and ingests them into RocksDB.
+     *
+     * @throws RocksDBException If failed to ingest the files.
+     */
+    synchronized void ingest() throws RocksDBException {
+        assert !closed : filePrefix;
+
+        if (sizeBytes == 0) {
+            return;
+        }
+
+        Path ingestionPath = rocksDb.ingestionPath();
+
+        try {
+            Files.createDirectories(ingestionPath);
+        } catch (IOException e) {
+            throw new StorageException("Failed to create a directory for SST files: " + ingestionPath, e);
+        }
+
+        for (ColumnFamilyBuffer buffer : buffers.values()) {
+            if (buffer.entries.isEmpty()) {
+                continue;
+            }
+
+            Path file = ingestionPath.resolve(filePrefix + fileCounter++ + ".sst");
+
+            try {
+                buffer.writeSstFile(file);
+
+                try (var ingestOptions = new IngestExternalFileOptions().setMoveFiles(true)) {
+                    buffer.cf.ingestExternalFile(List.of(file.toString()), ingestOptions);
+                }
+            } finally {
+                IgniteUtils.deleteIfExists(file);
+            }
+
+            buffer.entries.clear();
+        }
+
+        sizeBytes = 0;
+    }
+
+    /**
+     * Discards the buffered updates.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        buffers.values().forEach(ColumnFamilyBuffer::close);
+        buffers.clear();
+
+        sizeBytes = 0;
+    }
+
+    private @Nullable ColumnFamilyBuffer buffer(int cfId) {
+        ColumnFamilyBuffer buffer = buffers.get(cfId);
+
+        if (buffer == null) {
+            ColumnFamily cf = rocksDb.dataColumnFamily(cfId);
+
+            if (cf == null) {
+                return null;
+            }
+
+            buffer = new ColumnFamilyBuffer(cf);
+
+            buffers.put(cfId, buffer);
+        }
+
+        return buffer;
+    }
+
+    private void put(int cfId, byte[] key, byte[] value) {
+        ColumnFamilyBuffer buffer = buffer(cfId);
+
+        if (buffer == null) {
+            throw new StorageException("Unexpected Column Family in a rebalance write batch: " + cfId);
+        }
+
+        byte[] previous = buffer.entries.put(key, value);
+
+        sizeBytes += key.length + value.length + ENTRY_OVERHEAD;
+
+        if (previous != null) {
+            sizeBytes -= key.length + previous.length + ENTRY_OVERHEAD;
+        }
+    }
+
+    /** Sorted updates of a single Column Family. */
+    private class ColumnFamilyBuffer implements AutoCloseable {
+        final ColumnFamily cf;
+
+        /** Comparator of the sorted index Column Family, {@code null} if Column Family uses the default bytewise comparator. */
+        final @Nullable RocksDbBinaryTupleComparator indexComparator;
+
+        final TreeMap<byte[], byte[]> entries;
+
+        /** Options of the SST files, created on the first ingestion. */
+        @Nullable ColumnFamilyOptions cfOptions;
+
+        ColumnFamilyBuffer(ColumnFamily cf) {
+            this.cf = cf;
+
+            Comparator<byte[]> keyComparator;
+
+            if (ColumnFamilyType.fromCfName(cf.name()) == ColumnFamilyType.SORTED_INDEX) {
+                RocksDbBinaryTupleComparator comparator = ColumnFamilyUtils.comparatorFromCfName(cf.nameBytes());
+
+                indexComparator = comparator;
+
+                // Comparator advances buffer positions, so fresh buffers are needed for every comparison.
+                keyComparator = (a, b) -> comparator.compare(ByteBuffer.wrap(a), ByteBuffer.wrap(b));
+            } else {
+                indexComparator = null;
+
+                keyComparator = Arrays::compareUnsigned;
+            }
+
+            entries = new TreeMap<>(keyComparator);
+        }
+
+        void writeSstFile(Path file) throws RocksDBException {
+            if (cfOptions == null) {
+                cfOptions = rocksDb.createColumnFamilyOptions(cf);
+            }
+
+            try (
+                    var dbOptions = new DBOptions();
+                    var options = new Options(dbOptions, cfOptions);
+                    var envOptions = new EnvOptions();
+                    var writer = new SstFileWriter(envOptions, options)
+            ) {
+                writer.open(file.toString());
+
+                for (Map.Entry<byte[], byte[]> entry : entries.entrySet()) {
+                    if (entry.getValue() == DELETED) {
+                        writer.delete(entry.getKey());
+                    } else {
+                        writer.put(entry.getKey(), entry.getValue());
+                    }
+                }
+
+                writer.finish();
+            }
+        }
+
+        @Override
+        public void close() {
+            entries.clear();
+
+            if (cfOptions != null) {
+                cfOptions.close();
+            }
+
+            if (indexComparator != null) {
+                indexComparator.close();
+            }
+        }
+    }
+
+    /** Distributes write batch records between the Column Family buffers. */
+    private class BufferingHandler extends WriteBatch.Handler {
+        private final WriteBatch metaBatch;
+
+        BufferingHandler(WriteBatch metaBatch) {
+            this.metaBatch = metaBatch;
+        }
+
+        @Override
+        public void put(int columnFamilyId, byte[] key, byte[] value) throws RocksDBException {
+            if (columnFamilyId == metaCfHandle.getID()) {
+                metaBatch.put(metaCfHandle, key, value);
+            } else {
+                SstIngestionBuffer.this.put(columnFamilyId, key, value);
+            }
+        }
+
+        @Override
+        public void delete(int columnFamilyId, byte[] key) throws RocksDBException {
+            if (columnFamilyId == metaCfHandle.getID()) {
+                metaBatch.delete(metaCfHandle, key);
+            } else {
+                SstIngestionBuffer.this.put(columnFamilyId, key, DELETED);
+            }
+        }
+
+        @Override
+        public void singleDelete(int columnFamilyId, byte[] key) throws RocksDBException {
+            delete(columnFamilyId, key);
+        }
+
+        @Override
+        public void put(byte[] key, byte[] value) {
+            throw unsupported("put to the default Column Family");
+        }
+
+        @Override
+        public void merge(int columnFamilyId, byte[] key, byte[] value) {
+            throw unsupported("merge");
+        }
+
+        @Override
+        public void merge(byte[] key, byte[] value) {
+            throw unsupported("merge");
+        }
+
+        @Override
+        public void delete(byte[] key) {
+            throw unsupported("delete from the default Column Family");
+        }
+
+        @Override
+        public void singleDelete(byte[] key) {
+            throw unsupported("delete from the default Column Family");
+        }
+
+        @Override
+        public void deleteRange(int columnFamilyId, byte[] beginKey, byte[] endKey) {
+            throw unsupported("deleteRange");
+        }
+
+        @Override
+        public void deleteRange(byte[] beginKey, byte[] endKey) {
+            throw unsupported("deleteRange");
+        }
+
+        @Override
+        public void logData(byte[] blob) {
+            // No-op.
+        }
+
+        @Override
+        public void putBlobIndex(int columnFamilyId, byte[] key, byte[] value) {
+            throw unsupported("putBlobIndex");
+        }
+
+        @Override
+        public void markBeginPrepare() {
+            throw unsupported("markBeginPrepare");
+        }
+
+        @Override
+        public void markEndPrepare(byte[] xid) {
+            throw unsupported("markEndPrepare");
+        }
+
+        @Override
+        public void markNoop(boolean emptyBatch) {
+            // No-op.
+        }
+
+        @Override
+        public void markRollback(byte[] xid) {
+            throw unsupported("markRollback");
+        }
+
+        @Override
+        public void markCommit(byte[] xid) {
+            throw unsupported("markCommit");
+        }
+
+        @Override
+        public void markCommitWithTimestamp(byte[] xid, byte[] ts) {
+            throw unsupported("markCommitWithTimestamp");
+        }
+
+        private UnsupportedOperationException unsupported(String operation) {
+            return new UnsupportedOperationException("Unsupported operation in a rebalance write batch: " + operation);
+        }
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.storage.rocksdb;
 
+import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.storage.MvPartitionStorage.Locker;
 import org.apache.ignite.internal.storage.MvPartitionStorage.WriteClosure;
 import org.apache.ignite.internal.storage.util.LocalLocker;
@@ -37,6 +38,10 @@ class ThreadLocalState {
     long pendingAppliedTerm;
     byte @Nullable [] pendingGroupConfig;
     long pendingEstimatedSizeDiff;
+    long pendingGcQueueSizeDiff;
+    long pendingGcVacuumedCount;
+    @Nullable HybridTimestamp pendingGcOldestAddedTimestamp;
+    boolean pendingGcQueueHeadRemoved;
 
     ThreadLocalState(WriteBatchWithIndex batch, LocalLocker locker) {
         this.batch = batch;
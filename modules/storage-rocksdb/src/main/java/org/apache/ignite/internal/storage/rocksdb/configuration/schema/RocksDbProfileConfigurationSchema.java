@@ -20,6 +20,7 @@ package org.apache.ignite.internal.storage.rocksdb.configuration.schema;
 import org.apache.ignite.configuration.annotation.PolymorphicConfigInstance;
 import org.apache.ignite.configuration.annotation.PublicName;
 import org.apache.ignite.configuration.annotation.Value;
+import org.apache.ignite.configuration.validation.OneOf;
 import org.apache.ignite.configuration.validation.Range;
 import org.apache.ignite.internal.storage.configurations.StorageProfileConfigurationSchema;
 import org.apache.ignite.internal.storage.rocksdb.RocksDbStorageEngine;
@@ -29,6 +30,24 @@ import org.apache.ignite.internal.storage.rocksdb.RocksDbStorageEngine;
  */
 @PolymorphicConfigInstance("rocksdb")
 public class RocksDbProfileConfigurationSchema extends StorageProfileConfigurationSchema {
+    /** Block cache based on a sharded LRU list. */
+    public static final String LRU_BLOCK_CACHE = "LRU";
+
+    /** Lock-free block cache based on a CLOCK algorithm, scales better than {@link #LRU_BLOCK_CACHE} with a large number of threads. */
+    public static final String HYPER_CLOCK_BLOCK_CACHE = "HYPER_CLOCK";
+
+    /** No compression. */
+    public static final String NO_COMPRESSION = "NONE";
+
+    /** Snappy compression. */
+    public static final String SNAPPY_COMPRESSION = "SNAPPY";
+
+    /** LZ4 compression. */
+    public static final String LZ4_COMPRESSION = "LZ4";
+
+    /** Zstandard compression. */
+    public static final String ZSTD_COMPRESSION = "ZSTD";
+
     /**
      * Size of the rocksdb offheap cache.
      *
@@ -43,4 +62,61 @@ public class RocksDbProfileConfigurationSchema extends StorageProfileConfigurati
     @Range(min = 1)
     @PublicName(legacyNames = "writeBufferSize")
     public long writeBufferSizeBytes = 64 * 1024 * 1024;
+
+    /** Type of the block cache shared by all column families of the profile. */
+    @OneOf({LRU_BLOCK_CACHE, HYPER_CLOCK_BLOCK_CACHE})
+    @Value(hasDefault = true)
+    public String blockCacheType = LRU_BLOCK_CACHE;
+
+    /**
+     * Whether index and filter blocks are stored in the block cache and accounted in its size. Otherwise they are kept on heap of the
+     * table readers for as long as the tables are open.
+     */
+    @Value(hasDefault = true)
+    public boolean cacheIndexAndFilterBlocks = true;
+
+    /** Whether index and filter blocks of tables on level 0 are pinned in the block cache. */
+    @Value(hasDefault = true)
+    public boolean pinL0FilterAndIndexBlocks = true;
+
+    /**
+     * Whether filters and indexes of tables are partitioned, so that only the partitions needed by a lookup are loaded into the block
+     * cache instead of the whole filter and index of a table.
+     */
+    @Value(hasDefault = true)
+    public boolean partitionedFilters = true;
+
+    /** Number of bits per key of bloom filters of the column families used for point lookups, {@code 0} to disable the filters. */
+    @Range(min = 0, max = 64)
+    @Value(hasDefault = true)
+    public int bloomFilterBitsPerKey = 10;
+
+    /** Number of the first LSM tree levels that are not compressed, those are rewritten by compactions too often to be worth it. */
+    @Range(min = 0, max = 7)
+    @Value(hasDefault = true)
+    public int uncompressedLevels = 2;
+
+    /** Compression of the levels starting from {@link #uncompressedLevels}, except for the bottommost one. */
+    @OneOf({NO_COMPRESSION, SNAPPY_COMPRESSION, LZ4_COMPRESSION, ZSTD_COMPRESSION})
+    @Value(hasDefault = true)
+    public String compression = LZ4_COMPRESSION;
+
+    /** Compression of the bottommost level that holds most of the data. */
+    @OneOf({NO_COMPRESSION, SNAPPY_COMPRESSION, LZ4_COMPRESSION, ZSTD_COMPRESSION})
+    @Value(hasDefault = true)
+    public String bottommostCompression = ZSTD_COMPRESSION;
+
+    /**
+     * Number of consecutive entries of an SST file that are checked for tombstones when the file is written. If any such window
+     * contains at least {@link #deletionCompactionTrigger} tombstones, the file is marked for compaction. {@code 0} disables
+     * the trigger.
+     */
+    @Range(min = 0)
+    @Value(hasDefault = true)
+    public int deletionCompactionWindow = 100_000;
+
+    /** Number of tombstones in a window of {@link #deletionCompactionWindow} entries that marks the SST file for compaction. */
+    @Range(min = 1)
+    @Value(hasDefault = true)
+    public int deletionCompactionTrigger = 50_000;
 }
@@ -31,4 +31,20 @@ public class RocksDbStorageEngineConfigurationSchema {
     @Range(min = 0)
     @Value(hasDefault = true)
     public int flushDelayMillis = 100;
+
+    /**
+     * Maximum size of partition data, in bytes, that is accumulated in memory during a rebalance before it is written into SST files
+     * and ingested directly into the LSM tree, bypassing memtables. {@code 0} disables the ingestion, rebalance data is then written
+     * with regular write batches.
+     */
+    @Range(min = 0)
+    @Value(hasDefault = true)
+    public long rebalanceIngestionBufferSizeBytes = 0;
+
+    /**
+     * Whether the key ranges of destroyed partitions and tables are compacted in the background right after the destruction, instead
+     * of waiting for the regular compactions to remove the deleted data.
+     */
+    @Value(hasDefault = true)
+    public boolean compactDestroyedRanges = true;
 }
@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.rocksdb.instance;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.rocksdb.ColumnFamily;
+import org.apache.ignite.internal.util.IgniteSpinBusyLock;
+import org.jetbrains.annotations.Nullable;
+import org.rocksdb.CompactRangeOptions;
+import org.rocksdb.CompactRangeOptions.BottommostLevelCompaction;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+
+/**
+ * Reclaims the disk space of key ranges that have been removed with range deletions, when a partition, a table or an index is destroyed.
+ *
+ * <p>Range deletions make the data invisible, but the data and the range tombstones stay in SST files until they are compacted,
+ * slowing down the scans of neighbouring key ranges. This class compacts the removed ranges in the background, one range at a time.
+ * SST files that lie completely inside of a range of a destroyed table or index are deleted without compaction, because table and index
+ * IDs are never reused and nothing can be written into such a range again.
+ *
+ * <p>A running compaction is cancelled when its Column Family is dropped or the instance is stopped, so neither has to wait for it.
+ */
+class DestroyedRangesCompactor {
+    private static final IgniteLogger LOG = Loggers.forClass(DestroyedRangesCompactor.class);
+
+    private final RocksDB db;
+
+    private final Executor executor;
+
+    private final IgniteSpinBusyLock busyLock;
+
+    private final Queue<DestroyedRange> pendingRanges = new ConcurrentLinkedQueue<>();
+
+    /** Whether the compaction task is scheduled or running. */
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    /** Guards {@link #currentRange}. */
+    private final Object mux = new Object();
+
+    /** Range that is being compacted at the moment. */
+    private @Nullable DestroyedRange currentRange;
+
+    DestroyedRangesCompactor(RocksDB db, Executor executor, IgniteSpinBusyLock busyLock) {
+        this.db = db;
+        this.executor = executor;
+        this.busyLock = busyLock;
+    }
+
+    /**
+     * Schedules the compaction of the key range.
+     *
+     * @param cf Column Family.
+     * @param from Start of the range, inclusive.
+     * @param to End of the range, exclusive.
+     * @param deleteFiles Whether SST files inside of the range can be deleted before the compaction. Only allowed if nothing is
+     *      written into the range after its deletion.
+     */
+    void schedule(ColumnFamily cf, byte[] from, byte[] to, boolean deleteFiles) {
+        pendingRanges.add(new DestroyedRange(cf, from, to, deleteFiles));
+
+        scheduleIfNeeded();
+    }
+
+    /**
+     * Removes the pending ranges of the Column Family and waits for the compaction of its range to be cancelled, if there's one. Must be
+     * called before the Column Family is dropped and its handle is closed.
+     *
+     * @param cf Column Family.
+     */
+    void onColumnFamilyDestroy(ColumnFamily cf) {
+        synchronized (mux) {
+            pendingRanges.removeIf(range -> range.cf == cf);
+
+            if (currentRange == null || currentRange.cf != cf) {
+                return;
+            }
+
+            currentRange.cancelled = true;
+
+            db.disableManualCompaction();
+
+            try {
+                boolean interrupted = false;
+
+                while (currentRange != null && currentRange.cf == cf) {
+                    try {
+                        mux.wait();
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            } finally {
+                db.enableManualCompaction();
+            }
+        }
+    }
+
+    /**
+     * Cancels the running compaction and drops the pending ones, so that the stop of the instance is not delayed by them. Must be called
+     * before the busy lock is blocked.
+     */
+    void stop() {
+        synchronized (mux) {
+            pendingRanges.clear();
+
+            if (currentRange != null) {
+                currentRange.cancelled = true;
+            }
+        }
+
+        db.disableManualCompaction();
+    }
+
+    private void scheduleIfNeeded() {
+        if (!pendingRanges.isEmpty() && scheduled.compareAndSet(false, true)) {
+            executor.execute(this::compactPendingRanges);
+        }
+    }
+
+    private void compactPendingRanges() {
+        try {
+            while (true) {
+                // Busy lock is held for one range at a time, and the stop cancels the running compaction, so it does not wait for long.
+                if (!busyLock.enterBusy()) {
+                    pendingRanges.clear();
+
+                    return;
+                }
+
+                try {
+                    DestroyedRange range;
+
+                    synchronized (mux) {
+                        range = pendingRanges.poll();
+
+                        currentRange = range;
+                    }
+
+                    if (range == null) {
+                        break;
+                    }
+
+                    try {
+                        compact(range);
+                    } finally {
+                        synchronized (mux) {
+                            currentRange = null;
+
+                            mux.notifyAll();
+                        }
+                    }
+                } finally {
+                    busyLock.leaveBusy();
+                }
+            }
+        } finally {
+            scheduled.set(false);
+        }
+
+        // Ranges might have been added after the queue had been drained, but before the flag was reset.
+        scheduleIfNeeded();
+    }
+
+    private void compact(DestroyedRange range) {
+        try {
+            if (range.deleteFiles) {
+                db.deleteFilesInRanges(range.cf.handle(), List.of(range.from, range.to), false);
+            }
+
+            try (var options = new CompactRangeOptions()) {
+                options
+                        // Automatic compactions must not wait for the reclamation.
+                        .setExclusiveManualCompaction(false)
+                        .setBottommostLevelCompaction(BottommostLevelCompaction.kForceOptimized);
+
+                db.compactRange(range.cf.handle(), range.from, range.to, options);
+            }
+        } catch (RocksDBException e) {
+            if (range.cancelled) {
+                LOG.debug("Compaction of a destroyed key range has been cancelled [columnFamily={}].", range.cf.name());
+
+                return;
+            }
+
+            LOG.warn("Unable to compact a destroyed key range [columnFamily={}].", e, range.cf.name());
+        }
+    }
+
+    private static class DestroyedRange {
+        final ColumnFamily cf;
+
+        final byte[] from;
+
+        final byte[] to;
+
+        final boolean deleteFiles;
+
+        /** Whether the compaction has been cancelled because of the Column Family destruction or the instance stop. */
+        volatile boolean cancelled;
+
+        DestroyedRange(ColumnFamily cf, byte[] from, byte[] to, boolean deleteFiles) {
+            this.cf = cf;
+            this.from = from;
+            this.to = to;
+            this.deleteFiles = deleteFiles;
+        }
+    }
+}
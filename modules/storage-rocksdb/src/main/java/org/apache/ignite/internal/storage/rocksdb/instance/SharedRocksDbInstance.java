@@ -21,6 +21,7 @@ import static java.util.stream.Collectors.toList;
 import static org.apache.ignite.internal.rocksdb.RocksUtils.incrementPrefix;
 import static org.apache.ignite.internal.storage.rocksdb.ColumnFamilyUtils.toStringName;
 import static org.apache.ignite.internal.storage.rocksdb.RocksDbMetaStorage.ESTIMATED_SIZE_PREFIX;
+import static org.apache.ignite.internal.storage.rocksdb.RocksDbMetaStorage.GC_QUEUE_SIZE_PREFIX;
 import static org.apache.ignite.internal.storage.rocksdb.RocksDbMetaStorage.INDEX_ROW_ID_PREFIX;
 import static org.apache.ignite.internal.storage.rocksdb.RocksDbMetaStorage.LEASE_PREFIX;
 import static org.apache.ignite.internal.storage.rocksdb.RocksDbMetaStorage.PARTITION_CONF_PREFIX;
@@ -56,6 +57,7 @@ import org.apache.ignite.internal.storage.rocksdb.IndexIdCursor;
 import org.apache.ignite.internal.storage.rocksdb.IndexIdCursor.TableAndIndexId;
 import org.apache.ignite.internal.storage.rocksdb.RocksDbMetaStorage;
 import org.apache.ignite.internal.storage.rocksdb.RocksDbStorageEngine;
+import org.apache.ignite.internal.storage.rocksdb.RocksDbStorageProfile;
 import org.apache.ignite.internal.util.ByteUtils;
 import org.apache.ignite.internal.util.IgniteSpinBusyLock;
 import org.jetbrains.annotations.Nullable;
@@ -76,6 +78,9 @@ public final class SharedRocksDbInstance {
     /** Write options. */
     public static final WriteOptions DFLT_WRITE_OPTS = new WriteOptions().setDisableWAL(true);
 
+    /** Name of the sub-directory of {@link #path} that holds SST files prepared for ingestion. */
+    public static final String INGESTION_DIR = "ingestion";
+
     /**
      * Class that represents a Column Family for sorted indexes and all index IDs that map to this Column Family.
      *
@@ -106,6 +111,9 @@ public final class SharedRocksDbInstance {
     /** RocksDB storage engine instance. */
     public final RocksDbStorageEngine engine;
 
+    /** Storage profile of the instance. */
+    private final RocksDbStorageProfile profile;
+
     /** Path for the directory that stores the data. */
     public final Path path;
 
@@ -142,8 +150,12 @@ public final class SharedRocksDbInstance {
     /** Tracks external resources that need to be closed. */
     private final List<AutoCloseable> resources;
 
+    /** Compacts key ranges of destroyed partitions and tables. */
+    private final DestroyedRangesCompactor destroyedRangesCompactor;
+
     SharedRocksDbInstance(
             RocksDbStorageEngine engine,
+            RocksDbStorageProfile profile,
             Path path,
             IgniteSpinBusyLock busyLock,
             RocksDbFlusher flusher,
@@ -157,6 +169,7 @@ public final class SharedRocksDbInstance {
             List<AutoCloseable> resources
     ) {
         this.engine = engine;
+        this.profile = profile;
         this.path = path;
         this.busyLock = busyLock;
 
@@ -171,6 +184,8 @@ public final class SharedRocksDbInstance {
 
         this.resources = new ArrayList<>(resources);
 
+        this.destroyedRangesCompactor = new DestroyedRangesCompactor(db, engine.threadPool(), busyLock);
+
         recoverExistingSortedIndexes(sortedIndexCfs);
     }
 
@@ -212,6 +227,8 @@ public final class SharedRocksDbInstance {
             return;
         }
 
+        destroyedRangesCompactor.stop();
+
         busyLock.block();
 
         // Add resources from sorted indexes.
@@ -251,6 +268,70 @@ public final class SharedRocksDbInstance {
         return hashIndexCf;
     }
 
+    /**
+     * Schedules the compaction of a destroyed partition in the partition data Column Families, if it's enabled in the engine
+     * configuration. Must be called after the range deletions are written.
+     *
+     * @param partitionStartPrefix Start of the partition key range, inclusive.
+     * @param partitionEndPrefix End of the partition key range, exclusive.
+     */
+    public void scheduleDestroyedPartitionCompaction(byte[] partitionStartPrefix, byte[] partitionEndPrefix) {
+        if (engine.configuration().compactDestroyedRanges().value()) {
+            // Partition might be created again, its SST files can't be simply deleted.
+            for (ColumnFamily cf : List.of(partitionCf, dataCf, gcQueueCf)) {
+                destroyedRangesCompactor.schedule(cf, partitionStartPrefix, partitionEndPrefix, false);
+            }
+        }
+    }
+
+    /**
+     * Schedules the compaction of a destroyed index in the given index Column Family, if it's enabled in the engine configuration. Must be
+     * called after the range deletion is written.
+     *
+     * @param indexCf Hash or sorted index Column Family.
+     * @param indexPrefix Prefix of the index keys.
+     */
+    public void scheduleDestroyedIndexCompaction(ColumnFamily indexCf, byte[] indexPrefix) {
+        if (engine.configuration().compactDestroyedRanges().value()) {
+            // Index IDs are never reused, so SST files inside of the range can be deleted.
+            destroyedRangesCompactor.schedule(indexCf, indexPrefix, incrementPrefix(indexPrefix), true);
+        }
+    }
+
+    /**
+     * Returns a Column Family, that holds partition or index data and has the given ID, or {@code null} if there's no such Column
+     * Family. Meta Column Family is never returned.
+     */
+    public @Nullable ColumnFamily dataColumnFamily(int cfId) {
+        for (ColumnFamily cf : List.of(partitionCf, gcQueueCf, dataCf, hashIndexCf)) {
+            if (cf.handle().getID() == cfId) {
+                return cf;
+            }
+        }
+
+        for (SortedIndexColumnFamily indexCf : sortedIndexCfsByName.values()) {
+            if (indexCf.columnFamily.handle().getID() == cfId) {
+                return indexCf.columnFamily;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Creates options of the given Column Family, that are used to write SST files for it. Options must be closed by the caller.
+     */
+    public ColumnFamilyOptions createColumnFamilyOptions(ColumnFamily cf) {
+        return SharedRocksDbInstanceCreator.columnFamilyOptions(profile, cf.nameBytes(), path);
+    }
+
+    /**
+     * Returns a path to the directory for SST files prepared for ingestion.
+     */
+    public Path ingestionPath() {
+        return path.resolve(INGESTION_DIR);
+    }
+
     /**
      * Returns a collection of all hash index IDs that currently exist in the storage.
      */
@@ -382,6 +463,7 @@ public final class SharedRocksDbInstance {
             deleteByPrefix(writeBatch, meta.columnFamily(), metaPrefix(INDEX_ROW_ID_PREFIX, tableIdBytes));
             deleteByPrefix(writeBatch, meta.columnFamily(), metaPrefix(LEASE_PREFIX, tableIdBytes));
             deleteByPrefix(writeBatch, meta.columnFamily(), metaPrefix(ESTIMATED_SIZE_PREFIX, tableIdBytes));
+            deleteByPrefix(writeBatch, meta.columnFamily(), metaPrefix(GC_QUEUE_SIZE_PREFIX, tableIdBytes));
 
             var cfsToRemove = new ArrayList<ColumnFamily>();
 
@@ -403,6 +485,20 @@ public final class SharedRocksDbInstance {
 
             db.write(DFLT_WRITE_OPTS, writeBatch);
 
+            if (engine.configuration().compactDestroyedRanges().value()) {
+                byte[] upperBound = incrementPrefix(tableIdBytes);
+
+                for (ColumnFamily cf : List.of(partitionCf, dataCf, gcQueueCf, hashIndexCf)) {
+                    destroyedRangesCompactor.schedule(cf, tableIdBytes, upperBound, true);
+                }
+
+                // Sorted index Column Families that end up being dropped remove their ranges from the compactor, so the ranges must be
+                // scheduled before the drop.
+                for (ColumnFamily cf : new HashSet<>(cfsToRemove)) {
+                    destroyedRangesCompactor.schedule(cf, tableIdBytes, upperBound, true);
+                }
+            }
+
             if (!cfsToRemove.isEmpty()) {
                 scheduleIndexCfsDestroyIfNeeded(cfsToRemove);
             }
@@ -420,7 +516,7 @@ public final class SharedRocksDbInstance {
     }
 
     private ColumnFamily createSortedIndexCf(byte[] cfName) {
-        ColumnFamilyOptions cfOptions = sortedIndexCfOptions(cfName);
+        ColumnFamilyOptions cfOptions = sortedIndexCfOptions(profile, cfName);
         this.resources.add(0, cfOptions); // Added to the first position of the resources.
         ColumnFamilyDescriptor cfDescriptor = new ColumnFamilyDescriptor(cfName, cfOptions);
 
@@ -437,6 +533,8 @@ public final class SharedRocksDbInstance {
     }
 
     private void destroyColumnFamily(ColumnFamily columnFamily) {
+        destroyedRangesCompactor.onColumnFamilyDestroy(columnFamily);
+
         flusher.removeColumnFamily(columnFamily.handle());
 
         try {
@@ -21,6 +21,7 @@ import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
 import static org.apache.ignite.internal.storage.rocksdb.ColumnFamilyUtils.toStringName;
 import static org.apache.ignite.internal.util.IgniteUtils.closeAll;
+import static org.apache.ignite.internal.util.IgniteUtils.deleteIfExistsThrowable;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -41,8 +42,6 @@ import org.apache.ignite.internal.storage.rocksdb.RocksDbStorageProfile;
 import org.apache.ignite.internal.storage.rocksdb.index.AbstractRocksDbIndexStorage;
 import org.apache.ignite.internal.storage.rocksdb.index.RocksDbHashIndexStorage;
 import org.apache.ignite.internal.util.IgniteSpinBusyLock;
-import org.rocksdb.BlockBasedTableConfig;
-import org.rocksdb.BloomFilter;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ColumnFamilyOptions;
@@ -81,6 +80,9 @@ public class SharedRocksDbInstanceCreator {
         try {
             Files.createDirectories(path);
 
+            // SST files of interrupted ingestions are of no use after restart.
+            deleteIfExistsThrowable(path.resolve(SharedRocksDbInstance.INGESTION_DIR));
+
             var flusher = new RocksDbFlusher(
                     "rocksdb storage profile [" + profile.name() + "]",
                     nodeName,
@@ -93,7 +95,7 @@ public class SharedRocksDbInstanceCreator {
                     () -> {} // No-op.
             );
 
-            List<ColumnFamilyDescriptor> cfDescriptors = getExistingCfDescriptors(path);
+            List<ColumnFamilyDescriptor> cfDescriptors = getExistingCfDescriptors(profile, path);
 
             List<ColumnFamilyHandle> cfHandles = new ArrayList<>(cfDescriptors.size());
 
@@ -104,6 +106,7 @@ public class SharedRocksDbInstanceCreator {
                     .setAtomicFlush(true)
                     .setListeners(List.of(flusher.listener()))
                     .setWriteBufferManager(profile.writeBufferManager())
+                    .setStatistics(profile.statistics())
                     // Don't flush on shutdown to speed up node shutdown as on recovery we'll apply commands from log.
                     .setAvoidFlushDuringShutdown(true)
             );
@@ -162,6 +165,7 @@ public class SharedRocksDbInstanceCreator {
 
             return new SharedRocksDbInstance(
                     engine,
+                    profile,
                     path,
                     busyLock,
                     flusher,
@@ -192,7 +196,7 @@ public class SharedRocksDbInstanceCreator {
     /**
      * Returns a list of CF descriptors present in the RocksDB instance.
      */
-    private List<ColumnFamilyDescriptor> getExistingCfDescriptors(Path path) throws RocksDBException {
+    private List<ColumnFamilyDescriptor> getExistingCfDescriptors(RocksDbStorageProfile profile, Path path) throws RocksDBException {
         String absolutePathStr = path.toAbsolutePath().toString();
 
         List<byte[]> existingNames;
@@ -208,43 +212,51 @@ public class SharedRocksDbInstanceCreator {
         }
 
         return existingNames.stream()
-                .map(cfName -> new ColumnFamilyDescriptor(cfName, createCfOptions(cfName, path)))
+                .map(cfName -> new ColumnFamilyDescriptor(cfName, createCfOptions(profile, cfName, path)))
                 .collect(toList());
     }
 
+    private ColumnFamilyOptions createCfOptions(RocksDbStorageProfile profile, byte[] cfName, Path path) {
+        return add(columnFamilyOptions(profile, cfName, path));
+    }
+
+    /**
+     * Creates options of the column family with the given name. Options must be closed by the caller.
+     */
     @SuppressWarnings("resource")
-    private ColumnFamilyOptions createCfOptions(byte[] cfName, Path path) {
+    static ColumnFamilyOptions columnFamilyOptions(RocksDbStorageProfile profile, byte[] cfName, Path path) {
         String utf8cfName = toStringName(cfName);
 
         switch (ColumnFamilyType.fromCfName(utf8cfName)) {
             case META:
             case GC_QUEUE:
+                return profile.createColumnFamilyOptions(false);
+
             case DATA:
-                return add(new ColumnFamilyOptions());
+                return profile.createColumnFamilyOptions(true);
 
             case PARTITION:
-                return add(defaultCfOptions().useCappedPrefixExtractor(PartitionDataHelper.ROW_PREFIX_SIZE));
+                return pointLookupCfOptions(profile).useCappedPrefixExtractor(PartitionDataHelper.ROW_PREFIX_SIZE);
 
             case HASH_INDEX:
-                return add(defaultCfOptions().useCappedPrefixExtractor(RocksDbHashIndexStorage.FIXED_PREFIX_LENGTH));
+                return pointLookupCfOptions(profile).useCappedPrefixExtractor(RocksDbHashIndexStorage.FIXED_PREFIX_LENGTH);
 
             case SORTED_INDEX:
-                return add(sortedIndexCfOptions(cfName));
+                return sortedIndexCfOptions(profile, cfName);
             default:
                 throw new StorageException("Unidentified column family: [name={}, path={}]", cfName, path);
         }
     }
 
     @SuppressWarnings("resource")
-    private static ColumnFamilyOptions defaultCfOptions() {
-        return new ColumnFamilyOptions()
-                .setMemtablePrefixBloomSizeRatio(0.125)
-                .setTableFormatConfig(new BlockBasedTableConfig().setFilterPolicy(new BloomFilter()));
+    private static ColumnFamilyOptions pointLookupCfOptions(RocksDbStorageProfile profile) {
+        return profile.createColumnFamilyOptions(true)
+                .setMemtablePrefixBloomSizeRatio(0.125);
     }
 
     @SuppressWarnings("resource")
-    static ColumnFamilyOptions sortedIndexCfOptions(byte[] cfName) {
-        return new ColumnFamilyOptions()
+    static ColumnFamilyOptions sortedIndexCfOptions(RocksDbStorageProfile profile, byte[] cfName) {
+        return profile.createColumnFamilyOptions(false)
                 .setComparator(ColumnFamilyUtils.comparatorFromCfName(cfName))
                 .useCappedPrefixExtractor(AbstractRocksDbIndexStorage.PREFIX_WITH_IDS_LENGTH);
     }
@@ -25,6 +25,7 @@ import java.util.concurrent.ScheduledExecutorService;
 import org.apache.ignite.internal.components.LogSyncer;
 import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
 import org.apache.ignite.internal.failure.FailureProcessor;
+import org.apache.ignite.internal.metrics.NoOpMetricManager;
 import org.apache.ignite.internal.storage.AbstractMvPartitionStorageConcurrencyTest;
 import org.apache.ignite.internal.storage.configurations.StorageConfiguration;
 import org.apache.ignite.internal.storage.engine.StorageTableDescriptor;
@@ -59,6 +60,7 @@ public class RocksDbMvPartitionStorageConcurrencyTest extends AbstractMvPartitio
     ) {
         engine = new RocksDbStorageEngine(
                 "test",
+                new NoOpMetricManager(),
                 storageConfiguration,
                 workDir,
                 mock(LogSyncer.class),
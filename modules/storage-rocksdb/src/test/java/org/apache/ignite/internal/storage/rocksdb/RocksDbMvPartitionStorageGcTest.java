@@ -18,6 +18,12 @@
 package org.apache.ignite.internal.storage.rocksdb;
 
 import static org.apache.ignite.internal.catalog.commands.CatalogUtils.DEFAULT_PARTITION_COUNT;
+import static org.apache.ignite.internal.storage.rocksdb.RocksDbMetaStorage.GC_QUEUE_SIZE_PREFIX;
+import static org.apache.ignite.internal.storage.rocksdb.RocksDbStorageUtils.createKey;
+import static org.apache.ignite.internal.util.ByteUtils.bytesToLong;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.mock;
 
 import java.nio.file.Path;
@@ -25,6 +31,8 @@ import java.util.concurrent.ScheduledExecutorService;
 import org.apache.ignite.internal.components.LogSyncer;
 import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
 import org.apache.ignite.internal.failure.FailureProcessor;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.metrics.NoOpMetricManager;
 import org.apache.ignite.internal.storage.AbstractMvPartitionStorageGcTest;
 import org.apache.ignite.internal.storage.configurations.StorageConfiguration;
 import org.apache.ignite.internal.storage.engine.StorageTableDescriptor;
@@ -36,6 +44,7 @@ import org.apache.ignite.internal.testframework.WorkDirectoryExtension;
 import org.apache.ignite.internal.util.IgniteUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 /**
@@ -59,6 +68,7 @@ public class RocksDbMvPartitionStorageGcTest extends AbstractMvPartitionStorageG
     ) {
         engine = new RocksDbStorageEngine(
                 "test",
+                new NoOpMetricManager(),
                 storageConfiguration,
                 workDir,
                 mock(LogSyncer.class),
@@ -86,4 +96,75 @@ public class RocksDbMvPartitionStorageGcTest extends AbstractMvPartitionStorageG
                 engine == null ? null : engine::stop
         );
     }
+
+    @Test
+    void testGcQueueStatistics() {
+        var partitionStorage = (RocksDbMvPartitionStorage) storage;
+
+        assertEquals(0, partitionStorage.gcQueueSize());
+        assertNull(partitionStorage.oldestGcQueueTimestamp());
+
+        addAndCommit(TABLE_ROW);
+        HybridTimestamp secondCommitTs = addAndCommit(TABLE_ROW2);
+        HybridTimestamp thirdCommitTs = addAndCommit(TABLE_ROW);
+
+        assertEquals(2, partitionStorage.gcQueueSize());
+        assertEquals(secondCommitTs, partitionStorage.oldestGcQueueTimestamp());
+        assertEquals(0, partitionStorage.gcVacuumedCount());
+
+        assertEquals(2, table.gcQueueSize());
+        assertEquals(2, table.maxPartitionGcQueueSize());
+        assertEquals(secondCommitTs, table.oldestGcQueueTimestamp());
+
+        assertNotNull(pollForVacuum(secondCommitTs));
+
+        assertEquals(1, partitionStorage.gcQueueSize());
+        assertEquals(thirdCommitTs, partitionStorage.oldestGcQueueTimestamp());
+        assertEquals(1, partitionStorage.gcVacuumedCount());
+
+        assertNotNull(pollForVacuum(HybridTimestamp.MAX_VALUE));
+
+        assertEquals(0, table.gcQueueSize());
+        assertNull(table.oldestGcQueueTimestamp());
+        assertEquals(2, table.gcVacuumedCount());
+    }
+
+    @Test
+    void testGcQueueSizeIsPersisted() throws Exception {
+        addAndCommit(TABLE_ROW);
+        addAndCommit(TABLE_ROW2);
+        addAndCommit(TABLE_ROW);
+
+        // The size is read from the meta column family, the queue is not scanned.
+        assertEquals(1, reopenedGcQueueSize());
+
+        // Partitions written by older versions have no persisted size, their queue is counted on the first request.
+        byte[] gcQueueSizeKey = createKey(GC_QUEUE_SIZE_PREFIX, table.getTableId(), PARTITION_ID);
+
+        table.db().delete(table.metaCfHandle(), gcQueueSizeKey);
+
+        assertEquals(1, reopenedGcQueueSize());
+
+        // The counted size is persisted, so the queue is not counted again after a restart.
+        assertEquals(1L, bytesToLong(table.db().get(table.metaCfHandle(), gcQueueSizeKey)));
+
+        assertEquals(1, reopenedGcQueueSize());
+
+        // The size is also persisted by the following changes of the queue.
+        assertNotNull(pollForVacuum(HybridTimestamp.MAX_VALUE));
+
+        assertNotNull(table.db().get(table.metaCfHandle(), gcQueueSizeKey));
+        assertEquals(0, reopenedGcQueueSize());
+    }
+
+    /** Returns the GC queue size of a partition storage instance created anew over the same data, as it happens on node restart. */
+    private long reopenedGcQueueSize() {
+        var partitionStorage = new RocksDbMvPartitionStorage(table, PARTITION_ID);
+
+        try {
+            return partitionStorage.gcQueueSize();
+        } finally {
+            partitionStorage.close();
+        }
+    }
 }
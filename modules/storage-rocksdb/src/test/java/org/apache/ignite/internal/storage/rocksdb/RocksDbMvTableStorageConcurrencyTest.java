@@ -25,6 +25,7 @@ import java.util.concurrent.ScheduledExecutorService;
 import org.apache.ignite.internal.components.LogSyncer;
 import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
 import org.apache.ignite.internal.failure.FailureProcessor;
+import org.apache.ignite.internal.metrics.NoOpMetricManager;
 import org.apache.ignite.internal.storage.AbstractMvTableStorageConcurrencyTest;
 import org.apache.ignite.internal.storage.configurations.StorageConfiguration;
 import org.apache.ignite.internal.storage.engine.MvTableStorage;
@@ -54,6 +55,7 @@ class RocksDbMvTableStorageConcurrencyTest extends AbstractMvTableStorageConcurr
     ) {
         engine = new RocksDbStorageEngine(
                 "test",
+                new NoOpMetricManager(),
                 storageConfiguration,
                 workDir,
                 mock(LogSyncer.class),
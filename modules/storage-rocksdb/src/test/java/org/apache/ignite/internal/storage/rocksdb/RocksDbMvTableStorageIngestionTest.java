@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.rocksdb;
+
+import static org.apache.ignite.internal.catalog.commands.CatalogUtils.DEFAULT_PARTITION_COUNT;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anyOf;
+import static org.hamcrest.Matchers.emptyArray;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.mock;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.concurrent.ScheduledExecutorService;
+import org.apache.ignite.internal.components.LogSyncer;
+import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
+import org.apache.ignite.internal.failure.FailureProcessor;
+import org.apache.ignite.internal.metrics.NoOpMetricManager;
+import org.apache.ignite.internal.storage.AbstractMvTableStorageTest;
+import org.apache.ignite.internal.storage.configurations.StorageConfiguration;
+import org.apache.ignite.internal.storage.engine.MvTableStorage;
+import org.apache.ignite.internal.storage.engine.StorageTableDescriptor;
+import org.apache.ignite.internal.storage.rocksdb.instance.SharedRocksDbInstance;
+import org.apache.ignite.internal.testframework.ExecutorServiceExtension;
+import org.apache.ignite.internal.testframework.InjectExecutorService;
+import org.apache.ignite.internal.testframework.WorkDirectory;
+import org.apache.ignite.internal.testframework.WorkDirectoryExtension;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Tests for the {@link RocksDbTableStorage} with rebalance data ingested as SST files. Buffer size is minimal, so that every write
+ * batch of the rebalance is ingested separately.
+ */
+@ExtendWith(ExecutorServiceExtension.class)
+@ExtendWith(WorkDirectoryExtension.class)
+public class RocksDbMvTableStorageIngestionTest extends AbstractMvTableStorageTest {
+    private RocksDbStorageEngine engine;
+
+    private Path workDir;
+
+    @BeforeEach
+    void setUp(
+            @WorkDirectory Path workDir,
+            @InjectConfiguration("mock {"
+                    + "profiles.default {engine = rocksdb, sizeBytes = 16777216, writeBufferSizeBytes = 67108864},"
+                    + "engines.rocksdb.rebalanceIngestionBufferSizeBytes = 1"
+                    + "}")
+            StorageConfiguration storageConfiguration,
+            @InjectExecutorService
+            ScheduledExecutorService scheduledExecutor
+    ) {
+        this.workDir = workDir;
+
+        engine = new RocksDbStorageEngine(
+                "test",
+                new NoOpMetricManager(),
+                storageConfiguration,
+                workDir,
+                mock(LogSyncer.class),
+                scheduledExecutor,
+                mock(FailureProcessor.class)
+        );
+
+        engine.start();
+
+        initialize();
+    }
+
+    @Override
+    @AfterEach
+    protected void tearDown() throws Exception {
+        super.tearDown();
+
+        IgniteUtils.closeAllManually(engine == null ? null : engine::stop);
+    }
+
+    @Override
+    protected MvTableStorage createMvTableStorage() {
+        return engine.createMvTable(
+                new StorageTableDescriptor(1, DEFAULT_PARTITION_COUNT, "default"),
+                indexDescriptorSupplier
+        );
+    }
+
+    /**
+     * Tests that ingested SST files don't remain in the ingestion directory after the rebalance.
+     */
+    @Test
+    void testNoSstFilesLeftAfterRebalance() {
+        testSuccessRebalance();
+
+        File[] files = workDir.resolve("rocksdb-default").resolve(SharedRocksDbInstance.INGESTION_DIR).toFile().listFiles();
+
+        assertThat(files, anyOf(nullValue(), emptyArray()));
+    }
+}
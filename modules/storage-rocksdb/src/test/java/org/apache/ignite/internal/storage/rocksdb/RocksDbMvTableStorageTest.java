@@ -17,16 +17,23 @@
 
 package org.apache.ignite.internal.storage.rocksdb;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
 import static org.apache.ignite.internal.catalog.commands.CatalogUtils.DEFAULT_PARTITION_COUNT;
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.waitForCondition;
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -34,12 +41,15 @@ import org.apache.ignite.internal.components.LogSyncer;
 import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
 import org.apache.ignite.internal.failure.FailureProcessor;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.metrics.NoOpMetricManager;
+import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.storage.AbstractMvTableStorageTest;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
 import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.storage.configurations.StorageConfiguration;
 import org.apache.ignite.internal.storage.engine.MvTableStorage;
 import org.apache.ignite.internal.storage.engine.StorageTableDescriptor;
+import org.apache.ignite.internal.storage.index.HashIndexStorage;
 import org.apache.ignite.internal.storage.lease.LeaseInfo;
 import org.apache.ignite.internal.testframework.ExecutorServiceExtension;
 import org.apache.ignite.internal.testframework.InjectExecutorService;
@@ -50,6 +60,8 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.rocksdb.LiveFileMetaData;
+import org.rocksdb.RocksDB;
 
 /**
  * Tests for the {@link RocksDbTableStorage}.
@@ -70,6 +82,7 @@ public class RocksDbMvTableStorageTest extends AbstractMvTableStorageTest {
     ) {
         engine = new RocksDbStorageEngine(
                 "test",
+                new NoOpMetricManager(),
                 storageConfiguration,
                 workDir,
                 mock(LogSyncer.class),
@@ -177,6 +190,76 @@ public class RocksDbMvTableStorageTest extends AbstractMvTableStorageTest {
         assertEquals(leaseInfo, tableStorage.getMvPartition(PARTITION_ID).leaseInfo());
     }
 
+    /**
+     * Tests that the key range of a destroyed partition is compacted in the background.
+     */
+    @Test
+    void testDestroyedPartitionIsCompacted() throws Exception {
+        MvPartitionStorage partitionStorage = getOrCreateMvPartition(PARTITION_ID_0);
+
+        RowId rowId = new RowId(PARTITION_ID_0);
+
+        partitionStorage.runConsistently(locker -> {
+            locker.lock(rowId);
+
+            return partitionStorage.addWriteCommitted(rowId, binaryRow(new TestKey(1, "1"), new TestValue(10, "10")), clock.now());
+        });
+
+        var rocksDbTableStorage = (RocksDbTableStorage) tableStorage;
+
+        assertThat(rocksDbTableStorage.awaitFlush(true), willCompleteSuccessfully());
+
+        assertThat(partitionCfFiles(rocksDbTableStorage.db()), is(not(empty())));
+
+        assertThat(tableStorage.destroyPartition(PARTITION_ID_0), willCompleteSuccessfully());
+
+        assertTrue(waitForCondition(() -> partitionCfFiles(rocksDbTableStorage.db()).isEmpty(), 10_000));
+    }
+
+    /**
+     * Tests that the key range of a destroyed index is reclaimed in the background.
+     */
+    @Test
+    void testDestroyedIndexIsCompacted() throws Exception {
+        MvPartitionStorage partitionStorage = getOrCreateMvPartition(PARTITION_ID_0);
+
+        tableStorage.createHashIndex(PARTITION_ID_0, hashIdx);
+
+        var hashIndexStorage = (HashIndexStorage) tableStorage.getIndex(PARTITION_ID_0, hashIdx.id());
+
+        RowId rowId = new RowId(PARTITION_ID_0);
+
+        BinaryRow binaryRow = binaryRow(new TestKey(1, "1"), new TestValue(10, "10"));
+
+        partitionStorage.runConsistently(locker -> {
+            locker.lock(rowId);
+
+            hashIndexStorage.put(indexRow(hashIndexStorage.indexDescriptor(), binaryRow, rowId));
+
+            return null;
+        });
+
+        var rocksDbTableStorage = (RocksDbTableStorage) tableStorage;
+
+        assertThat(rocksDbTableStorage.awaitFlush(true), willCompleteSuccessfully());
+
+        assertThat(cfFiles(rocksDbTableStorage.db(), "cf-hash"), is(not(empty())));
+
+        assertThat(tableStorage.destroyIndex(hashIdx.id()), willCompleteSuccessfully());
+
+        assertTrue(waitForCondition(() -> cfFiles(rocksDbTableStorage.db(), "cf-hash").isEmpty(), 10_000));
+    }
+
+    private static List<LiveFileMetaData> partitionCfFiles(RocksDB db) {
+        return cfFiles(db, "cf-part");
+    }
+
+    private static List<LiveFileMetaData> cfFiles(RocksDB db, String cfName) {
+        return db.getLiveFilesMetaData().stream()
+                .filter(file -> cfName.equals(new String(file.columnFamilyName(), UTF_8)))
+                .collect(toList());
+    }
+
     @Test
     void storageAdvertisesItIsPersistent() {
         assertThat(tableStorage.isVolatile(), is(false));
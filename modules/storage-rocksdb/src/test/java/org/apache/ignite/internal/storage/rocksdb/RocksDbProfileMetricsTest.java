@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.rocksdb;
+
+import static org.apache.ignite.internal.catalog.CatalogService.DEFAULT_STORAGE_PROFILE;
+import static org.apache.ignite.internal.catalog.commands.CatalogUtils.DEFAULT_PARTITION_COUNT;
+import static org.apache.ignite.internal.storage.rocksdb.RocksDbStorageEngine.ENGINE_NAME;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
+import static org.apache.ignite.internal.util.IgniteUtils.closeAllManually;
+import static org.apache.ignite.internal.util.IgniteUtils.stopAsync;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import org.apache.ignite.internal.components.NoOpLogSyncer;
+import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
+import org.apache.ignite.internal.failure.FailureProcessor;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.manager.ComponentContext;
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.metrics.TestMetricManager;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.storage.BaseMvStoragesTest;
+import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.configurations.StorageConfiguration;
+import org.apache.ignite.internal.storage.engine.MvTableStorage;
+import org.apache.ignite.internal.storage.engine.StorageTableDescriptor;
+import org.apache.ignite.internal.testframework.ExecutorServiceExtension;
+import org.apache.ignite.internal.testframework.InjectExecutorService;
+import org.apache.ignite.internal.testframework.WorkDirectory;
+import org.apache.ignite.internal.testframework.WorkDirectoryExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/** Tests for the block cache metrics of {@link RocksDbStorageProfile}. */
+@ExtendWith(ExecutorServiceExtension.class)
+@ExtendWith(WorkDirectoryExtension.class)
+class RocksDbProfileMetricsTest extends BaseMvStoragesTest {
+    private static final int TABLE_ID = 1;
+
+    private static final int PARTITION_ID = 0;
+
+    private static final int ROW_COUNT = 1_000;
+
+    private final TestMetricManager metricManager = new TestMetricManager();
+
+    private RocksDbStorageEngine engine;
+
+    @WorkDirectory
+    private Path workDir;
+
+    @InjectExecutorService
+    private ScheduledExecutorService scheduledExecutor;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        closeAllManually(
+                engine == null ? null : engine::stop,
+                () -> assertThat(stopAsync(new ComponentContext(), metricManager), willCompleteSuccessfully())
+        );
+    }
+
+    @Test
+    void testBlockCacheMetrics(
+            @InjectConfiguration("mock.profiles.default.engine = rocksdb")
+            StorageConfiguration storageConfig
+    ) {
+        startEngine(storageConfig);
+
+        readFlushedRows();
+
+        assertThat(metric("BlockCacheUsage").value(), is(greaterThan(0L)));
+        assertThat(metric("BlockCacheMisses").value(), is(greaterThan(0L)));
+        assertThat(metric("BlockCacheHits").value(), is(greaterThan(0L)));
+        assertThat(metric("BlockCacheDataMisses").value(), is(greaterThan(0L)));
+        assertThat(metric("BlockCacheDataHits").value(), is(greaterThan(0L)));
+    }
+
+    @Test
+    void testHyperClockCache(
+            @InjectConfiguration("mock.profiles.default {engine = rocksdb, blockCacheType = HYPER_CLOCK, partitionedFilters = false}")
+            StorageConfiguration storageConfig
+    ) {
+        startEngine(storageConfig);
+
+        readFlushedRows();
+
+        assertThat(metric("BlockCacheUsage").value(), is(greaterThan(0L)));
+        assertThat(metric("BlockCacheHits").value(), is(greaterThan(0L)));
+    }
+
+    private void startEngine(StorageConfiguration storageConfig) {
+        engine = new RocksDbStorageEngine(
+                "test",
+                metricManager,
+                storageConfig,
+                workDir,
+                new NoOpLogSyncer(),
+                scheduledExecutor,
+                mock(FailureProcessor.class)
+        );
+
+        assertThat(metricManager.startAsync(new ComponentContext()), willCompleteSuccessfully());
+
+        engine.start();
+    }
+
+    /** Writes rows, flushes them to SST files and reads them twice, so that both block cache misses and hits are registered. */
+    private void readFlushedRows() {
+        MvTableStorage tableStorage = engine.createMvTable(
+                new StorageTableDescriptor(TABLE_ID, DEFAULT_PARTITION_COUNT, DEFAULT_STORAGE_PROFILE),
+                indexId -> null
+        );
+
+        MvPartitionStorage partitionStorage = getOrCreateMvPartition(tableStorage, PARTITION_ID);
+
+        List<RowId> rowIds = new ArrayList<>(ROW_COUNT);
+
+        partitionStorage.runConsistently(locker -> {
+            for (int i = 0; i < ROW_COUNT; i++) {
+                var rowId = new RowId(PARTITION_ID);
+
+                locker.lock(rowId);
+
+                BinaryRow row = binaryRow(new TestKey(i, "key" + i), new TestValue(i, "value" + i));
+
+                partitionStorage.addWriteCommitted(rowId, row, clock.now());
+
+                rowIds.add(rowId);
+            }
+
+            return null;
+        });
+
+        assertThat(engine.flush(), willCompleteSuccessfully());
+
+        for (int i = 0; i < 2; i++) {
+            for (RowId rowId : rowIds) {
+                assertThat(partitionStorage.read(rowId, HybridTimestamp.MAX_VALUE).isEmpty(), is(false));
+            }
+        }
+    }
+
+    private LongMetric metric(String name) {
+        return metricManager.metric("storage." + ENGINE_NAME + "." + DEFAULT_STORAGE_PROFILE, name);
+    }
+}
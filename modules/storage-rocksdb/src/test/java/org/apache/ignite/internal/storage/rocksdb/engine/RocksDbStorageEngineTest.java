@@ -26,6 +26,7 @@ import java.nio.file.Path;
 import java.util.concurrent.ScheduledExecutorService;
 import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
 import org.apache.ignite.internal.failure.FailureProcessor;
+import org.apache.ignite.internal.metrics.NoOpMetricManager;
 import org.apache.ignite.internal.storage.configurations.StorageConfiguration;
 import org.apache.ignite.internal.storage.configurations.StorageProfileView;
 import org.apache.ignite.internal.storage.engine.AbstractPersistentStorageEngineTest;
@@ -63,6 +64,7 @@ public class RocksDbStorageEngineTest extends AbstractPersistentStorageEngineTes
     private StorageEngine createEngine(Path path, StorageConfiguration configuration) {
         return new RocksDbStorageEngine(
                 "test",
+                new NoOpMetricManager(),
                 configuration,
                 path,
                 logSyncer,
@@ -48,6 +48,13 @@ class GcStorageHandler {
      */
     final AtomicReference<CompletableFuture<Void>> awaitSafeTimeFuture = new AtomicReference<>();
 
+    /**
+     * Number of entries to collect in the next garbage collection batch, {@code 0} to start from the configured batch size.
+     *
+     * <p>Batches of a single storage never run concurrently, so no additional synchronization is required.
+     */
+    volatile int nextBatchSize;
+
     GcStorageHandler(GcUpdateHandler gcUpdateHandler) {
         this.gcUpdateHandler = gcUpdateHandler;
     }
@@ -45,6 +45,7 @@ import org.apache.ignite.internal.lowwatermark.LowWatermark;
 import org.apache.ignite.internal.lowwatermark.event.ChangeLowWatermarkEventParameters;
 import org.apache.ignite.internal.replicator.TablePartitionId;
 import org.apache.ignite.internal.schema.configuration.GcConfiguration;
+import org.apache.ignite.internal.schema.configuration.GcView;
 import org.apache.ignite.internal.thread.IgniteThreadFactory;
 import org.apache.ignite.internal.util.IgniteSpinBusyLock;
 import org.apache.ignite.internal.util.TrackerClosedException;
@@ -59,6 +60,12 @@ import org.jetbrains.annotations.TestOnly;
 public class MvGc implements ManuallyCloseable {
     private static final IgniteLogger LOG = Loggers.forClass(MvGc.class);
 
+    /**
+     * Duration of a garbage collection batch after which the batch size is reduced. Batch holds row locks and a storage write, so
+     * long batches delay concurrent writes to the partition.
+     */
+    private static final long TARGET_BATCH_DURATION_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
     /** Node name. */
     private final String nodeName;
 
@@ -253,7 +260,7 @@ public class MvGc implements ManuallyCloseable {
                         });
 
                 currentAwaitSafeTimeFuture
-                        .thenApplyAsync(unused -> gcUpdateHandler.vacuumBatch(lowWatermark, gcConfig.value().batchSize()), executor)
+                        .thenApplyAsync(unused -> vacuumBatch(storageHandler, lowWatermark), executor)
                         .whenComplete((isGarbageLeft, throwable) -> {
                             if (throwable != null) {
                                 if (hasCause(throwable, TrackerClosedException.class, StorageRemovedException.class)) {
@@ -285,6 +292,37 @@ public class MvGc implements ManuallyCloseable {
         });
     }
 
+    /**
+     * Collects a batch of garbage adapting the batch size to the backlog: batches grow while garbage is left and they complete quickly,
+     * shrink when they take too long and start over from the configured size once the storage has no garbage left.
+     *
+     * @return {@code False} if there is no garbage left in the storage.
+     */
+    private boolean vacuumBatch(GcStorageHandler storageHandler, HybridTimestamp lowWatermark) {
+        GcView gcView = gcConfig.value();
+
+        int minBatchSize = gcView.batchSize();
+        int maxBatchSize = Math.max(minBatchSize, gcView.maxBatchSize());
+
+        int batchSize = Math.min(Math.max(storageHandler.nextBatchSize, minBatchSize), maxBatchSize);
+
+        long startNanos = System.nanoTime();
+
+        boolean isGarbageLeft = storageHandler.gcUpdateHandler.vacuumBatch(lowWatermark, batchSize);
+
+        long durationNanos = System.nanoTime() - startNanos;
+
+        if (!isGarbageLeft) {
+            storageHandler.nextBatchSize = minBatchSize;
+        } else if (durationNanos > TARGET_BATCH_DURATION_NANOS) {
+            storageHandler.nextBatchSize = Math.max(minBatchSize, batchSize / 2);
+        } else {
+            storageHandler.nextBatchSize = (int) Math.min((long) batchSize * 2, maxBatchSize);
+        }
+
+        return isGarbageLeft;
+    }
+
     private <T> T inBusyLock(Supplier<T> supplier) {
         if (!busyLock.enterBusy()) {
             throw new IgniteInternalException(GarbageCollector.CLOSED_ERR);
@@ -41,6 +41,7 @@ import org.apache.ignite.internal.storage.AddWriteCommittedResultStatus;
 import org.apache.ignite.internal.storage.AddWriteResult;
 import org.apache.ignite.internal.storage.AddWriteResultStatus;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.storage.MvPartitionStorage.WriteClosure;
 import org.apache.ignite.internal.storage.ReadResult;
 import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.storage.StorageException;
@@ -206,6 +207,11 @@ public class PartitionMvStorageAccessImpl implements PartitionMvStorageAccess {
         });
     }
 
+    @Override
+    public <V> V runConsistently(WriteClosure<V> closure) {
+        return getMvPartitionStorage().runConsistently(closure);
+    }
+
     @Override
     public long lastAppliedIndex() {
         return getMvPartitionStorage().lastAppliedIndex();
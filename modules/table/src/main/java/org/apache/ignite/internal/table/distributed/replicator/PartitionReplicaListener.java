@@ -907,15 +907,7 @@ public class PartitionReplicaListener implements ReplicaTableProcessor {
                 ? nullCompletedFuture()
                 : safeTime.waitFor(request.readTimestamp());
 
-        return safeReadFuture.thenCompose(unused -> {
-            CompletableFuture<BinaryRow>[] resolutionFuts = new CompletableFuture[primaryKeys.size()];
-
-            for (int i = 0; i < primaryKeys.size(); i++) {
-                resolutionFuts[i] = resolveRowByPkForReadOnly(primaryKeys.get(i), readTimestamp);
-            }
-
-            return allOfToList(resolutionFuts);
-        });
+        return safeReadFuture.thenCompose(unused -> allOfToList(resolveRowsByPksForReadOnly(primaryKeys, readTimestamp)));
     }
 
     /**
@@ -1677,70 +1669,121 @@ public class PartitionReplicaListener implements ReplicaTableProcessor {
         // Which in turn means that if we have found non empty readResult during PK index iteration
         // we can proceed with readResult resolution and stop the iteration.
         try (Cursor<RowId> cursor = getFromPkIndex(pk)) {
-            // TODO https://issues.apache.org/jira/browse/IGNITE-18767 scan of multiple write intents should not be needed
-            List<ReadResult> writeIntents = new ArrayList<>();
-            List<ReadResult> regularEntries = new ArrayList<>();
+            List<ReadResult> readResults = new ArrayList<>();
 
             for (RowId rowId : cursor) {
-                ReadResult readResult = mvDataStorage.read(rowId, ts);
+                readResults.add(mvDataStorage.read(rowId, ts));
+            }
 
-                if (readResult.isWriteIntent()) {
-                    writeIntents.add(readResult);
-                } else if (!readResult.isEmpty()) {
-                    regularEntries.add(readResult);
+            return resolveReadOnlyReadResults(readResults, ts);
+        }
+    }
+
+    /**
+     * Finds the rows by given primary keys. Unlike {@link #resolveRowByPkForReadOnly}, reads the rows of all the keys from the storage
+     * with a single {@link MvPartitionStorage#readAll} call.
+     *
+     * @param pks Primary keys.
+     * @param ts A timestamp regarding which we need to resolve the given rows.
+     * @return Futures of the rows, in the order of the primary keys.
+     */
+    private CompletableFuture<BinaryRow>[] resolveRowsByPksForReadOnly(List<BinaryTuple> pks, HybridTimestamp ts) {
+        List<RowId> rowIds = new ArrayList<>(pks.size());
+        int[] rowIdCounts = new int[pks.size()];
+
+        for (int i = 0; i < pks.size(); i++) {
+            try (Cursor<RowId> cursor = getFromPkIndex(pks.get(i))) {
+                for (RowId rowId : cursor) {
+                    rowIds.add(rowId);
+                    rowIdCounts[i]++;
                 }
             }
+        }
 
-            // Nothing found in the storage, return null.
-            if (writeIntents.isEmpty() && regularEntries.isEmpty()) {
-                metrics.onRead(true, false);
+        List<ReadResult> readResults = mvDataStorage.readAll(rowIds, ts);
 
-                return nullCompletedFuture();
-            }
+        CompletableFuture<BinaryRow>[] resolutionFuts = new CompletableFuture[pks.size()];
 
-            if (writeIntents.isEmpty()) {
-                metrics.onRead(true, true);
+        int offset = 0;
 
-                // No write intents, then return the committed value. We already know that regularEntries is not empty.
-                return completedFuture(regularEntries.get(0).binaryRow());
-            } else {
-                ReadResult writeIntent = writeIntents.get(0);
+        for (int i = 0; i < pks.size(); i++) {
+            resolutionFuts[i] = resolveReadOnlyReadResults(readResults.subList(offset, offset + rowIdCounts[i]), ts);
 
-                // Assume that all write intents for the same key belong to the same transaction, as the key should be exclusively locked.
-                // This means that we can just resolve the state of this transaction.
-                checkWriteIntentsBelongSameTx(writeIntents, txManager);
+            offset += rowIdCounts[i];
+        }
 
-                return inBusyLockAsync(busyLock, () ->
-                        resolveWriteIntentReadability(writeIntent, ts)
-                                .thenApply(wiResolutionResult ->
-                                        inBusyLock(busyLock, () -> {
-                                            metrics.onRead(true, true);
+        return resolutionFuts;
+    }
 
-                                            if (wiResolutionResult.writeIntentReadable) {
-                                                return findAny(writeIntents, wi -> !wi.isEmpty()).map(ReadResult::binaryRow).orElse(null);
-                                            } else {
-                                                for (ReadResult wi : writeIntents) {
-                                                    HybridTimestamp newestCommitTimestamp = wi.newestCommitTimestamp();
+    /**
+     * Resolves the row from the read results of all row IDs found in the primary key index for a single key.
+     *
+     * @param readResults Read results.
+     * @param ts A timestamp regarding which we need to resolve the row.
+     * @return Future of the row.
+     */
+    private CompletableFuture<@Nullable BinaryRow> resolveReadOnlyReadResults(List<ReadResult> readResults, HybridTimestamp ts) {
+        // TODO https://issues.apache.org/jira/browse/IGNITE-18767 scan of multiple write intents should not be needed
+        List<ReadResult> writeIntents = new ArrayList<>();
+        List<ReadResult> regularEntries = new ArrayList<>();
+
+        for (ReadResult readResult : readResults) {
+            if (readResult.isWriteIntent()) {
+                writeIntents.add(readResult);
+            } else if (!readResult.isEmpty()) {
+                regularEntries.add(readResult);
+            }
+        }
 
-                                                    if (newestCommitTimestamp == null) {
-                                                        continue;
-                                                    }
+        // Nothing found in the storage, return null.
+        if (writeIntents.isEmpty() && regularEntries.isEmpty()) {
+            metrics.onRead(true, false);
 
-                                                    ReadResult committedReadResult = mvDataStorage.read(wi.rowId(), newestCommitTimestamp);
+            return nullCompletedFuture();
+        }
 
-                                                    assert !committedReadResult.isWriteIntent() :
-                                                            "The result is not committed [rowId=" + wi.rowId() + ", timestamp="
-                                                                    + newestCommitTimestamp + ']';
+        if (writeIntents.isEmpty()) {
+            metrics.onRead(true, true);
 
-                                                    return committedReadResult.binaryRow();
+            // No write intents, then return the committed value. We already know that regularEntries is not empty.
+            return completedFuture(regularEntries.get(0).binaryRow());
+        } else {
+            ReadResult writeIntent = writeIntents.get(0);
+
+            // Assume that all write intents for the same key belong to the same transaction, as the key should be exclusively locked.
+            // This means that we can just resolve the state of this transaction.
+            checkWriteIntentsBelongSameTx(writeIntents, txManager);
+
+            return inBusyLockAsync(busyLock, () ->
+                    resolveWriteIntentReadability(writeIntent, ts)
+                            .thenApply(wiResolutionResult ->
+                                    inBusyLock(busyLock, () -> {
+                                        metrics.onRead(true, true);
+
+                                        if (wiResolutionResult.writeIntentReadable) {
+                                            return findAny(writeIntents, wi -> !wi.isEmpty()).map(ReadResult::binaryRow).orElse(null);
+                                        } else {
+                                            for (ReadResult wi : writeIntents) {
+                                                HybridTimestamp newestCommitTimestamp = wi.newestCommitTimestamp();
+
+                                                if (newestCommitTimestamp == null) {
+                                                    continue;
                                                 }
 
-                                                // No suitable value found in write intents, read the committed value (if exists)
-                                                return findFirst(regularEntries).map(ReadResult::binaryRow).orElse(null);
+                                                ReadResult committedReadResult = mvDataStorage.read(wi.rowId(), newestCommitTimestamp);
+
+                                                assert !committedReadResult.isWriteIntent() :
+                                                        "The result is not committed [rowId=" + wi.rowId() + ", timestamp="
+                                                                + newestCommitTimestamp + ']';
+
+                                                return committedReadResult.binaryRow();
                                             }
-                                        }))
-                );
-            }
+
+                                            // No suitable value found in write intents, read the committed value (if exists)
+                                            return findFirst(regularEntries).map(ReadResult::binaryRow).orElse(null);
+                                        }
+                                    }))
+            );
         }
     }
 
@@ -1791,11 +1834,7 @@ public class PartitionReplicaListener implements ReplicaTableProcessor {
 
         assert request.requestType() == RO_GET_ALL;
 
-        CompletableFuture<BinaryRow>[] resolutionFuts = new CompletableFuture[primaryKeys.size()];
-
-        for (int i = 0; i < primaryKeys.size(); i++) {
-            resolutionFuts[i] = resolveRowByPkForReadOnly(primaryKeys.get(i), opStartTimestamp);
-        }
+        CompletableFuture<BinaryRow>[] resolutionFuts = resolveRowsByPksForReadOnly(primaryKeys, opStartTimestamp);
 
         return allOfToList(resolutionFuts).thenApply(rows -> {
             // Validate read correctness.
@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.message;
+
+import java.util.List;
+import java.util.Set;
+import org.apache.ignite.internal.network.NetworkMessage;
+import org.apache.ignite.internal.network.annotations.Marshallable;
+import org.apache.ignite.internal.network.annotations.Transferable;
+import org.jetbrains.annotations.Nullable;
+
+/** A response to the {@link CollectColumnStatisticsRequest}. */
+@Transferable(TableMessageGroup.COLLECT_COLUMN_STATISTICS_RESPONSE)
+public interface CollectColumnStatisticsResponse extends NetworkMessage {
+    /** Partitions sampled by the node. */
+    Set<Integer> partitionIds();
+
+    /** Sketches of the columns merged over the sampled partitions, in the order of the columns of the request. */
+    List<ColumnSketchMessage> columns();
+
+    /** Error occurred during the collection, {@code null} if statistics are collected successfully. */
+    @Nullable
+    @Marshallable
+    Throwable error();
+}
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.message;
+
+import java.util.List;
+import org.apache.ignite.internal.network.NetworkMessage;
+import org.apache.ignite.internal.network.annotations.Marshallable;
+import org.apache.ignite.internal.network.annotations.Transferable;
+import org.jetbrains.annotations.Nullable;
+
+/** Mergeable sketch of the values of a column seen in one or more partitions. */
+@Transferable(TableMessageGroup.COLUMN_SKETCH_MESSAGE)
+public interface ColumnSketchMessage extends NetworkMessage {
+    /** Number of rows. */
+    long rows();
+
+    /** Number of {@code null} values. */
+    long nulls();
+
+    /** Registers of the HyperLogLog sketch of distinct values. */
+    byte[] distinctValues();
+
+    /** Uniform sample of non-null values, {@code null} if histograms are not supported for the column type. */
+    @Nullable
+    @Marshallable
+    List<Object> sample();
+}
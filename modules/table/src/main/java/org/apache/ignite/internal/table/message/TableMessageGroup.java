@@ -35,4 +35,13 @@ public interface TableMessageGroup {
 
     /** Message type for {@link PartitionModificationInfoMessage}. */
     short GET_ESTIMATED_SIZE_WITH_MODIFIED_TS_MESSAGE = 3;
+
+    /** Message type for {@link CollectColumnStatisticsRequest}. */
+    short COLLECT_COLUMN_STATISTICS_REQUEST = 4;
+
+    /** Message type for {@link CollectColumnStatisticsResponse}. */
+    short COLLECT_COLUMN_STATISTICS_RESPONSE = 5;
+
+    /** Message type for {@link ColumnSketchMessage}. */
+    short COLUMN_SKETCH_MESSAGE = 6;
 }
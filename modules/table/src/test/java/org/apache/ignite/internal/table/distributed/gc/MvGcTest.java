@@ -24,6 +24,9 @@ import static org.apache.ignite.internal.testframework.matchers.CompletableFutur
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willSucceedFast;
 import static org.apache.ignite.internal.util.IgniteUtils.closeAllManually;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -36,7 +39,9 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -346,6 +351,50 @@ public class MvGcTest extends BaseIgniteAbstractTest {
         }
     }
 
+    @Test
+    void testAdaptiveBatchSize(
+            @InjectConfiguration("mock = {threads = 1, batchSize = 2, maxBatchSize = 8}") GcConfiguration gcConfig
+    ) throws Exception {
+        gc.close();
+
+        gc = new MvGc("test", gcConfig, lowWatermark, new NoOpFailureManager());
+
+        gc.start();
+
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+        CountDownLatch backlogLatch = new CountDownLatch(5);
+        CountDownLatch nextRoundLatch = new CountDownLatch(6);
+
+        GcUpdateHandler gcUpdateHandler = createGcUpdateHandler();
+
+        when(gcUpdateHandler.vacuumBatch(any(HybridTimestamp.class), anyInt())).then(invocation -> {
+            batchSizes.add(invocation.getArgument(1));
+
+            backlogLatch.countDown();
+            nextRoundLatch.countDown();
+
+            // Garbage is left for the first batches only.
+            return backlogLatch.getCount() > 0;
+        });
+
+        gc.addStorage(createTablePartitionId(), gcUpdateHandler);
+
+        lowWatermark.updateAndNotify(new HybridTimestamp(1, 1));
+
+        assertTrue(backlogLatch.await(1, TimeUnit.SECONDS), "remaining=" + backlogLatch.getCount());
+
+        lowWatermark.updateAndNotify(new HybridTimestamp(2, 2));
+
+        assertTrue(nextRoundLatch.await(1, TimeUnit.SECONDS), "remaining=" + nextRoundLatch.getCount());
+
+        // Batches grow while there's a backlog, never exceed the maximum and start over once there's no garbage left.
+        assertEquals(2, batchSizes.get(0));
+        assertThat(batchSizes, everyItem(lessThanOrEqualTo(8)));
+        assertThat(batchSizes.subList(0, 5), hasItem(8));
+        assertEquals(2, batchSizes.get(5));
+    }
+
     @Test
     void testInvokeVacuumOnlyAfterReachSafeTime() {
         CompletableFuture<Void> invokeVacuumMethodFuture = new CompletableFuture<>();